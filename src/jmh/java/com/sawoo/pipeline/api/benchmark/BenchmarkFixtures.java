@@ -0,0 +1,29 @@
+package com.sawoo.pipeline.api.benchmark;
+
+import com.sawoo.pipeline.api.mock.AccountMockFactory;
+import com.sawoo.pipeline.api.mock.CompanyMockFactory;
+import com.sawoo.pipeline.api.mock.PersonMockFactory;
+import com.sawoo.pipeline.api.mock.ProspectMockFactory;
+import com.sawoo.pipeline.api.mock.SequenceStepMockFactory;
+import com.sawoo.pipeline.api.mock.TodoAssigneeMockFactory;
+import com.sawoo.pipeline.api.mock.TodoMockFactory;
+import com.sawoo.pipeline.api.mock.UserMockFactory;
+import com.sawoo.pipeline.api.mock.UserTokenMockFactory;
+import lombok.Getter;
+
+/**
+ * Wires the test mock factories without a Spring context so the benchmarks share the javafaker fixtures of the
+ * unit tests.
+ */
+@Getter
+public class BenchmarkFixtures {
+
+    private final CompanyMockFactory companyMockFactory = new CompanyMockFactory();
+    private final PersonMockFactory personMockFactory = new PersonMockFactory(companyMockFactory);
+    private final TodoMockFactory todoMockFactory = new TodoMockFactory(personMockFactory);
+    private final TodoAssigneeMockFactory todoAssigneeMockFactory = new TodoAssigneeMockFactory(personMockFactory);
+    private final ProspectMockFactory prospectMockFactory = new ProspectMockFactory(personMockFactory, todoMockFactory, todoAssigneeMockFactory);
+    private final UserMockFactory userMockFactory = new UserMockFactory(new UserTokenMockFactory());
+    private final AccountMockFactory accountMockFactory = new AccountMockFactory(userMockFactory, prospectMockFactory, companyMockFactory);
+    private final SequenceStepMockFactory sequenceStepMockFactory = new SequenceStepMockFactory();
+}
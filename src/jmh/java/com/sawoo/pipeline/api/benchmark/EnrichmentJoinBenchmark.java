@@ -0,0 +1,92 @@
+package com.sawoo.pipeline.api.benchmark;
+
+import com.sawoo.pipeline.api.common.KeyedIndex;
+import com.sawoo.pipeline.api.dto.UserCommon;
+import com.sawoo.pipeline.api.dto.todo.TodoDTO;
+import com.sawoo.pipeline.api.model.prospect.Prospect;
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Enrichment of TODOs with their prospect and assignee as done by ProspectTodoServiceDecorator: the nested scan the
+ * decorators used to run against the {@link KeyedIndex} join. Sizes go up to the 5k TODOs, 1k prospects and 200
+ * users of a large TODO search.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EnrichmentJoinBenchmark {
+
+    @Param({"500", "5000"})
+    private int todoCount;
+
+    @Param({"100", "1000"})
+    private int prospectCount;
+
+    @Param({"200"})
+    private int userCount;
+
+    private List<TodoDTO> todos;
+    private List<Prospect> prospects;
+    private List<UserCommon> users;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        prospects = IntStream.range(0, prospectCount)
+                .mapToObj(i -> Prospect.builder().id(new ObjectId().toHexString()).build())
+                .collect(Collectors.toList());
+        users = IntStream.range(0, userCount)
+                .mapToObj(i -> UserCommon.builder().id(new ObjectId().toHexString()).fullName("User " + i).build())
+                .collect(Collectors.toList());
+        todos = IntStream.range(0, todoCount)
+                .mapToObj(i -> TodoDTO.builder()
+                        .id(new ObjectId().toHexString())
+                        .componentId(prospects.get(random.nextInt(prospectCount)).getId())
+                        .assigneeId(users.get(random.nextInt(userCount)).getId())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public void nestedScan(Blackhole blackhole) {
+        todos.forEach(todo -> {
+            Optional<Prospect> prospect = prospects.stream().filter(p -> p.getId().equals(todo.getComponentId())).findAny();
+            Optional<UserCommon> user = users.stream().filter(u -> u.getId().equals(todo.getAssigneeId())).findAny();
+            blackhole.consume(prospect);
+            blackhole.consume(user);
+        });
+    }
+
+    @Benchmark
+    public void keyedIndex(Blackhole blackhole) {
+        // Index construction is part of every call, as it is in the decorators
+        KeyedIndex<String, Prospect> prospectIndex = KeyedIndex.of(prospects, Prospect::getId);
+        KeyedIndex<String, UserCommon> userIndex = KeyedIndex.of(users, UserCommon::getId);
+        todos.forEach(todo -> {
+            blackhole.consume(prospectIndex.find(todo.getComponentId()));
+            blackhole.consume(userIndex.find(todo.getAssigneeId()));
+        });
+    }
+}
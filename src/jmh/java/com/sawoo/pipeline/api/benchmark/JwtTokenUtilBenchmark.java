@@ -0,0 +1,67 @@
+package com.sawoo.pipeline.api.benchmark;
+
+import com.sawoo.pipeline.api.config.jwt.JwtTokenUtil;
+import com.sawoo.pipeline.api.model.user.UserRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token generation, parsing and validation as run by the authentication endpoint and the request filter on every
+ * authenticated call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtTokenUtilBenchmark {
+
+    private final JwtTokenUtil jwtTokenUtil = new JwtTokenUtil();
+
+    private UserDetails userDetails;
+    private String userId;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        BenchmarkFixtures fixtures = new BenchmarkFixtures();
+        ReflectionTestUtils.setField(jwtTokenUtil, "secret", fixtures.getUserMockFactory().getFAKER().internet().password(24, 32));
+        userId = fixtures.getUserMockFactory().getComponentId();
+        userDetails = new User(
+                fixtures.getUserMockFactory().getFAKER().internet().emailAddress(),
+                fixtures.getUserMockFactory().getFAKER().internet().password(),
+                List.of(new SimpleGrantedAuthority(UserRole.USER.name()), new SimpleGrantedAuthority(UserRole.AST.name())));
+        token = jwtTokenUtil.generateToken(userDetails, userId);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtTokenUtil.generateToken(userDetails, userId);
+    }
+
+    @Benchmark
+    public String getUsernameFromToken() {
+        return jwtTokenUtil.getUsernameFromToken(token);
+    }
+
+    @Benchmark
+    public Boolean validateToken() {
+        return jwtTokenUtil.validateToken(token, userDetails);
+    }
+}
@@ -0,0 +1,88 @@
+package com.sawoo.pipeline.api.benchmark;
+
+import com.sawoo.pipeline.api.dto.account.AccountDTO;
+import com.sawoo.pipeline.api.dto.prospect.ProspectDTO;
+import com.sawoo.pipeline.api.dto.todo.TodoDTO;
+import com.sawoo.pipeline.api.model.account.Account;
+import com.sawoo.pipeline.api.model.prospect.Prospect;
+import com.sawoo.pipeline.api.model.todo.Todo;
+import com.sawoo.pipeline.api.service.account.AccountMapper;
+import com.sawoo.pipeline.api.service.prospect.ProspectMapper;
+import com.sawoo.pipeline.api.service.todo.TodoMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO and DTO to entity mapping through the {@link com.sawoo.pipeline.api.service.base.BaseMapper} of
+ * TODOs, prospects and accounts. Fixtures are built once, so only the mapping is measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    private final TodoMapper todoMapper = new TodoMapper();
+    private final ProspectMapper prospectMapper = new ProspectMapper();
+    private final AccountMapper accountMapper = new AccountMapper();
+
+    private Todo todo;
+    private TodoDTO todoDTO;
+    private Prospect prospect;
+    private ProspectDTO prospectDTO;
+    private Account account;
+    private AccountDTO accountDTO;
+
+    @Setup
+    public void setUp() {
+        BenchmarkFixtures fixtures = new BenchmarkFixtures();
+        todo = fixtures.getTodoMockFactory().newEntity(fixtures.getTodoMockFactory().getComponentId());
+        todoDTO = fixtures.getTodoMockFactory().newDTO(null);
+        prospect = fixtures.getProspectMockFactory().newEntity(fixtures.getProspectMockFactory().getComponentId());
+        prospectDTO = fixtures.getProspectMockFactory().newDTO(null);
+        account = fixtures.getAccountMockFactory().newEntity(fixtures.getAccountMockFactory().getComponentId());
+        accountDTO = fixtures.getAccountMockFactory().newDTO(null);
+    }
+
+    @Benchmark
+    public TodoDTO todoOut() {
+        return todoMapper.getMapperOut().getDestination(todo);
+    }
+
+    @Benchmark
+    public Todo todoIn() {
+        return todoMapper.getMapperIn().getDestination(todoDTO);
+    }
+
+    @Benchmark
+    public ProspectDTO prospectOut() {
+        return prospectMapper.getMapperOut().getDestination(prospect);
+    }
+
+    @Benchmark
+    public Prospect prospectIn() {
+        return prospectMapper.getMapperIn().getDestination(prospectDTO);
+    }
+
+    @Benchmark
+    public AccountDTO accountOut() {
+        return accountMapper.getMapperOut().getDestination(account);
+    }
+
+    @Benchmark
+    public Account accountIn() {
+        return accountMapper.getMapperIn().getDestination(accountDTO);
+    }
+}
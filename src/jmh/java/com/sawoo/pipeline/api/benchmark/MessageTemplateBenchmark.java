@@ -0,0 +1,59 @@
+package com.sawoo.pipeline.api.benchmark;
+
+import com.sawoo.pipeline.api.model.prospect.Prospect;
+import com.sawoo.pipeline.api.service.infra.template.MessageTemplateEngine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Rendering of a sequence step template for the prospects of a campaign with one parse for all of them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MessageTemplateBenchmark {
+
+    @Param({"100", "5000"})
+    private int prospectCount;
+
+    private final MessageTemplateEngine engine = new MessageTemplateEngine(new SimpleMeterRegistry(), 1000);
+
+    private String text;
+    private List<Prospect> prospects;
+
+    @Setup
+    public void setUp() {
+        BenchmarkFixtures fixtures = new BenchmarkFixtures();
+        text = "Hello {{ctx:prospect_first_name}},\n\n" +
+                fixtures.getProspectMockFactory().getFAKER().lorem().paragraph(8) +
+                "\n\nI would love to hear how {{company_name}} is dealing with it.\n\n" +
+                fixtures.getProspectMockFactory().getFAKER().lorem().paragraph(4);
+        prospects = IntStream.range(0, prospectCount)
+                .mapToObj(i -> fixtures.getProspectMockFactory().newEntity(fixtures.getProspectMockFactory().getComponentId()))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public Map<String, String> bulkRender() {
+        return engine.render(text, prospects);
+    }
+}
@@ -0,0 +1,87 @@
+package com.sawoo.pipeline.api.benchmark;
+
+import com.sawoo.pipeline.api.dto.UserCommon;
+import com.sawoo.pipeline.api.dto.sequence.SequenceStepDTO;
+import com.sawoo.pipeline.api.dto.todo.TodoAssigneeDTO;
+import com.sawoo.pipeline.api.model.prospect.Prospect;
+import com.sawoo.pipeline.api.service.infra.template.MessageTemplateEngine;
+import com.sawoo.pipeline.api.service.prospect.ProspectSequenceTodoHelper;
+import com.sawoo.pipeline.api.service.sequence.SequencePlanStep;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.support.ResourceBundleMessageSource;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creation of the TODO of a sequence step for a prospect, from the step itself or from a step of a cached sequence
+ * plan whose template is already compiled. Steps without attachment resolve the default LinkedIn chat label through
+ * the application message bundle.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProspectSequenceTodoBenchmark {
+
+    private static final String MESSAGE_BASENAME = "message";
+
+    @Param({"true", "false"})
+    private boolean attachment;
+
+    private ProspectSequenceTodoHelper helper;
+    private SequenceStepDTO step;
+    private SequencePlanStep planStep;
+    private UserCommon assignee;
+    private Prospect prospect;
+    private String sequenceId;
+    private LocalDateTime startDate;
+
+    @Setup
+    public void setUp() {
+        ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasename(MESSAGE_BASENAME);
+        messageSource.setFallbackToSystemLocale(true);
+        MessageTemplateEngine messageTemplateEngine = new MessageTemplateEngine(new SimpleMeterRegistry(), 1000);
+        helper = new ProspectSequenceTodoHelper(messageSource, messageTemplateEngine);
+
+        BenchmarkFixtures fixtures = new BenchmarkFixtures();
+        step = fixtures.getSequenceStepMockFactory().newDTO(fixtures.getSequenceStepMockFactory().getComponentId());
+        if (!attachment) {
+            step.setAttachment(null);
+        }
+        planStep = SequencePlanStep.of(step, step.getTimespan(), messageTemplateEngine.compile(step.getMessageTemplate().getText()));
+        assignee = UserCommon
+                .builder()
+                .id(fixtures.getUserMockFactory().getComponentId())
+                .fullName(fixtures.getUserMockFactory().getFAKER().name().fullName())
+                .build();
+        prospect = fixtures.getProspectMockFactory().newEntity(fixtures.getProspectMockFactory().getComponentId());
+        sequenceId = fixtures.getSequenceStepMockFactory().getComponentId();
+        startDate = LocalDateTime.now(ZoneOffset.UTC);
+    }
+
+    @Benchmark
+    public TodoAssigneeDTO mapSequenceStepToTODO() {
+        return helper.mapSequenceStepToTODO(step, assignee, prospect, sequenceId, startDate);
+    }
+
+    @Benchmark
+    public TodoAssigneeDTO mapSequencePlanStepToTODO() {
+        return helper.mapSequencePlanStepToTODO(planStep, assignee, prospect, sequenceId, startDate);
+    }
+}
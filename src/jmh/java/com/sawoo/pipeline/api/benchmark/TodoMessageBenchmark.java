@@ -0,0 +1,72 @@
+package com.sawoo.pipeline.api.benchmark;
+
+import com.github.javafaker.Faker;
+import com.sawoo.pipeline.api.dto.todo.TodoDTO;
+import com.sawoo.pipeline.api.model.common.TodoChannel;
+import com.sawoo.pipeline.api.model.todo.Todo;
+import com.sawoo.pipeline.api.model.todo.TodoMessage;
+import com.sawoo.pipeline.api.model.todo.TodoSource;
+import com.sawoo.pipeline.api.model.todo.TodoSourceType;
+import com.sawoo.pipeline.api.model.todo.TodoStatus;
+import com.sawoo.pipeline.api.service.base.event.BaseServiceBeforeSaveEvent;
+import com.sawoo.pipeline.api.service.infra.template.MessageTemplateEngine;
+import com.sawoo.pipeline.api.service.todo.TodoServiceEventListener;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Template detection of TODO messages run by {@link TodoServiceEventListener} before every TODO save: plain
+ * messages that do not match the variable pattern and templates whose variables are extracted.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TodoMessageBenchmark {
+
+    @Param({"25", "250"})
+    private int words;
+
+    @Param({"false", "true"})
+    private boolean template;
+
+    private final TodoServiceEventListener listener = new TodoServiceEventListener(new MessageTemplateEngine(new SimpleMeterRegistry(), 1000));
+
+    private Todo todo;
+
+    @Setup
+    public void setUp() {
+        Faker faker = Faker.instance();
+        String text = faker.lorem().sentence(words);
+        if (template) {
+            text = "Hello {{ctx:prospect_name}}. " + text + " Regards from {{company_name}}.";
+        }
+        todo = Todo
+                .builder()
+                .channel(TodoChannel.EMAIL.getValue())
+                .status(TodoStatus.PENDING.getValue())
+                .source(TodoSource.builder().type(TodoSourceType.MANUAL).build())
+                .message(TodoMessage.builder().text(text).build())
+                .build();
+    }
+
+    @Benchmark
+    public boolean updateTodoMessage() {
+        listener.handleBeforeSaveEvent(new BaseServiceBeforeSaveEvent<TodoDTO, Todo>(null, todo));
+        return todo.getMessage().isValid();
+    }
+}
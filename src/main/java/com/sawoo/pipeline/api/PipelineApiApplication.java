@@ -1,11 +1,14 @@
 package com.sawoo.pipeline.api;
 
 import com.github.cloudyrock.spring.v5.EnableMongock;
+import com.sawoo.pipeline.api.repository.base.BaseMongoRepositoryImpl;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.data.mongodb.repository.config.EnableMongoRepositories;
 
 @EnableMongock
 @SpringBootApplication
+@EnableMongoRepositories(repositoryBaseClass = BaseMongoRepositoryImpl.class)
 public class PipelineApiApplication {
 
     public static void main(String[] args) {
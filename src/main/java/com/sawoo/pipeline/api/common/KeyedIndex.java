@@ -0,0 +1,50 @@
+package com.sawoo.pipeline.api.common;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Read only index of a list by a key, built once and used to join another list against it in constant time per
+ * lookup instead of scanning the list for every element. As with {@code stream().filter(...).findFirst()}, the
+ * first element of a key wins. Elements with a null key are not indexed and null keys are never found.
+ */
+public class KeyedIndex<K, V> {
+
+    private static final KeyedIndex<?, ?> EMPTY = new KeyedIndex<>(Map.of());
+
+    private final Map<K, V> index;
+
+    private KeyedIndex(Map<K, V> index) {
+        this.index = index;
+    }
+
+    public static <K, V> KeyedIndex<K, V> of(Collection<V> values, Function<? super V, ? extends K> key) {
+        if (CommonUtils.isEmptyOrNull(values)) {
+            return empty();
+        }
+        Map<K, V> index = new HashMap<>(values.size() * 4 / 3 + 1);
+        values.forEach(value -> {
+            K valueKey = key.apply(value);
+            if (valueKey != null) {
+                index.putIfAbsent(valueKey, value);
+            }
+        });
+        return new KeyedIndex<>(index);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <K, V> KeyedIndex<K, V> empty() {
+        return (KeyedIndex<K, V>) EMPTY;
+    }
+
+    public Optional<V> find(K key) {
+        return key == null ? Optional.empty() : Optional.ofNullable(index.get(key));
+    }
+
+    public int size() {
+        return index.size();
+    }
+}
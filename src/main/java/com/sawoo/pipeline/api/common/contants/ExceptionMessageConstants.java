@@ -14,6 +14,7 @@ public interface ExceptionMessageConstants {
     String AUTH_RESET_PASSWORD_CONFIRM_TOKEN_NOT_FOUND_ERROR_EXCEPTION = "auth.reset-password.confirm-token-not-found-error.exception";
     String AUTH_RESET_PASSWORD_CONFIRM_TOKEN_EXPIRED_ERROR_EXCEPTION = "auth.reset-password.confirm-token-expired-error.exception";
     String AUTH_TOKEN_EMAIL_NOT_FOUND_ERROR_EXCEPTION = "auth.token.email-not-found-error.exception";
+    String AUTH_LOGOUT_USER_NOT_ALLOWED_ERROR_EXCEPTION = "auth.logout.user-not-allowed-error.exception";
 
     String ACCOUNT_PROSPECT_REMOVE_PROSPECT_NOT_FOUND_EXCEPTION = "account.prospect.remove-prospect-not-found.exception";
     String ACCOUNT_PROSPECT_CREATE_PROSPECT_ALREADY_ADDED_EXCEPTION = "account.prospect.create-prospect-already-added.exception";
@@ -23,6 +24,7 @@ public interface ExceptionMessageConstants {
     String COMMON_GET_COMPONENT_RESOURCE_NOT_FOUND_EXCEPTION = "common.get-component.not-found.exception";
     String COMMON_DELETE_COMPONENT_RESOURCE_NOT_FOUND_EXCEPTION = "common.delete-component.not-found.exception";
     String COMMON_UPDATE_COMPONENT_RESOURCE_NOT_FOUND_EXCEPTION = "common.update-component.not-found.exception";
+    String AUDIT_GET_VERSION_RESOURCE_NOT_FOUND_EXCEPTION = "audit.get-version.not-found.exception";
     String COMMON_FIELD_CAN_NOT_BE_EMPTY_ERROR = "common.field.can-not-be-empty.error";
     String COMMON_FIELD_MUST_BE_AN_EMAIL_ERROR = "common.field.must-be-an-email.error";
     String COMMON_LIST_FIELD_CAN_NOT_BE_EMPTY_ERROR = "common.list-field.can-not-be-empty.error";
@@ -35,9 +37,16 @@ public interface ExceptionMessageConstants {
     String COMMON_METHOD_NOT_ALLOWED_EXCEPTION = "common.method-not-allowed.exception";
     String COMMON_INTERNAL_SERVER_ERROR_EXCEPTION = "common.internal-server-error.exception";
     String COMMON_ILLEGAL_ENUMERATION_VALUE_EXCEPTION = "common.enumeration-illegal-value.exception";
+    String COMMON_INVALID_CURSOR_EXCEPTION = "common.invalid-cursor.exception";
+    String COMMON_INVALID_FIELDS_EXCEPTION = "common.invalid-fields.exception";
+    String COMMON_EMPTY_FIELDS_EXCEPTION = "common.empty-fields.exception";
 
     String PROSPECT_REPORT_GENERATION_INTERNAL_SERVER_EXCEPTION = "prospect.report-generation.internal-server.exception";
     String PROSPECT_REPORT_GENERATION_STREAM_BUFFER_EMPTY_ERROR = "prospect.report-generation.pdf-stream-empty.error";
+    String PROSPECT_REPORT_GENERATION_BUSY_ERROR = "prospect.report-generation.busy.error";
+    String PROSPECT_REPORT_JOB_NO_PROSPECTS_EXCEPTION = "prospect.report-job.no-prospects.exception";
+    String PROSPECT_REPORT_JOB_NOT_COMPLETED_EXCEPTION = "prospect.report-job.not-completed.exception";
+    String PROSPECT_REPORT_JOB_BUSY_ERROR = "prospect.report-job.busy.error";
     String PROSPECT_TODO_ADD_PROSPECT_SLOT_ALREADY_SCHEDULED_EXCEPTION = "prospect.todo-add-todo-already-scheduled.exception";
     String PROSPECT_SEQUENCE_TODO_PERSONALITY_NOT_ASSIGNED_EXCEPTION = "prospect.sequence-todo-personality-not-assigned.exception";
     String PROSPECT_PROSPECT_ACCOUNT_NOT_FOUND_EXCEPTION = "prospect.prospect-account-not-found.exception";
@@ -68,5 +77,6 @@ public interface ExceptionMessageConstants {
 
 
     String REPOSITORY_EXCEPTION_DATA_CONVERSATION_ERROR_EXCEPTION = "repository.data-conversation.exception";
+    String REPOSITORY_QUERY_NOT_INDEXED_EXCEPTION = "repository.query-not-indexed.exception";
 
 }
@@ -0,0 +1,76 @@
+package com.sawoo.pipeline.api.config;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sawoo.pipeline.api.controller.ControllerConstants;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes a {@link Stream} body as newline delimited JSON, one document per line, as the stream is consumed.
+ * The stream is closed once written so any database cursor behind it is released.
+ */
+public class NdjsonHttpMessageConverter extends AbstractGenericHttpMessageConverter<Stream<?>> {
+
+    private static final int FLUSH_EVERY = 100;
+
+    private final ObjectWriter writer;
+
+    public NdjsonHttpMessageConverter(ObjectMapper objectMapper) {
+        super(MediaType.parseMediaType(ControllerConstants.APPLICATION_NDJSON_VALUE));
+        this.writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return Stream.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected void writeInternal(Stream<?> stream, Type type, HttpOutputMessage outputMessage) throws IOException {
+        try (stream; JsonGenerator generator = writer.getFactory().createGenerator(outputMessage.getBody())) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            Iterator<?> documents = stream.iterator();
+            int written = 0;
+            while (documents.hasNext()) {
+                writer.writeValue(generator, documents.next());
+                generator.writeRaw('\n');
+                if (++written % FLUSH_EVERY == 0) {
+                    generator.flush();
+                }
+            }
+            generator.flush();
+        }
+    }
+
+    @Override
+    protected Stream<?> readInternal(Class<? extends Stream<?>> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("NDJSON request bodies are not supported", inputMessage);
+    }
+
+    @Override
+    public Stream<?> read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("NDJSON request bodies are not supported", inputMessage);
+    }
+}
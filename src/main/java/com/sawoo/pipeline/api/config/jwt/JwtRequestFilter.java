@@ -1,6 +1,10 @@
 package com.sawoo.pipeline.api.config.jwt;
 
+import com.sawoo.pipeline.api.common.contants.CommonConstants;
 import com.sawoo.pipeline.api.common.contants.JwtConstants;
+import com.sawoo.pipeline.api.service.user.UserAuthDetailsCache;
+import com.sawoo.pipeline.api.service.user.UserTokenRevocationRegistry;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,6 +29,9 @@ public class JwtRequestFilter extends OncePerRequestFilter {
 
     private final JwtTokenUtil jwtTokenUtil;
     private final UserDetailsService userDetailsService;
+    private final JwtTokenCache tokenCache;
+    private final UserAuthDetailsCache userDetailsCache;
+    private final UserTokenRevocationRegistry revocationRegistry;
 
     @Override
     protected void doFilterInternal(
@@ -34,9 +41,11 @@ public class JwtRequestFilter extends OncePerRequestFilter {
 
         JwtTokenWrapper tokenWrapper = getToken(request);
 
-        if (tokenWrapper != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = userDetailsService.loadUserByUsername(tokenWrapper.getUsername());
-            if (jwtTokenUtil.validateToken(tokenWrapper.getToken(), userDetails)) {
+        if (tokenWrapper != null && revocationRegistry.isRevoked(tokenWrapper.getUserId(), tokenWrapper.getIssuedAt())) {
+            log.warn("Jwt token revoked for user id [{}]. Request: {}", tokenWrapper.getUserId(), request.getRequestURI());
+        } else if (tokenWrapper != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            UserDetails userDetails = userDetailsCache.get(tokenWrapper.getUsername(), userDetailsService::loadUserByUsername);
+            if (jwtTokenUtil.validateToken(tokenWrapper.getClaims(), userDetails)) {
                 UsernamePasswordAuthenticationToken token =
                         new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
                 token.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -52,13 +61,13 @@ public class JwtRequestFilter extends OncePerRequestFilter {
 
     private JwtTokenWrapper getToken(HttpServletRequest request) {
         final String requestTokenHeader = request.getHeader(JwtConstants.AUTHORIZATION_HEADER_KEY);
-        String username = null;
-        String jwtToken = null;
+        JwtTokenWrapper tokenWrapper = null;
         if (requestTokenHeader != null && requestTokenHeader.startsWith(JwtConstants.TOKEN_PREFIX)) {
             log.debug("Auth token has been found {} for request: {} ", request, request.getRequestURI());
-            jwtToken = requestTokenHeader.substring(JwtConstants.TOKEN_PREFIX.length());
+            String jwtToken = requestTokenHeader.substring(JwtConstants.TOKEN_PREFIX.length());
             try {
-                username = jwtTokenUtil.getUsernameFromToken(jwtToken);
+                // The signature is only verified the first time the token is seen
+                tokenWrapper = tokenCache.get(jwtToken, this::verifyToken);
             } catch (IllegalArgumentException error) {
                 log.warn("Exception trying to get username from jwt token. {}. Request: {}", error.getMessage(), request.getRequestURI());
             } catch (ExpiredJwtException error) {
@@ -67,11 +76,16 @@ public class JwtRequestFilter extends OncePerRequestFilter {
         } else {
             log.warn("Proper Auth token has not been found for request: {}", request.getRequestURI());
         }
+        return tokenWrapper != null && tokenWrapper.getUsername() != null ? tokenWrapper : null;
+    }
 
-        JwtTokenWrapper tokenWrapper = null;
-        if (username != null) {
-            tokenWrapper = new JwtTokenWrapper(username, jwtToken);
-        }
-        return tokenWrapper;
+    private JwtTokenWrapper verifyToken(String token) {
+        Claims claims = jwtTokenUtil.getAllClaimsFromToken(token);
+        return new JwtTokenWrapper(
+                claims.getSubject(),
+                token,
+                claims,
+                claims.get(CommonConstants.USER_ID_KEY, String.class),
+                claims.getIssuedAt() != null ? claims.getIssuedAt().getTime() / 1000 : 0);
     }
 }
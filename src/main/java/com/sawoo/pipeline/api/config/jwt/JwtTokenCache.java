@@ -0,0 +1,70 @@
+package com.sawoo.pipeline.api.config.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Tokens whose signature has already been verified, keyed by the token. Each entry expires when
+ * its token does, so a cached token is never accepted after its expiration date. See app.cache.jwt-tokens.
+ */
+@Component
+public class JwtTokenCache {
+
+    private static final String JWT_TOKENS_CACHE_NAME = "jwt.tokens";
+
+    private final boolean enabled;
+    private final Cache<String, JwtTokenWrapper> tokens;
+
+    public JwtTokenCache(
+            MeterRegistry meterRegistry,
+            @Value("${app.cache.jwt-tokens.enabled:true}") boolean enabled,
+            @Value("${app.cache.jwt-tokens.max-size:10000}") long maxSize) {
+        this.enabled = enabled;
+        this.tokens = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, tokens, JWT_TOKENS_CACHE_NAME);
+    }
+
+    /**
+     * Returns the verified token, verifying it with the loader when it is not cached. Tokens rejected by the
+     * loader are not cached
+     */
+    public JwtTokenWrapper get(String token, Function<String, JwtTokenWrapper> loader) {
+        return enabled ? tokens.get(token, loader) : loader.apply(token);
+    }
+
+    private static class TokenExpiry implements Expiry<String, JwtTokenWrapper> {
+
+        @Override
+        public long expireAfterCreate(String token, JwtTokenWrapper wrapper, long currentTime) {
+            Date expiration = wrapper.getClaims().getExpiration();
+            if (expiration == null) {
+                return 0;
+            }
+            long timeToLive = expiration.getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(timeToLive, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, JwtTokenWrapper wrapper, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String token, JwtTokenWrapper wrapper, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.sawoo.pipeline.api.config.jwt;
 
+import io.jsonwebtoken.Claims;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 
@@ -9,4 +10,7 @@ public class JwtTokenWrapper {
 
     private String username;
     private String token;
+    private Claims claims;
+    private String userId;
+    private long issuedAt;
 }
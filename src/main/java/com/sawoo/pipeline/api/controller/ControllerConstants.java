@@ -3,6 +3,9 @@ package com.sawoo.pipeline.api.controller;
 public interface ControllerConstants {
 
     String API_BASE_URI = "/api/";
+    int CURSOR_PAGE_MAX_LIMIT = 500;
+    String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+    String APPLICATION_ZIP_VALUE = "application/zip";
 
     String ACCOUNT_CONTROLLER_RESOURCE_NAME = "accounts";
     String ACCOUNT_CONTROLLER_API_BASE_URI = API_BASE_URI + ACCOUNT_CONTROLLER_RESOURCE_NAME;
@@ -19,6 +22,7 @@ public interface ControllerConstants {
     String PROSPECT_CONTROLLER_RESOURCE_NAME = "leads";
     String PROSPECT_CONTROLLER_RESOURCE_PATH_VARIABLE_NAME = "leadId";
     String PROSPECT_CONTROLLER_API_BASE_URI = API_BASE_URI + PROSPECT_CONTROLLER_RESOURCE_NAME;
+    String PROSPECT_REPORT_JOB_CONTROLLER_RESOURCE_NAME = "report-jobs";
     String TODO_CONTROLLER_RESOURCE_NAME = "todos";
     String TODO_CONTROLLER_API_BASE_URI = API_BASE_URI + TODO_CONTROLLER_RESOURCE_NAME;
     String EMAIL_CONTROLLER_API_BASE_URI = API_BASE_URI + "emails";
@@ -3,6 +3,8 @@ package com.sawoo.pipeline.api.controller.account;
 import com.sawoo.pipeline.api.controller.ControllerConstants;
 import com.sawoo.pipeline.api.dto.account.AccountDTO;
 import com.sawoo.pipeline.api.dto.audit.VersionDTO;
+import com.sawoo.pipeline.api.dto.audit.VersionDiffDTO;
+import com.sawoo.pipeline.api.dto.common.CursorPageDTO;
 import com.sawoo.pipeline.api.dto.prospect.ProspectDTO;
 import com.sawoo.pipeline.api.dto.prospect.ProspectTodoDTO;
 import com.sawoo.pipeline.api.model.account.AccountStatus;
@@ -23,6 +25,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 import javax.validation.constraints.NotNull;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Slf4j
 @RestController
@@ -47,6 +50,28 @@ public class AccountController {
         return delegator.findAll();
     }
 
+    @GetMapping(
+            params = {"fields", "!limit"},
+            produces = {MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<List<AccountDTO>> getAll(@RequestParam(value = "fields") String fields) {
+        return delegator.findAll(fields);
+    }
+
+    @GetMapping(
+            params = {"limit"},
+            produces = {MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<CursorPageDTO<AccountDTO>> getAll(
+            @RequestParam(value = "limit") int limit,
+            @RequestParam(value = "next", required = false) String next,
+            @RequestParam(value = "fields", required = false) String fields) {
+        return delegator.findAll(next, limit, fields);
+    }
+
+    @GetMapping(produces = {ControllerConstants.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<Stream<AccountDTO>> streamAll(@RequestParam(value = "fields", required = false) String fields) {
+        return delegator.streamAll(fields);
+    }
+
    @GetMapping(
             value = "/{id}",
             produces = {MediaType.APPLICATION_JSON_VALUE})
@@ -54,6 +79,16 @@ public class AccountController {
         return delegator.findById(id);
     }
 
+    @GetMapping(
+            value = "/{id}",
+            params = {"fields"},
+            produces = {MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<AccountDTO> get(
+            @PathVariable String id,
+            @RequestParam(value = "fields") String fields) {
+        return delegator.findById(id, fields);
+    }
+
     @GetMapping(
             value = "/{id}/versions",
             produces = {MediaType.APPLICATION_JSON_VALUE})
@@ -61,6 +96,27 @@ public class AccountController {
         return delegator.getVersions(id);
     }
 
+    @GetMapping(
+            value = "/{id}/versions",
+            params = {"limit"},
+            produces = {MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<List<VersionDTO<AccountDTO>>> getVersions(
+            @PathVariable String id,
+            @RequestParam(value = "limit") int limit,
+            @RequestParam(value = "skip", defaultValue = "0") int skip) {
+        return delegator.getVersions(id, skip, limit);
+    }
+
+    @GetMapping(
+            value = "/{id}/versions/diff",
+            produces = {MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<List<VersionDiffDTO>> getVersionDiff(
+            @PathVariable String id,
+            @RequestParam(value = "from") int from,
+            @RequestParam(value = "to") int to) {
+        return delegator.getVersionDiff(id, from, to);
+    }
+
     @DeleteMapping(
             value = "/{id}",
             produces = {MediaType.APPLICATION_JSON_VALUE})
@@ -126,6 +182,17 @@ public class AccountController {
         return delegator.findAllProspects(accountId);
     }
 
+    @GetMapping(
+            value = "/{id}/"  + ControllerConstants.PROSPECT_CONTROLLER_RESOURCE_NAME,
+            params = {"limit"},
+            produces = {MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<CursorPageDTO<ProspectDTO>> findAllProspects(
+            @PathVariable("id") String accountId,
+            @RequestParam(value = "limit") int limit,
+            @RequestParam(value = "next", required = false) String next) {
+        return delegator.findAllProspects(accountId, next, limit);
+    }
+
     @GetMapping(
             value = "/{ids}/"  + ControllerConstants.PROSPECT_CONTROLLER_RESOURCE_NAME + "/main",
             produces = {MediaType.APPLICATION_JSON_VALUE})
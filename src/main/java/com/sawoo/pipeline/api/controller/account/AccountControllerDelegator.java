@@ -6,6 +6,7 @@ import com.sawoo.pipeline.api.common.exceptions.ResourceNotFoundException;
 import com.sawoo.pipeline.api.controller.ControllerConstants;
 import com.sawoo.pipeline.api.controller.base.BaseControllerDelegator;
 import com.sawoo.pipeline.api.dto.account.AccountDTO;
+import com.sawoo.pipeline.api.dto.common.CursorPageDTO;
 import com.sawoo.pipeline.api.dto.email.EmailWithTemplateDTO;
 import com.sawoo.pipeline.api.dto.prospect.ProspectDTO;
 import com.sawoo.pipeline.api.dto.prospect.ProspectTodoDTO;
@@ -136,6 +137,12 @@ public class AccountControllerDelegator extends BaseControllerDelegator<AccountD
         return prospectDelegator.findAllProspects(accountId);
     }
 
+    @Override
+    public ResponseEntity<CursorPageDTO<ProspectDTO>> findAllProspects(String accountId, String next, int limit)
+            throws ResourceNotFoundException {
+        return prospectDelegator.findAllProspects(accountId, next, limit);
+    }
+
     @Override
     public ResponseEntity<List<ProspectDTO>> findAllProspects(
             String[] accountIds, Integer[] prospectQualification) throws ResourceNotFoundException {
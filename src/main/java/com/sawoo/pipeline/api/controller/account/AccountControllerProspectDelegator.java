@@ -3,11 +3,15 @@ package com.sawoo.pipeline.api.controller.account;
 import com.sawoo.pipeline.api.common.contants.ExceptionMessageConstants;
 import com.sawoo.pipeline.api.common.exceptions.CommonServiceException;
 import com.sawoo.pipeline.api.common.exceptions.ResourceNotFoundException;
+import com.sawoo.pipeline.api.controller.ControllerConstants;
+import com.sawoo.pipeline.api.dto.common.CursorPageDTO;
 import com.sawoo.pipeline.api.dto.prospect.ProspectDTO;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 
 import javax.validation.Valid;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotEmpty;
 import java.util.List;
@@ -23,6 +27,13 @@ public interface AccountControllerProspectDelegator {
             @NotBlank(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_EMPTY_ERROR) String accountId)
             throws ResourceNotFoundException;
 
+    ResponseEntity<CursorPageDTO<ProspectDTO>> findAllProspects(
+            @NotBlank(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_EMPTY_ERROR) String accountId,
+            String next,
+            @Min(value = 1, message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_BELLOW_MIN_SIZE_ERROR)
+            @Max(value = ControllerConstants.CURSOR_PAGE_MAX_LIMIT, message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_EXCEED_MAX_SIZE_ERROR) int limit)
+            throws ResourceNotFoundException;
+
     ResponseEntity<List<ProspectDTO>> findAllProspects(
             @NotEmpty(message = ExceptionMessageConstants.COMMON_LIST_FIELD_CAN_NOT_BE_EMPTY_ERROR) String[] accountIds,
             Integer[] prospectQualification)
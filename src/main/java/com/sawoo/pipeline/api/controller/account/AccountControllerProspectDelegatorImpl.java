@@ -4,6 +4,7 @@ import com.sawoo.pipeline.api.common.contants.ExceptionMessageConstants;
 import com.sawoo.pipeline.api.common.exceptions.CommonServiceException;
 import com.sawoo.pipeline.api.common.exceptions.ResourceNotFoundException;
 import com.sawoo.pipeline.api.controller.ControllerConstants;
+import com.sawoo.pipeline.api.dto.common.CursorPageDTO;
 import com.sawoo.pipeline.api.dto.prospect.ProspectDTO;
 import com.sawoo.pipeline.api.service.account.AccountService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,6 +14,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 
 import javax.validation.Valid;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotEmpty;
 import java.net.URI;
@@ -52,6 +55,16 @@ public class AccountControllerProspectDelegatorImpl implements AccountController
         return ResponseEntity.ok().body(service.findAllProspects(accountId));
     }
 
+    @Override
+    public ResponseEntity<CursorPageDTO<ProspectDTO>> findAllProspects(
+            @NotBlank(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_EMPTY_ERROR) String accountId,
+            String next,
+            @Min(value = 1, message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_BELLOW_MIN_SIZE_ERROR)
+            @Max(value = ControllerConstants.CURSOR_PAGE_MAX_LIMIT, message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_EXCEED_MAX_SIZE_ERROR) int limit)
+            throws ResourceNotFoundException {
+        return ResponseEntity.ok().body(service.findAllProspects(accountId, next, limit));
+    }
+
     @Override
     public ResponseEntity<List<ProspectDTO>> findAllProspects(
             @NotEmpty(message = ExceptionMessageConstants.COMMON_LIST_FIELD_CAN_NOT_BE_EMPTY_ERROR) String[] accountIds,
@@ -1,7 +1,10 @@
 package com.sawoo.pipeline.api.controller.base;
 
 import com.sawoo.pipeline.api.common.contants.ExceptionMessageConstants;
+import com.sawoo.pipeline.api.controller.ControllerConstants;
 import com.sawoo.pipeline.api.dto.audit.VersionDTO;
+import com.sawoo.pipeline.api.dto.audit.VersionDiffDTO;
+import com.sawoo.pipeline.api.dto.common.CursorPageDTO;
 import com.sawoo.pipeline.api.service.base.BaseService;
 import lombok.Getter;
 import org.springframework.http.HttpStatus;
@@ -9,10 +12,13 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 
 import javax.validation.Valid;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotBlank;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Validated
 public abstract class BaseControllerDelegator<D, S extends BaseService<D>> implements ControllerDelegation<D> {
@@ -43,12 +49,38 @@ public abstract class BaseControllerDelegator<D, S extends BaseService<D>> imple
         return ResponseEntity.ok().body(service.findAll());
     }
 
+    @Override
+    public ResponseEntity<List<D>> findAll(String fields) {
+        return ResponseEntity.ok().body(service.findAll(fields));
+    }
+
+    @Override
+    public ResponseEntity<CursorPageDTO<D>> findAll(
+            String next,
+            @Min(value = 1, message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_BELLOW_MIN_SIZE_ERROR)
+            @Max(value = ControllerConstants.CURSOR_PAGE_MAX_LIMIT, message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_EXCEED_MAX_SIZE_ERROR) int limit,
+            String fields) {
+        return ResponseEntity.ok().body(service.findAll(next, limit, fields));
+    }
+
+    @Override
+    public ResponseEntity<Stream<D>> streamAll(String fields) {
+        return ResponseEntity.ok().body(service.streamAll(fields));
+    }
+
     @Override
     public ResponseEntity<D> findById(
             @NotBlank(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_EMPTY_OR_NULL_ERROR) String id) {
         return ResponseEntity.ok().body(service.findById(id));
     }
 
+    @Override
+    public ResponseEntity<D> findById(
+            @NotBlank(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_EMPTY_OR_NULL_ERROR) String id,
+            String fields) {
+        return ResponseEntity.ok().body(service.findById(id, fields));
+    }
+
     @Override
     public ResponseEntity<D> deleteById(
             @NotBlank(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_EMPTY_OR_NULL_ERROR) String id) {
@@ -75,4 +107,21 @@ public abstract class BaseControllerDelegator<D, S extends BaseService<D>> imple
             @NotBlank(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_EMPTY_OR_NULL_ERROR) String id) {
         return ResponseEntity.ok().body(getService().getVersions(id));
     }
+
+    @Override
+    public ResponseEntity<List<VersionDTO<D>>> getVersions(
+            @NotBlank(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_EMPTY_OR_NULL_ERROR) String id,
+            @Min(value = 0, message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_BELLOW_MIN_SIZE_ERROR) int skip,
+            @Min(value = 1, message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_BELLOW_MIN_SIZE_ERROR)
+            @Max(value = ControllerConstants.CURSOR_PAGE_MAX_LIMIT, message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_EXCEED_MAX_SIZE_ERROR) int limit) {
+        return ResponseEntity.ok().body(getService().getVersions(id, skip, limit));
+    }
+
+    @Override
+    public ResponseEntity<List<VersionDiffDTO>> getVersionDiff(
+            @NotBlank(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_EMPTY_OR_NULL_ERROR) String id,
+            @Min(value = 0, message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_BELLOW_MIN_SIZE_ERROR) int from,
+            @Min(value = 0, message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_BELLOW_MIN_SIZE_ERROR) int to) {
+        return ResponseEntity.ok().body(getService().getVersionDiff(id, from, to));
+    }
 }
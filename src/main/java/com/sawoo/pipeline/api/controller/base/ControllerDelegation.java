@@ -1,12 +1,18 @@
 package com.sawoo.pipeline.api.controller.base;
 
 import com.sawoo.pipeline.api.common.contants.ExceptionMessageConstants;
+import com.sawoo.pipeline.api.controller.ControllerConstants;
 import com.sawoo.pipeline.api.dto.audit.VersionDTO;
+import com.sawoo.pipeline.api.dto.audit.VersionDiffDTO;
+import com.sawoo.pipeline.api.dto.common.CursorPageDTO;
 import org.springframework.http.ResponseEntity;
 
 import javax.validation.Valid;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotBlank;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface ControllerDelegation<D> {
 
@@ -14,9 +20,23 @@ public interface ControllerDelegation<D> {
 
     ResponseEntity<List<D>> findAll();
 
+    ResponseEntity<List<D>> findAll(String fields);
+
+    ResponseEntity<CursorPageDTO<D>> findAll(
+            String next,
+            @Min(value = 1, message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_BELLOW_MIN_SIZE_ERROR)
+            @Max(value = ControllerConstants.CURSOR_PAGE_MAX_LIMIT, message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_EXCEED_MAX_SIZE_ERROR) int limit,
+            String fields);
+
+    ResponseEntity<Stream<D>> streamAll(String fields);
+
     ResponseEntity<D> findById(
             @NotBlank(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_EMPTY_OR_NULL_ERROR) String id);
 
+    ResponseEntity<D> findById(
+            @NotBlank(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_EMPTY_OR_NULL_ERROR) String id,
+            String fields);
+
     ResponseEntity<D> deleteById(
             @NotBlank(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_EMPTY_OR_NULL_ERROR) String id);
 
@@ -28,4 +48,15 @@ public interface ControllerDelegation<D> {
 
     ResponseEntity<List<VersionDTO<D>>> getVersions(
             @NotBlank(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_EMPTY_OR_NULL_ERROR) String id);
+
+    ResponseEntity<List<VersionDTO<D>>> getVersions(
+            @NotBlank(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_EMPTY_OR_NULL_ERROR) String id,
+            @Min(value = 0, message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_BELLOW_MIN_SIZE_ERROR) int skip,
+            @Min(value = 1, message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_BELLOW_MIN_SIZE_ERROR)
+            @Max(value = ControllerConstants.CURSOR_PAGE_MAX_LIMIT, message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_EXCEED_MAX_SIZE_ERROR) int limit);
+
+    ResponseEntity<List<VersionDiffDTO>> getVersionDiff(
+            @NotBlank(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_EMPTY_OR_NULL_ERROR) String id,
+            @Min(value = 0, message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_BELLOW_MIN_SIZE_ERROR) int from,
+            @Min(value = 0, message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_BELLOW_MIN_SIZE_ERROR) int to);
 }
@@ -2,6 +2,10 @@ package com.sawoo.pipeline.api.controller.campaign;
 
 import com.sawoo.pipeline.api.controller.ControllerConstants;
 import com.sawoo.pipeline.api.dto.audit.VersionDTO;
+import com.sawoo.pipeline.api.dto.audit.VersionDiffDTO;
+import com.sawoo.pipeline.api.dto.campaign.CampaignProspectEnrolmentDTO;
+import com.sawoo.pipeline.api.dto.campaign.request.CampaignProspectBulkAddDTO;
+import com.sawoo.pipeline.api.dto.common.CursorPageDTO;
 import com.sawoo.pipeline.api.dto.campaign.CampaignDTO;
 import com.sawoo.pipeline.api.dto.campaign.CampaignProspectDTO;
 import com.sawoo.pipeline.api.dto.campaign.request.CampaignProspectAddDTO;
@@ -18,10 +22,12 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Stream;
 
 @Slf4j
 @RestController
@@ -44,6 +50,28 @@ public class CampaignController {
         return delegator.findAll();
     }
 
+    @GetMapping(
+            params = {"fields", "!limit"},
+            produces = {MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<List<CampaignDTO>> getAll(@RequestParam(value = "fields") String fields) {
+        return delegator.findAll(fields);
+    }
+
+    @GetMapping(
+            params = {"limit"},
+            produces = {MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<CursorPageDTO<CampaignDTO>> getAll(
+            @RequestParam(value = "limit") int limit,
+            @RequestParam(value = "next", required = false) String next,
+            @RequestParam(value = "fields", required = false) String fields) {
+        return delegator.findAll(next, limit, fields);
+    }
+
+    @GetMapping(produces = {ControllerConstants.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<Stream<CampaignDTO>> streamAll(@RequestParam(value = "fields", required = false) String fields) {
+        return delegator.streamAll(fields);
+    }
+
    @GetMapping(
             value = "/{id}",
             produces = {MediaType.APPLICATION_JSON_VALUE})
@@ -51,6 +79,16 @@ public class CampaignController {
         return delegator.findById(id);
     }
 
+    @GetMapping(
+            value = "/{id}",
+            params = {"fields"},
+            produces = {MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<CampaignDTO> get(
+            @PathVariable String id,
+            @RequestParam(value = "fields") String fields) {
+        return delegator.findById(id, fields);
+    }
+
     @GetMapping(
             value = "/{id}/versions",
             produces = {MediaType.APPLICATION_JSON_VALUE})
@@ -58,6 +96,27 @@ public class CampaignController {
         return delegator.getVersions(id);
     }
 
+    @GetMapping(
+            value = "/{id}/versions",
+            params = {"limit"},
+            produces = {MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<List<VersionDTO<CampaignDTO>>> getVersions(
+            @PathVariable String id,
+            @RequestParam(value = "limit") int limit,
+            @RequestParam(value = "skip", defaultValue = "0") int skip) {
+        return delegator.getVersions(id, skip, limit);
+    }
+
+    @GetMapping(
+            value = "/{id}/versions/diff",
+            produces = {MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<List<VersionDiffDTO>> getVersionDiff(
+            @PathVariable String id,
+            @RequestParam(value = "from") int from,
+            @RequestParam(value = "to") int to) {
+        return delegator.getVersionDiff(id, from, to);
+    }
+
     @DeleteMapping(
             value = "/{id}",
             produces = {MediaType.APPLICATION_JSON_VALUE})
@@ -105,6 +164,16 @@ public class CampaignController {
         return delegator.addProspect(id, dto);
     }
 
+    @PostMapping(
+            value = "/{id}/"  + ControllerConstants.PROSPECT_CONTROLLER_RESOURCE_NAME + "/bulk",
+            produces = {MediaType.APPLICATION_JSON_VALUE},
+            consumes = {MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<List<CampaignProspectEnrolmentDTO>> addProspects(
+            @PathVariable("id") String id,
+            @RequestBody CampaignProspectBulkAddDTO dto) {
+        return delegator.addProspects(id, dto);
+    }
+
     @PutMapping(
             value = "/{id}/"  + ControllerConstants.PROSPECT_CONTROLLER_RESOURCE_NAME + "/{" + ControllerConstants.PROSPECT_CONTROLLER_RESOURCE_PATH_VARIABLE_NAME + "}",
             produces = {MediaType.APPLICATION_JSON_VALUE},
@@ -133,4 +202,16 @@ public class CampaignController {
             @PathVariable(value = "id") String id) {
         return delegator.findAllProspects(id);
     }
+
+    @GetMapping(
+            value = "/{id}/" + ControllerConstants.PROSPECT_CONTROLLER_RESOURCE_NAME,
+            params = {"limit"},
+            produces = {MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<CursorPageDTO<CampaignProspectDTO>> findProspects(
+            @PathVariable(value = "id") String id,
+            @RequestParam(value = "status", required = false) List<Integer> status,
+            @RequestParam(value = "limit") int limit,
+            @RequestParam(value = "next", required = false) String next) {
+        return delegator.findProspects(id, status, next, limit);
+    }
 }
@@ -6,9 +6,12 @@ import com.sawoo.pipeline.api.controller.ControllerConstants;
 import com.sawoo.pipeline.api.controller.base.BaseControllerDelegator;
 import com.sawoo.pipeline.api.dto.campaign.CampaignDTO;
 import com.sawoo.pipeline.api.dto.campaign.CampaignProspectDTO;
+import com.sawoo.pipeline.api.dto.campaign.CampaignProspectEnrolmentDTO;
 import com.sawoo.pipeline.api.dto.campaign.request.CampaignProspectAddDTO;
 import com.sawoo.pipeline.api.dto.campaign.request.CampaignProspectBaseDTO;
+import com.sawoo.pipeline.api.dto.campaign.request.CampaignProspectBulkAddDTO;
 import com.sawoo.pipeline.api.dto.campaign.request.CampaignProspectCreateDTO;
+import com.sawoo.pipeline.api.dto.common.CursorPageDTO;
 import com.sawoo.pipeline.api.service.campaign.CampaignService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -58,6 +61,12 @@ public class CampaignControllerDelegator extends BaseControllerDelegator<Campaig
         return prospectDelegator.addProspect(campaignId, campaignProspect);
     }
 
+    @Override
+    public ResponseEntity<List<CampaignProspectEnrolmentDTO>> addProspects(String campaignId, CampaignProspectBulkAddDTO campaignProspects)
+            throws ResourceNotFoundException, CommonServiceException {
+        return prospectDelegator.addProspects(campaignId, campaignProspects);
+    }
+
     @Override
     public ResponseEntity<CampaignProspectDTO> removeProspect(String campaignId, String prospectId)
             throws ResourceNotFoundException, CommonServiceException {
@@ -75,4 +84,10 @@ public class CampaignControllerDelegator extends BaseControllerDelegator<Campaig
             throws ResourceNotFoundException, CommonServiceException {
         return prospectDelegator.findAllProspects(campaignId);
     }
+
+    @Override
+    public ResponseEntity<CursorPageDTO<CampaignProspectDTO>> findProspects(String campaignId, List<Integer> status, String next, int limit)
+            throws ResourceNotFoundException, CommonServiceException {
+        return prospectDelegator.findProspects(campaignId, status, next, limit);
+    }
 }
@@ -4,9 +4,12 @@ import com.sawoo.pipeline.api.common.contants.ExceptionMessageConstants;
 import com.sawoo.pipeline.api.common.exceptions.CommonServiceException;
 import com.sawoo.pipeline.api.common.exceptions.ResourceNotFoundException;
 import com.sawoo.pipeline.api.dto.campaign.CampaignProspectDTO;
+import com.sawoo.pipeline.api.dto.campaign.CampaignProspectEnrolmentDTO;
 import com.sawoo.pipeline.api.dto.campaign.request.CampaignProspectAddDTO;
 import com.sawoo.pipeline.api.dto.campaign.request.CampaignProspectBaseDTO;
+import com.sawoo.pipeline.api.dto.campaign.request.CampaignProspectBulkAddDTO;
 import com.sawoo.pipeline.api.dto.campaign.request.CampaignProspectCreateDTO;
+import com.sawoo.pipeline.api.dto.common.CursorPageDTO;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 
@@ -27,6 +30,11 @@ public interface CampaignControllerProspectDelegator {
             @Valid CampaignProspectAddDTO campaignProspect)
             throws ResourceNotFoundException, CommonServiceException;
 
+    ResponseEntity<List<CampaignProspectEnrolmentDTO>> addProspects(
+            @NotBlank(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_EMPTY_OR_NULL_ERROR) String campaignId,
+            @Valid CampaignProspectBulkAddDTO campaignProspects)
+            throws ResourceNotFoundException, CommonServiceException;
+
     ResponseEntity<CampaignProspectDTO> removeProspect(
             @NotBlank(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_EMPTY_OR_NULL_ERROR) String campaignId,
             @NotBlank(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_EMPTY_OR_NULL_ERROR) String prospectId)
@@ -41,4 +49,11 @@ public interface CampaignControllerProspectDelegator {
     ResponseEntity<List<CampaignProspectDTO>> findAllProspects(
             @NotBlank(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_EMPTY_OR_NULL_ERROR) String campaignId)
             throws ResourceNotFoundException, CommonServiceException;
+
+    ResponseEntity<CursorPageDTO<CampaignProspectDTO>> findProspects(
+            @NotBlank(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_EMPTY_OR_NULL_ERROR) String campaignId,
+            List<Integer> status,
+            String next,
+            int limit)
+            throws ResourceNotFoundException, CommonServiceException;
 }
@@ -5,9 +5,12 @@ import com.sawoo.pipeline.api.common.exceptions.CommonServiceException;
 import com.sawoo.pipeline.api.common.exceptions.ResourceNotFoundException;
 import com.sawoo.pipeline.api.controller.ControllerConstants;
 import com.sawoo.pipeline.api.dto.campaign.CampaignProspectDTO;
+import com.sawoo.pipeline.api.dto.campaign.CampaignProspectEnrolmentDTO;
 import com.sawoo.pipeline.api.dto.campaign.request.CampaignProspectAddDTO;
 import com.sawoo.pipeline.api.dto.campaign.request.CampaignProspectBaseDTO;
+import com.sawoo.pipeline.api.dto.campaign.request.CampaignProspectBulkAddDTO;
 import com.sawoo.pipeline.api.dto.campaign.request.CampaignProspectCreateDTO;
+import com.sawoo.pipeline.api.dto.common.CursorPageDTO;
 import com.sawoo.pipeline.api.model.common.Status;
 import com.sawoo.pipeline.api.model.prospect.ProspectQualification;
 import com.sawoo.pipeline.api.service.campaign.CampaignService;
@@ -52,6 +55,13 @@ public class CampaignControllerProspectDelegatorImpl implements CampaignControll
         return newOrAddProspect(campaignId, newEntity);
     }
 
+    @Override
+    public ResponseEntity<List<CampaignProspectEnrolmentDTO>> addProspects(
+            @NotBlank(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_EMPTY_OR_NULL_ERROR) String campaignId,
+            @Valid CampaignProspectBulkAddDTO campaignProspects) throws ResourceNotFoundException, CommonServiceException {
+        return ResponseEntity.ok().body(service.addProspects(campaignId, campaignProspects));
+    }
+
     @Override
     public ResponseEntity<CampaignProspectDTO> removeProspect(
             @NotBlank(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_EMPTY_OR_NULL_ERROR) String campaignId,
@@ -76,6 +86,15 @@ public class CampaignControllerProspectDelegatorImpl implements CampaignControll
         return ResponseEntity.ok().body(service.findAllProspects(campaignId));
     }
 
+    @Override
+    public ResponseEntity<CursorPageDTO<CampaignProspectDTO>> findProspects(
+            @NotBlank(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_EMPTY_OR_NULL_ERROR) String campaignId,
+            List<Integer> status,
+            String next,
+            int limit) throws ResourceNotFoundException, CommonServiceException {
+        return ResponseEntity.ok().body(service.findProspects(campaignId, status, next, limit));
+    }
+
     private ResponseEntity<CampaignProspectDTO> newOrAddProspect(String campaignId, CampaignProspectDTO campaignProspect) {
         try {
             return ResponseEntity
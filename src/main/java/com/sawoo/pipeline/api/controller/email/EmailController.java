@@ -1,12 +1,13 @@
 package com.sawoo.pipeline.api.controller.email;
 
-import com.googlecode.jmapper.JMapper;
 import com.sawoo.pipeline.api.common.exceptions.EmailException;
 import com.sawoo.pipeline.api.controller.ControllerConstants;
 import com.sawoo.pipeline.api.dto.email.EmailDTO;
 import com.sawoo.pipeline.api.dto.email.EmailWithAttachmentDTO;
 import com.sawoo.pipeline.api.dto.email.EmailWithAttachmentRequestDTO;
 import com.sawoo.pipeline.api.dto.email.EmailWithTemplateDTO;
+import com.sawoo.pipeline.api.service.base.JMapperMapping;
+import com.sawoo.pipeline.api.service.base.ObjectMapping;
 import com.sawoo.pipeline.api.service.infra.email.EmailService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -27,7 +28,7 @@ import java.nio.charset.StandardCharsets;
 public class EmailController {
 
     private final EmailService emailService;
-    private final JMapper<EmailWithAttachmentDTO, EmailWithAttachmentRequestDTO> mapper = new JMapper<>(EmailWithAttachmentDTO.class, EmailWithAttachmentRequestDTO.class);
+    private final ObjectMapping<EmailWithAttachmentDTO, EmailWithAttachmentRequestDTO> mapper = new JMapperMapping<>(EmailWithAttachmentDTO.class, EmailWithAttachmentRequestDTO.class);
 
     @PostMapping(consumes = {MediaType.APPLICATION_JSON_VALUE})
     public ResponseEntity<Void> send(@Valid @RequestBody EmailDTO email) throws EmailException {
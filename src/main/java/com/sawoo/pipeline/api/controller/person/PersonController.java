@@ -2,6 +2,8 @@ package com.sawoo.pipeline.api.controller.person;
 
 import com.sawoo.pipeline.api.controller.ControllerConstants;
 import com.sawoo.pipeline.api.dto.audit.VersionDTO;
+import com.sawoo.pipeline.api.dto.audit.VersionDiffDTO;
+import com.sawoo.pipeline.api.dto.common.CursorPageDTO;
 import com.sawoo.pipeline.api.dto.person.PersonDTO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,9 +16,11 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 @Slf4j
 @RestController
@@ -38,6 +42,28 @@ public class PersonController {
         return delegator.findAll();
     }
 
+    @GetMapping(
+            params = {"fields", "!limit"},
+            produces = {MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<List<PersonDTO>> getAll(@RequestParam(value = "fields") String fields) {
+        return delegator.findAll(fields);
+    }
+
+    @GetMapping(
+            params = {"limit"},
+            produces = {MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<CursorPageDTO<PersonDTO>> getAll(
+            @RequestParam(value = "limit") int limit,
+            @RequestParam(value = "next", required = false) String next,
+            @RequestParam(value = "fields", required = false) String fields) {
+        return delegator.findAll(next, limit, fields);
+    }
+
+    @GetMapping(produces = {ControllerConstants.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<Stream<PersonDTO>> streamAll(@RequestParam(value = "fields", required = false) String fields) {
+        return delegator.streamAll(fields);
+    }
+
    @GetMapping(
             value = "/{id}",
             produces = {MediaType.APPLICATION_JSON_VALUE})
@@ -45,6 +71,16 @@ public class PersonController {
         return delegator.findById(id);
     }
 
+    @GetMapping(
+            value = "/{id}",
+            params = {"fields"},
+            produces = {MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<PersonDTO> get(
+            @PathVariable String id,
+            @RequestParam(value = "fields") String fields) {
+        return delegator.findById(id, fields);
+    }
+
     @GetMapping(
             value = "/{id}/versions",
             produces = {MediaType.APPLICATION_JSON_VALUE})
@@ -52,6 +88,27 @@ public class PersonController {
         return delegator.getVersions(id);
     }
 
+    @GetMapping(
+            value = "/{id}/versions",
+            params = {"limit"},
+            produces = {MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<List<VersionDTO<PersonDTO>>> getVersions(
+            @PathVariable String id,
+            @RequestParam(value = "limit") int limit,
+            @RequestParam(value = "skip", defaultValue = "0") int skip) {
+        return delegator.getVersions(id, skip, limit);
+    }
+
+    @GetMapping(
+            value = "/{id}/versions/diff",
+            produces = {MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<List<VersionDiffDTO>> getVersionDiff(
+            @PathVariable String id,
+            @RequestParam(value = "from") int from,
+            @RequestParam(value = "to") int to) {
+        return delegator.getVersionDiff(id, from, to);
+    }
+
     @DeleteMapping(
             value = "/{id}",
             produces = {MediaType.APPLICATION_JSON_VALUE})
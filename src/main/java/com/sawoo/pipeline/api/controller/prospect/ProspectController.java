@@ -4,14 +4,19 @@ import com.sawoo.pipeline.api.common.contants.ExceptionMessageConstants;
 import com.sawoo.pipeline.api.common.exceptions.ResourceNotFoundException;
 import com.sawoo.pipeline.api.controller.ControllerConstants;
 import com.sawoo.pipeline.api.dto.audit.VersionDTO;
+import com.sawoo.pipeline.api.dto.audit.VersionDiffDTO;
+import com.sawoo.pipeline.api.dto.common.CursorPageDTO;
 import com.sawoo.pipeline.api.dto.prospect.ProspectDTO;
+import com.sawoo.pipeline.api.dto.prospect.ProspectReportJobDTO;
 import com.sawoo.pipeline.api.dto.prospect.ProspectTodoDTO;
+import com.sawoo.pipeline.api.dto.prospect.request.ProspectReportJobCreateDTO;
 import com.sawoo.pipeline.api.dto.todo.TodoAssigneeDTO;
 import com.sawoo.pipeline.api.dto.todo.TodoDTO;
 import com.sawoo.pipeline.api.model.todo.TodoSearch;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -28,6 +33,8 @@ import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotNull;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 @Slf4j
 @RestController
@@ -50,6 +57,28 @@ public class ProspectController {
         return delegator.findAll();
     }
 
+    @GetMapping(
+            params = {"fields", "!limit"},
+            produces = {MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<List<ProspectDTO>> getAll(@RequestParam(value = "fields") String fields) {
+        return delegator.findAll(fields);
+    }
+
+    @GetMapping(
+            params = {"limit"},
+            produces = {MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<CursorPageDTO<ProspectDTO>> getAll(
+            @RequestParam(value = "limit") int limit,
+            @RequestParam(value = "next", required = false) String next,
+            @RequestParam(value = "fields", required = false) String fields) {
+        return delegator.findAll(next, limit, fields);
+    }
+
+    @GetMapping(produces = {ControllerConstants.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<Stream<ProspectDTO>> streamAll(@RequestParam(value = "fields", required = false) String fields) {
+        return delegator.streamAll(fields);
+    }
+
     @GetMapping(
             value = "/{id}",
             produces = {MediaType.APPLICATION_JSON_VALUE})
@@ -57,6 +86,16 @@ public class ProspectController {
         return delegator.findById(id);
     }
 
+    @GetMapping(
+            value = "/{id}",
+            params = {"fields"},
+            produces = {MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<ProspectDTO> findById(
+            @PathVariable String id,
+            @RequestParam(value = "fields") String fields) {
+        return delegator.findById(id, fields);
+    }
+
     @GetMapping(
             value = "/{id}/versions",
             produces = {MediaType.APPLICATION_JSON_VALUE})
@@ -64,6 +103,27 @@ public class ProspectController {
         return delegator.getVersions(id);
     }
 
+    @GetMapping(
+            value = "/{id}/versions",
+            params = {"limit"},
+            produces = {MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<List<VersionDTO<ProspectDTO>>> getVersions(
+            @PathVariable String id,
+            @RequestParam(value = "limit") int limit,
+            @RequestParam(value = "skip", defaultValue = "0") int skip) {
+        return delegator.getVersions(id, skip, limit);
+    }
+
+    @GetMapping(
+            value = "/{id}/versions/diff",
+            produces = {MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<List<VersionDiffDTO>> getVersionDiff(
+            @PathVariable String id,
+            @RequestParam(value = "from") int from,
+            @RequestParam(value = "to") int to) {
+        return delegator.getVersionDiff(id, from, to);
+    }
+
     @DeleteMapping(
             value = "/{id}",
             produces = {MediaType.APPLICATION_JSON_VALUE})
@@ -105,13 +165,35 @@ public class ProspectController {
     @GetMapping(
             value = "/{id}/report",
             produces = {MediaType.APPLICATION_PDF_VALUE})
-    public ResponseEntity<InputStreamResource> getReport(
+    public CompletableFuture<ResponseEntity<InputStreamResource>> getReport(
             @PathVariable("id") String id,
             @RequestParam(value = "template", required = false) String template,
             @RequestParam(value = "lan", required = false) String lan) {
         return delegator.getReport(id, template, lan);
     }
 
+    @PostMapping(
+            value = "/" + ControllerConstants.PROSPECT_REPORT_JOB_CONTROLLER_RESOURCE_NAME,
+            produces = {MediaType.APPLICATION_JSON_VALUE},
+            consumes = {MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<ProspectReportJobDTO> createReportJob(@RequestBody ProspectReportJobCreateDTO job) {
+        return delegator.createReportJob(job);
+    }
+
+    @GetMapping(
+            value = "/" + ControllerConstants.PROSPECT_REPORT_JOB_CONTROLLER_RESOURCE_NAME + "/{jobId}",
+            produces = {MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<ProspectReportJobDTO> getReportJob(@PathVariable("jobId") String jobId) {
+        return delegator.getReportJob(jobId);
+    }
+
+    @GetMapping(
+            value = "/" + ControllerConstants.PROSPECT_REPORT_JOB_CONTROLLER_RESOURCE_NAME + "/{jobId}/file",
+            produces = {ControllerConstants.APPLICATION_ZIP_VALUE})
+    public ResponseEntity<Resource> getReportJobFile(@PathVariable("jobId") String jobId) {
+        return delegator.getReportJobFile(jobId);
+    }
+
     @PostMapping(
             value = "/{id}/" + ControllerConstants.TODO_CONTROLLER_RESOURCE_NAME,
             produces = {MediaType.APPLICATION_JSON_VALUE},
@@ -151,16 +233,43 @@ public class ProspectController {
             @RequestParam(value = "sourceIds", required = false) List<String> sourceIds,
             @RequestParam(value = "sourceTypes", required = false) List<Integer> sourceTypes,
             @RequestParam(value = "accountIds", required = false) List<String> accountIds) {
-        TodoSearch search = TodoSearch.builder()
-                .componentIds(Collections.singletonList(id))
-                .campaignIds(campaignIds)
-                .status(status)
-                .channels(types)
-                .sourceId(sourceIds)
-                .sourceType(sourceTypes)
-                .accountIds(accountIds)
-                .build();
-        return delegator.searchTODOs(search);
+        return delegator.searchTODOs(buildTodoSearch(id, campaignIds, status, types, sourceIds, sourceTypes, accountIds));
+    }
+
+    @GetMapping(
+            value = "/{id}/" + ControllerConstants.TODO_CONTROLLER_RESOURCE_NAME + "/search",
+            params = {"limit"},
+            produces = {MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<CursorPageDTO<ProspectTodoDTO>> searchTODOs(
+            @NotEmpty(message = ExceptionMessageConstants.COMMON_LIST_FIELD_CAN_NOT_BE_EMPTY_ERROR)
+            @PathVariable("id") String id,
+            @RequestParam(value = "campaignIds", required = false) List<String> campaignIds,
+            @RequestParam(value = "status", required = false) List<Integer> status,
+            @RequestParam(value = "types", required = false) List<Integer> types,
+            @RequestParam(value = "sourceIds", required = false) List<String> sourceIds,
+            @RequestParam(value = "sourceTypes", required = false) List<Integer> sourceTypes,
+            @RequestParam(value = "accountIds", required = false) List<String> accountIds,
+            @RequestParam(value = "limit") int limit,
+            @RequestParam(value = "next", required = false) String next) {
+        return delegator.searchTODOs(
+                buildTodoSearch(id, campaignIds, status, types, sourceIds, sourceTypes, accountIds),
+                next,
+                limit);
+    }
+
+    @GetMapping(
+            value = "/{id}/" + ControllerConstants.TODO_CONTROLLER_RESOURCE_NAME + "/search",
+            produces = {ControllerConstants.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<Stream<ProspectTodoDTO>> streamTODOs(
+            @NotEmpty(message = ExceptionMessageConstants.COMMON_LIST_FIELD_CAN_NOT_BE_EMPTY_ERROR)
+            @PathVariable("id") String id,
+            @RequestParam(value = "campaignIds", required = false) List<String> campaignIds,
+            @RequestParam(value = "status", required = false) List<Integer> status,
+            @RequestParam(value = "types", required = false) List<Integer> types,
+            @RequestParam(value = "sourceIds", required = false) List<String> sourceIds,
+            @RequestParam(value = "sourceTypes", required = false) List<Integer> sourceTypes,
+            @RequestParam(value = "accountIds", required = false) List<String> accountIds) {
+        return delegator.streamTODOs(buildTodoSearch(id, campaignIds, status, types, sourceIds, sourceTypes, accountIds));
     }
 
     @GetMapping(
@@ -181,4 +290,23 @@ public class ProspectController {
             @RequestParam(value = "assigneeId", required = false) String assigneeId) {
         return delegator.evalTODOs(id, sequenceId, assigneeId);
     }
+
+    private TodoSearch buildTodoSearch(
+            String id,
+            List<String> campaignIds,
+            List<Integer> status,
+            List<Integer> types,
+            List<String> sourceIds,
+            List<Integer> sourceTypes,
+            List<String> accountIds) {
+        return TodoSearch.builder()
+                .componentIds(Collections.singletonList(id))
+                .campaignIds(campaignIds)
+                .status(status)
+                .channels(types)
+                .sourceId(sourceIds)
+                .sourceType(sourceTypes)
+                .accountIds(accountIds)
+                .build();
+    }
 }
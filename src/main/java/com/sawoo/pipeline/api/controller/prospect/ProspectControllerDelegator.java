@@ -5,8 +5,11 @@ import com.sawoo.pipeline.api.common.exceptions.CommonServiceException;
 import com.sawoo.pipeline.api.common.exceptions.ResourceNotFoundException;
 import com.sawoo.pipeline.api.controller.ControllerConstants;
 import com.sawoo.pipeline.api.controller.base.BaseControllerDelegator;
+import com.sawoo.pipeline.api.dto.common.CursorPageDTO;
 import com.sawoo.pipeline.api.dto.prospect.ProspectDTO;
+import com.sawoo.pipeline.api.dto.prospect.ProspectReportJobDTO;
 import com.sawoo.pipeline.api.dto.prospect.ProspectTodoDTO;
+import com.sawoo.pipeline.api.dto.prospect.request.ProspectReportJobCreateDTO;
 import com.sawoo.pipeline.api.dto.todo.TodoAssigneeDTO;
 import com.sawoo.pipeline.api.dto.todo.TodoDTO;
 import com.sawoo.pipeline.api.model.todo.TodoSearch;
@@ -15,11 +18,14 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Primary;
 import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 
 import javax.validation.constraints.NotBlank;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 @Component
 @Primary
@@ -48,10 +54,25 @@ public class ProspectControllerDelegator extends BaseControllerDelegator<Prospec
     }
 
     @Override
-    public ResponseEntity<InputStreamResource> getReport(String id, String template, String lan) {
+    public CompletableFuture<ResponseEntity<InputStreamResource>> getReport(String id, String template, String lan) {
         return reportDelegator.getReport(id, template, lan);
     }
 
+    @Override
+    public ResponseEntity<ProspectReportJobDTO> createReportJob(ProspectReportJobCreateDTO job) {
+        return reportDelegator.createReportJob(job);
+    }
+
+    @Override
+    public ResponseEntity<ProspectReportJobDTO> getReportJob(String jobId) {
+        return reportDelegator.getReportJob(jobId);
+    }
+
+    @Override
+    public ResponseEntity<Resource> getReportJobFile(String jobId) {
+        return reportDelegator.getReportJobFile(jobId);
+    }
+
     @Override
     public ResponseEntity<List<TodoDTO>> addTODOs(String prospectId, List<TodoDTO> todos)
             throws ResourceNotFoundException, CommonServiceException {
@@ -78,6 +99,16 @@ public class ProspectControllerDelegator extends BaseControllerDelegator<Prospec
         return prospectTODODelegator.searchTODOs(searchCriteria);
     }
 
+    @Override
+    public ResponseEntity<CursorPageDTO<ProspectTodoDTO>> searchTODOs(TodoSearch searchCriteria, String next, int limit) {
+        return prospectTODODelegator.searchTODOs(searchCriteria, next, limit);
+    }
+
+    @Override
+    public ResponseEntity<Stream<ProspectTodoDTO>> streamTODOs(TodoSearch searchCriteria) {
+        return prospectTODODelegator.streamTODOs(searchCriteria);
+    }
+
     @Override
     public ResponseEntity<ProspectDTO> deleteProspectSummary(String prospectId) throws ResourceNotFoundException {
         return ResponseEntity.ok().body(getService().deleteProspectSummary(prospectId));
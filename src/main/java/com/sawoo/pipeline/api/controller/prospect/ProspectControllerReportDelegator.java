@@ -1,17 +1,31 @@
 package com.sawoo.pipeline.api.controller.prospect;
 
 import com.sawoo.pipeline.api.common.contants.ExceptionMessageConstants;
+import com.sawoo.pipeline.api.dto.prospect.ProspectReportJobDTO;
+import com.sawoo.pipeline.api.dto.prospect.request.ProspectReportJobCreateDTO;
 import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 
 import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+import java.util.concurrent.CompletableFuture;
 
 @Validated
 public interface ProspectControllerReportDelegator {
 
-    ResponseEntity<InputStreamResource> getReport(
+    CompletableFuture<ResponseEntity<InputStreamResource>> getReport(
             @NotBlank(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_EMPTY_OR_NULL_ERROR) String id,
             String template,
             String lan);
+
+    ResponseEntity<ProspectReportJobDTO> createReportJob(
+            @NotNull(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_EMPTY_OR_NULL_ERROR) ProspectReportJobCreateDTO job);
+
+    ResponseEntity<ProspectReportJobDTO> getReportJob(
+            @NotBlank(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_EMPTY_OR_NULL_ERROR) String jobId);
+
+    ResponseEntity<Resource> getReportJobFile(
+            @NotBlank(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_EMPTY_OR_NULL_ERROR) String jobId);
 }
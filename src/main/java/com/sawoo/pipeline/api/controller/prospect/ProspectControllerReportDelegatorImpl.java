@@ -1,10 +1,15 @@
 package com.sawoo.pipeline.api.controller.prospect;
 
 import com.sawoo.pipeline.api.common.contants.ExceptionMessageConstants;
+import com.sawoo.pipeline.api.controller.ControllerConstants;
+import com.sawoo.pipeline.api.dto.prospect.ProspectReportJobDTO;
+import com.sawoo.pipeline.api.dto.prospect.request.ProspectReportJobCreateDTO;
+import com.sawoo.pipeline.api.service.prospect.ProspectReportJobService;
 import com.sawoo.pipeline.api.service.prospect.ProspectService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
 import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
@@ -12,32 +17,72 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 
 import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
 import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
 
 @Component
 @Qualifier("prospectControllerReport")
 public class ProspectControllerReportDelegatorImpl implements ProspectControllerReportDelegator {
 
     private final ProspectService service;
+    private final ProspectReportJobService reportJobService;
 
     @Autowired
-    public ProspectControllerReportDelegatorImpl(ProspectService service) {
+    public ProspectControllerReportDelegatorImpl(ProspectService service, ProspectReportJobService reportJobService) {
         this.service = service;
+        this.reportJobService = reportJobService;
     }
 
     @Override
-    public ResponseEntity<InputStreamResource> getReport(
+    public CompletableFuture<ResponseEntity<InputStreamResource>> getReport(
             @NotBlank(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_EMPTY_OR_NULL_ERROR) String id,
             String template,
             String lan) {
-        byte[] pdfBytes = service.getReport(id, template, lan);
+        return service
+                .getReportAsync(id, template, lan)
+                .thenApply(pdfBytes -> {
+                    HttpHeaders headers = new HttpHeaders();
+                    headers.setContentType(MediaType.APPLICATION_PDF);
+                    headers.setContentDisposition(ContentDisposition.builder("attachment; filename=" + template + "." + id + ".pdf").build());
+                    return ResponseEntity
+                            .ok()
+                            .contentLength(pdfBytes.length)
+                            .headers(headers)
+                            .body(new InputStreamResource(new ByteArrayInputStream(pdfBytes)));
+                });
+    }
+
+    @Override
+    public ResponseEntity<ProspectReportJobDTO> createReportJob(
+            @NotNull(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_EMPTY_OR_NULL_ERROR) ProspectReportJobCreateDTO job) {
+        ProspectReportJobDTO reportJob = reportJobService.createJob(job);
+        return ResponseEntity
+                .accepted()
+                .location(URI.create(
+                        ControllerConstants.PROSPECT_CONTROLLER_API_BASE_URI + "/" +
+                        ControllerConstants.PROSPECT_REPORT_JOB_CONTROLLER_RESOURCE_NAME + "/" +
+                        reportJob.getId()))
+                .body(reportJob);
+    }
+
+    @Override
+    public ResponseEntity<ProspectReportJobDTO> getReportJob(
+            @NotBlank(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_EMPTY_OR_NULL_ERROR) String jobId) {
+        return ResponseEntity.ok().body(reportJobService.getJob(jobId));
+    }
+
+    @Override
+    public ResponseEntity<Resource> getReportJobFile(
+            @NotBlank(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_EMPTY_OR_NULL_ERROR) String jobId) {
+        Resource file = reportJobService.getJobFile(jobId);
         HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_PDF);
-        headers.setContentDisposition(ContentDisposition.builder("attachment; filename=" + template + "." + id + ".pdf").build());
+        headers.setContentType(MediaType.parseMediaType(ControllerConstants.APPLICATION_ZIP_VALUE));
+        headers.setContentDisposition(ContentDisposition.builder("attachment; filename=reports." + jobId + ".zip").build());
         return ResponseEntity
                 .ok()
-                .contentLength(pdfBytes.length)
                 .headers(headers)
-                .body( new InputStreamResource(new ByteArrayInputStream(pdfBytes)) );
+                .body(file);
     }
 }
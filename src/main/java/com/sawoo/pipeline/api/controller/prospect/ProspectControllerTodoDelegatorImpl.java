@@ -3,6 +3,7 @@ package com.sawoo.pipeline.api.controller.prospect;
 import com.sawoo.pipeline.api.common.exceptions.CommonServiceException;
 import com.sawoo.pipeline.api.common.exceptions.ResourceNotFoundException;
 import com.sawoo.pipeline.api.controller.ControllerConstants;
+import com.sawoo.pipeline.api.dto.common.CursorPageDTO;
 import com.sawoo.pipeline.api.dto.prospect.ProspectTodoDTO;
 import com.sawoo.pipeline.api.dto.todo.TodoAssigneeDTO;
 import com.sawoo.pipeline.api.dto.todo.TodoDTO;
@@ -18,6 +19,7 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Component
 @Qualifier("prospectControllerTODO")
@@ -72,4 +74,14 @@ public class ProspectControllerTodoDelegatorImpl implements ProspectControllerTo
     public ResponseEntity<List<ProspectTodoDTO>> searchTODOs(TodoSearch searchCriteria) {
         return ResponseEntity.ok().body(service.searchBy(searchCriteria));
     }
+
+    @Override
+    public ResponseEntity<CursorPageDTO<ProspectTodoDTO>> searchTODOs(TodoSearch searchCriteria, String next, int limit) {
+        return ResponseEntity.ok().body(service.searchBy(searchCriteria, next, limit));
+    }
+
+    @Override
+    public ResponseEntity<Stream<ProspectTodoDTO>> streamTODOs(TodoSearch searchCriteria) {
+        return ResponseEntity.ok().body(service.streamBy(searchCriteria));
+    }
 }
@@ -148,8 +148,7 @@ public class UserControllerDelegator extends BaseControllerDelegator<UserAuthDTO
     @Override
     public ResponseEntity<Void> logout(
             @NotBlank(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_EMPTY_OR_NULL_ERROR) String id) {
-        // invalidate token
-        log.info("Invalidate token for user id: [{}]. TO BE IMPLEMENTED", id);
+        getService().logout(id);
         return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
     }
 
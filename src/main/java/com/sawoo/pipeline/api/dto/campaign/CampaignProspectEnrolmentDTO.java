@@ -0,0 +1,28 @@
+package com.sawoo.pipeline.api.dto.campaign;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Result of the enrolment of one prospect in a bulk add to a campaign. Failed prospects only carry the error
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CampaignProspectEnrolmentDTO {
+
+    private String prospectId;
+
+    private boolean enrolled;
+
+    private CampaignProspectDTO campaignProspect;
+
+    private Integer todos;
+
+    private String error;
+}
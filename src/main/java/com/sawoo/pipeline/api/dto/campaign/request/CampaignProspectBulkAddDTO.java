@@ -0,0 +1,33 @@
+package com.sawoo.pipeline.api.dto.campaign.request;
+
+import com.sawoo.pipeline.api.common.contants.ExceptionMessageConstants;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotEmpty;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CampaignProspectBulkAddDTO {
+
+    @NotEmpty(message = ExceptionMessageConstants.COMMON_LIST_FIELD_CAN_NOT_BE_EMPTY_ERROR)
+    private List<String> prospectIds;
+
+    @NotBlank(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_EMPTY_OR_NULL_ERROR)
+    private String sequenceId;
+
+    private String assigneeId;
+
+    private LocalDateTime startDate;
+
+    private LocalDateTime endDate;
+
+    private Integer status;
+}
@@ -0,0 +1,31 @@
+package com.sawoo.pipeline.api.dto.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder(toBuilder = true)
+public class CursorPageDTO<D> {
+
+    private List<D> content;
+    private int limit;
+    private int size;
+    private boolean last;
+    private String next;
+
+    public static <D> CursorPageDTO<D> of(List<D> content, int limit, String next) {
+        return CursorPageDTO.<D>builder()
+                .content(content)
+                .limit(limit)
+                .size(content.size())
+                .last(next == null)
+                .next(next)
+                .build();
+    }
+}
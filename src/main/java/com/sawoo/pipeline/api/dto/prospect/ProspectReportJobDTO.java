@@ -0,0 +1,43 @@
+package com.sawoo.pipeline.api.dto.prospect;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.sawoo.pipeline.api.model.prospect.ProspectReportJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Progress of a bulk report job. Prospects whose report could not be generated are listed in errors with the
+ * reason, the rest of the reports are still added to the job file
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ProspectReportJobDTO {
+
+    private String id;
+
+    private ProspectReportJobStatus status;
+
+    private String template;
+
+    private String lan;
+
+    private Integer total;
+
+    private Integer generated;
+
+    private Map<String, String> errors;
+
+    private String error;
+
+    private LocalDateTime created;
+
+    private LocalDateTime finished;
+}
@@ -0,0 +1,27 @@
+package com.sawoo.pipeline.api.dto.prospect.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Prospects of a bulk report job. The prospects of the campaign and the listed prospects are joined, so at
+ * least one of them must be informed
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProspectReportJobCreateDTO {
+
+    private String campaignId;
+
+    private List<String> prospectIds;
+
+    private String template;
+
+    private String lan;
+}
@@ -3,13 +3,17 @@ package com.sawoo.pipeline.api.model;
 public interface DBConstants {
 
     String PROSPECT_DOCUMENT = "prospect";
+    String PROSPECT_REPORT_JOB_DOCUMENT = "prospect_report_job";
     String PERSON_DOCUMENT = "person";
     String SEQUENCE_DOCUMENT = "sequence";
     String SEQUENCE_STEP_DOCUMENT = "sequence-step";
     String USER_DOCUMENT = "user";
     String USER_TOKEN_DOCUMENT = "user-token";
+    String USER_TOKEN_REVOCATION_DOCUMENT = "user_token_revocation";
     String TODO_DOCUMENT = "todo";
     String ACCOUNT_DOCUMENT = "account";
     String CAMPAIGN_DOCUMENT = "campaign";
+    String CAMPAIGN_PROSPECT_DOCUMENT = "campaign_prospect";
     String COMPANY_DOCUMENT = "company";
+    String EMAIL_OUTBOX_DOCUMENT = "email_outbox";
 }
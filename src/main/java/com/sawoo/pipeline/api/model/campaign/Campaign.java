@@ -14,8 +14,6 @@ import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
 
 @Data
 @AllArgsConstructor
@@ -53,15 +51,6 @@ public class Campaign extends BaseEntity  {
     @JMap
     private LocalDateTime actualEndDate;
 
-    private List<CampaignProspect> prospects;
-
-    public List<CampaignProspect> getProspects() {
-        if (prospects == null) {
-            prospects = new ArrayList<>();
-        }
-        return prospects;
-    }
-
     @JMapConversion(from = {"status"}, to = {"status"})
     public CampaignStatus statusConversion(Integer status) {
         return CampaignStatus.fromValue(status);
@@ -0,0 +1,38 @@
+package com.sawoo.pipeline.api.model.campaign;
+
+import com.sawoo.pipeline.api.model.DBConstants;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import lombok.experimental.SuperBuilder;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Campaign prospect stored in its own collection instead of being embedded in the campaign document.
+ * Prospect and sequence ids are kept next to the DBRefs so they can be queried and resolved in batch.
+ */
+@Data
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+@SuperBuilder
+@Document(collection = DBConstants.CAMPAIGN_PROSPECT_DOCUMENT)
+@CompoundIndexes({
+        @CompoundIndex(name = "campaign_prospect_idx", def = "{'campaignId': 1, 'prospectId': 1}", unique = true),
+        @CompoundIndex(name = "campaign_status_idx", def = "{'campaignId': 1, 'status': 1}")
+})
+public class CampaignProspectEntry extends CampaignProspect {
+
+    @Id
+    private String id;
+
+    private String campaignId;
+
+    private String prospectId;
+
+    private String sequenceId;
+}
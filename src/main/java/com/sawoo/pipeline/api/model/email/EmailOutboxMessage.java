@@ -0,0 +1,59 @@
+package com.sawoo.pipeline.api.model.email;
+
+import com.sawoo.pipeline.api.model.BaseEntity;
+import com.sawoo.pipeline.api.model.DBConstants;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import lombok.experimental.SuperBuilder;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Email waiting to be delivered by the outbox dispatcher. Messages are deleted once sent. While a message is
+ * being sent nextAttempt holds the end of the sending lease, so messages of a dispatcher that stopped are
+ * picked up again when it expires.
+ */
+@Data
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true, exclude = {"fileContent", "templateContext"})
+@SuperBuilder
+@Document(collection = DBConstants.EMAIL_OUTBOX_DOCUMENT)
+@CompoundIndex(name = "status_next_attempt_idx", def = "{'status': 1, 'nextAttempt': 1}")
+public class EmailOutboxMessage extends BaseEntity {
+
+    @Id
+    private String id;
+
+    private EmailOutboxMessageType type;
+
+    private EmailOutboxMessageStatus status;
+
+    private String to;
+
+    private String subject;
+
+    private String message;
+
+    private byte[] fileContent;
+
+    private String fileType;
+
+    private String fileName;
+
+    private String templateName;
+
+    private Map<String, Object> templateContext;
+
+    private int attempts;
+
+    private LocalDateTime nextAttempt;
+
+    private String lastError;
+}
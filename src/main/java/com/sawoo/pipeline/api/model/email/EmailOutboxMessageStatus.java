@@ -0,0 +1,7 @@
+package com.sawoo.pipeline.api.model.email;
+
+public enum EmailOutboxMessageStatus {
+    PENDING,
+    SENDING,
+    FAILED
+}
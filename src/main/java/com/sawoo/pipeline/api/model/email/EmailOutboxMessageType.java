@@ -0,0 +1,7 @@
+package com.sawoo.pipeline.api.model.email;
+
+public enum EmailOutboxMessageType {
+    TEXT,
+    ATTACHMENT,
+    TEMPLATE
+}
@@ -0,0 +1,53 @@
+package com.sawoo.pipeline.api.model.prospect;
+
+import com.sawoo.pipeline.api.model.BaseEntity;
+import com.sawoo.pipeline.api.model.DBConstants;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import lombok.experimental.SuperBuilder;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * State of a bulk report job, shared by every instance: the job runs on the instance that created it and the
+ * status and file can be requested from any of them. The ZIP file is stored in GridFS under fileId. The document
+ * is removed by its TTL index after the retention time.
+ */
+@Data
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+@SuperBuilder
+@Document(collection = DBConstants.PROSPECT_REPORT_JOB_DOCUMENT)
+public class ProspectReportJob extends BaseEntity {
+
+    @Id
+    private String id;
+
+    private ProspectReportJobStatus status;
+
+    private String template;
+
+    private String language;
+
+    private int total;
+
+    private int generated;
+
+    private List<ProspectReportJobError> errors;
+
+    private String error;
+
+    private String fileId;
+
+    private LocalDateTime finished;
+
+    @Indexed(name = "expiration_date_ttl_idx", expireAfterSeconds = 0)
+    private LocalDateTime expirationDate;
+}
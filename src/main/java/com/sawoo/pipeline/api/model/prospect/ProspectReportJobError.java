@@ -0,0 +1,19 @@
+package com.sawoo.pipeline.api.model.prospect;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Prospect whose report could not be generated by a bulk report job. Kept as a list item, prospect ids are not
+ * valid document keys in general
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProspectReportJobError {
+
+    private String prospectId;
+
+    private String message;
+}
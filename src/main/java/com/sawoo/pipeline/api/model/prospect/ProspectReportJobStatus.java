@@ -0,0 +1,8 @@
+package com.sawoo.pipeline.api.model.prospect;
+
+public enum ProspectReportJobStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
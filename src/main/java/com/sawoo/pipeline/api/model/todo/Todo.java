@@ -12,6 +12,9 @@ import lombok.NoArgsConstructor;
 import lombok.ToString;
 import lombok.experimental.SuperBuilder;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
@@ -23,6 +26,12 @@ import java.time.LocalDateTime;
 @EqualsAndHashCode(callSuper = false)
 @ToString(callSuper = true)
 @Document(collection = DBConstants.TODO_DOCUMENT)
+@CompoundIndexes({
+        @CompoundIndex(name = "todo_component_status_channel_idx", def = "{'componentId': 1, 'status': 1, 'channel': 1}"),
+        @CompoundIndex(name = "todo_campaign_status_idx", def = "{'campaignId': 1, 'status': 1}"),
+        @CompoundIndex(name = "todo_source_idx", def = "{'source.sourceId': 1, 'source.type': 1, 'status': 1}"),
+        @CompoundIndex(name = "todo_status_channel_idx", def = "{'status': 1, 'channel': 1}")
+})
 public class Todo extends BaseEntity {
 
     @JMap
@@ -54,6 +63,7 @@ public class Todo extends BaseEntity {
     private String campaignId;
 
     @JMap
+    @Indexed
     private String assigneeId;
 
     @JMap
@@ -0,0 +1,39 @@
+package com.sawoo.pipeline.api.model.user;
+
+import com.sawoo.pipeline.api.model.BaseEntity;
+import com.sawoo.pipeline.api.model.DBConstants;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import lombok.experimental.SuperBuilder;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * Per user watermark: the JWT tokens of the user issued before revokedBefore are no longer accepted. The document
+ * is removed by its TTL index once every token it revokes has expired.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = false)
+@ToString(callSuper = true)
+@Document(collection = DBConstants.USER_TOKEN_REVOCATION_DOCUMENT)
+@CompoundIndex(name = "updated_idx", def = "{'updated': 1}")
+@SuperBuilder
+public class UserTokenRevocation extends BaseEntity {
+
+    @Id
+    private String userId;
+
+    private LocalDateTime revokedBefore;
+
+    @Indexed(name = "expiration_date_ttl_idx", expireAfterSeconds = 0)
+    private LocalDateTime expirationDate;
+}
@@ -2,9 +2,22 @@ package com.sawoo.pipeline.api.repository.account;
 
 import com.sawoo.pipeline.api.model.account.Account;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface AccountRepositoryCustom {
 
     List<Account> searchByFullName(String fullName);
+
+    /**
+     * Ids of the prospects referenced by the account, read without resolving the prospects
+     */
+    List<String> findProspectIds(String accountId);
+
+    /**
+     * Account id of each of the given prospects, keyed by prospect id. Prospects not linked to any account are
+     * not included
+     */
+    Map<String, String> findAccountIdsByProspectIds(Collection<String> prospectIds);
 }
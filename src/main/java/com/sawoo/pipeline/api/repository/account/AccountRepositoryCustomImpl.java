@@ -1,19 +1,34 @@
 package com.sawoo.pipeline.api.repository.account;
 
+import com.mongodb.DBRef;
 import com.sawoo.pipeline.api.model.account.Account;
 import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.bson.types.ObjectId;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.TextCriteria;
 import org.springframework.data.mongodb.core.query.TextQuery;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Component
 public class AccountRepositoryCustomImpl implements AccountRepositoryCustom {
 
+    private static final String PROSPECTS_FIELD = "prospects";
+    private static final String PROSPECTS_ID_FIELD = "prospects.$id";
+    private static final String ID_FIELD = "_id";
+
     private final MongoTemplate mongoTemplate;
 
     @Override
@@ -26,4 +41,42 @@ public class AccountRepositoryCustomImpl implements AccountRepositoryCustom {
 
         return mongoTemplate.find(byFullName, Account.class);
     }
+
+    @Override
+    public List<String> findProspectIds(String accountId) {
+        Query byId = new Query(Criteria.where("id").is(accountId));
+        byId.fields().include(PROSPECTS_FIELD);
+        Document account = mongoTemplate.findOne(byId, Document.class, mongoTemplate.getCollectionName(Account.class));
+        if (account == null || account.get(PROSPECTS_FIELD) == null) {
+            return Collections.emptyList();
+        }
+        return account
+                .getList(PROSPECTS_FIELD, DBRef.class)
+                .stream()
+                .map(ref -> ref.getId().toString())
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Map<String, String> findAccountIdsByProspectIds(Collection<String> prospectIds) {
+        Map<String, String> accountIds = new HashMap<>();
+        if (prospectIds == null || prospectIds.isEmpty()) {
+            return accountIds;
+        }
+        Set<String> ids = new HashSet<>(prospectIds);
+        Query byProspectIds = new Query(Criteria.where(PROSPECTS_ID_FIELD).in(ids
+                .stream()
+                .map(id -> ObjectId.isValid(id) ? new ObjectId(id) : id)
+                .collect(Collectors.toList())));
+        byProspectIds.fields().include(PROSPECTS_FIELD);
+        mongoTemplate
+                .find(byProspectIds, Document.class, mongoTemplate.getCollectionName(Account.class))
+                .forEach(account -> account
+                        .getList(PROSPECTS_FIELD, DBRef.class)
+                        .stream()
+                        .map(ref -> ref.getId().toString())
+                        .filter(ids::contains)
+                        .forEach(prospectId -> accountIds.putIfAbsent(prospectId, account.get(ID_FIELD).toString())));
+        return accountIds;
+    }
 }
@@ -2,11 +2,62 @@ package com.sawoo.pipeline.api.repository.base;
 
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.util.CloseableIterator;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @NoRepositoryBean
 public interface BaseMongoRepository<M> extends MongoRepository<M, String> {
 
     List<M> deleteByIdIn(List<String> ids);
+
+    List<M> insertAll(List<M> entities);
+
+    /**
+     * Appends the elements to the array field of the entity and sets its updated date in one atomic update, the rest
+     * of the document is not rewritten. Elements of a DBRef array are pushed as references, so they must be saved.
+     * Returns whether the entity is found, it is not read back
+     */
+    boolean pushAll(String id, String field, List<?> elements);
+
+    /**
+     * Removes the elements from the array field of the entity and sets its updated date in one atomic update.
+     * Returns whether the entity is found, it is not read back
+     */
+    boolean pullAll(String id, String field, List<?> elements);
+
+    /**
+     * Deletes the entities with the given ids in one round trip without reading them
+     */
+    long deleteAllById(Collection<String> ids);
+
+    /**
+     * Finds the entities with the given ids resolving the DBRefs under the given paths with one query per path
+     * and target collection. See {@link DBRefBatchResolver}
+     */
+    List<M> findAllWithReferences(Collection<String> ids, String... referencePaths);
+
+    /**
+     * Finds the entity with the given id reading only the fields of the projection, or all of them when it is null
+     */
+    Optional<M> findById(String id, FieldProjection projection);
+
+    /**
+     * Finds all the entities reading only the fields of the projection, or all of them when it is null
+     */
+    List<M> findAll(FieldProjection projection);
+
+    /**
+     * Finds up to limit entities ordered by id, starting after the given cursor or from the beginning when it is null.
+     * Only the fields of the projection are read, or all of them when it is null
+     */
+    KeysetPage<M> findAllAfter(KeysetCursor cursor, int limit, FieldProjection projection);
+
+    /**
+     * Iterates over all the entities through a database cursor, reading them in batches as they are consumed.
+     * Only the fields of the projection are read, or all of them when it is null. The iterator must be closed once done
+     */
+    CloseableIterator<M> streamAll(FieldProjection projection);
 }
@@ -1,22 +1,40 @@
 package com.sawoo.pipeline.api.repository.base;
 
+import org.bson.types.ObjectId;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.data.mongodb.repository.query.MongoEntityInformation;
 import org.springframework.data.mongodb.repository.support.SimpleMongoRepository;
+import org.springframework.data.util.CloseableIterator;
 
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 public class BaseMongoRepositoryImpl<M> extends SimpleMongoRepository<M, String> implements BaseMongoRepository<M> {
 
+    private static final String UPDATED_FIELD = "updated";
+
     private final MongoOperations mongoOperations;
     private final MongoEntityInformation<M, String> metadata;
+    private final DBRefBatchResolver referenceResolver;
+    private final KeysetPager pager;
 
     public BaseMongoRepositoryImpl(MongoEntityInformation<M, String> metadata, MongoOperations mongoOperations) {
         super(metadata, mongoOperations);
         this.mongoOperations = mongoOperations;
         this.metadata = metadata;
+        this.referenceResolver = new DBRefBatchResolver(mongoOperations);
+        this.pager = new KeysetPager(mongoOperations);
     }
 
     @Override
@@ -24,4 +42,117 @@ public class BaseMongoRepositoryImpl<M> extends SimpleMongoRepository<M, String>
         Criteria criteria = Criteria.where("id").in(ids);
         return mongoOperations.findAllAndRemove(new Query(criteria), metadata.getJavaType());
     }
+
+    @Override
+    public long deleteAllById(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        Criteria criteria = Criteria.where("id").in(ids);
+        return mongoOperations
+                .remove(new Query(criteria), metadata.getJavaType(), metadata.getCollectionName())
+                .getDeletedCount();
+    }
+
+    @Override
+    public List<M> insertAll(List<M> entities) {
+        if (entities.isEmpty()) {
+            return entities;
+        }
+        // Bulk inserts do not write the generated ids back to the entities, so they are assigned upfront
+        MongoPersistentEntity<?> persistentEntity = mongoOperations
+                .getConverter()
+                .getMappingContext()
+                .getRequiredPersistentEntity(metadata.getJavaType());
+        MongoPersistentProperty idProperty = persistentEntity.getRequiredIdProperty();
+        entities.forEach(entity -> {
+            PersistentPropertyAccessor<M> accessor = persistentEntity.getPropertyAccessor(entity);
+            if (accessor.getProperty(idProperty) == null) {
+                accessor.setProperty(idProperty, new ObjectId().toHexString());
+            }
+        });
+
+        mongoOperations
+                .bulkOps(BulkOperations.BulkMode.UNORDERED, metadata.getJavaType(), metadata.getCollectionName())
+                .insert(entities)
+                .execute();
+        return entities;
+    }
+
+    @Override
+    public boolean pushAll(String id, String field, List<?> elements) {
+        MongoPersistentProperty property = getPersistentEntity().getRequiredPersistentProperty(field);
+        Object[] values = elements.stream().map(element -> toArrayValue(element, property)).toArray();
+        return updateOne(new Query(Criteria.where("id").is(id)), new Update().push(field).each(values));
+    }
+
+    @Override
+    public boolean pullAll(String id, String field, List<?> elements) {
+        MongoPersistentProperty property = getPersistentEntity().getRequiredPersistentProperty(field);
+        Object[] values = elements.stream().map(element -> toArrayValue(element, property)).toArray();
+        return updateOne(new Query(Criteria.where("id").is(id)), new Update().pullAll(field, values));
+    }
+
+    @Override
+    public List<M> findAllWithReferences(Collection<String> ids, String... referencePaths) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Criteria criteria = Criteria.where("id").in(ids);
+        return referenceResolver.find(new Query(criteria), metadata.getJavaType(), referencePaths);
+    }
+
+    @Override
+    public Optional<M> findById(String id, FieldProjection projection) {
+        if (projection == null) {
+            return findById(id);
+        }
+        Query query = new Query(Criteria.where("id").is(id));
+        return Optional.ofNullable(mongoOperations.findOne(project(query, projection), metadata.getJavaType(), metadata.getCollectionName()));
+    }
+
+    @Override
+    public List<M> findAll(FieldProjection projection) {
+        if (projection == null) {
+            return findAll();
+        }
+        return mongoOperations.find(project(new Query(), projection), metadata.getJavaType(), metadata.getCollectionName());
+    }
+
+    @Override
+    public KeysetPage<M> findAllAfter(KeysetCursor cursor, int limit, FieldProjection projection) {
+        return pager.find(project(new Query(), projection), metadata.getJavaType(), KeysetCursor.ID_FIELD, cursor, limit);
+    }
+
+    @Override
+    public CloseableIterator<M> streamAll(FieldProjection projection) {
+        return mongoOperations.stream(project(new Query(), projection), metadata.getJavaType(), metadata.getCollectionName());
+    }
+
+    private boolean updateOne(Query query, Update update) {
+        update.set(UPDATED_FIELD, LocalDateTime.now(ZoneOffset.UTC));
+        // The entity is not read back, so its DBRefs are neither fetched nor converted
+        return mongoOperations
+                .updateFirst(query, update, metadata.getJavaType(), metadata.getCollectionName())
+                .getMatchedCount() > 0;
+    }
+
+    private Object toArrayValue(Object element, MongoPersistentProperty property) {
+        // Lazy references are converted without being resolved
+        return property.isAssociation() ? mongoOperations.getConverter().toDBRef(element, property) : element;
+    }
+
+    private MongoPersistentEntity<?> getPersistentEntity() {
+        return mongoOperations
+                .getConverter()
+                .getMappingContext()
+                .getRequiredPersistentEntity(metadata.getJavaType());
+    }
+
+    private Query project(Query query, FieldProjection projection) {
+        if (projection == null) {
+            return query;
+        }
+        return projection.applyTo(query, getPersistentEntity(), mongoOperations.getConverter().getMappingContext());
+    }
 }
@@ -0,0 +1,184 @@
+package com.sawoo.pipeline.api.repository.base;
+
+import com.mongodb.DBRef;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.model.Filters;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.convert.LazyLoadingProxy;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Reads entities together with their {@link org.springframework.data.mongodb.core.mapping.DBRef} references
+ * resolved in batch. Raw documents are read first, then for every reference path the referenced ids of the whole
+ * result set are fetched with one $in query per target collection and the documents are inlined in place of the
+ * DBRefs before the mapping takes place, so the converter does not need to resolve them one by one.
+ * <p>
+ * Reference paths use the property names as stored in the document and can be nested, e.g.
+ * {@code "prospects", "prospects.person", "prospects.person.company"}.
+ */
+@Slf4j
+public class DBRefBatchResolver {
+
+    private static final String ID_FIELD = "_id";
+    private static final String PATH_SEPARATOR = "\\.";
+
+    private final MongoOperations mongoOperations;
+    private final MongoConverter converter;
+    private final QueryMapper queryMapper;
+
+    public DBRefBatchResolver(MongoOperations mongoOperations) {
+        this.mongoOperations = mongoOperations;
+        this.converter = mongoOperations.getConverter();
+        this.queryMapper = new QueryMapper(converter);
+    }
+
+    public <T> List<T> find(Query query, Class<T> type, String... referencePaths) {
+        MongoPersistentEntity<?> entity = converter.getMappingContext().getRequiredPersistentEntity(type);
+        FindIterable<Document> iterable = mongoOperations
+                .getCollection(entity.getCollection())
+                .find(queryMapper.getMappedObject(query.getQueryObject(), entity))
+                .sort(queryMapper.getMappedSort(query.getSortObject(), entity))
+                .skip((int) query.getSkip())
+                .limit(query.getLimit());
+        List<Document> documents = iterable.into(new ArrayList<>());
+
+        resolve(documents, referencePaths);
+
+        return documents
+                .stream()
+                .map(document -> converter.read(type, document))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the id of the referenced entity without triggering the resolution of a lazy reference
+     */
+    public static String getReferenceId(Object reference) {
+        if (reference instanceof LazyLoadingProxy) {
+            DBRef dbRef = ((LazyLoadingProxy) reference).toDBRef();
+            return dbRef != null ? dbRef.getId().toString() : null;
+        }
+        return null;
+    }
+
+    private void resolve(List<Document> documents, String... referencePaths) {
+        // Parents must be inlined before their nested references can be collected
+        Arrays.stream(referencePaths)
+                .sorted(Comparator.comparingInt(path -> path.split(PATH_SEPARATOR).length))
+                .forEach(path -> resolvePath(documents, path));
+    }
+
+    private void resolvePath(List<Document> documents, String path) {
+        List<Reference> references = new ArrayList<>();
+        String[] fields = path.split(PATH_SEPARATOR);
+        documents.forEach(document -> collectReferences(document, fields, 0, references));
+        if (references.isEmpty()) {
+            return;
+        }
+
+        Map<String, Set<Object>> idsByCollection = new HashMap<>();
+        references.forEach(reference -> reference.getDBRefs()
+                .forEach(dbRef -> idsByCollection
+                        .computeIfAbsent(dbRef.getCollectionName(), c -> new HashSet<>())
+                        .add(dbRef.getId())));
+
+        Map<String, Map<Object, Document>> documentsByCollection = new HashMap<>();
+        idsByCollection.forEach((collection, ids) -> {
+            Map<Object, Document> found = new HashMap<>();
+            mongoOperations
+                    .getCollection(collection)
+                    .find(Filters.in(ID_FIELD, ids))
+                    .forEach(document -> found.put(document.get(ID_FIELD), document));
+            log.debug("[{}] reference/s of path [{}] resolved from collection [{}] in one query", found.size(), path, collection);
+            documentsByCollection.put(collection, found);
+        });
+
+        references.forEach(reference -> reference.inline(documentsByCollection));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void collectReferences(Object value, String[] fields, int index, List<Reference> references) {
+        if (value instanceof List) {
+            ((List<Object>) value).forEach(item -> collectReferences(item, fields, index, references));
+            return;
+        }
+        if (!(value instanceof Document)) {
+            return;
+        }
+        Document document = (Document) value;
+        Object fieldValue = document.get(fields[index]);
+        if (fieldValue == null) {
+            return;
+        }
+        if (index < fields.length - 1) {
+            collectReferences(fieldValue, fields, index + 1, references);
+        } else if (fieldValue instanceof DBRef || isDBRefList(fieldValue)) {
+            references.add(new Reference(document, fields[index]));
+        }
+    }
+
+    private static boolean isDBRefList(Object value) {
+        return value instanceof List && ((List<?>) value).stream().anyMatch(DBRef.class::isInstance);
+    }
+
+    /**
+     * A DBRef or list of DBRefs held by a document field
+     */
+    private static class Reference {
+
+        private final Document parent;
+        private final String field;
+
+        private Reference(Document parent, String field) {
+            this.parent = parent;
+            this.field = field;
+        }
+
+        private List<DBRef> getDBRefs() {
+            Object value = parent.get(field);
+            if (value instanceof DBRef) {
+                return List.of((DBRef) value);
+            }
+            return ((List<?>) value)
+                    .stream()
+                    .filter(DBRef.class::isInstance)
+                    .map(DBRef.class::cast)
+                    .collect(Collectors.toList());
+        }
+
+        private void inline(Map<String, Map<Object, Document>> documentsByCollection) {
+            Object value = parent.get(field);
+            if (value instanceof DBRef) {
+                parent.put(field, lookup((DBRef) value, documentsByCollection));
+            } else {
+                parent.put(field, ((List<?>) value)
+                        .stream()
+                        .map(item -> item instanceof DBRef ? lookup((DBRef) item, documentsByCollection) : item)
+                        .collect(Collectors.toList()));
+            }
+        }
+
+        private static Object lookup(DBRef dbRef, Map<String, Map<Object, Document>> documentsByCollection) {
+            // Dangling references are left untouched so the converter behaves as it does without batching
+            Document document = documentsByCollection
+                    .getOrDefault(dbRef.getCollectionName(), Map.of())
+                    .get(dbRef.getId());
+            return document != null ? document : dbRef;
+        }
+    }
+}
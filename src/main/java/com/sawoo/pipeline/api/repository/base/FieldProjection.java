@@ -0,0 +1,89 @@
+package com.sawoo.pipeline.api.repository.base;
+
+import com.sawoo.pipeline.api.common.contants.ExceptionMessageConstants;
+import com.sawoo.pipeline.api.common.exceptions.IllegalArgumentException;
+import lombok.Value;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.data.mongodb.core.query.Field;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Subset of entity properties requested by a client, e.g. {@code fields=name,status,company}. It is pushed down
+ * to the query as a projection so the properties left out are neither read nor, for DBRefs, resolved.
+ * Nested paths are allowed for embedded documents, e.g. {@code message.text}, and every segment of the path must
+ * be a property. A path inside another requested one is dropped, the parent already includes it. The id is always
+ * included.
+ */
+@Value
+public class FieldProjection {
+
+    private static final String FIELD_SEPARATOR = ",";
+    private static final String PATH_SEPARATOR = ".";
+
+    Set<String> fields;
+
+    public static FieldProjection parse(String fields) throws IllegalArgumentException {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+        Set<String> requested = Arrays
+                .stream(fields.split(FIELD_SEPARATOR))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (requested.isEmpty()) {
+            throw new IllegalArgumentException(ExceptionMessageConstants.COMMON_EMPTY_FIELDS_EXCEPTION, new Object[]{ fields });
+        }
+        // Mongo rejects a projection with a path and its parent, e.g. person and person.firstName
+        return new FieldProjection(requested
+                .stream()
+                .filter(field -> requested.stream().noneMatch(parent -> field.startsWith(parent + PATH_SEPARATOR)))
+                .collect(Collectors.toCollection(LinkedHashSet::new)));
+    }
+
+    public Query applyTo(
+            Query query,
+            MongoPersistentEntity<?> entity,
+            MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext) throws IllegalArgumentException {
+        Field projection = query.fields();
+        projection.include(entity.getRequiredIdProperty().getName());
+        fields.forEach(field -> {
+            if (!isPath(field, entity, mappingContext)) {
+                throw new IllegalArgumentException(
+                        ExceptionMessageConstants.COMMON_INVALID_FIELDS_EXCEPTION,
+                        new Object[]{ field, entity.getType().getSimpleName() });
+            }
+            projection.include(field);
+        });
+        return query;
+    }
+
+    private static boolean isPath(
+            String field,
+            MongoPersistentEntity<?> entity,
+            MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext) {
+        String[] segments = field.split("\\" + PATH_SEPARATOR, -1);
+        MongoPersistentEntity<?> current = entity;
+        for (int i = 0; i < segments.length; i++) {
+            MongoPersistentProperty property = current.getPersistentProperty(segments[i]);
+            if (property == null) {
+                return false;
+            }
+            if (i < segments.length - 1) {
+                // Nested paths can not cross a DBRef, the referenced document is not stored in place
+                if (property.isAssociation() || !property.isEntity()) {
+                    return false;
+                }
+                current = mappingContext.getRequiredPersistentEntity(property);
+            }
+        }
+        return true;
+    }
+}
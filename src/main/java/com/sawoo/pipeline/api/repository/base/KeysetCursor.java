@@ -0,0 +1,53 @@
+package com.sawoo.pipeline.api.repository.base;
+
+import com.sawoo.pipeline.api.common.contants.ExceptionMessageConstants;
+import com.sawoo.pipeline.api.common.exceptions.IllegalArgumentException;
+import lombok.Value;
+import org.bson.Document;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position of the last entity of a keyset page: the value of the sort field and the id used as tie breaker.
+ * Clients get it as an opaque token and send it back to ask for the next page.
+ */
+@Value
+public class KeysetCursor {
+
+    public static final String ID_FIELD = "id";
+
+    private static final String FIELD_KEY = "f";
+    private static final String VALUE_KEY = "v";
+    private static final String LAST_ID_KEY = "i";
+
+    String field;
+    String value;
+    String lastId;
+
+    public String encode() {
+        String json = new Document(FIELD_KEY, field)
+                .append(VALUE_KEY, value)
+                .append(LAST_ID_KEY, lastId)
+                .toJson();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String token) throws IllegalArgumentException {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        Document document;
+        try {
+            document = Document.parse(new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8));
+        } catch (RuntimeException exc) {
+            throw new IllegalArgumentException(ExceptionMessageConstants.COMMON_INVALID_CURSOR_EXCEPTION, new Object[]{ token });
+        }
+        String field = document.get(FIELD_KEY) instanceof String ? document.getString(FIELD_KEY) : null;
+        String lastId = document.get(LAST_ID_KEY) instanceof String ? document.getString(LAST_ID_KEY) : null;
+        if (field == null || lastId == null) {
+            throw new IllegalArgumentException(ExceptionMessageConstants.COMMON_INVALID_CURSOR_EXCEPTION, new Object[]{ token });
+        }
+        return new KeysetCursor(field, document.get(VALUE_KEY) instanceof String ? document.getString(VALUE_KEY) : null, lastId);
+    }
+}
@@ -0,0 +1,20 @@
+package com.sawoo.pipeline.api.repository.base;
+
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+public class KeysetPage<M> {
+
+    List<M> content;
+    KeysetCursor next;
+
+    public boolean hasNext() {
+        return next != null;
+    }
+
+    public String getNextToken() {
+        return next != null ? next.encode() : null;
+    }
+}
@@ -0,0 +1,101 @@
+package com.sawoo.pipeline.api.repository.base;
+
+import com.sawoo.pipeline.api.common.contants.ExceptionMessageConstants;
+import com.sawoo.pipeline.api.common.exceptions.IllegalArgumentException;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Runs a query as a keyset page: results are sorted by the given field and the id, and the page starts right
+ * after the position held by the cursor, so the cost of a page does not depend on how deep it is.
+ * Supported sort fields are the id and {@link LocalDateTime} properties.
+ */
+public class KeysetPager {
+
+    private final MongoOperations mongoOperations;
+
+    public KeysetPager(MongoOperations mongoOperations) {
+        this.mongoOperations = mongoOperations;
+    }
+
+    public <M> KeysetPage<M> find(Query query, Class<M> type, String sortField, KeysetCursor cursor, int limit)
+            throws IllegalArgumentException {
+        MongoPersistentEntity<?> entity = mongoOperations
+                .getConverter()
+                .getMappingContext()
+                .getRequiredPersistentEntity(type);
+        MongoPersistentProperty sortProperty = entity.getRequiredPersistentProperty(sortField);
+
+        if (cursor != null) {
+            if (!sortField.equals(cursor.getField())) {
+                throw new IllegalArgumentException(ExceptionMessageConstants.COMMON_INVALID_CURSOR_EXCEPTION, new Object[]{ cursor.encode() });
+            }
+            query.addCriteria(after(sortProperty, cursor));
+        }
+        Sort sort = sortProperty.isIdProperty() ?
+                Sort.by(Sort.Direction.ASC, sortField) :
+                Sort.by(Sort.Direction.ASC, sortField, KeysetCursor.ID_FIELD);
+        // One extra entity tells whether there is a next page
+        query.with(sort).limit(limit + 1);
+
+        List<M> content = mongoOperations.find(query, type, entity.getCollection());
+        if (content.size() <= limit) {
+            return new KeysetPage<>(content, null);
+        }
+        content = content.subList(0, limit);
+        return new KeysetPage<>(content, cursorOf(entity, sortProperty, content.get(limit - 1)));
+    }
+
+    private Criteria after(MongoPersistentProperty sortProperty, KeysetCursor cursor) {
+        if (sortProperty.isIdProperty()) {
+            return Criteria.where(KeysetCursor.ID_FIELD).gt(readLastId(cursor));
+        }
+        String field = sortProperty.getName();
+        Object value = readValue(sortProperty, cursor);
+        Criteria sameValue = Criteria.where(field).is(value).and(KeysetCursor.ID_FIELD).gt(readLastId(cursor));
+        if (value == null) {
+            // Null values come first in ascending order
+            return new Criteria().orOperator(sameValue, Criteria.where(field).ne(null));
+        }
+        return new Criteria().orOperator(Criteria.where(field).gt(value), sameValue);
+    }
+
+    private Object readLastId(KeysetCursor cursor) {
+        // Generated ids are stored as ObjectId, and a string never compares greater than an ObjectId
+        String lastId = cursor.getLastId();
+        return ObjectId.isValid(lastId) ? new ObjectId(lastId) : lastId;
+    }
+
+    private Object readValue(MongoPersistentProperty sortProperty, KeysetCursor cursor) {
+        if (cursor.getValue() == null) {
+            return null;
+        }
+        if (LocalDateTime.class.equals(sortProperty.getType())) {
+            try {
+                return LocalDateTime.parse(cursor.getValue());
+            } catch (RuntimeException exc) {
+                throw new IllegalArgumentException(ExceptionMessageConstants.COMMON_INVALID_CURSOR_EXCEPTION, new Object[]{ cursor.encode() });
+            }
+        }
+        return cursor.getValue();
+    }
+
+    private <M> KeysetCursor cursorOf(MongoPersistentEntity<?> entity, MongoPersistentProperty sortProperty, M last) {
+        PersistentPropertyAccessor<M> accessor = entity.getPropertyAccessor(last);
+        Object id = accessor.getProperty(entity.getRequiredIdProperty());
+        Object value = sortProperty.isIdProperty() ? null : accessor.getProperty(sortProperty);
+        return new KeysetCursor(
+                sortProperty.getName(),
+                value != null ? value.toString() : null,
+                id != null ? id.toString() : null);
+    }
+}
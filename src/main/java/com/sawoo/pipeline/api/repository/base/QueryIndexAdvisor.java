@@ -0,0 +1,156 @@
+package com.sawoo.pipeline.api.repository.base;
+
+import com.sawoo.pipeline.api.common.contants.ExceptionMessageConstants;
+import com.sawoo.pipeline.api.common.exceptions.RepositoryException;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Development and test helper that explains every distinct query shape built by the custom repositories and
+ * reports the ones the declared indexes do not serve. A shape is the query with its values stripped, so each
+ * one is only explained the first time it is seen. Disabled by default, see app.mongo.index-advisor.
+ * <p>
+ * The advisor only reads query plans, it never changes the indexes of a collection. Declared indexes are built on
+ * startup by {@link com.sawoo.pipeline.api.config.MongoDBConfig}.
+ */
+@Slf4j
+@Component
+public class QueryIndexAdvisor {
+
+    private static final String COLLECTION_SCAN_STAGE = "COLLSCAN";
+    private static final String FETCH_STAGE = "FETCH";
+    private static final String SHAPE_VALUE = "?";
+
+    private final MongoTemplate mongoTemplate;
+    private final QueryMapper queryMapper;
+    private final boolean enabled;
+    private final boolean failOnCollectionScan;
+    private final Set<String> inspectedShapes = ConcurrentHashMap.newKeySet();
+
+    public QueryIndexAdvisor(
+            MongoTemplate mongoTemplate,
+            @Value("${app.mongo.index-advisor.enabled:false}") boolean enabled,
+            @Value("${app.mongo.index-advisor.fail-on-collection-scan:false}") boolean failOnCollectionScan) {
+        this.mongoTemplate = mongoTemplate;
+        this.queryMapper = new QueryMapper(mongoTemplate.getConverter());
+        this.enabled = enabled;
+        this.failOnCollectionScan = failOnCollectionScan;
+    }
+
+    public void inspect(Query query, Class<?> entityClass) throws RepositoryException {
+        if (!enabled) {
+            return;
+        }
+        MongoPersistentEntity<?> entity = mongoTemplate
+                .getConverter()
+                .getMappingContext()
+                .getRequiredPersistentEntity(entityClass);
+        Document filter = queryMapper.getMappedObject(query.getQueryObject(), entity);
+        if (isEmpty(filter)) {
+            // Unfiltered queries are full scans on purpose
+            return;
+        }
+        String shape = entity.getCollection() + ":" + shapeOf(filter);
+        if (!inspectedShapes.add(shape)) {
+            return;
+        }
+
+        Document explain = mongoTemplate.getDb().runCommand(new Document("explain", new Document("find", entity.getCollection())
+                .append("filter", filter)
+                .append("sort", queryMapper.getMappedSort(query.getSortObject(), entity)))
+                .append("verbosity", "queryPlanner"));
+        Document winningPlan = explain.get("queryPlanner", Document.class).get("winningPlan", Document.class);
+        List<Document> stages = new ArrayList<>();
+        collectStages(winningPlan, stages);
+
+        if (stages.stream().anyMatch(s -> COLLECTION_SCAN_STAGE.equals(s.getString("stage")))) {
+            Set<String> fields = getFilteredFields(filter);
+            log.warn("Query shape [{}] runs as a collection scan. Declare an index on {}", shape, fields);
+            if (failOnCollectionScan) {
+                throw new RepositoryException(
+                        ExceptionMessageConstants.REPOSITORY_QUERY_NOT_INDEXED_EXCEPTION,
+                        new Object[] {entity.getCollection(), shapeOf(filter), fields});
+            }
+        } else if (stages.stream().anyMatch(s -> FETCH_STAGE.equals(s.getString("stage")) && s.containsKey("filter"))) {
+            log.warn("Query shape [{}] is only partially served by index [{}]. Remaining filter: [{}]",
+                    shape,
+                    getIndexNames(stages),
+                    stages.stream().filter(s -> s.containsKey("filter")).map(s -> s.get("filter")).findFirst().orElse(null));
+        } else {
+            log.debug("Query shape [{}] served by index [{}]", shape, getIndexNames(stages));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object shapeOf(Object value) {
+        if (value instanceof Map) {
+            Document shape = new Document();
+            ((Map<String, Object>) value).forEach((key, v) -> shape.append(key, "$in".equals(key) || "$nin".equals(key) ? SHAPE_VALUE : shapeOf(v)));
+            return shape;
+        } else if (value instanceof List) {
+            return ((List<Object>) value).stream().map(QueryIndexAdvisor::shapeOf).collect(Collectors.toList());
+        }
+        return SHAPE_VALUE;
+    }
+
+    /**
+     * Fields the filter matches on, in the order they are queried. Logical operators are expanded
+     */
+    private static Set<String> getFilteredFields(Document filter) {
+        Set<String> fields = new LinkedHashSet<>();
+        filter.forEach((key, value) -> {
+            if (!key.startsWith("$")) {
+                fields.add(key);
+            } else if (value instanceof List) {
+                ((List<?>) value)
+                        .stream()
+                        .filter(Document.class::isInstance)
+                        .forEach(clause -> fields.addAll(getFilteredFields((Document) clause)));
+            }
+        });
+        return fields;
+    }
+
+    private static boolean isEmpty(Document filter) {
+        return filter.isEmpty() || filter
+                .values()
+                .stream()
+                .allMatch(v -> v instanceof List && ((List<?>) v).stream().allMatch(c -> c instanceof Map && ((Map<?, ?>) c).isEmpty()));
+    }
+
+    private static void collectStages(Document plan, List<Document> stages) {
+        if (plan == null) {
+            return;
+        }
+        stages.add(plan);
+        collectStages(plan.get("inputStage", Document.class), stages);
+        List<Document> inputStages = plan.getList("inputStages", Document.class);
+        if (inputStages != null) {
+            inputStages.forEach(s -> collectStages(s, stages));
+        }
+    }
+
+    private static List<String> getIndexNames(List<Document> stages) {
+        return stages
+                .stream()
+                .map(s -> s.getString("indexName"))
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,42 @@
+package com.sawoo.pipeline.api.repository.campaign;
+
+import com.sawoo.pipeline.api.model.campaign.Campaign;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class CampaignEventListener extends AbstractMongoEventListener<Campaign> {
+
+    private final CampaignProspectRepository campaignProspectRepository;
+
+    @Override
+    public void onAfterDelete(AfterDeleteEvent<Campaign> event) {
+        List<String> campaignIds = getCampaignIds(event.getSource());
+        if (!campaignIds.isEmpty()) {
+            campaignProspectRepository.deleteByCampaignIdIn(campaignIds);
+        }
+        super.onAfterDelete(event);
+    }
+
+    private List<String> getCampaignIds(Document campaignDoc) {
+        Object id = campaignDoc.get("_id");
+        if (id instanceof Document) {
+            return ((Document) id).getList("$in", Object.class)
+                    .stream()
+                    .map(Object::toString)
+                    .collect(Collectors.toList());
+        } else if (id instanceof ObjectId || id instanceof String) {
+            return Collections.singletonList(id.toString());
+        }
+        return Collections.emptyList();
+    }
+}
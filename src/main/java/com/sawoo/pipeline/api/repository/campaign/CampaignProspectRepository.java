@@ -0,0 +1,21 @@
+package com.sawoo.pipeline.api.repository.campaign;
+
+import com.sawoo.pipeline.api.model.campaign.CampaignProspectEntry;
+import com.sawoo.pipeline.api.repository.base.BaseMongoRepository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface CampaignProspectRepository extends BaseMongoRepository<CampaignProspectEntry>, CampaignProspectRepositoryCustom {
+
+    Optional<CampaignProspectEntry> findByCampaignIdAndProspectId(String campaignId, String prospectId);
+
+    boolean existsByCampaignIdAndProspectId(String campaignId, String prospectId);
+
+    List<CampaignProspectEntry> findByCampaignIdAndProspectIdIn(String campaignId, Collection<String> prospectIds);
+
+    List<CampaignProspectEntry> findByCampaignId(String campaignId);
+
+    long deleteByCampaignIdIn(List<String> campaignIds);
+}
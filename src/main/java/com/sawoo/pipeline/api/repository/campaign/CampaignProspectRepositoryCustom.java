@@ -0,0 +1,21 @@
+package com.sawoo.pipeline.api.repository.campaign;
+
+import com.sawoo.pipeline.api.model.campaign.CampaignProspectEntry;
+import com.sawoo.pipeline.api.model.campaign.CampaignProspectStatus;
+import com.sawoo.pipeline.api.repository.base.KeysetCursor;
+import com.sawoo.pipeline.api.repository.base.KeysetPage;
+
+import java.util.List;
+
+public interface CampaignProspectRepositoryCustom {
+
+    /**
+     * Finds up to limit prospects of the campaign ordered by id, starting after the given cursor or from the beginning
+     * when it is null. Only the prospects with one of the given status are returned, or all of them when it is empty
+     */
+    KeysetPage<CampaignProspectEntry> findByCampaignId(
+            String campaignId,
+            List<CampaignProspectStatus> status,
+            KeysetCursor cursor,
+            int limit);
+}
@@ -0,0 +1,41 @@
+package com.sawoo.pipeline.api.repository.campaign;
+
+import com.sawoo.pipeline.api.model.campaign.CampaignProspectEntry;
+import com.sawoo.pipeline.api.model.campaign.CampaignProspectStatus;
+import com.sawoo.pipeline.api.repository.base.KeysetCursor;
+import com.sawoo.pipeline.api.repository.base.KeysetPage;
+import com.sawoo.pipeline.api.repository.base.KeysetPager;
+import com.sawoo.pipeline.api.repository.base.QueryIndexAdvisor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+public class CampaignProspectRepositoryCustomImpl implements CampaignProspectRepositoryCustom {
+
+    private final QueryIndexAdvisor indexAdvisor;
+    private final KeysetPager pager;
+
+    public CampaignProspectRepositoryCustomImpl(MongoTemplate mongoTemplate, QueryIndexAdvisor indexAdvisor) {
+        this.indexAdvisor = indexAdvisor;
+        this.pager = new KeysetPager(mongoTemplate);
+    }
+
+    @Override
+    public KeysetPage<CampaignProspectEntry> findByCampaignId(
+            String campaignId,
+            List<CampaignProspectStatus> status,
+            KeysetCursor cursor,
+            int limit) {
+        Criteria criteria = Criteria.where("campaignId").is(campaignId);
+        if (status != null && !status.isEmpty()) {
+            criteria.and("status").in(status);
+        }
+        Query query = new Query(criteria);
+        indexAdvisor.inspect(query, CampaignProspectEntry.class);
+        return pager.find(query, CampaignProspectEntry.class, KeysetCursor.ID_FIELD, cursor, limit);
+    }
+}
@@ -0,0 +1,7 @@
+package com.sawoo.pipeline.api.repository.email;
+
+import com.sawoo.pipeline.api.model.email.EmailOutboxMessage;
+import com.sawoo.pipeline.api.repository.base.BaseMongoRepository;
+
+public interface EmailOutboxRepository extends BaseMongoRepository<EmailOutboxMessage>, EmailOutboxRepositoryCustom {
+}
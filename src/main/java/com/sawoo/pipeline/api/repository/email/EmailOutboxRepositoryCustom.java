@@ -0,0 +1,15 @@
+package com.sawoo.pipeline.api.repository.email;
+
+import com.sawoo.pipeline.api.model.email.EmailOutboxMessage;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface EmailOutboxRepositoryCustom {
+
+    /**
+     * Atomically takes the next message due at the given time, marking it as being sent until leaseUntil,
+     * so concurrent dispatchers never send the same message
+     */
+    Optional<EmailOutboxMessage> claimNext(LocalDateTime now, LocalDateTime leaseUntil);
+}
@@ -0,0 +1,43 @@
+package com.sawoo.pipeline.api.repository.email;
+
+import com.sawoo.pipeline.api.model.email.EmailOutboxMessage;
+import com.sawoo.pipeline.api.model.email.EmailOutboxMessageStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+@Component
+public class EmailOutboxRepositoryCustomImpl implements EmailOutboxRepositoryCustom {
+
+    private static final String STATUS_FIELD = "status";
+    private static final String NEXT_ATTEMPT_FIELD = "nextAttempt";
+    private static final String UPDATED_FIELD = "updated";
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public Optional<EmailOutboxMessage> claimNext(LocalDateTime now, LocalDateTime leaseUntil) {
+        Query query = new Query(Criteria
+                .where(STATUS_FIELD).in(EmailOutboxMessageStatus.PENDING, EmailOutboxMessageStatus.SENDING)
+                .and(NEXT_ATTEMPT_FIELD).lte(now))
+                .with(Sort.by(Sort.Direction.ASC, NEXT_ATTEMPT_FIELD));
+        Update update = new Update()
+                .set(STATUS_FIELD, EmailOutboxMessageStatus.SENDING)
+                .set(NEXT_ATTEMPT_FIELD, leaseUntil)
+                .set(UPDATED_FIELD, now);
+        return Optional.ofNullable(mongoTemplate.findAndModify(
+                query,
+                update,
+                FindAndModifyOptions.options().returnNew(true),
+                EmailOutboxMessage.class));
+    }
+}
@@ -2,9 +2,32 @@ package com.sawoo.pipeline.api.repository.listener;
 
 import com.sawoo.pipeline.api.model.BaseEntity;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.function.Consumer;
 
 public interface CascadeOperationDelegation<C extends BaseEntity> {
-    void onSave(C child, Consumer<C> parentFunction);
+
+    default void onSave(C child, Consumer<C> parentFunction) {
+        if (child != null) {
+            C saved = onSaveAll(Collections.singletonList(child)).get(0);
+            if (saved != null) {
+                parentFunction.accept(saved);
+            }
+        }
+    }
+
+    /**
+     * Saves the children with a bounded number of queries whatever their number. Returns, in the same order, the
+     * child the parent must reference in place of each one, or null when there is nothing to reference
+     */
+    List<C> onSaveAll(List<C> children);
+
     void onDelete(C child);
+
+    /**
+     * Deletes the children with the given ids at once
+     */
+    void onDeleteAllById(Collection<String> ids);
 }
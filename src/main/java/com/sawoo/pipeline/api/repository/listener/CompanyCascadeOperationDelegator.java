@@ -2,42 +2,33 @@ package com.sawoo.pipeline.api.repository.listener;
 
 import com.sawoo.pipeline.api.model.company.Company;
 import com.sawoo.pipeline.api.repository.company.CompanyRepository;
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
-import java.time.LocalDateTime;
-import java.time.ZoneOffset;
-import java.util.function.Consumer;
+import java.util.Collection;
+import java.util.List;
 
+/**
+ * Companies are shared by their persons and accounts and matched by name
+ */
 @Component
-@RequiredArgsConstructor
-public class CompanyCascadeOperationDelegator implements CascadeOperationDelegation<Company> {
+public class CompanyCascadeOperationDelegator extends KeyMatchingCascadeOperationDelegator<Company, CompanyRepository> {
 
-    private final CompanyRepository companyRepository;
+    public CompanyCascadeOperationDelegator(CompanyRepository repository) {
+        super(repository);
+    }
+
+    @Override
+    protected String getId(Company child) {
+        return child.getId();
+    }
 
     @Override
-    public void onSave(Company child, Consumer<Company> parentFunction) {
-        if (child != null) {
-            if (child.getId() == null) {
-                companyRepository
-                        .findByName(child.getName())
-                        .ifPresentOrElse(parentFunction,
-                                () -> {
-                                    LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
-                                    child.setCreated(now);
-                                    child.setUpdated(now);
-                                    companyRepository.insert(child);
-                                });
-            } else {
-                LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
-                child.setUpdated(now);
-                companyRepository.save(child);
-            }
-        }
+    protected String getKey(Company child) {
+        return child.getName();
     }
 
     @Override
-    public void onDelete(Company child) {
-        // nothing to do atm
+    protected List<Company> findAllByKeyIn(Collection<String> names) {
+        return getRepository().findAllByNameIn(names);
     }
 }
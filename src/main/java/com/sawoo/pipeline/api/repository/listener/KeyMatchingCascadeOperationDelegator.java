@@ -0,0 +1,97 @@
+package com.sawoo.pipeline.api.repository.listener;
+
+import com.sawoo.pipeline.api.model.BaseEntity;
+import com.sawoo.pipeline.api.repository.base.BaseMongoRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Cascade operations of children shared by many parents and identified by a unique key, e.g. the name of a
+ * company. New children are replaced by the saved one with the same key, or inserted once per key.
+ */
+@RequiredArgsConstructor
+public abstract class KeyMatchingCascadeOperationDelegator<C extends BaseEntity, R extends BaseMongoRepository<C>>
+        implements CascadeOperationDelegation<C> {
+
+    @Getter
+    private final R repository;
+
+    protected abstract String getId(C child);
+
+    protected abstract String getKey(C child);
+
+    protected abstract List<C> findAllByKeyIn(Collection<String> keys);
+
+    @Override
+    public List<C> onSaveAll(List<C> children) {
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+
+        // New children are matched by key with the existing ones, all of them in one query
+        Set<String> keys = children
+                .stream()
+                .filter(child -> child != null && getId(child) == null)
+                .map(this::getKey)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<String, C> existing = new HashMap<>();
+        if (!keys.isEmpty()) {
+            findAllByKeyIn(keys).forEach(child -> existing.putIfAbsent(getKey(child), child));
+        }
+
+        List<C> toInsert = new ArrayList<>();
+        List<C> toSave = new ArrayList<>();
+        List<C> saved = children
+                .stream()
+                .map(child -> {
+                    if (child == null) {
+                        return null;
+                    }
+                    if (getId(child) != null) {
+                        child.setUpdated(now);
+                        toSave.add(child);
+                        return child;
+                    }
+                    String key = getKey(child);
+                    C match = key != null ? existing.get(key) : null;
+                    if (match == null) {
+                        // Children repeated in the batch are inserted only once
+                        child.setCreated(now);
+                        child.setUpdated(now);
+                        toInsert.add(child);
+                        if (key != null) {
+                            existing.put(key, child);
+                        }
+                        match = child;
+                    }
+                    return match;
+                })
+                .collect(Collectors.toList());
+
+        repository.insertAll(toInsert);
+        if (!toSave.isEmpty()) {
+            repository.saveAll(toSave);
+        }
+        return saved;
+    }
+
+    @Override
+    public void onDelete(C child) {
+        // nothing to do atm
+    }
+
+    @Override
+    public void onDeleteAllById(Collection<String> ids) {
+        // nothing to do atm
+    }
+}
@@ -2,42 +2,33 @@ package com.sawoo.pipeline.api.repository.listener;
 
 import com.sawoo.pipeline.api.model.person.Person;
 import com.sawoo.pipeline.api.repository.person.PersonRepository;
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
-import java.time.LocalDateTime;
-import java.time.ZoneOffset;
-import java.util.function.Consumer;
+import java.util.Collection;
+import java.util.List;
 
+/**
+ * Persons are shared by their prospects and matched by LinkedIn url
+ */
 @Component
-@RequiredArgsConstructor
-public class PersonCascadeOperationDelegator implements CascadeOperationDelegation<Person> {
+public class PersonCascadeOperationDelegator extends KeyMatchingCascadeOperationDelegator<Person, PersonRepository> {
 
-    private final PersonRepository repository;
+    public PersonCascadeOperationDelegator(PersonRepository repository) {
+        super(repository);
+    }
+
+    @Override
+    protected String getId(Person child) {
+        return child.getId();
+    }
 
     @Override
-    public void onSave(Person child, Consumer<Person> parentFunction) {
-        if (child != null) {
-            if (child.getId() == null) {
-                repository
-                        .findByLinkedInUrl(child.getLinkedInUrl())
-                        .ifPresentOrElse(parentFunction,
-                                () -> {
-                                    LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
-                                    child.setCreated(now);
-                                    child.setUpdated(now);
-                                    repository.insert(child);
-                                });
-            } else {
-                LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
-                child.setUpdated(now);
-                repository.save(child);
-            }
-        }
+    protected String getKey(Person child) {
+        return child.getLinkedInUrl();
     }
 
     @Override
-    public void onDelete(Person child) {
-        // nothing to do atm
+    protected List<Person> findAllByKeyIn(Collection<String> linkedInUrls) {
+        return getRepository().findAllByLinkedInUrlIn(linkedInUrls);
     }
 }
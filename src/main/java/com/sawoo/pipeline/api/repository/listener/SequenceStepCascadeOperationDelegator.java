@@ -1,12 +1,14 @@
 package com.sawoo.pipeline.api.repository.listener;
 
 import com.sawoo.pipeline.api.model.sequence.SequenceStep;
+import com.sawoo.pipeline.api.repository.base.DBRefBatchResolver;
 import com.sawoo.pipeline.api.repository.sequencestep.SequenceStepRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
-import java.util.Optional;
-import java.util.function.Consumer;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
@@ -15,16 +17,13 @@ public class SequenceStepCascadeOperationDelegator implements CascadeOperationDe
     private final SequenceStepRepository repository;
 
     @Override
-    public void onSave(SequenceStep child, Consumer<SequenceStep> parentFunction) {
-        if (child != null) {
-            if (child.getId() == null) {
-                SequenceStep step = repository.insert(child);
-                parentFunction.accept(step);
-            } else {
-                Optional<SequenceStep> step = repository.findById(child.getId());
-                step.ifPresent(parentFunction);
-            }
-        }
+    public List<SequenceStep> onSaveAll(List<SequenceStep> children) {
+        // Steps already persisted are referenced as they are, lazy references are not resolved
+        repository.insertAll(children
+                .stream()
+                .filter(child -> child != null && DBRefBatchResolver.getReferenceId(child) == null && child.getId() == null)
+                .collect(Collectors.toList()));
+        return children;
     }
 
     @Override
@@ -33,4 +32,11 @@ public class SequenceStepCascadeOperationDelegator implements CascadeOperationDe
             repository.delete(child);
         }
     }
+
+    @Override
+    public void onDeleteAllById(Collection<String> ids) {
+        if (!ids.isEmpty()) {
+            repository.deleteAllById(ids);
+        }
+    }
 }
@@ -1,12 +1,14 @@
 package com.sawoo.pipeline.api.repository.listener;
 
 import com.sawoo.pipeline.api.model.todo.Todo;
+import com.sawoo.pipeline.api.repository.base.DBRefBatchResolver;
 import com.sawoo.pipeline.api.repository.todo.TodoRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
-import java.util.Optional;
-import java.util.function.Consumer;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
@@ -15,20 +17,22 @@ public class TodoCascadeOperationDelegator implements CascadeOperationDelegation
     private final TodoRepository repository;
 
     @Override
-    public void onSave(Todo child, Consumer<Todo> parentFunction) {
-        if (child != null) {
-            if (child.getId() == null) {
-                Todo todo = repository.insert(child);
-                parentFunction.accept(todo);
-            } else {
-                Optional<Todo> todo = repository.findById(child.getId());
-                todo.ifPresent(parentFunction);
-            }
-        }
+    public List<Todo> onSaveAll(List<Todo> children) {
+        // TODOs already persisted are referenced as they are, lazy references are not resolved
+        repository.insertAll(children
+                .stream()
+                .filter(child -> child != null && DBRefBatchResolver.getReferenceId(child) == null && child.getId() == null)
+                .collect(Collectors.toList()));
+        return children;
     }
 
     @Override
     public void onDelete(Todo child) {
         // nothing to do atm
     }
+
+    @Override
+    public void onDeleteAllById(Collection<String> ids) {
+        // nothing to do atm
+    }
 }
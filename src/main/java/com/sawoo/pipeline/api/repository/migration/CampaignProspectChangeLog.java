@@ -0,0 +1,85 @@
+package com.sawoo.pipeline.api.repository.migration;
+
+import com.github.cloudyrock.mongock.ChangeLog;
+import com.github.cloudyrock.mongock.ChangeSet;
+import com.github.cloudyrock.mongock.driver.mongodb.springdata.v3.decorator.impl.MongockTemplate;
+import com.mongodb.DBRef;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.Indexes;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.Updates;
+import com.sawoo.pipeline.api.model.DBConstants;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Slf4j
+@ChangeLog(order = "003")
+public class CampaignProspectChangeLog {
+
+    private static final String ID_FIELD = "_id";
+    private static final String DBREF_ID_FIELD = "$id";
+    private static final String CAMPAIGN_PROSPECTS_FIELD = "prospects";
+    private static final String CAMPAIGN_ID_FIELD = "campaignId";
+    private static final String PROSPECT_ID_FIELD = "prospectId";
+
+    /**
+     * Moves the prospects embedded in each campaign document to the campaign_prospect collection. Entries are
+     * upserted by campaign and prospect, so entries already in the collection are kept, and the embedded prospects
+     * of a campaign are only removed once they have been copied.
+     */
+    @ChangeSet(order = "001", id = "campaignProspectCollection", author = "miguel")
+    public void campaignProspectCollection(MongockTemplate mongockTemplate) {
+        MongoCollection<Document> campaigns = mongockTemplate.getCollection(DBConstants.CAMPAIGN_DOCUMENT);
+        MongoCollection<Document> campaignProspects = mongockTemplate.getCollection(DBConstants.CAMPAIGN_PROSPECT_DOCUMENT);
+        campaignProspects.createIndex(
+                Indexes.ascending(CAMPAIGN_ID_FIELD, PROSPECT_ID_FIELD),
+                new IndexOptions().name("campaign_prospect_idx").unique(true));
+        campaignProspects.createIndex(
+                Indexes.ascending(CAMPAIGN_ID_FIELD, "status"),
+                new IndexOptions().name("campaign_status_idx"));
+
+        for (Document campaign : campaigns
+                .find(Filters.exists(CAMPAIGN_PROSPECTS_FIELD))
+                .projection(Projections.include(CAMPAIGN_PROSPECTS_FIELD))) {
+            String campaignId = campaign.get(ID_FIELD).toString();
+            List<Document> entries = campaign.getList(CAMPAIGN_PROSPECTS_FIELD, Document.class)
+                    .stream()
+                    .map(prospect -> new Document(prospect)
+                            .append(CAMPAIGN_ID_FIELD, campaignId)
+                            .append(PROSPECT_ID_FIELD, getReferenceId(prospect.get("prospect")))
+                            .append("sequenceId", getReferenceId(prospect.get("sequence"))))
+                    .collect(Collectors.toList());
+            if (!entries.isEmpty()) {
+                campaignProspects.bulkWrite(entries
+                        .stream()
+                        .map(entry -> new ReplaceOneModel<>(
+                                Filters.and(
+                                        Filters.eq(CAMPAIGN_ID_FIELD, campaignId),
+                                        Filters.eq(PROSPECT_ID_FIELD, entry.getString(PROSPECT_ID_FIELD))),
+                                entry,
+                                new ReplaceOptions().upsert(true)))
+                        .collect(Collectors.toList()), new BulkWriteOptions().ordered(false));
+            }
+            campaigns.updateOne(Filters.eq(ID_FIELD, campaign.get(ID_FIELD)), Updates.unset(CAMPAIGN_PROSPECTS_FIELD));
+            log.debug("[{}] prospects moved out of campaign id [{}]", entries.size(), campaignId);
+        }
+    }
+
+    private String getReferenceId(Object reference) {
+        if (reference instanceof DBRef) {
+            return ((DBRef) reference).getId().toString();
+        } else if (reference instanceof Document) {
+            Object id = ((Document) reference).get(DBREF_ID_FIELD);
+            return id != null ? id.toString() : null;
+        }
+        return null;
+    }
+}
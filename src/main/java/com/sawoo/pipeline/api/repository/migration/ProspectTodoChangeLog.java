@@ -0,0 +1,82 @@
+package com.sawoo.pipeline.api.repository.migration;
+
+import com.github.cloudyrock.mongock.ChangeLog;
+import com.github.cloudyrock.mongock.ChangeSet;
+import com.github.cloudyrock.mongock.driver.mongodb.springdata.v3.decorator.impl.MongockTemplate;
+import com.mongodb.DBRef;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.Updates;
+import com.sawoo.pipeline.api.model.DBConstants;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.core.env.Environment;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+@Slf4j
+@ChangeLog(order = "002")
+public class ProspectTodoChangeLog {
+
+    private static final String ID_FIELD = "_id";
+    private static final String DBREF_ID_FIELD = "$id";
+    private static final String PROSPECT_TODOS_FIELD = "todos";
+    private static final String TODO_COMPONENT_ID_FIELD = "componentId";
+    private static final String BACK_REFERENCE_PROPERTY = "app.mongo.prospect-todo.back-reference";
+
+    /**
+     * Links each TODO of the prospect <code>todos</code> DBRef list to its prospect through the
+     * <code>componentId</code> field. The list is kept, it is still used until the back-reference mode is enabled.
+     */
+    @ChangeSet(order = "001", id = "prospectTodoBackReference", author = "miguel")
+    public void prospectTodoBackReference(MongockTemplate mongockTemplate) {
+        MongoCollection<Document> prospects = mongockTemplate.getCollection(DBConstants.PROSPECT_DOCUMENT);
+        MongoCollection<Document> todos = mongockTemplate.getCollection(DBConstants.TODO_DOCUMENT);
+
+        for (Document prospect : prospects
+                .find(Filters.exists(PROSPECT_TODOS_FIELD))
+                .projection(Projections.include(PROSPECT_TODOS_FIELD))) {
+            String prospectId = prospect.get(ID_FIELD).toString();
+            List<Object> todoIds = prospect.getList(PROSPECT_TODOS_FIELD, Object.class)
+                    .stream()
+                    .map(this::getReferenceId)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
+            if (!todoIds.isEmpty()) {
+                long updated = todos.updateMany(
+                        Filters.in(ID_FIELD, todoIds),
+                        Updates.set(TODO_COMPONENT_ID_FIELD, prospectId)).getModifiedCount();
+                log.debug("[{}] TODOs linked to prospect id [{}] by componentId", updated, prospectId);
+            }
+        }
+    }
+
+    /**
+     * Removes the <code>todos</code> list from the prospect documents once app.mongo.prospect-todo.back-reference
+     * is enabled. Runs on every start up so the list is removed as soon as the mode is switched on.
+     */
+    @ChangeSet(order = "002", id = "prospectTodoListRemoval", author = "miguel", runAlways = true)
+    public void prospectTodoListRemoval(MongockTemplate mongockTemplate, Environment environment) {
+        if (!environment.getProperty(BACK_REFERENCE_PROPERTY, Boolean.class, false)) {
+            log.info("Prospect TODO list kept, [{}] is not enabled", BACK_REFERENCE_PROPERTY);
+            return;
+        }
+        long migrated = mongockTemplate
+                .getCollection(DBConstants.PROSPECT_DOCUMENT)
+                .updateMany(Filters.exists(PROSPECT_TODOS_FIELD), Updates.unset(PROSPECT_TODOS_FIELD))
+                .getModifiedCount();
+        log.info("Prospect TODO list removed from [{}] prospects", migrated);
+    }
+
+    private Object getReferenceId(Object reference) {
+        if (reference instanceof DBRef) {
+            return ((DBRef) reference).getId();
+        } else if (reference instanceof Document) {
+            return ((Document) reference).get(DBREF_ID_FIELD);
+        }
+        return null;
+    }
+}
@@ -4,10 +4,14 @@ import com.sawoo.pipeline.api.model.person.Person;
 import com.sawoo.pipeline.api.repository.base.BaseMongoRepository;
 import org.javers.spring.annotation.JaversSpringDataAuditable;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @JaversSpringDataAuditable
 public interface PersonRepository extends BaseMongoRepository<Person> {
 
     Optional<Person> findByLinkedInUrl(String linkedInUrl);
+
+    List<Person> findAllByLinkedInUrlIn(Collection<String> linkedInUrls);
 }
@@ -10,8 +10,9 @@ import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventLis
 import org.springframework.data.mongodb.core.mapping.event.BeforeConvertEvent;
 import org.springframework.stereotype.Component;
 
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 @Component
 @RequiredArgsConstructor
@@ -28,9 +29,9 @@ public class ProspectEventListener extends AbstractMongoEventListener<Prospect>
         Prospect prospect = event.getSource();
         personCascadeOperationDelegator.onSave(prospect.getPerson(), prospect::setPerson);
         if (prospectTodoCascading) {
-            List<Todo> todos = Arrays.asList(prospect.getTodos().toArray(new Todo[0]));
+            List<Todo> todos = todoCascadeOperationDelegator.onSaveAll(new ArrayList<>(prospect.getTodos()));
             prospect.getTodos().clear();
-            todos.forEach(i -> todoCascadeOperationDelegator.onSave(i, prospect.getTodos()::add));
+            todos.stream().filter(Objects::nonNull).forEach(prospect.getTodos()::add);
         }
         super.onBeforeConvert(event);
     }
@@ -0,0 +1,7 @@
+package com.sawoo.pipeline.api.repository.prospect;
+
+import com.sawoo.pipeline.api.model.prospect.ProspectReportJob;
+import com.sawoo.pipeline.api.repository.base.BaseMongoRepository;
+
+public interface ProspectReportJobRepository extends BaseMongoRepository<ProspectReportJob> {
+}
@@ -7,7 +7,7 @@ import org.javers.spring.annotation.JaversSpringDataAuditable;
 import java.util.List;
 
 @JaversSpringDataAuditable
-public interface ProspectRepository extends BaseMongoRepository<Prospect> {
+public interface ProspectRepository extends BaseMongoRepository<Prospect>, ProspectRepositoryCustom {
 
     List<Prospect> findAllByIdIn(List<String> ids);
 }
@@ -0,0 +1,14 @@
+package com.sawoo.pipeline.api.repository.prospect;
+
+import com.sawoo.pipeline.api.model.todo.Todo;
+
+import java.util.List;
+import java.util.Map;
+
+public interface ProspectRepositoryCustom {
+
+    /**
+     * Appends the TODO references to each prospect, keyed by prospect id, with a single bulk write
+     */
+    void addTodos(Map<String, List<Todo>> todosByProspectId);
+}
@@ -0,0 +1,63 @@
+package com.sawoo.pipeline.api.repository.prospect;
+
+import com.mongodb.DBRef;
+import com.sawoo.pipeline.api.model.prospect.Prospect;
+import com.sawoo.pipeline.api.model.todo.Todo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ProspectRepositoryCustomImpl implements ProspectRepositoryCustom {
+
+    private static final String TODOS_FIELD = "todos";
+    private static final String UPDATED_FIELD = "updated";
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void addTodos(Map<String, List<Todo>> todosByProspectId) {
+        if (todosByProspectId == null || todosByProspectId.isEmpty()) {
+            return;
+        }
+        MongoPersistentProperty todosProperty = mongoTemplate
+                .getConverter()
+                .getMappingContext()
+                .getRequiredPersistentEntity(Prospect.class)
+                .getRequiredPersistentProperty(TODOS_FIELD);
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+        BulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Prospect.class);
+        int updates = 0;
+        for (Map.Entry<String, List<Todo>> entry : todosByProspectId.entrySet()) {
+            List<Todo> todos = entry.getValue();
+            if (todos != null && !todos.isEmpty()) {
+                Object[] references = todos
+                        .stream()
+                        .map(todo -> mongoTemplate.getConverter().toDBRef(todo, todosProperty))
+                        .toArray(DBRef[]::new);
+                operations.updateOne(
+                        new Query(Criteria.where("id").is(entry.getKey())),
+                        new Update().push(TODOS_FIELD).each(references).set(UPDATED_FIELD, now));
+                updates++;
+            }
+        }
+        if (updates == 0) {
+            return;
+        }
+        int modified = operations.execute().getModifiedCount();
+        log.debug("TODOs added to [{}] prospect/s in one bulk write", modified);
+    }
+}
@@ -12,8 +12,8 @@ import org.springframework.data.mongodb.core.mapping.event.BeforeDeleteEvent;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Component
@@ -26,9 +26,9 @@ public class SequenceEventListener extends AbstractMongoEventListener<Sequence>
     @Override
     public void onBeforeConvert(BeforeConvertEvent<Sequence> event) {
         Sequence sequence = event.getSource();
-        List<SequenceStep> todos = Arrays.asList(sequence.getSteps().toArray(new SequenceStep[0]));
+        List<SequenceStep> steps = sequenceStepCascadeOperationDelegator.onSaveAll(new ArrayList<>(sequence.getSteps()));
         sequence.getSteps().clear();
-        todos.forEach(i -> sequenceStepCascadeOperationDelegator.onSave(i, sequence.getSteps()::add));
+        steps.stream().filter(Objects::nonNull).forEach(sequence.getSteps()::add);
         super.onBeforeConvert(event);
     }
 
@@ -48,7 +48,7 @@ public class SequenceEventListener extends AbstractMongoEventListener<Sequence>
         }
 
         if (!sequenceIds.isEmpty()) {
-            sequenceIds.forEach(sequenceId -> repository.findById(sequenceId).ifPresent(s -> s.getSteps().forEach(sequenceStepCascadeOperationDelegator::onDelete)));
+            sequenceStepCascadeOperationDelegator.onDeleteAllById(repository.findStepIds(sequenceIds));
         }
         super.onBeforeDelete(event);
     }
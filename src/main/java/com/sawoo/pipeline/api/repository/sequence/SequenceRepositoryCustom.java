@@ -3,10 +3,16 @@ package com.sawoo.pipeline.api.repository.sequence;
 import com.sawoo.pipeline.api.model.sequence.Sequence;
 import com.sawoo.pipeline.api.model.sequence.SequenceStatus;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
 public interface SequenceRepositoryCustom {
 
     List<Sequence> findByUsersAndStatus(Set<String> userIds, SequenceStatus status);
+
+    /**
+     * Ids of the steps of the given sequences, read in one query without resolving the step references
+     */
+    List<String> findStepIds(Collection<String> sequenceIds);
 }
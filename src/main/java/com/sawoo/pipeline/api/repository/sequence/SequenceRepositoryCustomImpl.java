@@ -3,6 +3,7 @@ package com.sawoo.pipeline.api.repository.sequence;
 import com.sawoo.pipeline.api.common.CommonUtils;
 import com.sawoo.pipeline.api.model.sequence.Sequence;
 import com.sawoo.pipeline.api.model.sequence.SequenceStatus;
+import com.sawoo.pipeline.api.repository.base.DBRefBatchResolver;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
@@ -10,8 +11,11 @@ import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Component
@@ -32,4 +36,17 @@ public class SequenceRepositoryCustomImpl implements SequenceRepositoryCustom {
         criteria.andOperator(andCriteria.toArray(new Criteria[0]));
         return mongoTemplate.find(new Query(criteria), Sequence.class);
     }
+
+    @Override
+    public List<String> findStepIds(Collection<String> sequenceIds) {
+        Query query = new Query(Criteria.where("id").in(sequenceIds));
+        query.fields().include("steps");
+        return mongoTemplate
+                .find(query, Sequence.class)
+                .stream()
+                .flatMap(sequence -> sequence.getSteps().stream())
+                .map(DBRefBatchResolver::getReferenceId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
 }
@@ -2,6 +2,9 @@ package com.sawoo.pipeline.api.repository.todo;
 
 import com.sawoo.pipeline.api.model.todo.Todo;
 import com.sawoo.pipeline.api.model.todo.TodoSearch;
+import com.sawoo.pipeline.api.repository.base.KeysetCursor;
+import com.sawoo.pipeline.api.repository.base.KeysetPage;
+import org.springframework.data.util.CloseableIterator;
 
 import java.util.List;
 
@@ -13,6 +16,10 @@ public interface TodoRepositoryCustom {
 
     List<Todo> searchBy(TodoSearch searchCriteria);
 
+    KeysetPage<Todo> searchBy(TodoSearch searchCriteria, KeysetCursor cursor, int limit);
+
+    CloseableIterator<Todo> streamBy(TodoSearch searchCriteria);
+
     long remove(TodoSearch searchCriteria);
 
     List<Todo> findAllAndRemove(TodoSearch searchCriteria);
@@ -4,21 +4,34 @@ import com.mongodb.client.result.DeleteResult;
 import com.sawoo.pipeline.api.model.todo.Todo;
 import com.sawoo.pipeline.api.model.todo.TodoSearch;
 import com.sawoo.pipeline.api.model.todo.TodoSourceType;
-import lombok.RequiredArgsConstructor;
+import com.sawoo.pipeline.api.repository.base.KeysetCursor;
+import com.sawoo.pipeline.api.repository.base.KeysetPage;
+import com.sawoo.pipeline.api.repository.base.KeysetPager;
+import com.sawoo.pipeline.api.repository.base.QueryIndexAdvisor;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.util.CloseableIterator;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
-@RequiredArgsConstructor
 @Component
 public class TodoRepositoryCustomImpl implements TodoRepositoryCustom {
 
+    private static final String SEARCH_SORT_FIELD = "scheduled";
+
     private final MongoTemplate mongoTemplate;
+    private final QueryIndexAdvisor indexAdvisor;
+    private final KeysetPager pager;
+
+    public TodoRepositoryCustomImpl(MongoTemplate mongoTemplate, QueryIndexAdvisor indexAdvisor) {
+        this.mongoTemplate = mongoTemplate;
+        this.indexAdvisor = indexAdvisor;
+        this.pager = new KeysetPager(mongoTemplate);
+    }
 
     @Override
     public List<Todo> findBy(Integer status, Integer channel, List<String> componentIds) {
@@ -34,7 +47,7 @@ public class TodoRepositoryCustomImpl implements TodoRepositoryCustom {
             andCriteria.add(Criteria.where("componentId").in(componentIds));
         }
         criteria.andOperator(andCriteria.toArray(new Criteria[0]));
-        return mongoTemplate.find(new Query(criteria), Todo.class);
+        return mongoTemplate.find(inspect(new Query(criteria)), Todo.class);
     }
 
     public List<Todo> findByStatusAndChannel(List<Integer> status, List<Integer> channels, List<String> componentIds) {
@@ -51,7 +64,23 @@ public class TodoRepositoryCustomImpl implements TodoRepositoryCustom {
         Criteria criteria = new Criteria();
         List<Criteria> andCriteria = buildAndCriteria(searchCriteria);
         criteria.andOperator(andCriteria.toArray(new Criteria[0]));
-        return mongoTemplate.find(new Query(criteria), Todo.class);
+        return mongoTemplate.find(inspect(new Query(criteria)), Todo.class);
+    }
+
+    @Override
+    public KeysetPage<Todo> searchBy(TodoSearch searchCriteria, KeysetCursor cursor, int limit) {
+        Criteria criteria = new Criteria();
+        List<Criteria> andCriteria = buildAndCriteria(searchCriteria);
+        criteria.andOperator(andCriteria.toArray(new Criteria[0]));
+        return pager.find(inspect(new Query(criteria)), Todo.class, SEARCH_SORT_FIELD, cursor, limit);
+    }
+
+    @Override
+    public CloseableIterator<Todo> streamBy(TodoSearch searchCriteria) {
+        Criteria criteria = new Criteria();
+        List<Criteria> andCriteria = buildAndCriteria(searchCriteria);
+        criteria.andOperator(andCriteria.toArray(new Criteria[0]));
+        return mongoTemplate.stream(inspect(new Query(criteria)), Todo.class);
     }
 
     @Override
@@ -59,7 +88,7 @@ public class TodoRepositoryCustomImpl implements TodoRepositoryCustom {
         Criteria criteria = new Criteria();
         List<Criteria> andCriteria = buildAndCriteria(searchCriteria);
         criteria.andOperator(andCriteria.toArray(new Criteria[0]));
-        DeleteResult result = mongoTemplate.remove(new Query(criteria), Todo.class);
+        DeleteResult result = mongoTemplate.remove(inspect(new Query(criteria)), Todo.class);
         return result.getDeletedCount();
     }
 
@@ -68,7 +97,12 @@ public class TodoRepositoryCustomImpl implements TodoRepositoryCustom {
         Criteria criteria = new Criteria();
         List<Criteria> andCriteria = buildAndCriteria(searchCriteria);
         criteria.andOperator(andCriteria.toArray(new Criteria[0]));
-        return mongoTemplate.findAllAndRemove(new Query(criteria), Todo.class);
+        return mongoTemplate.findAllAndRemove(inspect(new Query(criteria)), Todo.class);
+    }
+
+    private Query inspect(Query query) {
+        indexAdvisor.inspect(query, Todo.class);
+        return query;
     }
 
     private List<Criteria> buildAndCriteria(TodoSearch searchCriteria) {
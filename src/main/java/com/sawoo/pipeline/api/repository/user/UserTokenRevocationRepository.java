@@ -0,0 +1,14 @@
+package com.sawoo.pipeline.api.repository.user;
+
+import com.sawoo.pipeline.api.model.user.UserTokenRevocation;
+import com.sawoo.pipeline.api.repository.base.BaseMongoRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface UserTokenRevocationRepository extends BaseMongoRepository<UserTokenRevocation> {
+
+    List<UserTokenRevocation> findAllByExpirationDateAfter(LocalDateTime date);
+
+    List<UserTokenRevocation> findAllByUpdatedAfter(LocalDateTime date);
+}
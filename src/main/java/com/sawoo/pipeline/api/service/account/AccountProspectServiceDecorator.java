@@ -4,36 +4,44 @@ import com.sawoo.pipeline.api.common.contants.ExceptionMessageConstants;
 import com.sawoo.pipeline.api.common.exceptions.CommonServiceException;
 import com.sawoo.pipeline.api.common.exceptions.ResourceNotFoundException;
 import com.sawoo.pipeline.api.dto.account.AccountDTO;
+import com.sawoo.pipeline.api.dto.common.CursorPageDTO;
 import com.sawoo.pipeline.api.dto.prospect.ProspectDTO;
 import com.sawoo.pipeline.api.model.DBConstants;
 import com.sawoo.pipeline.api.model.account.Account;
 import com.sawoo.pipeline.api.model.prospect.Prospect;
 import com.sawoo.pipeline.api.repository.account.AccountRepository;
+import com.sawoo.pipeline.api.repository.base.KeysetCursor;
 import com.sawoo.pipeline.api.service.prospect.ProspectService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import javax.validation.Valid;
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotNull;
-import java.time.LocalDateTime;
-import java.time.ZoneOffset;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class AccountProspectServiceDecorator implements AccountProspectService {
 
+    // References resolved in batch when listing the prospects of several accounts
+    private static final String[] ACCOUNT_PROSPECT_REFERENCES = {
+            "company", "users", "prospects", "prospects.person", "prospects.person.company", "prospects.todos" };
+    private static final String[] PROSPECT_REFERENCES = { "person", "person.company", "todos" };
+    private static final String PROSPECTS_FIELD = "prospects";
+
     private final AccountRepository repository;
     private final ProspectService prospectService;
     private final AccountMapper accountMapper;
+    private final AccountUserDirectoryCache accountUserCache;
 
     @Override
     public ProspectDTO createProspect(
@@ -53,9 +61,8 @@ public class AccountProspectServiceDecorator implements AccountProspectService {
 
         ProspectDTO createdProspect = prospectService.create(prospect);
 
-        prospects.add(prospectService.getMapper().getMapperIn().getDestination(createdProspect));
-        account.setUpdated(LocalDateTime.now(ZoneOffset.UTC));
-        repository.save(account);
+        repository.pushAll(accountId, PROSPECTS_FIELD, List.of(prospectService.getMapper().getMapperIn().getDestination(createdProspect)));
+        accountUserCache.invalidateProspect(createdProspect.getId());
 
         return createdProspect;
     }
@@ -81,6 +88,49 @@ public class AccountProspectServiceDecorator implements AccountProspectService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public CursorPageDTO<ProspectDTO> findAllProspects(
+            @NotBlank(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_EMPTY_ERROR) String accountId,
+            String next,
+            @Min(value = 1, message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_BELLOW_MIN_SIZE_ERROR) int limit)
+            throws ResourceNotFoundException {
+        log.debug("Retrieve page of [{}] prospects after cursor [{}] for account id [{}]", limit, next, accountId);
+
+        Account account = findAccountById(accountId);
+        KeysetCursor cursor = KeysetCursor.decode(next);
+        // Only the referenced ids are read from the account, the prospects of the page are loaded in one query
+        List<String> prospectIds = repository
+                .findProspectIds(accountId)
+                .stream()
+                .sorted()
+                .filter(id -> cursor == null || id.compareTo(cursor.getLastId()) > 0)
+                .limit(limit + 1L)
+                .collect(Collectors.toList());
+        boolean hasNext = prospectIds.size() > limit;
+        if (hasNext) {
+            prospectIds = prospectIds.subList(0, limit);
+        }
+
+        AccountDTO accountProspect = accountMapper.getMapperOut().getDestination(account);
+        List<ProspectDTO> prospects = prospectService
+                .getRepository()
+                .findAllWithReferences(prospectIds, PROSPECT_REFERENCES)
+                .stream()
+                .sorted(Comparator.comparing(Prospect::getId))
+                .map(l -> {
+                    ProspectDTO prospect = prospectService.getMapper().getMapperOut().getDestination(l);
+                    prospect.setAccount(accountProspect);
+                    return prospect;
+                })
+                .collect(Collectors.toList());
+        log.debug("[{}] prospect/s has/have been found for account id [{}]. Last page: [{}]", prospects.size(), accountId, !hasNext);
+
+        String nextToken = hasNext ?
+                new KeysetCursor(KeysetCursor.ID_FIELD, null, prospectIds.get(limit - 1)).encode() :
+                null;
+        return CursorPageDTO.of(prospects, limit, nextToken);
+    }
+
     @Override
     public List<ProspectDTO> findAllProspects(
             @NotNull(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_NULL_ERROR)
@@ -88,11 +138,7 @@ public class AccountProspectServiceDecorator implements AccountProspectService {
             Integer[] prospectQualification) throws ResourceNotFoundException {
         log.debug("Retrieve prospects from a list of accounts with the following ids [{}]", Arrays.toString(accountIds));
 
-        List<Account> accounts = StreamSupport
-                .stream(repository
-                        .findAllById(Arrays.stream(accountIds).collect(Collectors.toList()))
-                        .spliterator(), false)
-                .collect(Collectors.toList());
+        List<Account> accounts = repository.findAllWithReferences(Arrays.asList(accountIds), ACCOUNT_PROSPECT_REFERENCES);
         if (accounts.size() < accountIds.length) {
             log.warn(
                     "[{}] account/s found for the following account ids [{}]. Number of account found does not match the accounts requested",
@@ -137,9 +183,8 @@ public class AccountProspectServiceDecorator implements AccountProspectService {
                 .filter(p -> prospectId.equals(p.getId()))
                 .findAny()
                 .map(l -> {
-                    account.getProspects().remove(l);
-                    account.setUpdated(LocalDateTime.now(ZoneOffset.UTC));
-                    repository.save(account);
+                    repository.pullAll(accountId, PROSPECTS_FIELD, List.of(l));
+                    accountUserCache.invalidateProspect(prospectId);
                     prospectService.delete(prospectId);
                     return prospectService.getMapper().getMapperOut().getDestination(l);
                 })
@@ -5,6 +5,7 @@ import com.sawoo.pipeline.api.common.contants.ExceptionMessageConstants;
 import com.sawoo.pipeline.api.common.exceptions.CommonServiceException;
 import com.sawoo.pipeline.api.common.exceptions.ResourceNotFoundException;
 import com.sawoo.pipeline.api.dto.account.AccountDTO;
+import com.sawoo.pipeline.api.dto.common.CursorPageDTO;
 import com.sawoo.pipeline.api.dto.prospect.ProspectDTO;
 import com.sawoo.pipeline.api.model.DBConstants;
 import com.sawoo.pipeline.api.model.account.Account;
@@ -41,6 +42,7 @@ public class AccountServiceImpl extends BaseServiceImpl<AccountDTO, Account, Acc
 
     private final AccountProspectService prospectService;
     private final AccountUserService userService;
+    private final AccountUserDirectoryCache accountUserCache;
 
     @Autowired
     public AccountServiceImpl(
@@ -49,10 +51,12 @@ public class AccountServiceImpl extends BaseServiceImpl<AccountDTO, Account, Acc
             ApplicationEventPublisher publisher,
             AuditService audit,
             AccountProspectService prospectService,
-            UserAuthService userService) {
+            UserAuthService userService,
+            AccountUserDirectoryCache accountUserCache) {
         super(repository, mapper, DBConstants.ACCOUNT_DOCUMENT, publisher, audit);
-        this.userService = new AccountUserServiceDecorator(userService, this);
+        this.userService = new AccountUserServiceDecorator(userService, this, accountUserCache);
         this.prospectService = prospectService;
+        this.accountUserCache = accountUserCache;
     }
 
     @Override
@@ -76,6 +80,27 @@ public class AccountServiceImpl extends BaseServiceImpl<AccountDTO, Account, Acc
         return account;
     }
 
+    @Override
+    public AccountDTO update(String id, AccountDTO dto) throws ResourceNotFoundException {
+        AccountDTO account = super.update(id, dto);
+        accountUserCache.invalidateAccount(id);
+        return account;
+    }
+
+    @Override
+    public AccountDTO delete(String id) throws ResourceNotFoundException {
+        AccountDTO account = super.delete(id);
+        accountUserCache.invalidateAccount(id);
+        return account;
+    }
+
+    @Override
+    public List<AccountDTO> deleteByIds(List<String> ids) {
+        List<AccountDTO> accounts = super.deleteByIds(ids);
+        accounts.forEach(account -> accountUserCache.invalidateAccount(account.getId()));
+        return accounts;
+    }
+
     @Override
     public List<AccountDTO> findAllByUser(
             @NotBlank(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_EMPTY_OR_NULL_ERROR) String userId)
@@ -108,6 +133,12 @@ public class AccountServiceImpl extends BaseServiceImpl<AccountDTO, Account, Acc
         return prospectService.findAllProspects(accountId);
     }
 
+    @Override
+    public CursorPageDTO<ProspectDTO> findAllProspects(String accountId, String next, int limit)
+            throws ResourceNotFoundException {
+        return prospectService.findAllProspects(accountId, next, limit);
+    }
+
     @Override
     public List<ProspectDTO> findAllProspects(String[] accountIds, Integer[] prospectQualification)
             throws ResourceNotFoundException {
@@ -0,0 +1,18 @@
+package com.sawoo.pipeline.api.service.account;
+
+import com.sawoo.pipeline.api.dto.UserCommon;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+@Builder
+public class AccountUserDirectory {
+
+    String accountId;
+
+    List<UserCommon> users;
+
+    UserCommon defaultAssignee;
+}
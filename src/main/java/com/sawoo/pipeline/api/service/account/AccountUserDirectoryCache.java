@@ -0,0 +1,88 @@
+package com.sawoo.pipeline.api.service.account;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+
+@Slf4j
+@Component
+public class AccountUserDirectoryCache {
+
+    private static final String PROSPECT_ACCOUNT_CACHE_NAME = "account.users.prospect";
+    private static final String ACCOUNT_USERS_CACHE_NAME = "account.users.account";
+
+    private final boolean enabled;
+    private final Cache<String, String> prospectAccounts;
+    private final Cache<String, AccountUserDirectory> accountUsers;
+
+    public AccountUserDirectoryCache(
+            MeterRegistry meterRegistry,
+            @Value("${app.cache.account-users.enabled:true}") boolean enabled,
+            @Value("${app.cache.account-users.max-size:1000}") long maxSize,
+            @Value("${app.cache.account-users.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.enabled = enabled;
+        this.prospectAccounts = Caffeine.newBuilder()
+                .maximumSize(maxSize * 10)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        this.accountUsers = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, prospectAccounts, PROSPECT_ACCOUNT_CACHE_NAME);
+        CaffeineCacheMetrics.monitor(meterRegistry, accountUsers, ACCOUNT_USERS_CACHE_NAME);
+    }
+
+    public AccountUserDirectory getByProspectId(String prospectId, Function<String, AccountUserDirectory> loader) {
+        if (!enabled) {
+            return loader.apply(prospectId);
+        }
+        String accountId = prospectAccounts.getIfPresent(prospectId);
+        AccountUserDirectory directory = accountId != null ? accountUsers.getIfPresent(accountId) : null;
+        if (directory == null) {
+            directory = loader.apply(prospectId);
+            prospectAccounts.put(prospectId, directory.getAccountId());
+            accountUsers.put(directory.getAccountId(), directory);
+        }
+        return directory;
+    }
+
+    public AccountUserDirectory getByAccountId(String accountId, Function<String, AccountUserDirectory> loader) {
+        return enabled ? accountUsers.get(accountId, loader) : loader.apply(accountId);
+    }
+
+    public Map<String, AccountUserDirectory> getByAccountIdIn(
+            Collection<String> accountIds,
+            Function<Iterable<? extends String>, Map<String, AccountUserDirectory>> loader) {
+        return enabled ? accountUsers.getAll(accountIds, loader) : loader.apply(accountIds);
+    }
+
+    public void invalidateAccount(String accountId) {
+        log.debug("Invalidating cached users for account id [{}]", accountId);
+        accountUsers.invalidate(accountId);
+    }
+
+    public void invalidateUser(String userId) {
+        log.debug("Invalidating cached users of the accounts of user id [{}]", userId);
+        accountUsers
+                .asMap()
+                .values()
+                .removeIf(directory -> directory.getUsers().stream().anyMatch(user -> userId.equals(user.getId())));
+    }
+
+    public void invalidateProspect(String prospectId) {
+        log.debug("Invalidating cached account for prospect id [{}]", prospectId);
+        prospectAccounts.invalidate(prospectId);
+    }
+}
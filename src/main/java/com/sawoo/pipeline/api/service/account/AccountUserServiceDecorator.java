@@ -27,10 +27,15 @@ public class AccountUserServiceDecorator implements AccountUserService {
 
     private final UserAuthService userService;
     private final AccountService service;
+    private final AccountUserDirectoryCache accountUserCache;
 
-    public AccountUserServiceDecorator(UserAuthService userService, AccountService service) {
+    public AccountUserServiceDecorator(
+            UserAuthService userService,
+            AccountService service,
+            AccountUserDirectoryCache accountUserCache) {
         this.userService = userService;
         this.service = service;
+        this.accountUserCache = accountUserCache;
     }
 
     @Override
@@ -73,6 +78,7 @@ public class AccountUserServiceDecorator implements AccountUserService {
                     AccountDTO accountToBeUpdated = new AccountDTO();
                     accountToBeUpdated.getUsers().add(service.getMapper().getUserMapperOut().getDestination(user));
                     AccountDTO updatedAccount = service.update(id, accountToBeUpdated);
+                    accountUserCache.invalidateAccount(id);
                     log.debug("Account id [{}] updated with user id: [{}]", id, userId);
                     return updatedAccount;
                 }).orElseThrow(() -> new ResourceNotFoundException(
@@ -1,9 +1,7 @@
 package com.sawoo.pipeline.api.service.base;
 
-import com.googlecode.jmapper.JMapper;
-
 public interface BaseMapper<D, M> {
 
-    JMapper<M, D> getMapperIn();
-    JMapper<D, M> getMapperOut();
+    ObjectMapping<M, D> getMapperIn();
+    ObjectMapping<D, M> getMapperOut();
 }
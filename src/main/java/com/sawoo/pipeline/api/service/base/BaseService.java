@@ -4,21 +4,48 @@ import com.sawoo.pipeline.api.common.contants.ExceptionMessageConstants;
 import com.sawoo.pipeline.api.common.exceptions.CommonServiceException;
 import com.sawoo.pipeline.api.common.exceptions.ResourceNotFoundException;
 import com.sawoo.pipeline.api.dto.audit.VersionDTO;
+import com.sawoo.pipeline.api.dto.audit.VersionDiffDTO;
+import com.sawoo.pipeline.api.dto.common.CursorPageDTO;
 
 import javax.validation.Valid;
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotEmpty;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface BaseService<D> {
 
     D create(@Valid D dto) throws CommonServiceException;
 
+    List<D> createAll(@Valid List<D> dtos) throws CommonServiceException;
+
     D findById(@NotBlank(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_EMPTY_ERROR) String id)
             throws ResourceNotFoundException;
 
+    /**
+     * Finds the entity reading only the given comma separated fields. The fields left out are returned empty
+     */
+    D findById(@NotBlank(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_EMPTY_ERROR) String id, String fields)
+            throws ResourceNotFoundException;
+
     List<D> findAll();
 
+    /**
+     * Finds all the entities reading only the given comma separated fields. The fields left out are returned empty
+     */
+    List<D> findAll(String fields);
+
+    CursorPageDTO<D> findAll(
+            String next,
+            @Min(value = 1, message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_BELLOW_MIN_SIZE_ERROR) int limit,
+            String fields);
+
+    /**
+     * Streams all the entities mapped one by one from a database cursor. The stream must be closed once consumed
+     */
+    Stream<D> streamAll(String fields);
+
     D delete(@NotBlank(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_EMPTY_ERROR) String id)
             throws ResourceNotFoundException;
 
@@ -29,4 +56,21 @@ public interface BaseService<D> {
             @NotEmpty(message = ExceptionMessageConstants.COMMON_LIST_FIELD_CAN_NOT_BE_EMPTY_ERROR) List<String> ids);
 
     List<VersionDTO<D>> getVersions(String id);
+
+    /**
+     * Returns a page of versions ordered from the oldest to the newest. Skip counts from the newest version
+     */
+    List<VersionDTO<D>> getVersions(
+            String id,
+            @Min(value = 0, message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_BELLOW_MIN_SIZE_ERROR) int skip,
+            @Min(value = 1, message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_BELLOW_MIN_SIZE_ERROR) int limit);
+
+    /**
+     * Returns only the properties changed between two versions of the entity
+     */
+    List<VersionDiffDTO> getVersionDiff(
+            @NotBlank(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_EMPTY_ERROR) String id,
+            @Min(value = 0, message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_BELLOW_MIN_SIZE_ERROR) int from,
+            @Min(value = 0, message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_BELLOW_MIN_SIZE_ERROR) int to)
+            throws ResourceNotFoundException;
 }
@@ -5,8 +5,13 @@ import com.sawoo.pipeline.api.common.contants.ExceptionMessageConstants;
 import com.sawoo.pipeline.api.common.exceptions.CommonServiceException;
 import com.sawoo.pipeline.api.common.exceptions.ResourceNotFoundException;
 import com.sawoo.pipeline.api.dto.audit.VersionDTO;
+import com.sawoo.pipeline.api.dto.audit.VersionDiffDTO;
+import com.sawoo.pipeline.api.dto.common.CursorPageDTO;
 import com.sawoo.pipeline.api.model.BaseEntity;
 import com.sawoo.pipeline.api.repository.base.BaseMongoRepository;
+import com.sawoo.pipeline.api.repository.base.FieldProjection;
+import com.sawoo.pipeline.api.repository.base.KeysetCursor;
+import com.sawoo.pipeline.api.repository.base.KeysetPage;
 import com.sawoo.pipeline.api.service.base.event.BaseServiceBeforeInsertEvent;
 import com.sawoo.pipeline.api.service.base.event.BaseServiceBeforeSaveEvent;
 import com.sawoo.pipeline.api.service.base.event.BaseServiceBeforeUpdateEvent;
@@ -15,8 +20,11 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.data.util.StreamUtils;
 
 import javax.validation.Valid;
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotEmpty;
 import java.time.LocalDateTime;
@@ -24,6 +32,7 @@ import java.time.ZoneOffset;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @NoArgsConstructor
@@ -74,6 +83,39 @@ public abstract class BaseServiceImpl<D, M extends BaseEntity, R extends BaseMon
         return mapper.getMapperOut().getDestination(entity);
     }
 
+    @Override
+    public List<D> createAll(@Valid List<D> dtos) throws CommonServiceException {
+        log.debug("Creating [{}] new entities of type: [{}]", dtos.size(), getEntityType());
+
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+        List<M> entities = dtos
+                .stream()
+                .map(dto -> {
+                    entityExists(dto)
+                            .ifPresent(entity -> {
+                                throw new CommonServiceException(
+                                        ExceptionMessageConstants.COMMON_CREATE_ENTITY_ALREADY_EXISTS_EXCEPTION,
+                                        new String[]{ getEntityType(), dto.toString()});
+                            });
+                    M entity = mapper.getMapperIn().getDestination(dto);
+                    entity.setCreated(now);
+                    entity.setUpdated(now);
+                    if (eventPublisher != null) {
+                        eventPublisher.publishEvent(new BaseServiceBeforeInsertEvent<>(dto, entity));
+                    }
+                    return entity;
+                })
+                .collect(Collectors.toList());
+        entities = repository.insertAll(entities);
+
+        log.debug("[{}] entities of type [{}] have been successfully created", entities.size(), getEntityType());
+
+        return entities
+                .stream()
+                .map(mapper.getMapperOut()::getDestination)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public D findById(@NotBlank(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_EMPTY_ERROR) String id)
             throws ResourceNotFoundException {
@@ -88,6 +130,21 @@ public abstract class BaseServiceImpl<D, M extends BaseEntity, R extends BaseMon
                                 new String[]{ getEntityType(), id }));
     }
 
+    @Override
+    public D findById(
+            @NotBlank(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_EMPTY_ERROR) String id,
+            String fields) throws ResourceNotFoundException {
+        log.debug("Retrieve [{}] by id with fields [{}]. Id: [{}]", entityType, fields, id);
+
+        return repository
+                .findById(id, FieldProjection.parse(fields))
+                .map(entity -> mapper.getMapperOut().getDestination(entity))
+                .orElseThrow(() ->
+                        new ResourceNotFoundException(
+                                ExceptionMessageConstants.COMMON_GET_COMPONENT_RESOURCE_NOT_FOUND_EXCEPTION,
+                                new String[]{ getEntityType(), id }));
+    }
+
     @Override
     public List<D> findAll() {
         log.debug("Retrieve all entities. Entity: [{}]", entityType);
@@ -100,6 +157,43 @@ public abstract class BaseServiceImpl<D, M extends BaseEntity, R extends BaseMon
         return entities;
     }
 
+    @Override
+    public List<D> findAll(String fields) {
+        log.debug("Retrieve all entities with fields [{}]. Entity: [{}]", fields, entityType);
+        List<D> entities = repository
+                .findAll(FieldProjection.parse(fields))
+                .stream()
+                .map(mapper.getMapperOut()::getDestination)
+                .collect(Collectors.toList());
+        log.debug("[{}] [{}] entity/entities has/have been found", entities.size(), entityType);
+        return entities;
+    }
+
+    @Override
+    public CursorPageDTO<D> findAll(
+            String next,
+            @Min(value = 1, message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_BELLOW_MIN_SIZE_ERROR) int limit,
+            String fields) {
+        log.debug("Retrieve page of [{}] entities after cursor [{}] with fields [{}]. Entity: [{}]", limit, next, fields, entityType);
+        KeysetPage<M> page = repository.findAllAfter(KeysetCursor.decode(next), limit, FieldProjection.parse(fields));
+        List<D> entities = page
+                .getContent()
+                .stream()
+                .map(mapper.getMapperOut()::getDestination)
+                .collect(Collectors.toList());
+        log.debug("[{}] [{}] entity/entities has/have been found. Last page: [{}]", entities.size(), entityType, !page.hasNext());
+        return CursorPageDTO.of(entities, limit, page.getNextToken());
+    }
+
+    @Override
+    public Stream<D> streamAll(String fields) {
+        log.debug("Stream all entities with fields [{}]. Entity: [{}]", fields, entityType);
+        CloseableIterator<M> entities = repository.streamAll(FieldProjection.parse(fields));
+        return StreamUtils
+                .createStreamFromIterator(entities)
+                .map(mapper.getMapperOut()::getDestination);
+    }
+
     @Override
     public D delete(@NotBlank(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_EMPTY_ERROR)  String id) throws ResourceNotFoundException {
         log.debug("Delete [{}] entity with id: [{}]", entityType, id);
@@ -169,9 +263,34 @@ public abstract class BaseServiceImpl<D, M extends BaseEntity, R extends BaseMon
 
     @Override
     public List<VersionDTO<D>> getVersions(String id) {
+        return getVersions(id, 0, AuditService.DEFAULT_VERSIONS_LIMIT);
+    }
+
+    @Override
+    public List<VersionDTO<D>> getVersions(
+            String id,
+            @Min(value = 0, message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_BELLOW_MIN_SIZE_ERROR) int skip,
+            @Min(value = 1, message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_BELLOW_MIN_SIZE_ERROR) int limit) {
         return getRepository()
                 .findById(id)
-                .map( entity -> audit.getVersions(entity, id, getMapper().getMapperOut()))
+                .map( entity -> audit.getVersions(entity, id, getMapper().getMapperOut(), skip, limit))
                 .orElse(null);
     }
+
+    @Override
+    public List<VersionDiffDTO> getVersionDiff(
+            @NotBlank(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_EMPTY_ERROR) String id,
+            @Min(value = 0, message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_BELLOW_MIN_SIZE_ERROR) int from,
+            @Min(value = 0, message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_BELLOW_MIN_SIZE_ERROR) int to)
+            throws ResourceNotFoundException {
+        log.debug("Retrieve [{}] changes between versions [{}] and [{}]. Id: [{}]", entityType, from, to, id);
+
+        M entity = repository
+                .findById(id)
+                .orElseThrow(() ->
+                        new ResourceNotFoundException(
+                                ExceptionMessageConstants.COMMON_GET_COMPONENT_RESOURCE_NOT_FOUND_EXCEPTION,
+                                new String[]{ getEntityType(), id }));
+        return audit.getVersionDiff(entity.getClass(), id, from, to);
+    }
 }
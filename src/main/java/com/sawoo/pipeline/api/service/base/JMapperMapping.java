@@ -0,0 +1,44 @@
+package com.sawoo.pipeline.api.service.base;
+
+import com.googlecode.jmapper.JMapper;
+import com.googlecode.jmapper.api.enums.MappingType;
+
+/**
+ * {@link ObjectMapping} backed by a {@link JMapper}. The JMapper and its generated bytecode are only built the first
+ * time the mapping is used instead of when the owning component is created.
+ */
+public class JMapperMapping<D, S> implements ObjectMapping<D, S> {
+
+    private final Class<D> destinationClass;
+    private final Class<S> sourceClass;
+    private volatile JMapper<D, S> mapper;
+
+    public JMapperMapping(Class<D> destinationClass, Class<S> sourceClass) {
+        this.destinationClass = destinationClass;
+        this.sourceClass = sourceClass;
+    }
+
+    @Override
+    public D getDestination(S source) {
+        return getMapper().getDestination(source);
+    }
+
+    @Override
+    public D getDestination(D destination, S source, MappingType mtDestination, MappingType mtSource) {
+        return getMapper().getDestination(destination, source, mtDestination, mtSource);
+    }
+
+    private JMapper<D, S> getMapper() {
+        JMapper<D, S> current = mapper;
+        if (current == null) {
+            synchronized (this) {
+                current = mapper;
+                if (current == null) {
+                    current = new JMapper<>(destinationClass, sourceClass);
+                    mapper = current;
+                }
+            }
+        }
+        return current;
+    }
+}
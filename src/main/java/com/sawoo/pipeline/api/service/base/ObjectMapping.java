@@ -0,0 +1,15 @@
+package com.sawoo.pipeline.api.service.base;
+
+import com.googlecode.jmapper.api.enums.MappingType;
+
+/**
+ * Mapping from a source type to a destination type with the contract of {@link com.googlecode.jmapper.JMapper}
+ * used across the services, so a mapper can be backed by JMapper or written as plain Java without changing its
+ * callers. See {@link JMapperMapping} and {@link PlainObjectMapping}
+ */
+public interface ObjectMapping<D, S> {
+
+    D getDestination(S source);
+
+    D getDestination(D destination, S source, MappingType mtDestination, MappingType mtSource);
+}
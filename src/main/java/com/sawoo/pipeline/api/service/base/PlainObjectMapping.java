@@ -0,0 +1,49 @@
+package com.sawoo.pipeline.api.service.base;
+
+import com.googlecode.jmapper.api.enums.MappingType;
+
+/**
+ * Base class for plain Java mappings, generated at build time by the
+ * {@link com.sawoo.pipeline.api.service.base.mapping.MappingProcessor}. Subclasses implement the full mapping and the
+ * merge used by updates ({@code ALL_FIELDS} destination, {@code ONLY_VALUED_FIELDS} source) following the JMapper
+ * rules: null source values are skipped, primitives are always copied, nested objects are merged into the existing
+ * ones and collections are added to the existing ones. Any other combination, and null sources, are delegated to a
+ * lazily built JMapper so the contract stays the same.
+ */
+public abstract class PlainObjectMapping<D, S> implements ObjectMapping<D, S> {
+
+    private final JMapperMapping<D, S> fallback;
+
+    protected PlainObjectMapping(Class<D> destinationClass, Class<S> sourceClass) {
+        this.fallback = new JMapperMapping<>(destinationClass, sourceClass);
+    }
+
+    protected abstract D map(S source);
+
+    /**
+     * Merges the valued fields of the source into the destination. Mappings that are not used for updates can keep
+     * the JMapper implementation
+     */
+    protected D merge(D destination, S source) {
+        return fallback.getDestination(destination, source, MappingType.ALL_FIELDS, MappingType.ONLY_VALUED_FIELDS);
+    }
+
+    @Override
+    public D getDestination(S source) {
+        if (source == null) {
+            return fallback.getDestination(null);
+        }
+        return map(source);
+    }
+
+    @Override
+    public D getDestination(D destination, S source, MappingType mtDestination, MappingType mtSource) {
+        if (destination == null
+                || source == null
+                || mtDestination != MappingType.ALL_FIELDS
+                || mtSource != MappingType.ONLY_VALUED_FIELDS) {
+            return fallback.getDestination(destination, source, mtDestination, mtSource);
+        }
+        return merge(destination, source);
+    }
+}
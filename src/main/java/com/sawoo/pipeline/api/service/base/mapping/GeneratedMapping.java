@@ -0,0 +1,25 @@
+package com.sawoo.pipeline.api.service.base.mapping;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Asks the {@link MappingProcessor} to generate, at build time, a plain Java
+ * {@link com.sawoo.pipeline.api.service.base.PlainObjectMapping} from the source type to the destination type.
+ * The class is generated in the package of the annotated type with the given name, and maps the same @JMap
+ * fields JMapper would
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+@Repeatable(GeneratedMappings.class)
+public @interface GeneratedMapping {
+
+    String name();
+
+    Class<?> destination();
+
+    Class<?> source();
+}
@@ -0,0 +1,13 @@
+package com.sawoo.pipeline.api.service.base.mapping;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface GeneratedMappings {
+
+    GeneratedMapping[] value();
+}
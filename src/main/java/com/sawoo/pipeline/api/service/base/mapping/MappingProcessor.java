@@ -0,0 +1,543 @@
+package com.sawoo.pipeline.api.service.base.mapping;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates the plain Java mappings asked with {@link GeneratedMapping}. The mapped fields are read from the @JMap
+ * annotations with the JMapper rules: the destination fields when the destination type has any, otherwise the
+ * source ones, and the annotation value names the field on the other side. The generated mappings follow the
+ * {@link com.sawoo.pipeline.api.service.base.PlainObjectMapping} merge rules.
+ * <p>
+ * Only the plain JMapper configuration is supported: same types are copied, nested types are mapped field by field,
+ * lists of nested types element by element, and collections and maps of the same type are copied or added to the
+ * existing ones. Mappings using conversions, accessors or ${} paths fail the build and must stay on JMapper.
+ * <p>
+ * The processor is compiled before the rest of the module (see the mapping-processor execution in the pom), so it
+ * needs no dependency of its own.
+ */
+@SupportedAnnotationTypes({
+        "com.sawoo.pipeline.api.service.base.mapping.GeneratedMapping",
+        "com.sawoo.pipeline.api.service.base.mapping.GeneratedMappings"})
+public class MappingProcessor extends AbstractProcessor {
+
+    private static final String GENERATED_MAPPING = GeneratedMapping.class.getCanonicalName();
+    private static final String GENERATED_MAPPINGS = GeneratedMappings.class.getCanonicalName();
+    private static final String PLAIN_OBJECT_MAPPING = "com.sawoo.pipeline.api.service.base.PlainObjectMapping";
+    private static final String JMAP = "com.googlecode.jmapper.annotations.JMap";
+    private static final Set<String> UNSUPPORTED_ANNOTATIONS = Set.of(
+            "com.googlecode.jmapper.annotations.JGlobalMap",
+            "com.googlecode.jmapper.annotations.JMapAccessor",
+            "com.googlecode.jmapper.annotations.JMapAccessors",
+            "com.googlecode.jmapper.annotations.JMapConversion");
+    private static final String INDENT = "    ";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                for (AnnotationMirror mapping : getMappings(element, annotation)) {
+                    generate(element, mapping);
+                }
+            }
+        }
+        return true;
+    }
+
+    private List<AnnotationMirror> getMappings(Element element, TypeElement annotation) {
+        List<AnnotationMirror> mappings = new ArrayList<>();
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            String type = ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+            if (!type.equals(annotation.getQualifiedName().toString())) {
+                continue;
+            }
+            if (type.equals(GENERATED_MAPPING)) {
+                mappings.add(mirror);
+            } else if (type.equals(GENERATED_MAPPINGS)) {
+                for (Object value : (List<?>) getValue(mirror, "value")) {
+                    mappings.add((AnnotationMirror) ((AnnotationValue) value).getValue());
+                }
+            }
+        }
+        return mappings;
+    }
+
+    private void generate(Element element, AnnotationMirror mapping) {
+        String name = (String) getValue(mapping, "name");
+        TypeElement destination = asTypeElement((TypeMirror) getValue(mapping, "destination"));
+        TypeElement source = asTypeElement((TypeMirror) getValue(mapping, "source"));
+        String packageName = processingEnv.getElementUtils().getPackageOf(element).getQualifiedName().toString();
+        try {
+            String code = new MappingWriter(packageName, name).write(destination, source);
+            try (Writer writer = processingEnv.getFiler().createSourceFile(packageName + "." + name, element).openWriter()) {
+                writer.write(code);
+            }
+        } catch (UnsupportedMappingException error) {
+            getMessager().printMessage(
+                    Diagnostic.Kind.ERROR,
+                    String.format("Mapping [%s] from [%s] to [%s] can not be generated: %s",
+                            name, source.getQualifiedName(), destination.getQualifiedName(), error.getMessage()),
+                    element,
+                    mapping);
+        } catch (IOException error) {
+            getMessager().printMessage(Diagnostic.Kind.ERROR, "Mapping [" + name + "] can not be written: " + error.getMessage(), element);
+        }
+    }
+
+    private Messager getMessager() {
+        return processingEnv.getMessager();
+    }
+
+    private Types getTypes() {
+        return processingEnv.getTypeUtils();
+    }
+
+    private Elements getElements() {
+        return processingEnv.getElementUtils();
+    }
+
+    private TypeElement asTypeElement(TypeMirror type) {
+        return (TypeElement) getTypes().asElement(type);
+    }
+
+    private static Object getValue(AnnotationMirror mirror, String name) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : mirror.getElementValues().entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                return entry.getValue().getValue();
+            }
+        }
+        return null;
+    }
+
+    private static AnnotationMirror getAnnotation(Element element, String type) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(type)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    private static String capitalize(String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private enum FieldKind {
+        COPY,
+        NESTED,
+        NESTED_LIST,
+        COLLECTION,
+        MAP
+    }
+
+    private static final class UnsupportedMappingException extends RuntimeException {
+
+        UnsupportedMappingException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * Field of the destination type and the field of the source type it is mapped from
+     */
+    private static final class FieldPair {
+
+        private final VariableElement destination;
+        private final VariableElement source;
+
+        FieldPair(VariableElement destination, VariableElement source) {
+            this.destination = destination;
+            this.source = source;
+        }
+    }
+
+    /**
+     * Writes one mapping class. Nested types are mapped by private helpers, written once per pair of types
+     */
+    private final class MappingWriter {
+
+        private final String packageName;
+        private final String name;
+        private final Map<String, String> helperNames = new HashMap<>();
+        private final Set<String> usedHelperNames = new HashSet<>();
+        private final StringBuilder helpers = new StringBuilder();
+
+        MappingWriter(String packageName, String name) {
+            this.packageName = packageName;
+            this.name = name;
+        }
+
+        String write(TypeElement destination, TypeElement source) {
+            String destinationName = getInstantiableName(destination);
+            String sourceName = source.getQualifiedName().toString();
+
+            StringBuilder code = new StringBuilder();
+            code.append("package ").append(packageName).append(";\n\n");
+            code.append("/**\n");
+            code.append(" * Mapping of a {@link ").append(sourceName).append("} into a {@link ").append(destinationName).append("}.\n");
+            code.append(" * Generated by {@link ").append(MappingProcessor.class.getCanonicalName()).append("}, do not edit it\n");
+            code.append(" */\n");
+            code.append("@javax.annotation.processing.Generated(\"").append(MappingProcessor.class.getCanonicalName()).append("\")\n");
+            code.append("public class ").append(name).append(" extends ").append(PLAIN_OBJECT_MAPPING)
+                    .append("<").append(destinationName).append(", ").append(sourceName).append("> {\n\n");
+
+            code.append(INDENT).append("public ").append(name).append("() {\n");
+            code.append(INDENT).append(INDENT).append("super(").append(destinationName).append(".class, ").append(sourceName).append(".class);\n");
+            code.append(INDENT).append("}\n\n");
+
+            code.append(INDENT).append("@Override\n");
+            code.append(INDENT).append("protected ").append(destinationName).append(" map(").append(sourceName).append(" source) {\n");
+            code.append(INDENT).append(INDENT).append(destinationName).append(" destination = new ").append(destinationName).append("();\n");
+            writeMap(code, destination, source);
+            code.append(INDENT).append(INDENT).append("return destination;\n");
+            code.append(INDENT).append("}\n\n");
+
+            code.append(INDENT).append("@Override\n");
+            code.append(INDENT).append("protected ").append(destinationName).append(" merge(")
+                    .append(destinationName).append(" destination, ").append(sourceName).append(" source) {\n");
+            writeMerge(code, destination, source);
+            code.append(INDENT).append(INDENT).append("return destination;\n");
+            code.append(INDENT).append("}\n");
+
+            code.append(helpers);
+            code.append("}\n");
+            return code.toString();
+        }
+
+        private void writeMap(StringBuilder code, TypeElement destination, TypeElement source) {
+            String indent = INDENT + INDENT;
+            for (FieldPair pair : getFieldPairs(destination, source)) {
+                String value = "source." + getter(pair.source) + "()";
+                switch (getKind(pair)) {
+                    case NESTED:
+                        value = getMapHelper(pair.destination.asType(), pair.source.asType()) + "(" + value + ")";
+                        break;
+                    case NESTED_LIST:
+                        value = getListHelper(getElementType(pair.destination), getElementType(pair.source)) + "(" + value + ")";
+                        break;
+                    default:
+                }
+                code.append(indent).append("destination.").append(setter(pair.destination)).append("(").append(value).append(");\n");
+            }
+        }
+
+        private void writeMerge(StringBuilder code, TypeElement destination, TypeElement source) {
+            String indent = INDENT + INDENT;
+            for (FieldPair pair : getFieldPairs(destination, source)) {
+                String sourceValue = "source." + getter(pair.source) + "()";
+                String destinationValue = "destination." + getter(pair.destination) + "()";
+                String set = "destination." + setter(pair.destination);
+                FieldKind kind = getKind(pair);
+                if (pair.destination.asType().getKind().isPrimitive()) {
+                    code.append(indent).append(set).append("(").append(sourceValue).append(");\n");
+                    continue;
+                }
+                code.append(indent).append("if (").append(sourceValue).append(" != null) {\n");
+                switch (kind) {
+                    case NESTED:
+                        code.append(indent).append(INDENT).append("if (").append(destinationValue).append(" == null) {\n");
+                        code.append(indent).append(INDENT).append(INDENT).append(set).append("(new ")
+                                .append(getInstantiableName(asTypeElement(pair.destination.asType()))).append("());\n");
+                        code.append(indent).append(INDENT).append("}\n");
+                        code.append(indent).append(INDENT)
+                                .append(getMergeHelper(pair.destination.asType(), pair.source.asType()))
+                                .append("(").append(destinationValue).append(", ").append(sourceValue).append(");\n");
+                        break;
+                    case NESTED_LIST:
+                    case COLLECTION:
+                    case MAP:
+                        String value = kind == FieldKind.NESTED_LIST
+                                ? getListHelper(getElementType(pair.destination), getElementType(pair.source)) + "(" + sourceValue + ")"
+                                : sourceValue;
+                        code.append(indent).append(INDENT).append("if (").append(destinationValue).append(" == null) {\n");
+                        code.append(indent).append(INDENT).append(INDENT).append(set).append("(").append(value).append(");\n");
+                        code.append(indent).append(INDENT).append("} else {\n");
+                        code.append(indent).append(INDENT).append(INDENT).append(destinationValue)
+                                .append(kind == FieldKind.MAP ? ".putAll(" : ".addAll(").append(value).append(");\n");
+                        code.append(indent).append(INDENT).append("}\n");
+                        break;
+                    default:
+                        code.append(indent).append(INDENT).append(set).append("(").append(sourceValue).append(");\n");
+                }
+                code.append(indent).append("}\n");
+            }
+        }
+
+        private String getMapHelper(TypeMirror destinationType, TypeMirror sourceType) {
+            TypeElement destination = asTypeElement(destinationType);
+            TypeElement source = asTypeElement(sourceType);
+            String key = "map:" + destination.getQualifiedName() + ":" + source.getQualifiedName();
+            String helper = helperNames.get(key);
+            if (helper != null) {
+                return helper;
+            }
+            helper = newHelperName("map" + destination.getSimpleName());
+            helperNames.put(key, helper);
+
+            String destinationName = getInstantiableName(destination);
+            StringBuilder code = new StringBuilder();
+            code.append("\n").append(INDENT).append("private static ").append(destinationName).append(" ").append(helper)
+                    .append("(").append(source.getQualifiedName()).append(" source) {\n");
+            code.append(INDENT).append(INDENT).append("if (source == null) {\n");
+            code.append(INDENT).append(INDENT).append(INDENT).append("return null;\n");
+            code.append(INDENT).append(INDENT).append("}\n");
+            code.append(INDENT).append(INDENT).append(destinationName).append(" destination = new ").append(destinationName).append("();\n");
+            writeMap(code, destination, source);
+            code.append(INDENT).append(INDENT).append("return destination;\n");
+            code.append(INDENT).append("}\n");
+            helpers.append(code);
+            return helper;
+        }
+
+        private String getMergeHelper(TypeMirror destinationType, TypeMirror sourceType) {
+            TypeElement destination = asTypeElement(destinationType);
+            TypeElement source = asTypeElement(sourceType);
+            String key = "merge:" + destination.getQualifiedName() + ":" + source.getQualifiedName();
+            String helper = helperNames.get(key);
+            if (helper != null) {
+                return helper;
+            }
+            helper = newHelperName("merge" + destination.getSimpleName());
+            helperNames.put(key, helper);
+
+            StringBuilder code = new StringBuilder();
+            code.append("\n").append(INDENT).append("private static void ").append(helper)
+                    .append("(").append(destination.getQualifiedName()).append(" destination, ")
+                    .append(source.getQualifiedName()).append(" source) {\n");
+            writeMerge(code, destination, source);
+            code.append(INDENT).append("}\n");
+            helpers.append(code);
+            return helper;
+        }
+
+        private String getListHelper(TypeMirror destinationType, TypeMirror sourceType) {
+            TypeElement destination = asTypeElement(destinationType);
+            TypeElement source = asTypeElement(sourceType);
+            String key = "list:" + destination.getQualifiedName() + ":" + source.getQualifiedName();
+            String helper = helperNames.get(key);
+            if (helper != null) {
+                return helper;
+            }
+            helper = newHelperName("map" + destination.getSimpleName() + "List");
+            helperNames.put(key, helper);
+            String elementHelper = getMapHelper(destinationType, sourceType);
+
+            String listType = "java.util.List<" + destination.getQualifiedName() + ">";
+            StringBuilder code = new StringBuilder();
+            code.append("\n").append(INDENT).append("private static ").append(listType).append(" ").append(helper)
+                    .append("(java.util.List<").append(source.getQualifiedName()).append("> source) {\n");
+            code.append(INDENT).append(INDENT).append("if (source == null) {\n");
+            code.append(INDENT).append(INDENT).append(INDENT).append("return null;\n");
+            code.append(INDENT).append(INDENT).append("}\n");
+            code.append(INDENT).append(INDENT).append(listType).append(" destination = new java.util.ArrayList<>(source.size());\n");
+            code.append(INDENT).append(INDENT).append("source.forEach(element -> destination.add(").append(elementHelper).append("(element)));\n");
+            code.append(INDENT).append(INDENT).append("return destination;\n");
+            code.append(INDENT).append("}\n");
+            helpers.append(code);
+            return helper;
+        }
+
+        private String newHelperName(String base) {
+            String helper = base;
+            for (int i = 2; !usedHelperNames.add(helper); i++) {
+                helper = base + i;
+            }
+            return helper;
+        }
+    }
+
+    private List<FieldPair> getFieldPairs(TypeElement destination, TypeElement source) {
+        checkSupported(destination);
+        checkSupported(source);
+        Map<String, VariableElement> destinationFields = getFields(destination);
+        Map<String, VariableElement> sourceFields = getFields(source);
+        boolean configuredInDestination = destinationFields.values().stream().anyMatch(field -> getAnnotation(field, JMAP) != null);
+        Map<String, VariableElement> configuredFields = configuredInDestination ? destinationFields : sourceFields;
+
+        List<FieldPair> pairs = new ArrayList<>();
+        for (VariableElement field : configuredFields.values()) {
+            AnnotationMirror jmap = getAnnotation(field, JMAP);
+            if (jmap == null) {
+                continue;
+            }
+            if (getValue(jmap, "attributes") != null || getValue(jmap, "classes") != null) {
+                throw new UnsupportedMappingException("@JMap attributes and classes of field [" + field.getSimpleName() + "] are not supported");
+            }
+            String target = (String) getValue(jmap, "value");
+            if (target == null || target.isEmpty()) {
+                target = field.getSimpleName().toString();
+            } else if (target.startsWith("${")) {
+                throw new UnsupportedMappingException("@JMap path [" + target + "] of field [" + field.getSimpleName() + "] is not supported");
+            }
+            VariableElement other = (configuredInDestination ? sourceFields : destinationFields).get(target);
+            if (other == null) {
+                throw new UnsupportedMappingException("field [" + target + "] mapped by [" + field.getSimpleName() + "] not found");
+            }
+            pairs.add(configuredInDestination ? new FieldPair(field, other) : new FieldPair(other, field));
+        }
+        return pairs;
+    }
+
+    private void checkSupported(TypeElement type) {
+        for (TypeElement current = type; current != null; current = getSuperclass(current)) {
+            List<Element> elements = new ArrayList<>(current.getEnclosedElements());
+            elements.add(current);
+            for (Element element : elements) {
+                for (String annotation : UNSUPPORTED_ANNOTATIONS) {
+                    if (getAnnotation(element, annotation) != null) {
+                        throw new UnsupportedMappingException(
+                                "[" + annotation + "] on [" + current.getSimpleName() + "." + element.getSimpleName() + "] is not supported");
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Instance fields of the type and its superclasses, the superclass ones first
+     */
+    private Map<String, VariableElement> getFields(TypeElement type) {
+        List<TypeElement> hierarchy = new ArrayList<>();
+        for (TypeElement current = type; current != null; current = getSuperclass(current)) {
+            hierarchy.add(0, current);
+        }
+        Map<String, VariableElement> fields = new LinkedHashMap<>();
+        for (TypeElement current : hierarchy) {
+            for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+                if (!field.getModifiers().contains(Modifier.STATIC)) {
+                    fields.put(field.getSimpleName().toString(), field);
+                }
+            }
+        }
+        return fields;
+    }
+
+    private TypeElement getSuperclass(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        TypeElement element = asTypeElement(superclass);
+        return element.getQualifiedName().contentEquals(Object.class.getName()) ? null : element;
+    }
+
+    private FieldKind getKind(FieldPair pair) {
+        TypeMirror destination = pair.destination.asType();
+        TypeMirror source = pair.source.asType();
+        boolean sameType = getTypes().isSameType(destination, source);
+        if (isSubtype(destination, java.util.Map.class) && isSubtype(source, java.util.Map.class)) {
+            if (sameType) {
+                return FieldKind.MAP;
+            }
+        } else if (isSubtype(destination, java.util.Collection.class) && isSubtype(source, java.util.Collection.class)) {
+            if (sameType) {
+                return FieldKind.COLLECTION;
+            }
+            if (isList(destination) && isList(source) && isNestedType(getElementType(pair.destination)) && isNestedType(getElementType(pair.source))) {
+                return FieldKind.NESTED_LIST;
+            }
+        } else if (sameType) {
+            return FieldKind.COPY;
+        } else if (isNestedType(destination) && isNestedType(source)) {
+            return FieldKind.NESTED;
+        }
+        throw new UnsupportedMappingException(String.format(
+                "field [%s] of type [%s] can not be mapped from field [%s] of type [%s]",
+                pair.destination.getSimpleName(), destination, pair.source.getSimpleName(), source));
+    }
+
+    private boolean isSubtype(TypeMirror type, Class<?> superType) {
+        if (type.getKind() != TypeKind.DECLARED) {
+            return false;
+        }
+        TypeMirror erasure = getTypes().erasure(getElements().getTypeElement(superType.getCanonicalName()).asType());
+        return getTypes().isAssignable(getTypes().erasure(type), erasure);
+    }
+
+    private boolean isList(TypeMirror type) {
+        return asTypeElement(type).getQualifiedName().contentEquals(List.class.getName());
+    }
+
+    /**
+     * Mapped classes of the application, which are mapped field by field
+     */
+    private boolean isNestedType(TypeMirror type) {
+        if (type.getKind() != TypeKind.DECLARED) {
+            return false;
+        }
+        TypeElement element = asTypeElement(type);
+        PackageElement packageElement = getElements().getPackageOf(element);
+        return element.getKind() == ElementKind.CLASS
+                && !element.getModifiers().contains(Modifier.ABSTRACT)
+                && element.getTypeParameters().isEmpty()
+                && !packageElement.getQualifiedName().toString().startsWith("java.");
+    }
+
+    private TypeMirror getElementType(VariableElement field) {
+        List<? extends TypeMirror> arguments = ((DeclaredType) field.asType()).getTypeArguments();
+        if (arguments.size() != 1) {
+            throw new UnsupportedMappingException("raw list [" + field.getSimpleName() + "] is not supported");
+        }
+        return arguments.get(0);
+    }
+
+    private String getInstantiableName(TypeElement type) {
+        if (type.getModifiers().contains(Modifier.ABSTRACT) || !type.getTypeParameters().isEmpty()) {
+            throw new UnsupportedMappingException("type [" + type.getQualifiedName() + "] can not be instantiated");
+        }
+        return type.getQualifiedName().toString();
+    }
+
+    private static String getter(VariableElement field) {
+        String name = field.getSimpleName().toString();
+        if (field.asType().getKind() == TypeKind.BOOLEAN) {
+            return isPrefixed(name) ? name : "is" + capitalize(name);
+        }
+        return "get" + capitalize(name);
+    }
+
+    private static String setter(VariableElement field) {
+        String name = field.getSimpleName().toString();
+        if (field.asType().getKind() == TypeKind.BOOLEAN && isPrefixed(name)) {
+            return "set" + name.substring(2);
+        }
+        return "set" + capitalize(name);
+    }
+
+    private static boolean isPrefixed(String name) {
+        return name.length() > 2 && name.startsWith("is") && Character.isUpperCase(name.charAt(2));
+    }
+}
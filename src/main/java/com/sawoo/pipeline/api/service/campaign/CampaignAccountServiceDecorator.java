@@ -1,5 +1,6 @@
 package com.sawoo.pipeline.api.service.campaign;
 
+import com.sawoo.pipeline.api.common.KeyedIndex;
 import com.sawoo.pipeline.api.common.contants.ExceptionMessageConstants;
 import com.sawoo.pipeline.api.common.exceptions.CommonServiceException;
 import com.sawoo.pipeline.api.dto.account.AccountDTO;
@@ -15,7 +16,6 @@ import org.springframework.stereotype.Component;
 
 import javax.validation.constraints.NotEmpty;
 import java.util.List;
-import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -42,12 +42,11 @@ public class CampaignAccountServiceDecorator implements CampaignAccountService {
 
         log.debug("[{}] campaign/s has/have been found for account [ids: {}]", campaigns.size(), accountIds);
 
-        List<AccountDTO> accountList = accountService.findAllById(accountIds);
+        KeyedIndex<String, AccountDTO> accounts = KeyedIndex.of(accountService.findAllById(accountIds), AccountDTO::getId);
 
         return campaigns.stream().map(s -> {
             CampaignDTO campaign = campaignService.getMapper().getMapperOut().getDestination(s);
-            Optional<AccountDTO> account = accountList.stream().filter(a -> a.getId().equals(campaign.getComponentId())).findFirst();
-            account.ifPresentOrElse(
+            accounts.find(campaign.getComponentId()).ifPresentOrElse(
                     campaign::setAccount,
                     () -> log.warn("Campaign id [{}] where component with id [{}] has not been found",
                             campaign.getId(),
@@ -1,11 +1,12 @@
 package com.sawoo.pipeline.api.service.campaign;
 
-import com.googlecode.jmapper.JMapper;
 import com.sawoo.pipeline.api.dto.campaign.CampaignDTO;
 import com.sawoo.pipeline.api.dto.campaign.CampaignProspectDTO;
 import com.sawoo.pipeline.api.model.campaign.Campaign;
 import com.sawoo.pipeline.api.model.campaign.CampaignProspect;
 import com.sawoo.pipeline.api.service.base.BaseMapper;
+import com.sawoo.pipeline.api.service.base.JMapperMapping;
+import com.sawoo.pipeline.api.service.base.ObjectMapping;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -15,9 +16,9 @@ import org.springframework.stereotype.Component;
 @Component
 public class CampaignMapper implements BaseMapper<CampaignDTO, Campaign> {
 
-    private final JMapper<CampaignDTO, Campaign> mapperOut = new JMapper<>(CampaignDTO.class, Campaign.class);
-    private final JMapper<Campaign, CampaignDTO> mapperIn = new JMapper<>(Campaign.class, CampaignDTO.class);
+    private final ObjectMapping<CampaignDTO, Campaign> mapperOut = new JMapperMapping<>(CampaignDTO.class, Campaign.class);
+    private final ObjectMapping<Campaign, CampaignDTO> mapperIn = new JMapperMapping<>(Campaign.class, CampaignDTO.class);
 
-    private final JMapper<CampaignProspectDTO, CampaignProspect> mapperProspectCampaignOut = new JMapper<>(CampaignProspectDTO.class, CampaignProspect.class);
-    private final JMapper<CampaignProspect, CampaignProspectDTO> mapperProspectCampaignIn = new JMapper<>(CampaignProspect.class, CampaignProspectDTO.class);
+    private final ObjectMapping<CampaignProspectDTO, CampaignProspect> mapperProspectCampaignOut = new JMapperMapping<>(CampaignProspectDTO.class, CampaignProspect.class);
+    private final ObjectMapping<CampaignProspect, CampaignProspectDTO> mapperProspectCampaignIn = new JMapperMapping<>(CampaignProspect.class, CampaignProspectDTO.class);
 }
@@ -4,11 +4,15 @@ import com.sawoo.pipeline.api.common.contants.ExceptionMessageConstants;
 import com.sawoo.pipeline.api.common.exceptions.CommonServiceException;
 import com.sawoo.pipeline.api.common.exceptions.ResourceNotFoundException;
 import com.sawoo.pipeline.api.dto.campaign.CampaignProspectDTO;
+import com.sawoo.pipeline.api.dto.campaign.CampaignProspectEnrolmentDTO;
 import com.sawoo.pipeline.api.dto.campaign.request.CampaignProspectAddDTO;
 import com.sawoo.pipeline.api.dto.campaign.request.CampaignProspectBaseDTO;
+import com.sawoo.pipeline.api.dto.campaign.request.CampaignProspectBulkAddDTO;
 import com.sawoo.pipeline.api.dto.campaign.request.CampaignProspectCreateDTO;
+import com.sawoo.pipeline.api.dto.common.CursorPageDTO;
 
 import javax.validation.Valid;
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotBlank;
 import java.util.List;
 
@@ -24,6 +28,11 @@ public interface CampaignProspectService {
             @Valid CampaignProspectAddDTO campaignProspect)
             throws ResourceNotFoundException, CommonServiceException;
 
+    List<CampaignProspectEnrolmentDTO> addProspects(
+            @NotBlank(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_EMPTY_OR_NULL_ERROR) String campaignId,
+            @Valid CampaignProspectBulkAddDTO campaignProspects)
+            throws ResourceNotFoundException, CommonServiceException;
+
     CampaignProspectDTO removeProspect(
             @NotBlank(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_EMPTY_OR_NULL_ERROR) String campaignId,
             @NotBlank(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_EMPTY_OR_NULL_ERROR) String prospectId,
@@ -39,4 +48,15 @@ public interface CampaignProspectService {
     List<CampaignProspectDTO> findAllProspects(
             @NotBlank(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_EMPTY_OR_NULL_ERROR) String campaignId)
             throws ResourceNotFoundException, CommonServiceException;
+
+    List<String> findProspectIds(
+            @NotBlank(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_EMPTY_OR_NULL_ERROR) String campaignId)
+            throws ResourceNotFoundException, CommonServiceException;
+
+    CursorPageDTO<CampaignProspectDTO> findProspects(
+            @NotBlank(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_EMPTY_OR_NULL_ERROR) String campaignId,
+            List<Integer> status,
+            String next,
+            @Min(value = 1, message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_BELLOW_MIN_SIZE_ERROR) int limit)
+            throws ResourceNotFoundException, CommonServiceException;
 }
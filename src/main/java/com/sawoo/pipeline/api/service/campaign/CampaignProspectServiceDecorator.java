@@ -1,60 +1,92 @@
 package com.sawoo.pipeline.api.service.campaign;
 
-import com.googlecode.jmapper.JMapper;
 import com.googlecode.jmapper.api.enums.MappingType;
 import com.sawoo.pipeline.api.common.contants.ExceptionMessageConstants;
 import com.sawoo.pipeline.api.common.exceptions.CommonServiceException;
 import com.sawoo.pipeline.api.common.exceptions.ResourceNotFoundException;
 import com.sawoo.pipeline.api.dto.campaign.CampaignProspectDTO;
+import com.sawoo.pipeline.api.dto.campaign.CampaignProspectEnrolmentDTO;
 import com.sawoo.pipeline.api.dto.campaign.request.CampaignProspectAddDTO;
 import com.sawoo.pipeline.api.dto.campaign.request.CampaignProspectBaseDTO;
+import com.sawoo.pipeline.api.dto.campaign.request.CampaignProspectBulkAddDTO;
 import com.sawoo.pipeline.api.dto.campaign.request.CampaignProspectCreateDTO;
+import com.sawoo.pipeline.api.dto.common.CursorPageDTO;
 import com.sawoo.pipeline.api.dto.prospect.ProspectDTO;
 import com.sawoo.pipeline.api.dto.todo.TodoSearchDTO;
 import com.sawoo.pipeline.api.model.DBConstants;
 import com.sawoo.pipeline.api.model.campaign.Campaign;
 import com.sawoo.pipeline.api.model.campaign.CampaignProspect;
+import com.sawoo.pipeline.api.model.campaign.CampaignProspectEntry;
 import com.sawoo.pipeline.api.model.campaign.CampaignProspectStatus;
 import com.sawoo.pipeline.api.model.prospect.Prospect;
 import com.sawoo.pipeline.api.model.sequence.Sequence;
 import com.sawoo.pipeline.api.model.todo.TodoStatus;
+import com.sawoo.pipeline.api.repository.base.DBRefBatchResolver;
+import com.sawoo.pipeline.api.repository.base.KeysetCursor;
+import com.sawoo.pipeline.api.repository.base.KeysetPage;
+import com.sawoo.pipeline.api.repository.campaign.CampaignProspectRepository;
 import com.sawoo.pipeline.api.repository.sequence.SequenceRepository;
 import com.sawoo.pipeline.api.service.account.AccountProspectService;
+import com.sawoo.pipeline.api.service.base.JMapperMapping;
+import com.sawoo.pipeline.api.service.base.ObjectMapping;
+import com.sawoo.pipeline.api.service.prospect.ProspectSequenceTodos;
 import com.sawoo.pipeline.api.service.prospect.ProspectService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.MessageSource;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.stereotype.Component;
 
 import javax.validation.Valid;
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotBlank;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.function.BiConsumer;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Component
 public class CampaignProspectServiceDecorator implements CampaignProspectService {
 
+    // References of each prospect resolved in batch when listing campaign prospects
+    private static final String[] PROSPECT_REFERENCES = { "person", "person.company", "todos" };
+    // References of each prospect needed to generate its sequence TODOs when enrolling prospects in bulk
+    private static final String[] ENROLMENT_PROSPECT_REFERENCES = { "person", "person.company" };
+
     private final CampaignService campaignService;
     private final ProspectService prospectService;
     private final AccountProspectService accountProspectService;
     private final SequenceRepository sequenceRepository;
+    private final CampaignProspectRepository campaignProspectRepository;
+    private final MessageSource messageSource;
+    private final ObjectMapping<CampaignProspect, CampaignProspectBaseDTO> campaignProspectUpdateMapper =
+            new JMapperMapping<>(CampaignProspect.class, CampaignProspectBaseDTO.class);
 
     @Autowired
     public CampaignProspectServiceDecorator(
             @Lazy CampaignService campaignService,
             AccountProspectService accountProspectService,
             ProspectService prospectService,
-            SequenceRepository sequenceRepository) {
+            SequenceRepository sequenceRepository,
+            CampaignProspectRepository campaignProspectRepository,
+            MessageSource messageSource) {
         this.campaignService = campaignService;
         this.accountProspectService = accountProspectService;
         this.prospectService = prospectService;
         this.sequenceRepository = sequenceRepository;
+        this.campaignProspectRepository = campaignProspectRepository;
+        this.messageSource = messageSource;
     }
 
     @Override
@@ -95,6 +127,95 @@ public class CampaignProspectServiceDecorator implements CampaignProspectService
         return addProspect(campaign, campaignProspect);
     }
 
+    @Override
+    public List<CampaignProspectEnrolmentDTO> addProspects(
+            @NotBlank(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_EMPTY_OR_NULL_ERROR) String campaignId,
+            @Valid CampaignProspectBulkAddDTO campaignProspects) throws ResourceNotFoundException, CommonServiceException {
+        log.debug("Add [{}] prospect/s to campaign id [{}] and using the sequence id [{}]",
+                campaignProspects.getProspectIds().size(),
+                campaignId,
+                campaignProspects.getSequenceId());
+
+        Campaign campaign = findCampaignById(campaignId);
+        Sequence sequence = findSequenceById(campaignProspects.getSequenceId());
+        List<String> prospectIds = campaignProspects.getProspectIds().stream().distinct().collect(Collectors.toList());
+
+        // Results are kept in request order, failed prospects are reported without stopping the enrolment
+        Map<String, CampaignProspectEnrolmentDTO> results = new LinkedHashMap<>();
+        Set<String> addedProspectIds = findAddedProspectIds(campaign, prospectIds);
+        List<String> newProspectIds = prospectIds
+                .stream()
+                .filter(id -> !addedProspectIds.contains(id))
+                .collect(Collectors.toList());
+        Map<String, Prospect> prospects = newProspectIds.isEmpty() ?
+                Collections.emptyMap() :
+                prospectService.getRepository()
+                        .findAllWithReferences(newProspectIds, ENROLMENT_PROSPECT_REFERENCES)
+                        .stream()
+                        .collect(Collectors.toMap(Prospect::getId, Function.identity()));
+
+        List<Prospect> candidates = new ArrayList<>();
+        prospectIds.forEach(id -> {
+            if (addedProspectIds.contains(id)) {
+                results.put(id, failedEnrolment(
+                        id,
+                        ExceptionMessageConstants.CAMPAIGN_ADD_PROSPECT_ALREADY_ADDED_EXCEPTION,
+                        new Object[] {id, campaignId}));
+            } else if (!prospects.containsKey(id)) {
+                results.put(id, failedEnrolment(
+                        id,
+                        ExceptionMessageConstants.COMMON_GET_COMPONENT_RESOURCE_NOT_FOUND_EXCEPTION,
+                        new Object[] {DBConstants.PROSPECT_DOCUMENT, id}));
+            } else {
+                results.put(id, null);
+                candidates.add(prospects.get(id));
+            }
+        });
+
+        if (!candidates.isEmpty()) {
+            // Create todos based on the sequence for all the prospects at once
+            List<ProspectSequenceTodos> prospectTodos = prospectService.createTODOs(
+                    campaignId,
+                    sequence.getId(),
+                    campaignProspects.getAssigneeId(),
+                    candidates);
+
+            LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+            List<CampaignProspectEntry> campaignProspectEntities = new ArrayList<>();
+            prospectTodos.forEach(t -> {
+                if (t.isFailed()) {
+                    results.put(t.getProspectId(), failedEnrolment(t.getProspectId(), t.getError(), t.getErrorArgs()));
+                } else {
+                    campaignProspectEntities.add(buildCampaignProspect(
+                            campaign,
+                            prospects.get(t.getProspectId()),
+                            sequence,
+                            campaignProspects.getStatus(),
+                            campaignProspects.getStartDate(),
+                            campaignProspects.getEndDate(),
+                            now));
+                }
+            });
+
+            // Write the campaign entries of the enrolled prospects at once
+            Map<String, Integer> todoCount = prospectTodos
+                    .stream()
+                    .collect(Collectors.toMap(ProspectSequenceTodos::getProspectId, t -> t.getTodos().size()));
+            saveCampaignProspects(campaignProspectEntities).forEach(entity -> {
+                String prospectId = entity.getProspectId();
+                results.put(prospectId, CampaignProspectEnrolmentDTO.builder()
+                        .prospectId(prospectId)
+                        .enrolled(true)
+                        .campaignProspect(campaignService.getMapper().getMapperProspectCampaignOut().getDestination(entity))
+                        .todos(todoCount.get(prospectId))
+                        .build());
+            });
+            log.debug("[{}] prospect/s enrolled in campaign id [{}]", campaignProspectEntities.size(), campaignId);
+        }
+
+        return new ArrayList<>(results.values());
+    }
+
     @Override
     public CampaignProspectDTO removeProspect(
             @NotBlank(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_EMPTY_OR_NULL_ERROR) String campaignId,
@@ -102,27 +223,23 @@ public class CampaignProspectServiceDecorator implements CampaignProspectService
             List<String> todoIds) {
         log.debug("Remove prospect with id [{}] to campaign id [{}]", campaignId, prospectId);
 
-        Campaign campaign = findCampaignById(campaignId);
+        checkCampaignExists(campaignId);
 
-        return campaign.getProspects()
-                .stream()
-                .filter(p -> prospectId.equals(p.getProspect().getId()))
-                .findFirst()
+        return campaignProspectRepository
+                .findByCampaignIdAndProspectId(campaignId, prospectId)
                 .map(prospect -> {
                     log.debug("Prospect id [{}] for campaign id [{}] has been found", prospectId, campaignId);
 
                     // Remove prospect from campaign
-                    removeCampaignProspect(campaign, prospect);
-                    campaign.setUpdated(LocalDateTime.now(ZoneOffset.UTC));
-                    campaignService.getRepository().save(campaign);
+                    campaignProspectRepository.delete(prospect);
 
                     // Delete tasks
                     if (todoIds != null && !todoIds.isEmpty()) {
                         prospectService.removeTODOs(todoIds);
                     } else {
                         TodoSearchDTO search = TodoSearchDTO.builder()
-                                .componentIds(Collections.singletonList(prospect.getProspect().getId()))
-                                .sourceId(Collections.singletonList(prospect.getSequence().getId()))
+                                .componentIds(Collections.singletonList(prospectId))
+                                .sourceId(Collections.singletonList(prospect.getSequenceId()))
                                 .status(Arrays.asList(TodoStatus.PENDING.getValue(), TodoStatus.ON_GOING.getValue()))
                                 .build();
                         prospectService.removeTODOs(search);
@@ -142,18 +259,14 @@ public class CampaignProspectServiceDecorator implements CampaignProspectService
             @Valid CampaignProspectBaseDTO campaignProspect) throws ResourceNotFoundException, CommonServiceException {
         log.debug("Update prospect with id [{}] to campaign id [{}]", campaignId, prospectId);
 
-        Campaign campaign = findCampaignById(campaignId);
+        checkCampaignExists(campaignId);
 
-        return campaign.getProspects()
-                .stream()
-                .filter(p -> prospectId.equals(p.getProspect().getId()))
-                .findFirst()
+        return campaignProspectRepository
+                .findByCampaignIdAndProspectId(campaignId, prospectId)
                 .map(prospect -> {
                     log.debug("Prospect id [{}] for campaign id [{}] has been found", prospectId, campaignId);
 
                     updateCampaignProspect(campaignProspect, prospect);
-                    campaign.setUpdated(LocalDateTime.now(ZoneOffset.UTC));
-                    campaignService.getRepository().save(campaign);
 
                     return campaignService.getMapper().getMapperProspectCampaignOut().getDestination(prospect);
                 })
@@ -168,21 +281,51 @@ public class CampaignProspectServiceDecorator implements CampaignProspectService
             throws ResourceNotFoundException, CommonServiceException {
         log.debug("Find all prospects for campaign id [{}]", campaignId);
 
-        Campaign campaign = findCampaignById(campaignId);
-        return campaign
-                .getProspects()
+        checkCampaignExists(campaignId);
+        return mapCampaignProspects(campaignProspectRepository.findByCampaignId(campaignId));
+    }
+
+    @Override
+    public List<String> findProspectIds(
+            @NotBlank(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_EMPTY_OR_NULL_ERROR) String campaignId)
+            throws ResourceNotFoundException, CommonServiceException {
+        log.debug("Find prospect ids for campaign id [{}]", campaignId);
+
+        checkCampaignExists(campaignId);
+        return campaignProspectRepository
+                .findByCampaignId(campaignId)
                 .stream()
-                .map(l -> campaignService.getMapper().getMapperProspectCampaignOut().getDestination(l))
+                .map(CampaignProspectEntry::getProspectId)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public CursorPageDTO<CampaignProspectDTO> findProspects(
+            @NotBlank(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_EMPTY_OR_NULL_ERROR) String campaignId,
+            List<Integer> status,
+            String next,
+            @Min(value = 1, message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_BELLOW_MIN_SIZE_ERROR) int limit)
+            throws ResourceNotFoundException, CommonServiceException {
+        log.debug("Find page of [{}] prospects after cursor [{}] for campaign id [{}] with status [{}]", limit, next, campaignId, status);
+
+        List<CampaignProspectStatus> statusList = status == null ?
+                Collections.emptyList() :
+                status.stream().map(CampaignProspectStatus::fromValue).collect(Collectors.toList());
+
+        checkCampaignExists(campaignId);
+        KeysetPage<CampaignProspectEntry> page = campaignProspectRepository.findByCampaignId(
+                campaignId,
+                statusList,
+                KeysetCursor.decode(next),
+                limit);
+        return CursorPageDTO.of(mapCampaignProspects(page.getContent()), limit, page.getNextToken());
+    }
+
 
     private CampaignProspectDTO addProspect(Campaign campaign, CampaignProspectAddDTO campaignProspect) {
 
         // Check whether prospect is already added to the campaign
-        if (campaign.getProspects()
-                .stream()
-                .anyMatch(l -> campaignProspect.getProspectId().equals(l.getProspect().getId()))) {
+        if (campaignProspectRepository.existsByCampaignIdAndProspectId(campaign.getId(), campaignProspect.getProspectId())) {
             throw new CommonServiceException(
                     ExceptionMessageConstants.CAMPAIGN_ADD_PROSPECT_ALREADY_ADDED_EXCEPTION,
                     new Object[] {campaignProspect.getProspectId(), campaign.getId()});
@@ -194,7 +337,7 @@ public class CampaignProspectServiceDecorator implements CampaignProspectService
         log.debug("Prospect id [{}] and sequence id [{}] correctly found", campaignProspect.getProspectId(), campaignProspect.getSequenceId());
 
         // Create campaign prospect
-        CampaignProspect campaignProspectEntity = createCampaignProspect(campaign, prospect, sequence, campaignProspect);
+        CampaignProspectEntry campaignProspectEntity = createCampaignProspect(campaign, prospect, sequence, campaignProspect);
         log.debug("Campaign prospect has been correctly created. Campaign Prospect: [{}]", campaignProspectEntity);
 
         // Create todos based on the sequence
@@ -203,15 +346,76 @@ public class CampaignProspectServiceDecorator implements CampaignProspectService
         return campaignService.getMapper().getMapperProspectCampaignOut().getDestination(campaignProspectEntity);
     }
 
-    private void updateCampaignProspect(CampaignProspectBaseDTO campaignProspect, CampaignProspect prospect) {
-        BiConsumer<CampaignProspectBaseDTO, CampaignProspect> f = (d, m) -> new JMapper<>(CampaignProspect.class, CampaignProspectBaseDTO.class)
-                .getDestination(m, d, MappingType.ALL_FIELDS, MappingType.ONLY_VALUED_FIELDS);
-        f.accept(campaignProspect, prospect);
+    private Set<String> findAddedProspectIds(Campaign campaign, List<String> prospectIds) {
+        return campaignProspectRepository
+                .findByCampaignIdAndProspectIdIn(campaign.getId(), prospectIds)
+                .stream()
+                .map(CampaignProspectEntry::getProspectId)
+                .collect(Collectors.toSet());
+    }
+
+    private CampaignProspectEnrolmentDTO failedEnrolment(String prospectId, String error, Object[] errorArgs) {
+        return CampaignProspectEnrolmentDTO.builder()
+                .prospectId(prospectId)
+                .enrolled(false)
+                .error(messageSource.getMessage(error, errorArgs, LocaleContextHolder.getLocale()))
+                .build();
+    }
+
+    private void updateCampaignProspect(CampaignProspectBaseDTO campaignProspect, CampaignProspectEntry prospect) {
+        campaignProspectUpdateMapper.getDestination(prospect, campaignProspect, MappingType.ALL_FIELDS, MappingType.ONLY_VALUED_FIELDS);
+        prospect.setUpdated(LocalDateTime.now(ZoneOffset.UTC));
+        campaignProspectRepository.save(prospect);
     }
 
-    private void removeCampaignProspect(Campaign campaign, CampaignProspect prospect) {
-        BiConsumer<Campaign, CampaignProspect> f = (c, l) -> c.getProspects().remove(l);
-        f.accept(campaign, prospect);
+    private List<CampaignProspectDTO> mapCampaignProspects(List<? extends CampaignProspect> campaignProspects) {
+        // Resolve the lazy prospect and sequence references in one query each instead of one lookup per entry
+        Map<String, Prospect> prospects = findReferences(
+                campaignProspects,
+                CampaignProspect::getProspect,
+                ids -> prospectService.getRepository().findAllWithReferences(ids, PROSPECT_REFERENCES),
+                Prospect::getId);
+        Map<String, Sequence> sequences = findReferences(
+                campaignProspects,
+                CampaignProspect::getSequence,
+                sequenceRepository::findAllWithReferences,
+                Sequence::getId);
+        return campaignProspects
+                .stream()
+                .map(p -> {
+                    Optional.ofNullable(DBRefBatchResolver.getReferenceId(p.getProspect()))
+                            .map(prospects::get)
+                            .ifPresent(p::setProspect);
+                    Optional.ofNullable(DBRefBatchResolver.getReferenceId(p.getSequence()))
+                            .map(sequences::get)
+                            .ifPresent(p::setSequence);
+                    return campaignService.getMapper().getMapperProspectCampaignOut().getDestination(p);
+                })
+                .collect(Collectors.toList());
+    }
+
+    private <T> Map<String, T> findReferences(
+            List<? extends CampaignProspect> campaignProspects,
+            Function<CampaignProspect, Object> reference,
+            Function<List<String>, List<T>> finder,
+            Function<T, String> idMapper) {
+        List<String> ids = campaignProspects
+                .stream()
+                .map(p -> DBRefBatchResolver.getReferenceId(reference.apply(p)))
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
+        return ids.isEmpty() ?
+                Collections.emptyMap() :
+                finder.apply(ids).stream().collect(Collectors.toMap(idMapper, Function.identity()));
+    }
+
+    private void checkCampaignExists(String campaignId) throws ResourceNotFoundException {
+        if (!campaignService.getRepository().existsById(campaignId)) {
+            throw new ResourceNotFoundException(
+                    ExceptionMessageConstants.COMMON_GET_COMPONENT_RESOURCE_NOT_FOUND_EXCEPTION,
+                    new String[]{ DBConstants.CAMPAIGN_DOCUMENT, campaignId });
+        }
     }
 
     private Campaign findCampaignById(String campaignId) throws ResourceNotFoundException {
@@ -243,22 +447,45 @@ public class CampaignProspectServiceDecorator implements CampaignProspectService
                                 new String[]{ DBConstants.PROSPECT_DOCUMENT, prospectId }));
     }
 
-    private CampaignProspect createCampaignProspect(Campaign campaign, Prospect prospect, Sequence sequence, CampaignProspectAddDTO campaignProspect) {
-        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
-        CampaignProspect campaignProspectEntity = CampaignProspect.builder()
+    private CampaignProspectEntry createCampaignProspect(Campaign campaign, Prospect prospect, Sequence sequence, CampaignProspectAddDTO campaignProspect) {
+        CampaignProspectEntry campaignProspectEntity = buildCampaignProspect(
+                campaign,
+                prospect,
+                sequence,
+                campaignProspect.getStatus(),
+                campaignProspect.getStartDate(),
+                campaignProspect.getEndDate(),
+                LocalDateTime.now(ZoneOffset.UTC));
+        return saveCampaignProspects(Collections.singletonList(campaignProspectEntity)).get(0);
+    }
+
+    private CampaignProspectEntry buildCampaignProspect(
+            Campaign campaign,
+            Prospect prospect,
+            Sequence sequence,
+            Integer status,
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            LocalDateTime now) {
+        CampaignProspectStatus prospectStatus = status != null ?
+                CampaignProspectStatus.fromValue(campaign.getStatus().getValue()) :
+                CampaignProspectStatus.RUNNING;
+
+        return CampaignProspectEntry.builder()
+                .campaignId(campaign.getId())
+                .prospectId(prospect.getId())
+                .sequenceId(sequence.getId())
                 .prospect(prospect)
                 .sequence(sequence)
-                .status(campaignProspect.getStatus() != null ? CampaignProspectStatus.fromValue(campaign.getStatus().getValue()) : CampaignProspectStatus.RUNNING)
-                .startDate(campaignProspect.getStartDate())
-                .endDate(campaignProspect.getEndDate())
+                .status(prospectStatus)
+                .startDate(startDate)
+                .endDate(endDate)
                 .created(now)
                 .updated(now)
                 .build();
+    }
 
-        campaign.getProspects().add(campaignProspectEntity);
-        campaign.setUpdated(now);
-        campaignService.getRepository().save(campaign);
-
-        return campaignProspectEntity;
+    private List<CampaignProspectEntry> saveCampaignProspects(List<CampaignProspectEntry> campaignProspects) {
+        return campaignProspects.isEmpty() ? campaignProspects : campaignProspectRepository.insertAll(campaignProspects);
     }
 }
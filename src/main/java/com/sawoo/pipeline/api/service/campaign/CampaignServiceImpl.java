@@ -4,9 +4,12 @@ import com.sawoo.pipeline.api.common.exceptions.CommonServiceException;
 import com.sawoo.pipeline.api.common.exceptions.ResourceNotFoundException;
 import com.sawoo.pipeline.api.dto.campaign.CampaignDTO;
 import com.sawoo.pipeline.api.dto.campaign.CampaignProspectDTO;
+import com.sawoo.pipeline.api.dto.campaign.CampaignProspectEnrolmentDTO;
 import com.sawoo.pipeline.api.dto.campaign.request.CampaignProspectAddDTO;
 import com.sawoo.pipeline.api.dto.campaign.request.CampaignProspectBaseDTO;
+import com.sawoo.pipeline.api.dto.campaign.request.CampaignProspectBulkAddDTO;
 import com.sawoo.pipeline.api.dto.campaign.request.CampaignProspectCreateDTO;
+import com.sawoo.pipeline.api.dto.common.CursorPageDTO;
 import com.sawoo.pipeline.api.model.DBConstants;
 import com.sawoo.pipeline.api.model.campaign.Campaign;
 import com.sawoo.pipeline.api.repository.campaign.CampaignRepository;
@@ -71,6 +74,12 @@ public class CampaignServiceImpl extends BaseServiceImpl<CampaignDTO, Campaign,
         return campaignProspectService.addProspect(campaignId, campaignProspect);
     }
 
+    @Override
+    public List<CampaignProspectEnrolmentDTO> addProspects(String campaignId, CampaignProspectBulkAddDTO campaignProspects)
+            throws ResourceNotFoundException, CommonServiceException {
+        return campaignProspectService.addProspects(campaignId, campaignProspects);
+    }
+
     @Override
     public CampaignProspectDTO removeProspect(String campaignId, String prospectId, List<String> todoIds)
             throws ResourceNotFoundException, CommonServiceException {
@@ -88,4 +97,15 @@ public class CampaignServiceImpl extends BaseServiceImpl<CampaignDTO, Campaign,
             throws ResourceNotFoundException, CommonServiceException {
         return campaignProspectService.findAllProspects(campaignId);
     }
+
+    @Override
+    public List<String> findProspectIds(String campaignId) throws ResourceNotFoundException, CommonServiceException {
+        return campaignProspectService.findProspectIds(campaignId);
+    }
+
+    @Override
+    public CursorPageDTO<CampaignProspectDTO> findProspects(String campaignId, List<Integer> status, String next, int limit)
+            throws ResourceNotFoundException, CommonServiceException {
+        return campaignProspectService.findProspects(campaignId, status, next, limit);
+    }
 }
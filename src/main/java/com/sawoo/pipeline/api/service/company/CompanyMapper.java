@@ -1,9 +1,10 @@
 package com.sawoo.pipeline.api.service.company;
 
-import com.googlecode.jmapper.JMapper;
 import com.sawoo.pipeline.api.dto.company.CompanyDTO;
 import com.sawoo.pipeline.api.model.company.Company;
 import com.sawoo.pipeline.api.service.base.BaseMapper;
+import com.sawoo.pipeline.api.service.base.ObjectMapping;
+import com.sawoo.pipeline.api.service.base.mapping.GeneratedMapping;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -11,8 +12,10 @@ import org.springframework.stereotype.Component;
 @Getter
 @RequiredArgsConstructor
 @Component
+@GeneratedMapping(name = "CompanyOutMapping", destination = CompanyDTO.class, source = Company.class)
+@GeneratedMapping(name = "CompanyInMapping", destination = Company.class, source = CompanyDTO.class)
 public class CompanyMapper implements BaseMapper<CompanyDTO, Company> {
 
-    private final JMapper<CompanyDTO, Company> mapperOut = new JMapper<>(CompanyDTO.class, Company.class);
-    private final JMapper<Company, CompanyDTO> mapperIn = new JMapper<>(Company.class, CompanyDTO.class);
+    private final ObjectMapping<CompanyDTO, Company> mapperOut = new CompanyOutMapping();
+    private final ObjectMapping<Company, CompanyDTO> mapperIn = new CompanyInMapping();
 }
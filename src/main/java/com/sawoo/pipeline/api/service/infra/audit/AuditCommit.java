@@ -0,0 +1,27 @@
+package com.sawoo.pipeline.api.service.infra.audit;
+
+import lombok.Value;
+
+import java.util.Map;
+
+/**
+ * Audit commit captured on the calling thread, with the author and properties resolved there, waiting to be
+ * committed to Javers by the {@link AuditCommitQueue}
+ */
+@Value
+class AuditCommit {
+
+    enum Type {
+        SAVE,
+        SAVE_DOCUMENT,
+        DELETE,
+        DELETE_BY_ID
+    }
+
+    Type type;
+    Object object;
+    Class<?> domainType;
+    String author;
+    Map<String, String> properties;
+    long enqueuedAt;
+}
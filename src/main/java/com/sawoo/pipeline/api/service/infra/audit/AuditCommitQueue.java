@@ -0,0 +1,313 @@
+package com.sawoo.pipeline.api.service.infra.audit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.javers.common.collections.Maps;
+import org.javers.core.Javers;
+import org.javers.repository.jql.InstanceIdDTO;
+import org.javers.repository.jql.QueryBuilder;
+import org.javers.spring.auditable.AuthorProvider;
+import org.javers.spring.auditable.CommitPropertiesProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Commits the Javers snapshots of the audited repositories. In async mode the commits are queued and a
+ * background worker commits them in batches every flush-interval, so saves do not wait for the audit database.
+ * When the queue is full the caller waits for the worker, logging every max-wait, instead of committing by itself:
+ * a commit made by the caller would be written before the older snapshots of the same entity still queued.
+ * Pending commits are flushed on shutdown. See app.audit.
+ * <p>
+ * Javers persists one root per commit, so every commit in a batch is still its own write. The batch saves the
+ * snapshot lookups of the deletes of entities already committed in it.
+ * <p>
+ * Queued entities are written to their Mongo document on the calling thread and read back by the worker, so
+ * the audited snapshot is the saved state even if the entity is changed again before the worker commits it.
+ */
+@Slf4j
+@Component
+public class AuditCommitQueue {
+
+    private static final String WORKER_THREAD_NAME = "audit-commits";
+    private static final long POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+
+    private final Javers javers;
+    private final MongoConverter converter;
+    private final AuthorProvider authorProvider;
+    private final CommitPropertiesProvider commitPropertiesProvider;
+    private final boolean async;
+    private final int batchSize;
+    private final Duration flushInterval;
+    private final Duration maxWait;
+    private final Duration shutdownTimeout;
+    private final BlockingQueue<AuditCommit> queue;
+    private final Counter committed;
+    private final Counter failed;
+    private final Counter committedByCaller;
+    private final Counter queueFull;
+    private volatile boolean running;
+    private Thread worker;
+
+    public AuditCommitQueue(
+            Javers javers,
+            MongoConverter converter,
+            AuthorProvider authorProvider,
+            CommitPropertiesProvider commitPropertiesProvider,
+            MeterRegistry meterRegistry,
+            @Value("${app.audit.async.enabled:false}") boolean async,
+            @Value("${app.audit.async.capacity:10000}") int capacity,
+            @Value("${app.audit.async.batch-size:100}") int batchSize,
+            @Value("${app.audit.async.flush-interval:1s}") Duration flushInterval,
+            @Value("${app.audit.async.max-wait:100ms}") Duration maxWait,
+            @Value("${app.audit.async.shutdown-timeout:30s}") Duration shutdownTimeout) {
+        this.javers = javers;
+        this.converter = converter;
+        this.authorProvider = authorProvider;
+        this.commitPropertiesProvider = commitPropertiesProvider;
+        this.async = async;
+        this.batchSize = batchSize;
+        this.flushInterval = flushInterval;
+        this.maxWait = maxWait;
+        this.shutdownTimeout = shutdownTimeout;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+
+        Gauge.builder("audit.queue.depth", queue, Collection::size)
+                .description("Audit commits waiting to be committed")
+                .register(meterRegistry);
+        Gauge.builder("audit.queue.lag", this, AuditCommitQueue::getLagSeconds)
+                .description("Time the oldest queued audit commit has been waiting")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.committed = Counter.builder("audit.commits").tag("result", "success").register(meterRegistry);
+        this.failed = Counter.builder("audit.commits").tag("result", "failure").register(meterRegistry);
+        this.committedByCaller = Counter.builder("audit.commits.caller")
+                .description("Audit commits made by the caller because the queue was stopped")
+                .register(meterRegistry);
+        this.queueFull = Counter.builder("audit.queue.full")
+                .description("Times a caller waited max-wait for room in the audit queue")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (async) {
+            log.debug("Starting audit commit worker. [batch size: {}, flush interval: {}]", batchSize, flushInterval);
+            running = true;
+            worker = new Thread(this::run, WORKER_THREAD_NAME);
+            worker.setDaemon(true);
+            worker.start();
+        }
+    }
+
+    /**
+     * Stops accepting commits and waits for the queued ones to be committed, up to shutdown-timeout
+     */
+    @PreDestroy
+    public void stop() {
+        if (worker == null) {
+            return;
+        }
+        running = false;
+        try {
+            worker.join(shutdownTimeout.toMillis());
+        } catch (InterruptedException error) {
+            Thread.currentThread().interrupt();
+        }
+        if (worker.isAlive()) {
+            log.error("Audit commit worker not finished after [{}]. [{}] audit commit/s are lost", shutdownTimeout, queue.size());
+            worker.interrupt();
+        } else {
+            // Commits queued while the worker was finishing
+            List<AuditCommit> pending = new ArrayList<>();
+            if (queue.drainTo(pending) > 0) {
+                commitBatch(pending);
+            }
+        }
+    }
+
+    public void commit(Object entity) {
+        // Queued saves keep a copy of the entity state, the caller may change the entity before the worker commits it
+        boolean queued = running;
+        submit(new AuditCommit(
+                queued ? AuditCommit.Type.SAVE_DOCUMENT : AuditCommit.Type.SAVE,
+                queued ? toDocument(entity) : entity,
+                entity.getClass(),
+                authorProvider.provide(),
+                Maps.merge(commitPropertiesProvider.provideForCommittedObject(entity), commitPropertiesProvider.provide()),
+                System.nanoTime()));
+    }
+
+    /**
+     * Commits the entity stored in the given Mongo document. In async mode the document is only converted by the
+     * worker. Only the global commit properties are added, the entity is not available to resolve its own ones
+     */
+    public void commitDocument(Document document, Class<?> domainType) {
+        boolean queued = running;
+        submit(new AuditCommit(
+                queued ? AuditCommit.Type.SAVE_DOCUMENT : AuditCommit.Type.SAVE,
+                queued ? document : converter.read(domainType, document),
+                domainType,
+                authorProvider.provide(),
+                commitPropertiesProvider.provide(),
+                System.nanoTime()));
+    }
+
+    public void commitShallowDelete(Object entity) {
+        submit(new AuditCommit(
+                AuditCommit.Type.DELETE,
+                entity,
+                entity.getClass(),
+                authorProvider.provide(),
+                Maps.merge(commitPropertiesProvider.provideForDeletedObject(entity), commitPropertiesProvider.provide()),
+                System.nanoTime()));
+    }
+
+    public void commitShallowDeleteById(Object id, Class<?> domainType) {
+        submit(new AuditCommit(
+                AuditCommit.Type.DELETE_BY_ID,
+                id,
+                domainType,
+                authorProvider.provide(),
+                Maps.merge(commitPropertiesProvider.provideForDeleteById(domainType, id), commitPropertiesProvider.provide()),
+                System.nanoTime()));
+    }
+
+    private void submit(AuditCommit commit) {
+        if (running) {
+            try {
+                // Waits for room while the worker is running, the snapshots of the same entity keep their order
+                while (running) {
+                    if (queue.offer(commit, maxWait.toMillis(), TimeUnit.MILLISECONDS)) {
+                        return;
+                    }
+                    queueFull.increment();
+                    log.warn("Audit queue full after waiting [{}], [{}] still waiting for the worker", maxWait, commit.getDomainType().getSimpleName());
+                }
+            } catch (InterruptedException error) {
+                Thread.currentThread().interrupt();
+            }
+            committedByCaller.increment();
+        }
+        commitNow(commit, new HashSet<>());
+    }
+
+    private void run() {
+        List<AuditCommit> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                AuditCommit first = queue.poll(POLL_NANOS, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                // Wait for the batch to fill up, commits are flushed at least once per flush interval
+                long deadline = System.nanoTime() + flushInterval.toNanos();
+                while (running && batch.size() < batchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    AuditCommit next = queue.poll(Math.min(remaining, POLL_NANOS), TimeUnit.NANOSECONDS);
+                    if (next != null) {
+                        batch.add(next);
+                    }
+                }
+                queue.drainTo(batch, batchSize - batch.size());
+                commitBatch(batch);
+            } catch (InterruptedException error) {
+                Thread.currentThread().interrupt();
+                commitBatch(batch);
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+        log.debug("Audit commit worker stopped");
+    }
+
+    private void commitBatch(List<AuditCommit> batch) {
+        // Entities committed in this batch, their deletes do not need to look up the snapshots
+        Set<String> audited = new HashSet<>();
+        batch.forEach(commit -> commitNow(commit, audited));
+        log.debug("[{}] audit commit/s flushed, [{}] queued", batch.size(), queue.size());
+    }
+
+    /**
+     * Commits to Javers. Deletes of entities never audited are skipped, the snapshots are only looked up when the
+     * entity is not in the given audited entities, which are updated with the commit
+     */
+    private void commitNow(AuditCommit commit, Set<String> audited) {
+        try {
+            switch (commit.getType()) {
+                case SAVE:
+                case SAVE_DOCUMENT:
+                    Object entity = commit.getType() == AuditCommit.Type.SAVE_DOCUMENT ?
+                            converter.read(commit.getDomainType(), (Document) commit.getObject()) :
+                            commit.getObject();
+                    javers.commit(commit.getAuthor(), entity, commit.getProperties());
+                    audited.add(entityKey(commit.getDomainType(), getId(entity, commit.getDomainType())));
+                    break;
+                case DELETE:
+                    if (audited.remove(entityKey(commit.getDomainType(), getId(commit.getObject(), commit.getDomainType())))
+                            || hasSnapshots(QueryBuilder.byInstance(commit.getObject()))) {
+                        javers.commitShallowDelete(commit.getAuthor(), commit.getObject(), commit.getProperties());
+                    }
+                    break;
+                default:
+                    if (audited.remove(entityKey(commit.getDomainType(), commit.getObject()))
+                            || hasSnapshots(QueryBuilder.byInstanceId(commit.getObject(), commit.getDomainType()))) {
+                        javers.commitShallowDeleteById(
+                                commit.getAuthor(),
+                                InstanceIdDTO.instanceId(commit.getObject(), commit.getDomainType()),
+                                commit.getProperties());
+                    }
+            }
+            committed.increment();
+        } catch (RuntimeException error) {
+            failed.increment();
+            log.error("Audit commit [{}] of [{}] failed: [{}]", commit.getType(), commit.getDomainType().getSimpleName(), error.getMessage(), error);
+        }
+    }
+
+    private Object getId(Object entity, Class<?> domainType) {
+        return converter.getMappingContext()
+                .getRequiredPersistentEntity(domainType)
+                .getIdentifierAccessor(entity)
+                .getIdentifier();
+    }
+
+    private static String entityKey(Class<?> domainType, Object id) {
+        return domainType.getName() + "/" + id;
+    }
+
+    private Document toDocument(Object entity) {
+        Document document = new Document();
+        converter.write(entity, document);
+        return document;
+    }
+
+    private boolean hasSnapshots(QueryBuilder query) {
+        return !javers.findSnapshots(query.limit(1).build()).isEmpty();
+    }
+
+    private double getLagSeconds() {
+        AuditCommit oldest = queue.peek();
+        return oldest != null ? (System.nanoTime() - oldest.getEnqueuedAt()) / 1e9 : 0;
+    }
+}
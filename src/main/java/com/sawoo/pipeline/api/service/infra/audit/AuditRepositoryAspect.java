@@ -0,0 +1,114 @@
+package com.sawoo.pipeline.api.service.infra.audit;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Aspect;
+import org.javers.spring.annotation.JaversSpringDataAuditable;
+import org.bson.Document;
+import org.javers.spring.auditable.AspectUtil;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Audits the {@link JaversSpringDataAuditable} repositories through the {@link AuditCommitQueue}. Replaces the
+ * aspect of the Javers starter (javers.springDataAuditableRepositoryAspectEnabled is false) with the same
+ * pointcuts and behaviour, deleted entities with no snapshot are not audited. The atomic array updates of
+ * {@link com.sawoo.pipeline.api.repository.base.BaseMongoRepository} are audited as saves of the updated entity,
+ * read back as a raw document so it is only converted when the snapshot is committed.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class AuditRepositoryAspect {
+
+    private final AuditCommitQueue commitQueue;
+    private final MongoOperations mongoOperations;
+
+    @AfterReturning(
+            value = "execution(public * save(..)) && this(org.springframework.data.repository.CrudRepository)",
+            returning = "result")
+    public void onSaveExecuted(JoinPoint joinPoint, Object result) {
+        onSave(joinPoint, result);
+    }
+
+    @AfterReturning(
+            value = "execution(public * saveAll(..)) && this(org.springframework.data.repository.CrudRepository)",
+            returning = "result")
+    public void onSaveAllExecuted(JoinPoint joinPoint, Object result) {
+        onSave(joinPoint, result);
+    }
+
+    @AfterReturning(
+            value = "(execution(public * pushAll(..)) || execution(public * pullAll(..))) && " +
+                    "this(org.springframework.data.repository.CrudRepository)",
+            returning = "result")
+    public void onArrayUpdateExecuted(JoinPoint joinPoint, Boolean result) {
+        if (!Boolean.TRUE.equals(result)) {
+            return;
+        }
+        getRepositoryInterface(joinPoint).ifPresent(repository -> {
+            Class<?> domainType = DefaultRepositoryMetadata.getMetadata(repository).getDomainType();
+            Document document = mongoOperations.findById(
+                    joinPoint.getArgs()[0],
+                    Document.class,
+                    mongoOperations.getCollectionName(domainType));
+            if (document != null) {
+                commitQueue.commitDocument(document, domainType);
+            }
+        });
+    }
+
+    @AfterReturning("execution(public * delete(..)) && this(org.springframework.data.repository.CrudRepository)")
+    public void onDeleteExecuted(JoinPoint joinPoint) {
+        onDelete(joinPoint);
+    }
+
+    @AfterReturning("execution(public * deleteById(..)) && this(org.springframework.data.repository.CrudRepository)")
+    public void onDeleteByIdExecuted(JoinPoint joinPoint) {
+        onDelete(joinPoint);
+    }
+
+    @AfterReturning("execution(public * deleteAll(..)) && this(org.springframework.data.repository.CrudRepository)")
+    public void onDeleteAllExecuted(JoinPoint joinPoint) {
+        onDelete(joinPoint);
+    }
+
+    @AfterReturning("execution(public * deleteAllById(..)) && this(org.springframework.data.repository.CrudRepository)")
+    public void onDeleteAllByIdExecuted(JoinPoint joinPoint) {
+        onDelete(joinPoint);
+    }
+
+    private void onSave(JoinPoint joinPoint, Object result) {
+        getRepositoryInterface(joinPoint)
+                .ifPresent(repository -> AspectUtil.collectReturnedObjects(result).forEach(commitQueue::commit));
+    }
+
+    private void onDelete(JoinPoint joinPoint) {
+        getRepositoryInterface(joinPoint).ifPresent(repository -> {
+            RepositoryMetadata metadata = DefaultRepositoryMetadata.getMetadata(repository);
+            for (Object argument : AspectUtil.collectArguments(joinPoint)) {
+                if (metadata.getIdType().isAssignableFrom(argument.getClass())) {
+                    commitQueue.commitShallowDeleteById(argument, metadata.getDomainType());
+                } else if (metadata.getDomainType().isAssignableFrom(argument.getClass())) {
+                    commitQueue.commitShallowDelete(argument);
+                } else {
+                    throw new IllegalArgumentException(String.format(
+                            "Domain object or object id expected. Received [%s]", argument.getClass().getName()));
+                }
+            }
+        });
+    }
+
+    private static Optional<Class<?>> getRepositoryInterface(JoinPoint joinPoint) {
+        return Arrays.stream(joinPoint.getTarget().getClass().getInterfaces())
+                .filter(i -> i.isAnnotationPresent(JaversSpringDataAuditable.class) && CrudRepository.class.isAssignableFrom(i))
+                .findFirst();
+    }
+}
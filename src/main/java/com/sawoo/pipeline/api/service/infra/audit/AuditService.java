@@ -1,11 +1,33 @@
 package com.sawoo.pipeline.api.service.infra.audit;
 
-import com.googlecode.jmapper.JMapper;
+import com.sawoo.pipeline.api.common.exceptions.ResourceNotFoundException;
 import com.sawoo.pipeline.api.dto.audit.VersionDTO;
+import com.sawoo.pipeline.api.dto.audit.VersionDiffDTO;
+import com.sawoo.pipeline.api.model.BaseEntity;
+import com.sawoo.pipeline.api.service.base.ObjectMapping;
 
 import java.util.List;
 
 public interface AuditService {
 
-    <D, M> List<VersionDTO<D>> getVersions(M currentVersion, String id, JMapper<D, M> mapper);
+    int DEFAULT_VERSIONS_LIMIT = 100;
+
+    <D, M extends BaseEntity> List<VersionDTO<D>> getVersions(M currentVersion, String id, ObjectMapping<D, M> mapper);
+
+    /**
+     * Returns a page of versions ordered from the oldest to the newest. Skip counts from the newest version,
+     * so skip 0 returns the last versions of the entity
+     */
+    <D, M extends BaseEntity> List<VersionDTO<D>> getVersions(
+            M currentVersion,
+            String id,
+            ObjectMapping<D, M> mapper,
+            int skip,
+            int limit);
+
+    /**
+     * Returns the properties changed between two versions with their value in each one of them
+     */
+    List<VersionDiffDTO> getVersionDiff(Class<? extends BaseEntity> entity, String id, int from, int to)
+            throws ResourceNotFoundException;
 }
@@ -1,17 +1,39 @@
 package com.sawoo.pipeline.api.service.infra.audit;
 
-import com.googlecode.jmapper.JMapper;
+import com.sawoo.pipeline.api.common.contants.ExceptionMessageConstants;
+import com.sawoo.pipeline.api.common.exceptions.ResourceNotFoundException;
 import com.sawoo.pipeline.api.dto.audit.VersionDTO;
+import com.sawoo.pipeline.api.dto.audit.VersionDiffDTO;
+import com.sawoo.pipeline.api.model.BaseEntity;
+import com.sawoo.pipeline.api.service.base.ObjectMapping;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.javers.core.Javers;
+import org.javers.core.commit.CommitId;
+import org.javers.core.commit.CommitMetadata;
+import org.javers.core.diff.Change;
+import org.javers.core.diff.changetype.PropertyChange;
+import org.javers.core.diff.changetype.ReferenceChange;
+import org.javers.core.diff.changetype.ValueChange;
+import org.javers.core.diff.changetype.container.ContainerChange;
+import org.javers.core.diff.changetype.map.EntryAddOrRemove;
+import org.javers.core.diff.changetype.map.EntryRemoved;
+import org.javers.core.diff.changetype.map.EntryValueChange;
+import org.javers.core.diff.changetype.map.MapChange;
+import org.javers.core.metamodel.object.CdoSnapshot;
+import org.javers.core.metamodel.object.GlobalId;
 import org.javers.repository.jql.QueryBuilder;
 import org.javers.shadow.Shadow;
 import org.springframework.stereotype.Service;
 
-import java.util.Collections;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -19,24 +41,53 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class AuditServiceImpl implements AuditService {
 
+    // Snapshots read to build a diff, child value objects included
+    private static final int DIFF_MAX_SNAPSHOTS = 10000;
+
     private final Javers javers;
 
     @Override
-    public <D, M> List<VersionDTO<D>> getVersions(M currentVersion, String id, JMapper<D, M> mapper) {
-        log.debug("Querying versions for component {} with id {}", currentVersion.getClass(), id);
-        List<Shadow<M>> ds = getShadows(currentVersion.getClass(), id);
-        AtomicInteger index = new AtomicInteger();
-        List<VersionDTO<D>> versions = ds.stream().map(d -> {
+    public <D, M extends BaseEntity> List<VersionDTO<D>> getVersions(M currentVersion, String id, ObjectMapping<D, M> mapper) {
+        return getVersions(currentVersion, id, mapper, 0, DEFAULT_VERSIONS_LIMIT);
+    }
+
+    @Override
+    public <D, M extends BaseEntity> List<VersionDTO<D>> getVersions(
+            M currentVersion,
+            String id,
+            ObjectMapping<D, M> mapper,
+            int skip,
+            int limit) {
+        log.debug("Querying versions for component {} with id {}. Skip: [{}], limit: [{}]", currentVersion.getClass(), id, skip, limit);
+
+        // Both queries return the newest snapshots first
+        List<Shadow<M>> shadows = javers.findShadows(QueryBuilder
+                .byInstanceId(id, currentVersion.getClass())
+                .skip(skip)
+                .limit(limit)
+                .build());
+        Map<CommitId, Long> snapshotVersions = javers
+                .findSnapshots(QueryBuilder
+                        .byInstanceId(id, currentVersion.getClass())
+                        .skip(skip)
+                        .limit(limit)
+                        .build())
+                .stream()
+                .collect(Collectors.toMap(CdoSnapshot::getCommitId, CdoSnapshot::getVersion, (v1, v2) -> v1));
+
+        List<VersionDTO<D>> versions = new ArrayList<>(shadows.size());
+        for (int i = shadows.size() - 1; i >= 0; i--) {
+            Shadow<M> shadow = shadows.get(i);
+            CommitMetadata metadata = shadow.getCommitMetadata();
             VersionDTO<D> version = new VersionDTO<>();
-            version.setEntity(mapper.getDestination(d.get()));
-            version.setVersion(index.getAndIncrement());
-            version.setAuthor(d.getCommitMetadata().getAuthor());
-            version.setCreated(d.getCommitMetadata().getCommitDate());
-            if ( !javers.compare(currentVersion, d.get()).hasChanges()) {
-                version.setCurrentVersion(true);
-            }
-            return version;
-        }).collect(Collectors.toList());
+            version.setEntity(mapper.getDestination(shadow.get()));
+            // Javers numbers the snapshots from 1, versions are numbered from 0
+            version.setVersion(snapshotVersions.getOrDefault(metadata.getId(), (long) shadows.size() - i).intValue() - 1);
+            version.setAuthor(metadata.getAuthor());
+            version.setCreated(metadata.getCommitDate());
+            version.setCurrentVersion(skip == 0 && i == 0 && isCurrentVersion(currentVersion, metadata));
+            versions.add(version);
+        }
 
         log.debug(
                 "{} versions has/have been found for component {} with id {}",
@@ -47,10 +98,160 @@ public class AuditServiceImpl implements AuditService {
         return versions;
     }
 
-    private <T> List<Shadow<T>> getShadows(Class<?> entity, String id) {
-        QueryBuilder jqlQuery = QueryBuilder.byInstanceId(id, entity);
-        List<Shadow<T>> shadows = javers.findShadows(jqlQuery.build());
-        Collections.reverse(shadows);
-        return shadows;
+    @Override
+    public List<VersionDiffDTO> getVersionDiff(Class<? extends BaseEntity> entity, String id, int from, int to)
+            throws ResourceNotFoundException {
+        if (from > to) {
+            int version = from;
+            from = to;
+            to = version;
+        }
+        log.debug("Querying changes for component {} with id {} between versions [{}] and [{}]", entity, id, from, to);
+
+        CdoSnapshot fromSnapshot = getSnapshot(entity, id, from);
+        CdoSnapshot toSnapshot = getSnapshot(entity, id, to);
+        if (from == to) {
+            return new ArrayList<>();
+        }
+
+        List<Change> changes = javers.findChanges(QueryBuilder
+                .byInstanceId(id, entity)
+                .withChildValueObjects()
+                .fromInstant(fromSnapshot.getCommitMetadata().getCommitDateInstant())
+                .toCommitId(toSnapshot.getCommitId())
+                .limit(DIFF_MAX_SNAPSHOTS)
+                .build());
+
+        // Changes come ordered from the newest commit to the oldest one
+        Map<String, VersionDiffDTO> diffs = new LinkedHashMap<>();
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            Change change = changes.get(i);
+            if (!(change instanceof PropertyChange) || !isCommittedAfter(change, fromSnapshot.getCommitId())) {
+                continue;
+            }
+            PropertyChange propertyChange = (PropertyChange) change;
+            VersionDiffDTO diff = diffs.get(propertyChange.getPropertyNameWithPath());
+            if (fromSnapshot.getGlobalId().equals(change.getAffectedGlobalId())) {
+                // Entity properties are read from both snapshots, the changes in between do not matter
+                if (diff == null) {
+                    diffs.put(
+                            propertyChange.getPropertyNameWithPath(),
+                            newVersionDiff(
+                                    propertyChange,
+                                    fromSnapshot.getPropertyValue(propertyChange.getPropertyName()),
+                                    toSnapshot.getPropertyValue(propertyChange.getPropertyName())));
+                }
+            } else if (diff == null) {
+                diffs.put(
+                        propertyChange.getPropertyNameWithPath(),
+                        newVersionDiff(propertyChange, getLeft(propertyChange), getRight(propertyChange)));
+            } else {
+                diff.setRight(valueOf(getRight(propertyChange)));
+            }
+        }
+
+        List<VersionDiffDTO> versionDiff = diffs
+                .values()
+                .stream()
+                .filter(diff -> !Objects.equals(diff.getLeft(), diff.getRight()))
+                .collect(Collectors.toList());
+        log.debug(
+                "{} property/properties changed for component {} with id {} between versions [{}] and [{}]",
+                versionDiff.size(),
+                entity,
+                id,
+                from,
+                to);
+
+        return versionDiff;
+    }
+
+    private CdoSnapshot getSnapshot(Class<?> entity, String id, int version) throws ResourceNotFoundException {
+        return javers
+                .findSnapshots(QueryBuilder.byInstanceId(id, entity).withVersion(version + 1L).build())
+                .stream()
+                .findFirst()
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        ExceptionMessageConstants.AUDIT_GET_VERSION_RESOURCE_NOT_FOUND_EXCEPTION,
+                        new String[]{ entity.getSimpleName(), id, String.valueOf(version) }));
+    }
+
+    private static boolean isCurrentVersion(BaseEntity currentVersion, CommitMetadata metadata) {
+        // The entity is committed once saved, a later update date means the entity changed without being audited
+        return currentVersion.getUpdated() == null || !metadata
+                .getCommitDateInstant()
+                .isBefore(currentVersion.getUpdated().toInstant(ZoneOffset.UTC));
+    }
+
+    private static boolean isCommittedAfter(Change change, CommitId commitId) {
+        return change
+                .getCommitMetadata()
+                .map(metadata -> !metadata.getId().isBeforeOrEqual(commitId))
+                .orElse(false);
+    }
+
+    private static VersionDiffDTO newVersionDiff(PropertyChange change, Object left, Object right) {
+        VersionDiffDTO diff = new VersionDiffDTO();
+        diff.setPropertyName(change.getPropertyName());
+        diff.setPropertyNameWithPath(change.getPropertyNameWithPath());
+        diff.setLeft(valueOf(left));
+        diff.setRight(valueOf(right));
+        return diff;
+    }
+
+    private static Object getLeft(PropertyChange change) {
+        if (change instanceof ValueChange) {
+            return ((ValueChange) change).getLeft();
+        } else if (change instanceof ReferenceChange) {
+            return ((ReferenceChange) change).getLeft();
+        } else if (change instanceof ContainerChange) {
+            return ((ContainerChange) change).getRemovedValues();
+        } else if (change instanceof MapChange) {
+            Map<Object, Object> entries = new HashMap<>();
+            ((MapChange) change).getEntryChanges().forEach(entry -> {
+                if (entry instanceof EntryValueChange) {
+                    entries.put(entry.getKey(), ((EntryValueChange) entry).getLeftValue());
+                } else if (entry instanceof EntryRemoved) {
+                    entries.put(entry.getKey(), ((EntryAddOrRemove) entry).getValue());
+                }
+            });
+            return entries;
+        }
+        return null;
+    }
+
+    private static Object getRight(PropertyChange change) {
+        if (change instanceof ValueChange) {
+            return ((ValueChange) change).getRight();
+        } else if (change instanceof ReferenceChange) {
+            return ((ReferenceChange) change).getRight();
+        } else if (change instanceof ContainerChange) {
+            return ((ContainerChange) change).getAddedValues();
+        } else if (change instanceof MapChange) {
+            Map<Object, Object> entries = new HashMap<>();
+            ((MapChange) change).getEntryChanges().forEach(entry -> {
+                if (entry instanceof EntryValueChange) {
+                    entries.put(entry.getKey(), ((EntryValueChange) entry).getRightValue());
+                } else if (!(entry instanceof EntryRemoved)) {
+                    entries.put(entry.getKey(), ((EntryAddOrRemove) entry).getValue());
+                }
+            });
+            return entries;
+        }
+        return null;
+    }
+
+    private static Object valueOf(Object value) {
+        // Referenced entities and value objects are returned by their id
+        if (value instanceof GlobalId) {
+            return ((GlobalId) value).value();
+        } else if (value instanceof Collection) {
+            return ((Collection<?>) value).stream().map(AuditServiceImpl::valueOf).collect(Collectors.toList());
+        } else if (value instanceof Map) {
+            Map<Object, Object> map = new LinkedHashMap<>();
+            ((Map<?, ?>) value).forEach((k, v) -> map.put(valueOf(k), valueOf(v)));
+            return map;
+        }
+        return value;
     }
 }
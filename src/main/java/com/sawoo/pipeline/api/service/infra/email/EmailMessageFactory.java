@@ -0,0 +1,91 @@
+package com.sawoo.pipeline.api.service.infra.email;
+
+import com.sawoo.pipeline.api.dto.email.EmailDTO;
+import com.sawoo.pipeline.api.dto.email.EmailWithAttachmentDTO;
+import com.sawoo.pipeline.api.dto.email.EmailWithTemplateDTO;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.codec.CharEncoding;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring5.SpringTemplateEngine;
+import org.thymeleaf.templateresolver.TemplateResolution;
+
+import javax.mail.MessagingException;
+import javax.mail.internet.MimeMessage;
+import javax.mail.util.ByteArrayDataSource;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Builds the MIME messages of the emails, rendering the Thymeleaf templates when needed
+ */
+@Component
+@RequiredArgsConstructor
+public class EmailMessageFactory {
+
+    private static final String FILE_TYPE_CONTENT = "text/plain; charset=UTF-8";
+
+    private final JavaMailSender mailSender;
+    private final SpringTemplateEngine templateEngine;
+    private final Map<String, Boolean> templates = new ConcurrentHashMap<>();
+
+    public MimeMessage createMessage(EmailDTO email) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, CharEncoding.UTF_8);
+        helper.setTo(email.getTo());
+        helper.setSubject(email.getSubject());
+        helper.setText(email.getMessage(), false);
+        return message;
+    }
+
+    public MimeMessage createMessageWithAttachment(EmailWithAttachmentDTO email) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, CharEncoding.UTF_8);
+        helper.setTo(email.getTo());
+        helper.setSubject(email.getSubject());
+        helper.setText(email.getMessage(), false);
+        helper.addAttachment(email.getFileName(),
+                new ByteArrayDataSource(email.getFileContent(),
+                        email.getFileType() == null ? FILE_TYPE_CONTENT : email.getFileType())
+        );
+        return message;
+    }
+
+    public MimeMessage createMessageWithTemplate(EmailWithTemplateDTO email) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message,
+                MimeMessageHelper.MULTIPART_MODE_MIXED_RELATED,
+                StandardCharsets.UTF_8.name());
+
+        String html = getHtmlContent(email);
+
+        helper.setTo(email.getTo());
+        helper.setSubject(email.getSubject());
+        helper.setText(html, true);
+        return message;
+    }
+
+    /**
+     * Checks whether any of the template resolvers finds the template, without rendering it
+     */
+    public boolean templateExists(String templateName) {
+        return templates.computeIfAbsent(templateName, name -> templateEngine
+                .getConfiguration()
+                .getTemplateResolvers()
+                .stream()
+                .map(resolver -> resolver.resolveTemplate(templateEngine.getConfiguration(), null, name, null))
+                .filter(Objects::nonNull)
+                .map(TemplateResolution::getTemplateResource)
+                .anyMatch(resource -> resource != null && resource.exists()));
+    }
+
+    private String getHtmlContent(EmailWithTemplateDTO email) {
+        Context context = new Context();
+        context.setVariables(email.getTemplateContext());
+        return templateEngine.process(email.getTemplateName(), context);
+    }
+}
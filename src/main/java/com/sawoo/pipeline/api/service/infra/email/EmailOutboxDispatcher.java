@@ -0,0 +1,239 @@
+package com.sawoo.pipeline.api.service.infra.email;
+
+import com.sawoo.pipeline.api.dto.email.EmailDTO;
+import com.sawoo.pipeline.api.dto.email.EmailWithAttachmentDTO;
+import com.sawoo.pipeline.api.dto.email.EmailWithTemplateDTO;
+import com.sawoo.pipeline.api.model.email.EmailOutboxMessage;
+import com.sawoo.pipeline.api.model.email.EmailOutboxMessageStatus;
+import com.sawoo.pipeline.api.repository.email.EmailOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.mail.MessagingException;
+import javax.mail.internet.MimeMessage;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Delivers the messages of the email outbox on a background thread. Due messages are claimed in batches and
+ * each batch is sent through a single SMTP connection. Failed messages are retried with an exponential backoff
+ * until max-attempts is reached, then they are kept as failed. Templates are rendered here, out of the request
+ * that queued the email. See app.mail.outbox.
+ */
+@Slf4j
+@Component
+public class EmailOutboxDispatcher {
+
+    private static final String THREAD_NAME_PREFIX = "email-outbox-";
+
+    private final EmailOutboxRepository repository;
+    private final JavaMailSender mailSender;
+    private final EmailMessageFactory messageFactory;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration pollInterval;
+    private final Duration lease;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final int maxAttempts;
+    private final ScheduledExecutorService executor;
+    private final AtomicBoolean dispatchRequested = new AtomicBoolean();
+
+    public EmailOutboxDispatcher(
+            EmailOutboxRepository repository,
+            JavaMailSender mailSender,
+            EmailMessageFactory messageFactory,
+            @Value("${app.mail.outbox.enabled:true}") boolean enabled,
+            @Value("${app.mail.outbox.batch-size:20}") int batchSize,
+            @Value("${app.mail.outbox.poll-interval:10s}") Duration pollInterval,
+            @Value("${app.mail.outbox.lease:2m}") Duration lease,
+            @Value("${app.mail.outbox.initial-backoff:30s}") Duration initialBackoff,
+            @Value("${app.mail.outbox.max-backoff:30m}") Duration maxBackoff,
+            @Value("${app.mail.outbox.max-attempts:8}") int maxAttempts) {
+        this.repository = repository;
+        this.mailSender = mailSender;
+        this.messageFactory = messageFactory;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.pollInterval = pollInterval;
+        this.lease = lease;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.maxAttempts = maxAttempts;
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(THREAD_NAME_PREFIX);
+        threadFactory.setDaemon(true);
+        this.executor = Executors.newSingleThreadScheduledExecutor(threadFactory);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (enabled) {
+            log.debug("Starting email outbox dispatcher. [batch size: {}, poll interval: {}]", batchSize, pollInterval);
+            executor.scheduleWithFixedDelay(this::dispatch, pollInterval.toMillis(), pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdown();
+    }
+
+    /**
+     * Requests a dispatch without waiting for the next poll. Requests made while one is pending are merged
+     */
+    public void wakeUp() {
+        if (enabled && dispatchRequested.compareAndSet(false, true)) {
+            executor.execute(this::dispatch);
+        }
+    }
+
+    void dispatch() {
+        dispatchRequested.set(false);
+        try {
+            List<EmailOutboxMessage> batch;
+            do {
+                batch = claimBatch();
+                if (!batch.isEmpty()) {
+                    sendBatch(batch);
+                }
+            } while (batch.size() == batchSize);
+        } catch (RuntimeException error) {
+            log.error("Email outbox dispatch failed: [{}]", error.getMessage(), error);
+        }
+    }
+
+    private List<EmailOutboxMessage> claimBatch() {
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+        List<EmailOutboxMessage> batch = new ArrayList<>();
+        while (batch.size() < batchSize) {
+            Optional<EmailOutboxMessage> message = repository.claimNext(now, now.plus(lease));
+            if (message.isEmpty()) {
+                break;
+            }
+            batch.add(message.get());
+        }
+        return batch;
+    }
+
+    private void sendBatch(List<EmailOutboxMessage> batch) {
+        List<EmailOutboxMessage> sent = new ArrayList<>();
+        List<EmailOutboxMessage> updated = new ArrayList<>();
+        Map<MimeMessage, EmailOutboxMessage> messages = new LinkedHashMap<>();
+        for (EmailOutboxMessage message : batch) {
+            try {
+                messages.put(createMessage(message), message);
+            } catch (MessagingException | RuntimeException error) {
+                // The message can not be built, retrying would fail again
+                log.error("Email outbox message [{}] to [{}] can not be built: [{}]", message.getId(), message.getTo(), error.getMessage());
+                updated.add(fail(message, error));
+            }
+        }
+
+        if (!messages.isEmpty()) {
+            Map<Object, Exception> failedMessages = Collections.emptyMap();
+            try {
+                mailSender.send(messages.keySet().toArray(new MimeMessage[0]));
+            } catch (MailSendException error) {
+                failedMessages = error.getFailedMessages().isEmpty() ? failAll(messages, error) : error.getFailedMessages();
+            } catch (MailException error) {
+                failedMessages = failAll(messages, error);
+            }
+            for (Map.Entry<MimeMessage, EmailOutboxMessage> message : messages.entrySet()) {
+                Exception error = failedMessages.get(message.getKey());
+                if (error == null) {
+                    sent.add(message.getValue());
+                } else {
+                    updated.add(retry(message.getValue(), error));
+                }
+            }
+        }
+
+        if (!sent.isEmpty()) {
+            repository.deleteAll(sent);
+        }
+        if (!updated.isEmpty()) {
+            repository.saveAll(updated);
+        }
+        log.debug("Email outbox batch dispatched. [sent: {}, not sent: {}]", sent.size(), updated.size());
+    }
+
+    private MimeMessage createMessage(EmailOutboxMessage message) throws MessagingException {
+        switch (message.getType()) {
+            case ATTACHMENT:
+                return messageFactory.createMessageWithAttachment(EmailWithAttachmentDTO
+                        .builder()
+                        .to(message.getTo())
+                        .subject(message.getSubject())
+                        .message(message.getMessage())
+                        .fileContent(message.getFileContent())
+                        .fileType(message.getFileType())
+                        .fileName(message.getFileName())
+                        .build());
+            case TEMPLATE:
+                return messageFactory.createMessageWithTemplate(EmailWithTemplateDTO
+                        .builder()
+                        .to(message.getTo())
+                        .subject(message.getSubject())
+                        .templateName(message.getTemplateName())
+                        .templateContext(message.getTemplateContext())
+                        .build());
+            default:
+                return messageFactory.createMessage(EmailDTO
+                        .builder()
+                        .to(message.getTo())
+                        .subject(message.getSubject())
+                        .message(message.getMessage())
+                        .build());
+        }
+    }
+
+    private EmailOutboxMessage retry(EmailOutboxMessage message, Exception error) {
+        int attempts = message.getAttempts() + 1;
+        if (attempts >= maxAttempts) {
+            log.error("Email outbox message [{}] to [{}] not sent after [{}] attempts: [{}]", message.getId(), message.getTo(), attempts, error.getMessage());
+            message.setAttempts(attempts);
+            return fail(message, error);
+        }
+        long backoff = Math.min(initialBackoff.toMillis() << Math.min(attempts - 1, 20), maxBackoff.toMillis());
+        log.warn("Email outbox message [{}] to [{}] not sent, retrying in [{}] ms: [{}]", message.getId(), message.getTo(), backoff, error.getMessage());
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+        message.setAttempts(attempts);
+        message.setStatus(EmailOutboxMessageStatus.PENDING);
+        message.setNextAttempt(now.plus(Duration.ofMillis(backoff)));
+        message.setLastError(error.getMessage());
+        message.setUpdated(now);
+        return message;
+    }
+
+    private EmailOutboxMessage fail(EmailOutboxMessage message, Exception error) {
+        message.setStatus(EmailOutboxMessageStatus.FAILED);
+        message.setNextAttempt(null);
+        message.setLastError(error.getMessage());
+        message.setUpdated(LocalDateTime.now(ZoneOffset.UTC));
+        return message;
+    }
+
+    private static Map<Object, Exception> failAll(Map<MimeMessage, EmailOutboxMessage> messages, Exception error) {
+        Map<Object, Exception> failedMessages = new LinkedHashMap<>();
+        messages.keySet().forEach(message -> failedMessages.put(message, error));
+        return failedMessages;
+    }
+}
@@ -0,0 +1,133 @@
+package com.sawoo.pipeline.api.service.infra.email;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sawoo.pipeline.api.common.contants.ExceptionMessageConstants;
+import com.sawoo.pipeline.api.common.exceptions.EmailException;
+import com.sawoo.pipeline.api.dto.email.EmailDTO;
+import com.sawoo.pipeline.api.dto.email.EmailWithAttachmentDTO;
+import com.sawoo.pipeline.api.dto.email.EmailWithTemplateDTO;
+import com.sawoo.pipeline.api.model.email.EmailOutboxMessage;
+import com.sawoo.pipeline.api.model.email.EmailOutboxMessageStatus;
+import com.sawoo.pipeline.api.model.email.EmailOutboxMessageType;
+import com.sawoo.pipeline.api.repository.email.EmailOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+/**
+ * Queues the emails in the Mongo outbox and returns, the {@link EmailOutboxDispatcher} delivers them. When the
+ * outbox is disabled the emails are sent on the calling thread by {@link EmailServiceImpl}
+ */
+@Slf4j
+@Service
+@Primary
+@Validated
+public class EmailOutboxServiceDecorator implements EmailService {
+
+    private static final TypeReference<Map<String, Object>> TEMPLATE_CONTEXT_TYPE = new TypeReference<>() {};
+
+    private final EmailOutboxRepository repository;
+    private final EmailOutboxDispatcher dispatcher;
+    private final EmailMessageFactory messageFactory;
+    private final EmailServiceImpl emailService;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+
+    public EmailOutboxServiceDecorator(
+            EmailOutboxRepository repository,
+            EmailOutboxDispatcher dispatcher,
+            EmailMessageFactory messageFactory,
+            EmailServiceImpl emailService,
+            ObjectMapper objectMapper,
+            @Value("${app.mail.outbox.enabled:true}") boolean enabled) {
+        this.repository = repository;
+        this.dispatcher = dispatcher;
+        this.messageFactory = messageFactory;
+        this.emailService = emailService;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public void send(@NotNull(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_NULL_ERROR)
+                     @Valid EmailDTO email) throws EmailException {
+        if (!enabled) {
+            emailService.send(email);
+            return;
+        }
+        enqueue(EmailOutboxMessage
+                .builder()
+                .type(EmailOutboxMessageType.TEXT)
+                .to(email.getTo())
+                .subject(email.getSubject())
+                .message(email.getMessage())
+                .build());
+    }
+
+    @Override
+    public void sendWithAttachment(
+            @NotNull(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_NULL_ERROR)
+            @Valid EmailWithAttachmentDTO email) throws EmailException {
+        if (!enabled) {
+            emailService.sendWithAttachment(email);
+            return;
+        }
+        enqueue(EmailOutboxMessage
+                .builder()
+                .type(EmailOutboxMessageType.ATTACHMENT)
+                .to(email.getTo())
+                .subject(email.getSubject())
+                .message(email.getMessage())
+                .fileContent(email.getFileContent())
+                .fileType(email.getFileType())
+                .fileName(email.getFileName())
+                .build());
+    }
+
+    @Override
+    public void sendWithTemplate(
+            @NotNull(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_NULL_ERROR)
+            @Valid EmailWithTemplateDTO email) throws EmailException {
+        if (!enabled) {
+            emailService.sendWithTemplate(email);
+            return;
+        }
+        // Missing templates are still reported to the caller, only the rendering is deferred
+        if (!messageFactory.templateExists(email.getTemplateName())) {
+            throw new EmailException(
+                    ExceptionMessageConstants.MAIL_EXCEPTION_SEND_MESSAGE_WITH_TEMPLATE,
+                    new Object[]{email.getTo(), email.getSubject(), email.getTemplateName(), "Template not found"});
+        }
+        enqueue(EmailOutboxMessage
+                .builder()
+                .type(EmailOutboxMessageType.TEMPLATE)
+                .to(email.getTo())
+                .subject(email.getSubject())
+                .templateName(email.getTemplateName())
+                .templateContext(email.getTemplateContext() != null ?
+                        objectMapper.convertValue(email.getTemplateContext(), TEMPLATE_CONTEXT_TYPE) :
+                        null)
+                .build());
+    }
+
+    private void enqueue(EmailOutboxMessage message) {
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+        message.setStatus(EmailOutboxMessageStatus.PENDING);
+        message.setNextAttempt(now);
+        message.setCreated(now);
+        message.setUpdated(now);
+        repository.insert(message);
+        log.debug("Email to [{}] with subject [{}] queued in the outbox with id [{}]", message.getTo(), message.getSubject(), message.getId());
+
+        dispatcher.wakeUp();
+    }
+}
@@ -7,24 +7,19 @@ import com.sawoo.pipeline.api.dto.email.EmailWithAttachmentDTO;
 import com.sawoo.pipeline.api.dto.email.EmailWithTemplateDTO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.codec.CharEncoding;
 import org.springframework.mail.MailException;
-import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
-import org.thymeleaf.context.Context;
 import org.thymeleaf.exceptions.TemplateInputException;
-import org.thymeleaf.spring5.SpringTemplateEngine;
 
 import javax.mail.MessagingException;
-import javax.mail.internet.MimeMessage;
-import javax.mail.util.ByteArrayDataSource;
 import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
-import java.nio.charset.StandardCharsets;
 
+/**
+ * Sends the emails straight to the SMTP server on the calling thread
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -32,22 +27,17 @@ import java.nio.charset.StandardCharsets;
 public class EmailServiceImpl implements EmailService {
 
     private final JavaMailSender mailSender;
-    private final SpringTemplateEngine templateEngine;
+    private final EmailMessageFactory messageFactory;
 
     @Override
     public void send(@NotNull(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_NULL_ERROR)
                      @Valid EmailDTO email)
             throws EmailException {
         try {
-            SimpleMailMessage mailMessage = new SimpleMailMessage();
-            mailMessage.setTo(email.getTo());
-            mailMessage.setSubject(email.getSubject());
-            mailMessage.setText(email.getMessage());
-
-            mailSender.send(mailMessage);
+            mailSender.send(messageFactory.createMessage(email));
 
             log.debug("Email correctly sent to: {}", email.getTo());
-        } catch (MailException err) {
+        } catch (MailException | MessagingException err) {
             throw new EmailException(
                     ExceptionMessageConstants.MAIL_EXCEPTION_SEND_MESSAGE,
                     new Object[]{email.getTo(), email.getSubject(), err.getCause()});
@@ -65,17 +55,7 @@ public class EmailServiceImpl implements EmailService {
                     email.getSubject(),
                     email.getFileName());
 
-            MimeMessage msg = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(msg, true, CharEncoding.UTF_8);
-            helper.setTo(email.getTo());
-            helper.setSubject(email.getSubject());
-            helper.setText(email.getMessage(), false);
-            String FILE_TYPE_CONTENT = "text/plain; charset=UTF-8";
-            helper.addAttachment(email.getFileName(),
-                    new ByteArrayDataSource(email.getFileContent(),
-                            email.getFileType() == null ? FILE_TYPE_CONTENT : email.getFileType())
-            );
-            mailSender.send(msg);
+            mailSender.send(messageFactory.createMessageWithAttachment(email));
 
             log.debug("Email correctly sent to: {}", email.getTo());
         } catch (MessagingException err) {
@@ -94,18 +74,8 @@ public class EmailServiceImpl implements EmailService {
                     email.getTo(),
                     email.getSubject(),
                     email.getTemplateName());
-            MimeMessage message = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(message,
-                    MimeMessageHelper.MULTIPART_MODE_MIXED_RELATED,
-                    StandardCharsets.UTF_8.name());
-
-            String html = getHtmlContent(email);
-
-            helper.setTo(email.getTo());
-            helper.setSubject(email.getSubject());
-            helper.setText(html, true);
 
-            mailSender.send(message);
+            mailSender.send(messageFactory.createMessageWithTemplate(email));
 
             log.debug("Email correctly sent to: {}", email.getTo());
         } catch (MessagingException | TemplateInputException err) {
@@ -114,10 +84,4 @@ public class EmailServiceImpl implements EmailService {
                     new Object[]{email.getTo(), email.getSubject(), email.getTemplateName(), err.getCause()});
         }
     }
-
-    private String getHtmlContent(EmailWithTemplateDTO email) {
-        Context context = new Context();
-        context.setVariables(email.getTemplateContext());
-        return templateEngine.process(email.getTemplateName(), context);
-    }
 }
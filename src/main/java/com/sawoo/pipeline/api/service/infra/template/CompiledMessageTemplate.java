@@ -0,0 +1,88 @@
+package com.sawoo.pipeline.api.service.infra.template;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Message template parsed into literal text and {{variable}} placeholders. Instances are immutable, so one parse
+ * can be shared by every render of the same template.
+ */
+public final class CompiledMessageTemplate {
+
+    private static final String VARIABLE_START = "{{";
+    private static final String VARIABLE_END = "}}";
+
+    private final String text;
+    private final List<String> literals;
+    private final List<String> placeholders;
+    private final List<String> variables;
+
+    private CompiledMessageTemplate(String text, List<String> literals, List<String> placeholders) {
+        this.text = text;
+        this.literals = literals;
+        this.placeholders = placeholders;
+        this.variables = Collections.unmodifiableList(new ArrayList<>(new LinkedHashSet<>(placeholders)));
+    }
+
+    /**
+     * Splits the text the same way the former {{(.*?)}} pattern did: a placeholder opens at the first {{ and closes
+     * at the next }}, an unclosed {{ is literal text.
+     */
+    static CompiledMessageTemplate parse(String text) {
+        List<String> literals = new ArrayList<>();
+        List<String> placeholders = new ArrayList<>();
+        int position = 0;
+        while (true) {
+            int start = text.indexOf(VARIABLE_START, position);
+            int end = start >= 0 ? text.indexOf(VARIABLE_END, start + VARIABLE_START.length()) : -1;
+            if (end < 0) {
+                break;
+            }
+            literals.add(text.substring(position, start));
+            placeholders.add(text.substring(start + VARIABLE_START.length(), end));
+            position = end + VARIABLE_END.length();
+        }
+        literals.add(text.substring(position));
+        return new CompiledMessageTemplate(text, literals, placeholders);
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Distinct variable names in order of appearance
+     */
+    public List<String> getVariables() {
+        return variables;
+    }
+
+    public boolean hasVariables() {
+        return !placeholders.isEmpty();
+    }
+
+    /**
+     * Replaces every placeholder with the value given by the resolver. Placeholders resolved to null are kept as
+     * they are, so the rendered text is still detected as a template.
+     */
+    public String render(Function<String, String> resolver) {
+        if (placeholders.isEmpty()) {
+            return text;
+        }
+        StringBuilder builder = new StringBuilder(text.length());
+        for (int i = 0; i < placeholders.size(); i++) {
+            builder.append(literals.get(i));
+            String variable = placeholders.get(i);
+            String value = resolver.apply(variable);
+            if (value != null) {
+                builder.append(value);
+            } else {
+                builder.append(VARIABLE_START).append(variable).append(VARIABLE_END);
+            }
+        }
+        return builder.append(literals.get(placeholders.size())).toString();
+    }
+}
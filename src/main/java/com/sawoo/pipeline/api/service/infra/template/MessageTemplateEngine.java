@@ -0,0 +1,118 @@
+package com.sawoo.pipeline.api.service.infra.template;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sawoo.pipeline.api.dto.common.MessageTemplateDTO;
+import com.sawoo.pipeline.api.model.company.Company;
+import com.sawoo.pipeline.api.model.person.Person;
+import com.sawoo.pipeline.api.model.prospect.Prospect;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Parses TODO message templates once and renders them against the person and company of a prospect. Compiled
+ * sequence step templates are cached by their content, so the same step text is only parsed the first time it is
+ * seen. Free text, e.g. a message typed in a TODO, is parsed without caching so it does not evict the step templates.
+ * <p>
+ * Variables can be given with the context prefix, e.g. {{ctx:prospect_first_name}} and {{prospect_first_name}}
+ * resolve to the same value. Unknown variables and empty values are left in the rendered text.
+ */
+@Slf4j
+@Component
+public class MessageTemplateEngine {
+
+    public static final String CONTEXT_VARIABLE_PREFIX = "ctx:";
+
+    private static final String TEMPLATE_CACHE_NAME = "message.templates";
+    private static final Map<String, Function<Prospect, String>> PROSPECT_VARIABLES = Map.ofEntries(
+            Map.entry("prospect_name", prospect -> getFullName(prospect.getPerson())),
+            Map.entry("prospect_full_name", prospect -> getFullName(prospect.getPerson())),
+            Map.entry("prospect_first_name", prospect -> person(prospect, Person::getFirstName)),
+            Map.entry("prospect_last_name", prospect -> person(prospect, Person::getLastName)),
+            Map.entry("prospect_position", prospect -> person(prospect, Person::getPosition)),
+            Map.entry("prospect_email", prospect -> person(prospect, Person::getEmail)),
+            Map.entry("prospect_phone_number", prospect -> person(prospect, Person::getPhoneNumber)),
+            Map.entry("prospect_linked_in_url", prospect -> person(prospect, Person::getLinkedInUrl)),
+            Map.entry("prospect_linked_in_thread", Prospect::getLinkedInThread),
+            Map.entry("company_name", prospect -> company(prospect, Company::getName)),
+            Map.entry("company_url", prospect -> company(prospect, Company::getUrl)));
+
+    private final Cache<String, CompiledMessageTemplate> templates;
+
+    public MessageTemplateEngine(
+            MeterRegistry meterRegistry,
+            @Value("${app.cache.message-templates.max-size:1000}") long maxSize) {
+        this.templates = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, templates, TEMPLATE_CACHE_NAME);
+    }
+
+    public CompiledMessageTemplate compile(String text) {
+        Objects.requireNonNull(text, "Template text can not be null");
+        return templates.get(text, CompiledMessageTemplate::parse);
+    }
+
+    /**
+     * Parses free text without caching it
+     */
+    public CompiledMessageTemplate parse(String text) {
+        Objects.requireNonNull(text, "Template text can not be null");
+        return CompiledMessageTemplate.parse(text);
+    }
+
+    /**
+     * Compiles the text of a sequence step message template. Steps without message template or text have no
+     * compiled template, and render to a null message.
+     */
+    public CompiledMessageTemplate compile(MessageTemplateDTO template) {
+        return template != null && template.getText() != null ? compile(template.getText()) : null;
+    }
+
+    public String render(String text, Prospect prospect) {
+        return text != null ? render(parse(text), prospect) : null;
+    }
+
+    public String render(CompiledMessageTemplate template, Prospect prospect) {
+        return template != null ? template.render(variable -> resolve(variable, prospect)) : null;
+    }
+
+    private static String resolve(String variable, Prospect prospect) {
+        String key = variable.trim();
+        if (key.startsWith(CONTEXT_VARIABLE_PREFIX)) {
+            key = key.substring(CONTEXT_VARIABLE_PREFIX.length());
+        }
+        Function<Prospect, String> resolver = PROSPECT_VARIABLES.get(key);
+        String value = resolver != null && prospect != null ? resolver.apply(prospect) : null;
+        return value != null && !value.isBlank() ? value : null;
+    }
+
+    private static String getFullName(Person person) {
+        if (person == null) {
+            return null;
+        }
+        if (person.getFullName() != null) {
+            return person.getFullName();
+        }
+        return person.getFirstName() != null && person.getLastName() != null ?
+                person.getFirstName() + " " + person.getLastName() :
+                person.getFirstName();
+    }
+
+    private static String person(Prospect prospect, Function<Person, String> field) {
+        return prospect.getPerson() != null ? field.apply(prospect.getPerson()) : null;
+    }
+
+    private static String company(Prospect prospect, Function<Company, String> field) {
+        Person person = prospect.getPerson();
+        return person != null && person.getCompany() != null ? field.apply(person.getCompany()) : null;
+    }
+}
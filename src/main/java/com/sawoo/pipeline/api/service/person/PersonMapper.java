@@ -1,9 +1,10 @@
 package com.sawoo.pipeline.api.service.person;
 
-import com.googlecode.jmapper.JMapper;
 import com.sawoo.pipeline.api.dto.person.PersonDTO;
 import com.sawoo.pipeline.api.model.person.Person;
 import com.sawoo.pipeline.api.service.base.BaseMapper;
+import com.sawoo.pipeline.api.service.base.ObjectMapping;
+import com.sawoo.pipeline.api.service.base.mapping.GeneratedMapping;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -11,8 +12,10 @@ import org.springframework.stereotype.Component;
 @Getter
 @RequiredArgsConstructor
 @Component
+@GeneratedMapping(name = "PersonOutMapping", destination = PersonDTO.class, source = Person.class)
+@GeneratedMapping(name = "PersonInMapping", destination = Person.class, source = PersonDTO.class)
 public class PersonMapper implements BaseMapper<PersonDTO, Person> {
 
-    private final JMapper<PersonDTO, Person> mapperOut = new JMapper<>(PersonDTO.class, Person.class);
-    private final JMapper<Person, PersonDTO> mapperIn = new JMapper<>(Person.class, PersonDTO.class);
+    private final ObjectMapping<PersonDTO, Person> mapperOut = new PersonOutMapping();
+    private final ObjectMapping<Person, PersonDTO> mapperIn = new PersonInMapping();
 }
@@ -1,6 +1,5 @@
 package com.sawoo.pipeline.api.service.prospect;
 
-import com.googlecode.jmapper.JMapper;
 import com.sawoo.pipeline.api.dto.prospect.ProspectDTO;
 import com.sawoo.pipeline.api.dto.prospect.ProspectTodoDTO;
 import com.sawoo.pipeline.api.dto.prospect.ProspectTodoPersonDTO;
@@ -8,6 +7,9 @@ import com.sawoo.pipeline.api.dto.todo.TodoAssigneeDTO;
 import com.sawoo.pipeline.api.dto.todo.TodoDTO;
 import com.sawoo.pipeline.api.model.prospect.Prospect;
 import com.sawoo.pipeline.api.service.base.BaseMapper;
+import com.sawoo.pipeline.api.service.base.JMapperMapping;
+import com.sawoo.pipeline.api.service.base.ObjectMapping;
+import com.sawoo.pipeline.api.service.base.mapping.GeneratedMapping;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -15,13 +17,14 @@ import org.springframework.stereotype.Component;
 @Getter
 @RequiredArgsConstructor
 @Component
+@GeneratedMapping(name = "TodoAssigneeToTodoMapping", destination = TodoDTO.class, source = TodoAssigneeDTO.class)
 public class ProspectMapper implements BaseMapper<ProspectDTO, Prospect> {
 
-    private final JMapper<ProspectDTO, Prospect> mapperOut = new JMapper<>(ProspectDTO.class, Prospect.class);
-    private final JMapper<Prospect, ProspectDTO> mapperIn = new JMapper<>(Prospect.class, ProspectDTO.class);
+    private final ObjectMapping<ProspectDTO, Prospect> mapperOut = new JMapperMapping<>(ProspectDTO.class, Prospect.class);
+    private final ObjectMapping<Prospect, ProspectDTO> mapperIn = new JMapperMapping<>(Prospect.class, ProspectDTO.class);
 
-    private final JMapper<ProspectTodoDTO, TodoDTO> todoMapperOut = new JMapper<>(ProspectTodoDTO.class, TodoDTO.class);
-    private final JMapper<ProspectTodoPersonDTO, Prospect> prospectTodoMapperOut = new JMapper<>(ProspectTodoPersonDTO.class, Prospect.class);
+    private final ObjectMapping<ProspectTodoDTO, TodoDTO> todoMapperOut = new JMapperMapping<>(ProspectTodoDTO.class, TodoDTO.class);
+    private final ObjectMapping<ProspectTodoPersonDTO, Prospect> prospectTodoMapperOut = new JMapperMapping<>(ProspectTodoPersonDTO.class, Prospect.class);
 
-    private final JMapper<TodoDTO, TodoAssigneeDTO> todoAssigneeMapper = new JMapper<>(TodoDTO.class, TodoAssigneeDTO.class);
+    private final ObjectMapping<TodoDTO, TodoAssigneeDTO> todoAssigneeMapper = new TodoAssigneeToTodoMapping();
 }
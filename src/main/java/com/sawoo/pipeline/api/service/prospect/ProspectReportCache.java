@@ -0,0 +1,82 @@
+package com.sawoo.pipeline.api.service.prospect;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Rendered prospect PDF reports keyed by their {@link ProspectReportKey}. The cache is bounded by the total size
+ * of the stored reports. Concurrent requests of a report that is not available yet share the same upstream call,
+ * also when the cache is disabled.
+ */
+@Slf4j
+@Component
+public class ProspectReportCache {
+
+    private static final String PROSPECT_REPORTS_CACHE_NAME = "prospect.reports";
+
+    private final boolean enabled;
+    private final Cache<ProspectReportKey, byte[]> reports;
+    private final Map<ProspectReportKey, CompletableFuture<byte[]>> pendingReports = new ConcurrentHashMap<>();
+
+    public ProspectReportCache(
+            MeterRegistry meterRegistry,
+            @Value("${app.cache.prospect-reports.enabled:true}") boolean enabled,
+            @Value("${app.cache.prospect-reports.max-size:50MB}") DataSize maxSize,
+            @Value("${app.cache.prospect-reports.expire-after-write:1h}") Duration expireAfterWrite) {
+        this.enabled = enabled;
+        this.reports = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((ProspectReportKey key, byte[] report) -> report.length)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, reports, PROSPECT_REPORTS_CACHE_NAME);
+    }
+
+    public CompletableFuture<byte[]> get(ProspectReportKey key, Function<ProspectReportKey, CompletableFuture<byte[]>> loader) {
+        byte[] report = enabled ? reports.getIfPresent(key) : null;
+        if (report != null) {
+            return CompletableFuture.completedFuture(report);
+        }
+
+        CompletableFuture<byte[]> pending = new CompletableFuture<>();
+        CompletableFuture<byte[]> current = pendingReports.putIfAbsent(key, pending);
+        if (current != null) {
+            log.debug("Report [{}] is already being generated. Waiting for it", key);
+            return current;
+        }
+
+        CompletableFuture<byte[]> load;
+        try {
+            load = loader.apply(key);
+        } catch (RuntimeException error) {
+            load = CompletableFuture.failedFuture(error);
+        }
+        load.whenComplete((result, error) -> {
+            // Cached before leaving the pending map so new requests always find the report in one of them
+            if (error == null && enabled) {
+                reports.put(key, result);
+            }
+            pendingReports.remove(key, pending);
+            if (error != null) {
+                pending.completeExceptionally(error instanceof CompletionException && error.getCause() != null ? error.getCause() : error);
+            } else {
+                pending.complete(result);
+            }
+        });
+        return pending;
+    }
+}
@@ -0,0 +1,127 @@
+package com.sawoo.pipeline.api.service.prospect;
+
+import com.sawoo.pipeline.api.common.contants.ExceptionMessageConstants;
+import com.sawoo.pipeline.api.common.exceptions.CommonServiceException;
+import com.sawoo.pipeline.api.dto.Report;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Client of the remote report API. Calls go through a pooled HTTP client with connect and read timeouts and run
+ * on a bounded executor, so at most max-concurrent-requests reports are rendered at the same time and request
+ * threads are not held while the report API renders. Reports over the queue limit are rejected.
+ * See app.report-api-client.
+ */
+@Slf4j
+@Component
+public class ProspectReportClient {
+
+    private static final String CREATE_PDF_PATH = "/api/create-pdf";
+    private static final String THREAD_NAME_PREFIX = "report-api-";
+
+    private final String createPDFUrl;
+    private final CloseableHttpClient httpClient;
+    private final RestTemplate restTemplate;
+    private final ThreadPoolExecutor executor;
+
+    public ProspectReportClient(
+            @Value("${app.report-api}") String reportAPI,
+            @Value("${app.report-api-client.connect-timeout:5s}") Duration connectTimeout,
+            @Value("${app.report-api-client.read-timeout:30s}") Duration readTimeout,
+            @Value("${app.report-api-client.max-concurrent-requests:10}") int maxConcurrentRequests,
+            @Value("${app.report-api-client.max-queued-requests:100}") int maxQueuedRequests) {
+        this.createPDFUrl = reportAPI + CREATE_PDF_PATH;
+
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(maxConcurrentRequests);
+        connectionManager.setDefaultMaxPerRoute(maxConcurrentRequests);
+        this.httpClient = HttpClients
+                .custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig
+                        .custom()
+                        .setConnectTimeout((int) connectTimeout.toMillis())
+                        .setConnectionRequestTimeout((int) connectTimeout.toMillis())
+                        .setSocketTimeout((int) readTimeout.toMillis())
+                        .build())
+                .build();
+        this.restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+
+        this.executor = new ThreadPoolExecutor(
+                maxConcurrentRequests,
+                maxConcurrentRequests,
+                1,
+                TimeUnit.MINUTES,
+                new ArrayBlockingQueue<>(maxQueuedRequests),
+                new CustomizableThreadFactory(THREAD_NAME_PREFIX));
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    public <T> CompletableFuture<byte[]> createPDF(Report<T> report) throws CommonServiceException {
+        try {
+            return CompletableFuture.supplyAsync(() -> postReport(report), executor);
+        } catch (RejectedExecutionException error) {
+            log.warn("Report rejected. Too many reports being generated: [url: {}, queued reports: {}]", createPDFUrl, executor.getQueue().size());
+            throw new CommonServiceException(
+                    ExceptionMessageConstants.PROSPECT_REPORT_GENERATION_BUSY_ERROR,
+                    new Object[]{createPDFUrl, executor.getQueue().size()});
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        executor.shutdown();
+        try {
+            httpClient.close();
+        } catch (IOException error) {
+            log.warn("Error closing report API HTTP client: [{}]", error.getMessage());
+        }
+    }
+
+    private <T> byte[] postReport(Report<T> report) throws CommonServiceException {
+        log.debug("Calling remote report API: [url:{}, report data: {}]", createPDFUrl, report.toString());
+        try {
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_JSON);
+            headers.setAccept(Collections.singletonList(MediaType.APPLICATION_JSON));
+
+            HttpEntity<Report<T>> request = new HttpEntity<>(report, headers);
+            ResponseEntity<byte[]> result = restTemplate.postForEntity(createPDFUrl, request, byte[].class);
+
+            if (result.getBody() != null && result.getBody().length > 0) {
+                return result.getBody();
+            } else {
+                throw new CommonServiceException(
+                        ExceptionMessageConstants.PROSPECT_REPORT_GENERATION_STREAM_BUFFER_EMPTY_ERROR,
+                        new String[]{createPDFUrl, report.toString()});
+            }
+        } catch (RestClientException error) {
+            throw new CommonServiceException(
+                    ExceptionMessageConstants.PROSPECT_REPORT_GENERATION_INTERNAL_SERVER_EXCEPTION,
+                    new String[]{error.getMessage(), createPDFUrl, report.toString()});
+        }
+    }
+}
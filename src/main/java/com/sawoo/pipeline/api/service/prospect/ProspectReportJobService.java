@@ -0,0 +1,28 @@
+package com.sawoo.pipeline.api.service.prospect;
+
+import com.sawoo.pipeline.api.common.contants.ExceptionMessageConstants;
+import com.sawoo.pipeline.api.common.exceptions.CommonServiceException;
+import com.sawoo.pipeline.api.common.exceptions.ResourceNotFoundException;
+import com.sawoo.pipeline.api.dto.prospect.ProspectReportJobDTO;
+import com.sawoo.pipeline.api.dto.prospect.request.ProspectReportJobCreateDTO;
+import org.springframework.core.io.Resource;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+
+@Validated
+public interface ProspectReportJobService {
+
+    ProspectReportJobDTO createJob(
+            @NotNull(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_EMPTY_OR_NULL_ERROR) ProspectReportJobCreateDTO job)
+            throws ResourceNotFoundException, CommonServiceException;
+
+    ProspectReportJobDTO getJob(
+            @NotBlank(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_EMPTY_OR_NULL_ERROR) String jobId)
+            throws ResourceNotFoundException;
+
+    Resource getJobFile(
+            @NotBlank(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_EMPTY_OR_NULL_ERROR) String jobId)
+            throws ResourceNotFoundException, CommonServiceException;
+}
@@ -0,0 +1,430 @@
+package com.sawoo.pipeline.api.service.prospect;
+
+import com.mongodb.client.gridfs.model.GridFSFile;
+import com.sawoo.pipeline.api.common.contants.DomainConstants;
+import com.sawoo.pipeline.api.common.contants.ExceptionMessageConstants;
+import com.sawoo.pipeline.api.common.exceptions.CommonServiceException;
+import com.sawoo.pipeline.api.common.exceptions.ResourceNotFoundException;
+import com.sawoo.pipeline.api.dto.prospect.ProspectReportJobDTO;
+import com.sawoo.pipeline.api.dto.prospect.request.ProspectReportJobCreateDTO;
+import com.sawoo.pipeline.api.model.prospect.Prospect;
+import com.sawoo.pipeline.api.model.prospect.ProspectReportJob;
+import com.sawoo.pipeline.api.model.prospect.ProspectReportJobError;
+import com.sawoo.pipeline.api.model.prospect.ProspectReportJobStatus;
+import com.sawoo.pipeline.api.repository.prospect.ProspectReportJobRepository;
+import com.sawoo.pipeline.api.service.campaign.CampaignService;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.MessageSource;
+import org.springframework.context.event.EventListener;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.core.io.Resource;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.gridfs.GridFsCriteria;
+import org.springframework.data.mongodb.gridfs.GridFsOperations;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.validation.annotation.Validated;
+
+import javax.annotation.PreDestroy;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Generates the reports of many prospects into a ZIP file. Jobs run on a bounded executor and each job keeps at
+ * most app.report-jobs.parallelism reports in flight, so only those PDFs are held in memory while the rest are
+ * already written to a temporary file. Reports are generated through {@link ProspectReportService}, so they share
+ * its mapping, cache and report API limits.
+ * <p>
+ * The job state is stored in the prospect_report_job collection, with its progress saved every
+ * app.report-jobs.progress-interval, and the finished ZIP file in GridFS, so any instance serves the status and the
+ * file of a job. Jobs and their files are removed after app.report-jobs.retention. A job whose instance stops
+ * before it finishes is marked as failed if possible, otherwise it stays running until its retention ends.
+ */
+@Slf4j
+@Service
+@Validated
+public class ProspectReportJobServiceImpl implements ProspectReportJobService {
+
+    private static final String[] REPORT_PROSPECT_REFERENCES = {"person", "person.company"};
+    private static final int PROSPECT_BATCH_SIZE = 100;
+    private static final String JOB_FILE_PREFIX = "prospect-reports-";
+    private static final String JOB_FILE_SUFFIX = ".zip";
+    private static final String JOB_FILE_CONTENT_TYPE = "application/zip";
+    private static final String JOB_FILE_EXPIRATION_DATE_FIELD = "expirationDate";
+    private static final String THREAD_NAME_PREFIX = "report-job-";
+    private static final String CLEANUP_THREAD_NAME_PREFIX = "report-job-cleanup-";
+
+    private final ProspectService prospectService;
+    private final CampaignService campaignService;
+    private final ProspectReportJobRepository repository;
+    private final GridFsOperations gridFsOperations;
+    private final MessageSource messageSource;
+    private final int parallelism;
+    private final Duration retention;
+    private final Duration progressInterval;
+    private final Duration cleanupInterval;
+    private final ThreadPoolExecutor executor;
+    private final ScheduledExecutorService cleanupExecutor;
+
+    public ProspectReportJobServiceImpl(
+            ProspectService prospectService,
+            CampaignService campaignService,
+            ProspectReportJobRepository repository,
+            GridFsOperations gridFsOperations,
+            MessageSource messageSource,
+            @Value("${app.report-jobs.parallelism:4}") int parallelism,
+            @Value("${app.report-jobs.max-running-jobs:2}") int maxRunningJobs,
+            @Value("${app.report-jobs.max-queued-jobs:20}") int maxQueuedJobs,
+            @Value("${app.report-jobs.retention:1h}") Duration retention,
+            @Value("${app.report-jobs.progress-interval:2s}") Duration progressInterval,
+            @Value("${app.report-jobs.cleanup-interval:10m}") Duration cleanupInterval) {
+        this.prospectService = prospectService;
+        this.campaignService = campaignService;
+        this.repository = repository;
+        this.gridFsOperations = gridFsOperations;
+        this.messageSource = messageSource;
+        this.parallelism = parallelism;
+        this.retention = retention;
+        this.progressInterval = progressInterval;
+        this.cleanupInterval = cleanupInterval;
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(THREAD_NAME_PREFIX);
+        threadFactory.setDaemon(true);
+        this.executor = new ThreadPoolExecutor(
+                maxRunningJobs,
+                maxRunningJobs,
+                1,
+                TimeUnit.MINUTES,
+                new ArrayBlockingQueue<>(maxQueuedJobs),
+                threadFactory);
+        this.executor.allowCoreThreadTimeOut(true);
+        CustomizableThreadFactory cleanupThreadFactory = new CustomizableThreadFactory(CLEANUP_THREAD_NAME_PREFIX);
+        cleanupThreadFactory.setDaemon(true);
+        this.cleanupExecutor = Executors.newSingleThreadScheduledExecutor(cleanupThreadFactory);
+    }
+
+    /**
+     * Removes the files of the expired jobs every cleanup-interval once the application is ready. The job documents
+     * are removed by their TTL index
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        cleanupExecutor.scheduleWithFixedDelay(
+                this::deleteExpiredFiles,
+                cleanupInterval.toMillis(),
+                cleanupInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public ProspectReportJobDTO createJob(
+            @NotNull(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_EMPTY_OR_NULL_ERROR) ProspectReportJobCreateDTO job)
+            throws ResourceNotFoundException, CommonServiceException {
+        log.debug("Creating report job for campaign id [{}] and prospect ids [{}]", job.getCampaignId(), job.getProspectIds());
+
+        Set<String> prospectIds = new LinkedHashSet<>();
+        if (job.getCampaignId() != null) {
+            prospectIds.addAll(campaignService.findProspectIds(job.getCampaignId()));
+        }
+        if (job.getProspectIds() != null) {
+            prospectIds.addAll(job.getProspectIds());
+        }
+        if (prospectIds.isEmpty()) {
+            throw new CommonServiceException(
+                    ExceptionMessageConstants.PROSPECT_REPORT_JOB_NO_PROSPECTS_EXCEPTION,
+                    new Object[]{job.getCampaignId()});
+        }
+
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+        ProspectReportJob reportJob = repository.insert(ProspectReportJob
+                .builder()
+                .id(UUID.randomUUID().toString())
+                .status(ProspectReportJobStatus.PENDING)
+                .template(job.getTemplate() != null ? job.getTemplate() : DomainConstants.PROSPECT_REPORT_TEMPLATE_REPORT)
+                .language(job.getLan())
+                .total(prospectIds.size())
+                .errors(new ArrayList<>())
+                .created(now)
+                .updated(now)
+                .expirationDate(now.plus(retention))
+                .build());
+        // Mapped before the job thread starts changing it
+        ProspectReportJobDTO created = mapJob(reportJob);
+        Locale locale = LocaleContextHolder.getLocale();
+        try {
+            executor.execute(() -> run(reportJob, new ArrayList<>(prospectIds), locale));
+        } catch (RejectedExecutionException error) {
+            repository.deleteById(reportJob.getId());
+            throw new CommonServiceException(
+                    ExceptionMessageConstants.PROSPECT_REPORT_JOB_BUSY_ERROR,
+                    new Object[]{executor.getQueue().size()});
+        }
+        log.debug("Report job [{}] created for [{}] prospect/s", reportJob.getId(), reportJob.getTotal());
+
+        return created;
+    }
+
+    @Override
+    public ProspectReportJobDTO getJob(
+            @NotBlank(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_EMPTY_OR_NULL_ERROR) String jobId)
+            throws ResourceNotFoundException {
+        return mapJob(findJob(jobId));
+    }
+
+    @Override
+    public Resource getJobFile(
+            @NotBlank(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_EMPTY_OR_NULL_ERROR) String jobId)
+            throws ResourceNotFoundException, CommonServiceException {
+        ProspectReportJob job = findJob(jobId);
+        if (job.getStatus() != ProspectReportJobStatus.COMPLETED) {
+            throw new CommonServiceException(
+                    ExceptionMessageConstants.PROSPECT_REPORT_JOB_NOT_COMPLETED_EXCEPTION,
+                    new Object[]{jobId, job.getStatus()});
+        }
+        GridFSFile file = gridFsOperations.findOne(Query.query(Criteria.where("_id").is(new ObjectId(job.getFileId()))));
+        if (file == null) {
+            throw new ResourceNotFoundException(
+                    ExceptionMessageConstants.COMMON_GET_COMPONENT_RESOURCE_NOT_FOUND_EXCEPTION,
+                    new String[]{"Report job file", jobId});
+        }
+        return gridFsOperations.getResource(file);
+    }
+
+    @PreDestroy
+    public void close() {
+        cleanupExecutor.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    void deleteExpiredFiles() {
+        try {
+            gridFsOperations.delete(Query.query(GridFsCriteria
+                    .whereMetaData(JOB_FILE_EXPIRATION_DATE_FIELD)
+                    .lt(toDate(LocalDateTime.now(ZoneOffset.UTC)))));
+        } catch (RuntimeException error) {
+            log.error("Expired report job files could not be deleted: [{}]", error.getMessage(), error);
+        }
+    }
+
+    private void run(ProspectReportJob job, List<String> prospectIds, Locale locale) {
+        log.debug("Running report job [{}]", job.getId());
+        Path file = null;
+        try {
+            job.setStatus(ProspectReportJobStatus.RUNNING);
+            save(job);
+            file = Files.createTempFile(JOB_FILE_PREFIX, JOB_FILE_SUFFIX);
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+                 ZipOutputStream zip = new ZipOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)))) {
+                writeReports(job, prospectIds, locale, zip);
+            }
+            finish(job, ProspectReportJobStatus.COMPLETED);
+            job.setFileId(storeFile(job, file));
+            save(job);
+            log.debug("Report job [{}] completed. [generated: {}, errors: {}]", job.getId(), job.getGenerated(), job.getErrors().size());
+        } catch (IOException | RuntimeException error) {
+            log.error("Report job [{}] failed: [{}]", job.getId(), error.getMessage(), error);
+            job.setFileId(null);
+            job.setError(getErrorMessage(error, locale));
+            finish(job, ProspectReportJobStatus.FAILED);
+            try {
+                save(job);
+            } catch (RuntimeException saveError) {
+                log.error("Report job [{}] could not be marked as failed: [{}]", job.getId(), saveError.getMessage(), saveError);
+            }
+        } finally {
+            deleteFile(file);
+        }
+    }
+
+    private void writeReports(ProspectReportJob job, List<String> prospectIds, Locale locale, ZipOutputStream zip) throws IOException {
+        // Reports are written in request order. Waiting for the oldest one keeps the window full most of the time
+        Deque<PendingReport> pending = new ArrayDeque<>();
+        for (int from = 0; from < prospectIds.size(); from += PROSPECT_BATCH_SIZE) {
+            List<String> batch = prospectIds.subList(from, Math.min(from + PROSPECT_BATCH_SIZE, prospectIds.size()));
+            Map<String, Prospect> prospects = findProspects(batch);
+            for (String prospectId : batch) {
+                if (pending.size() >= parallelism) {
+                    writeReport(job, pending.poll(), locale, zip);
+                }
+                pending.add(new PendingReport(prospectId, generateReport(job, prospectId, prospects.get(prospectId))));
+            }
+        }
+        while (!pending.isEmpty()) {
+            writeReport(job, pending.poll(), locale, zip);
+        }
+    }
+
+    private Map<String, Prospect> findProspects(List<String> prospectIds) {
+        Map<String, Prospect> prospects = new HashMap<>();
+        prospectService
+                .getRepository()
+                .findAllWithReferences(prospectIds, REPORT_PROSPECT_REFERENCES)
+                .forEach(p -> prospects.put(p.getId(), p));
+        return prospects;
+    }
+
+    private CompletableFuture<byte[]> generateReport(ProspectReportJob job, String prospectId, Prospect prospect) {
+        if (prospect == null) {
+            return CompletableFuture.failedFuture(new ResourceNotFoundException(
+                    ExceptionMessageConstants.COMMON_GET_COMPONENT_RESOURCE_NOT_FOUND_EXCEPTION,
+                    new String[]{"Prospect", prospectId}));
+        }
+        try {
+            return prospectService.getReportAsync(prospect, job.getTemplate(), job.getLanguage());
+        } catch (RuntimeException error) {
+            return CompletableFuture.failedFuture(error);
+        }
+    }
+
+    private void writeReport(ProspectReportJob job, PendingReport report, Locale locale, ZipOutputStream zip) throws IOException {
+        byte[] pdf;
+        try {
+            pdf = report.getPdf().get();
+        } catch (InterruptedException error) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(String.format("Report job [%s] interrupted", job.getId()));
+        } catch (ExecutionException error) {
+            Throwable cause = error.getCause() != null ? error.getCause() : error;
+            log.warn("Report job [{}] could not generate the report of prospect id [{}]: [{}]", job.getId(), report.getProspectId(), cause.getMessage());
+            job.getErrors().add(new ProspectReportJobError(report.getProspectId(), getErrorMessage(cause, locale)));
+            saveProgress(job);
+            return;
+        }
+        zip.putNextEntry(new ZipEntry(job.getTemplate() + "." + report.getProspectId() + ".pdf"));
+        zip.write(pdf);
+        zip.closeEntry();
+        job.setGenerated(job.getGenerated() + 1);
+        saveProgress(job);
+    }
+
+    private void saveProgress(ProspectReportJob job) {
+        if (Duration.between(job.getUpdated(), LocalDateTime.now(ZoneOffset.UTC)).compareTo(progressInterval) >= 0) {
+            save(job);
+        }
+    }
+
+    private void save(ProspectReportJob job) {
+        job.setUpdated(LocalDateTime.now(ZoneOffset.UTC));
+        repository.save(job);
+    }
+
+    private void finish(ProspectReportJob job, ProspectReportJobStatus status) {
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+        job.setStatus(status);
+        job.setFinished(now);
+        job.setExpirationDate(now.plus(retention));
+    }
+
+    private String storeFile(ProspectReportJob job, Path file) throws IOException {
+        try (InputStream input = Files.newInputStream(file)) {
+            return gridFsOperations
+                    .store(
+                            input,
+                            JOB_FILE_PREFIX + job.getId() + JOB_FILE_SUFFIX,
+                            JOB_FILE_CONTENT_TYPE,
+                            new Document(JOB_FILE_EXPIRATION_DATE_FIELD, toDate(job.getExpirationDate())))
+                    .toHexString();
+        }
+    }
+
+    private String getErrorMessage(Throwable error, Locale locale) {
+        if (error instanceof CommonServiceException) {
+            return messageSource.getMessage(error.getMessage(), ((CommonServiceException) error).getArgs(), locale);
+        } else if (error instanceof ResourceNotFoundException) {
+            return messageSource.getMessage(error.getMessage(), ((ResourceNotFoundException) error).getArgs(), locale);
+        }
+        return error.getMessage();
+    }
+
+    private ProspectReportJob findJob(String jobId) throws ResourceNotFoundException {
+        return repository
+                .findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        ExceptionMessageConstants.COMMON_GET_COMPONENT_RESOURCE_NOT_FOUND_EXCEPTION,
+                        new String[]{"Report job", jobId}));
+    }
+
+    private ProspectReportJobDTO mapJob(ProspectReportJob job) {
+        return ProspectReportJobDTO.builder()
+                .id(job.getId())
+                .status(job.getStatus())
+                .template(job.getTemplate())
+                .lan(job.getLanguage())
+                .total(job.getTotal())
+                .generated(job.getGenerated())
+                .errors(job.getErrors()
+                        .stream()
+                        .collect(Collectors.toMap(
+                                ProspectReportJobError::getProspectId,
+                                ProspectReportJobError::getMessage,
+                                (first, second) -> second,
+                                LinkedHashMap::new)))
+                .error(job.getError())
+                .created(job.getCreated())
+                .finished(job.getFinished())
+                .build();
+    }
+
+    private static Date toDate(LocalDateTime date) {
+        return Date.from(date.toInstant(ZoneOffset.UTC));
+    }
+
+    private static void deleteFile(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException error) {
+            log.warn("Report job file [{}] could not be deleted: [{}]", file, error.getMessage());
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class PendingReport {
+        private final String prospectId;
+        private final CompletableFuture<byte[]> pdf;
+    }
+}
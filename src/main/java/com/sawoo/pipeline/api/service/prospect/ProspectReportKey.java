@@ -0,0 +1,35 @@
+package com.sawoo.pipeline.api.service.prospect;
+
+import com.sawoo.pipeline.api.model.BaseEntity;
+import com.sawoo.pipeline.api.model.prospect.Prospect;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Content address of a rendered prospect report. The report shows data of the prospect, its person and the
+ * person company, so the latest update of the three is part of the key and any change yields a new report.
+ */
+@Value
+public class ProspectReportKey {
+
+    String prospectId;
+    LocalDateTime updated;
+    String template;
+    String language;
+
+    public static ProspectReportKey of(Prospect prospect, String template, String language) {
+        Stream<BaseEntity> entities = prospect.getPerson() != null ?
+                Stream.of(prospect, prospect.getPerson(), prospect.getPerson().getCompany()) :
+                Stream.of(prospect);
+        LocalDateTime updated = entities
+                .filter(Objects::nonNull)
+                .map(BaseEntity::getUpdated)
+                .filter(Objects::nonNull)
+                .max(LocalDateTime::compareTo)
+                .orElse(null);
+        return new ProspectReportKey(prospect.getId(), updated, template, language);
+    }
+}
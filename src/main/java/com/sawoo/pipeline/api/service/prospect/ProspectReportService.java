@@ -2,8 +2,15 @@ package com.sawoo.pipeline.api.service.prospect;
 
 import com.sawoo.pipeline.api.common.exceptions.CommonServiceException;
 import com.sawoo.pipeline.api.common.exceptions.ResourceNotFoundException;
+import com.sawoo.pipeline.api.model.prospect.Prospect;
+
+import java.util.concurrent.CompletableFuture;
 
 public interface ProspectReportService {
 
     byte[] getReport(String id, String type, String lan) throws CommonServiceException, ResourceNotFoundException;
+
+    CompletableFuture<byte[]> getReportAsync(String id, String type, String lan) throws CommonServiceException, ResourceNotFoundException;
+
+    CompletableFuture<byte[]> getReportAsync(Prospect prospect, String type, String lan) throws CommonServiceException;
 }
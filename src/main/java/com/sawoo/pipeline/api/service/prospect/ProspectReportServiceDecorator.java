@@ -16,48 +16,59 @@ import com.sawoo.pipeline.api.repository.prospect.ProspectRepository;
 import com.sawoo.pipeline.api.service.common.CommonDiscAnalysisData;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.RestTemplate;
 
-import java.net.URI;
-import java.net.URISyntaxException;
-import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class ProspectReportServiceDecorator implements ProspectReportService {
 
-    @Value("${app.report-api}")
-    private String reportAPI;
-
     private final JMapper<ProspectReportDTO, Prospect> mapperOut = new JMapper<>(ProspectReportDTO.class, Prospect.class);
 
     private final CommonDiscAnalysisData discAnalysisData;
     private final ProspectRepository repository;
+    private final ProspectReportClient reportClient;
+    private final ProspectReportCache reportCache;
 
     @Override
     public byte[] getReport(String id, String type, String lan) throws CommonServiceException, ResourceNotFoundException {
-        log.debug("Generating prospect report. [Prospect id: {}, report template type: {}, Language: {}]", id, type, lan);
-        if (type == null) {
-            type = DomainConstants.PROSPECT_REPORT_TEMPLATE_REPORT;
+        try {
+            return getReportAsync(id, type, lan).join();
+        } catch (CompletionException error) {
+            if (error.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) error.getCause();
+            }
+            throw error;
         }
+    }
 
-        ProspectReportDTO report = repository
+    @Override
+    public CompletableFuture<byte[]> getReportAsync(String id, String type, String lan) throws CommonServiceException, ResourceNotFoundException {
+        Prospect prospect = repository
                 .findById(id)
-                .map(p -> mapperOut.getDestination(p, NullPointerControl.SOURCE, MappingType.ONLY_VALUED_FIELDS))
                 .orElseThrow(() ->
                         new ResourceNotFoundException(
                                 ExceptionMessageConstants.COMMON_GET_COMPONENT_RESOURCE_NOT_FOUND_EXCEPTION,
                                 new String[]{"Prospect", id}));
 
-        log.debug("Generating prospect report: [Prospect id: {}, firstName: {}, lastName: {}]", id, report.getFirstName(), report.getLastName());
+        return getReportAsync(prospect, type, lan);
+    }
+
+    @Override
+    public CompletableFuture<byte[]> getReportAsync(Prospect prospect, String type, String lan) throws CommonServiceException {
+        log.debug("Generating prospect report. [Prospect id: {}, report template type: {}, Language: {}]", prospect.getId(), type, lan);
+        String template = type != null ? type : DomainConstants.PROSPECT_REPORT_TEMPLATE_REPORT;
+
+        return reportCache.get(ProspectReportKey.of(prospect, template, lan), key -> createReport(prospect, template, lan));
+    }
+
+    private CompletableFuture<byte[]> createReport(Prospect prospect, String template, String lan) {
+        ProspectReportDTO report = mapperOut.getDestination(prospect, NullPointerControl.SOURCE, MappingType.ONLY_VALUED_FIELDS);
+
+        log.debug("Generating prospect report: [Prospect id: {}, firstName: {}, lastName: {}]", prospect.getId(), report.getFirstName(), report.getLastName());
 
         validateReportData(report);
 
@@ -68,45 +79,17 @@ public class ProspectReportServiceDecorator implements ProspectReportService {
             }
         }
 
-        return getPDFReport(type, report, lan);
+        return reportClient.createPDF(Report
+                .<ProspectReportDTO>builder()
+                .template(template)
+                .templateData(report)
+                .type(CommonConstants.REPORT_PDF_STREAM)
+                .locale(lan)
+                .build());
     }
 
     private void validateReportData(ProspectReportDTO report) {
         // TODO implement
         // company comments, prospect comment and personality type can not be null
     }
-
-    private byte[] getPDFReport(String template, ProspectReportDTO reportData, String lan) throws CommonServiceException {
-        RestTemplate restTemplate = new RestTemplate();
-        final String baseUrl = reportAPI + "/api/create-pdf";
-        Report<ProspectReportDTO> reportBody = Report
-                .<ProspectReportDTO>builder()
-                .template(template)
-                .templateData(reportData)
-                .type(CommonConstants.REPORT_PDF_STREAM)
-                .locale(lan)
-                .build();
-        log.debug("Calling remote report API: [url:{}, report data: {}]", baseUrl, reportBody.toString());
-        try {
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.setAccept(Collections.singletonList(MediaType.APPLICATION_JSON));
-
-            HttpEntity<Report<ProspectReportDTO>> request = new HttpEntity<>(reportBody, headers);
-            URI uri = new URI(baseUrl);
-            ResponseEntity<byte[]> result = restTemplate.postForEntity(uri, request, byte[].class);
-
-            if (result.getBody() != null && result.getBody().length > 0) {
-                return result.getBody();
-            } else {
-                throw new CommonServiceException(
-                        ExceptionMessageConstants.PROSPECT_REPORT_GENERATION_STREAM_BUFFER_EMPTY_ERROR,
-                        new String[]{baseUrl, reportBody.toString()});
-            }
-        } catch (URISyntaxException | HttpClientErrorException error) {
-            throw new CommonServiceException(
-                    ExceptionMessageConstants.PROSPECT_REPORT_GENERATION_INTERNAL_SERVER_EXCEPTION,
-                    new String[]{error.getMessage(), baseUrl, reportBody.toString()});
-        }
-    }
 }
@@ -7,6 +7,7 @@ import com.sawoo.pipeline.api.dto.common.LinkDTO;
 import com.sawoo.pipeline.api.dto.sequence.SequenceStepDTO;
 import com.sawoo.pipeline.api.dto.todo.TodoAssigneeDTO;
 import com.sawoo.pipeline.api.dto.todo.TodoMessageDTO;
+import com.sawoo.pipeline.api.model.common.Link;
 import com.sawoo.pipeline.api.model.common.LinkType;
 import com.sawoo.pipeline.api.model.prospect.Prospect;
 import com.sawoo.pipeline.api.model.sequence.SequenceStepChannel;
@@ -14,6 +15,8 @@ import com.sawoo.pipeline.api.model.todo.TodoSource;
 import com.sawoo.pipeline.api.model.todo.TodoSourceType;
 import com.sawoo.pipeline.api.model.todo.TodoStatus;
 import com.sawoo.pipeline.api.model.todo.TodoType;
+import com.sawoo.pipeline.api.service.infra.template.MessageTemplateEngine;
+import com.sawoo.pipeline.api.service.sequence.SequencePlanStep;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.MessageSource;
@@ -30,17 +33,26 @@ import java.util.Locale;
 public class ProspectSequenceTodoHelper {
 
     private final MessageSource messageSource;
+    private final MessageTemplateEngine messageTemplateEngine;
 
     public TodoAssigneeDTO mapSequenceStepToTODO(SequenceStepDTO step, UserCommon assignee, Prospect prospect, String sequenceId, LocalDateTime startDate) {
+        SequencePlanStep planStep = SequencePlanStep.of(
+                step,
+                step.getTimespan(),
+                messageTemplateEngine.compile(step.getMessageTemplate()));
+        return mapSequencePlanStepToTODO(planStep, assignee, prospect, sequenceId, startDate);
+    }
+
+    public TodoAssigneeDTO mapSequencePlanStepToTODO(SequencePlanStep step, UserCommon assignee, Prospect prospect, String sequenceId, LocalDateTime startDate) {
         LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
         return TodoAssigneeDTO.builder()
-                .scheduled(startDate.plusDays(step.getTimespan()))
+                .scheduled(startDate.plusDays(step.getOffset()))
                 .channel(step.getChannel())
                 .type(TodoType.OUT_GOING_INTERACTION)
                 .status(TodoStatus.PENDING.getValue())
                 .link(createLink(step, prospect))
                 .message(TodoMessageDTO.builder()
-                        .text(step.getMessageTemplate().getText())
+                        .text(messageTemplateEngine.render(step.getMessageTemplate(), prospect))
                         .build())
                 .componentId(prospect.getId())
                 .assignee(assignee)
@@ -56,12 +68,13 @@ public class ProspectSequenceTodoHelper {
     }
 
     // TODO this probably requires a especialization based on the step channel
-    private LinkDTO createLink(SequenceStepDTO step, Prospect prospect) {
-        if (step.getAttachment() != null) {
+    private LinkDTO createLink(SequencePlanStep step, Prospect prospect) {
+        Link attachment = step.getAttachment();
+        if (attachment != null) {
             return LinkDTO.builder()
-                    .description(step.getAttachment().getDescription())
-                    .type(step.getAttachment().getType())
-                    .url(step.getAttachment().getUrl())
+                    .description(attachment.getDescription())
+                    .type(attachment.getType())
+                    .url(attachment.getUrl())
                     .build();
         } else {
             Locale locale = LocaleContextHolder.getLocale();
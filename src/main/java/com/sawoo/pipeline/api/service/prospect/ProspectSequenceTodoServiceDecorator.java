@@ -1,16 +1,17 @@
 package com.sawoo.pipeline.api.service.prospect;
 
-import com.googlecode.jmapper.JMapper;
 import com.sawoo.pipeline.api.common.contants.ExceptionMessageConstants;
 import com.sawoo.pipeline.api.common.exceptions.CommonServiceException;
 import com.sawoo.pipeline.api.common.exceptions.ResourceNotFoundException;
 import com.sawoo.pipeline.api.dto.UserCommon;
-import com.sawoo.pipeline.api.dto.sequence.SequenceStepDTO;
 import com.sawoo.pipeline.api.dto.todo.TodoAssigneeDTO;
 import com.sawoo.pipeline.api.dto.todo.TodoDTO;
 import com.sawoo.pipeline.api.model.DBConstants;
 import com.sawoo.pipeline.api.model.common.Personality;
 import com.sawoo.pipeline.api.model.prospect.Prospect;
+import com.sawoo.pipeline.api.service.account.AccountUserDirectory;
+import com.sawoo.pipeline.api.service.base.ObjectMapping;
+import com.sawoo.pipeline.api.service.sequence.SequencePlan;
 import com.sawoo.pipeline.api.service.sequence.SequenceService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -19,10 +20,15 @@ import org.springframework.stereotype.Component;
 import org.springframework.validation.annotation.Validated;
 
 import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotEmpty;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -68,7 +74,7 @@ public class ProspectSequenceTodoServiceDecorator implements ProspectSequenceTod
         List<TodoAssigneeDTO> todos = createTODOsFromSequence(prospectId, sequenceId, assigneeId);
 
         if (todos != null && !todos.isEmpty()) {
-            JMapper<TodoDTO, TodoAssigneeDTO> mapper = prospectService.getMapper().getTodoAssigneeMapper();
+            ObjectMapping<TodoDTO, TodoAssigneeDTO> mapper = prospectService.getMapper().getTodoAssigneeMapper();
             List<TodoDTO> todoDTOs = todos
                     .stream()
                     .peek(t -> t.setCampaignId(campaignId))
@@ -81,34 +87,106 @@ public class ProspectSequenceTodoServiceDecorator implements ProspectSequenceTod
         return todos;
     }
 
+    @Override
+    public List<ProspectSequenceTodos> createTODOs(
+            @NotBlank(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_EMPTY_ERROR) String campaignId,
+            @NotBlank(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_EMPTY_ERROR) String sequenceId,
+            String assigneeId,
+            @NotEmpty(message = ExceptionMessageConstants.COMMON_LIST_FIELD_CAN_NOT_BE_EMPTY_ERROR) List<Prospect> prospects)
+            throws ResourceNotFoundException, CommonServiceException {
+        log.debug("Create TODOs based on sequence id: [{}] for [{}] prospect/s of campaign id [{}]", sequenceId, prospects.size(), campaignId);
+
+        // Steps only depend on the personality and assignees on the account, so both are resolved once per batch
+        Map<Integer, SequencePlan> plansByPersonality = new HashMap<>();
+        Map<String, UserCommon> assigneesByAccount = new HashMap<>();
+        Map<String, AccountUserDirectory> directories = helper.getDirectoriesByProspectIds(prospects
+                .stream()
+                .map(Prospect::getId)
+                .collect(Collectors.toList()));
+
+        LocalDateTime startDate = LocalDateTime.now(ZoneOffset.UTC);
+        List<ProspectSequenceTodos> results = prospects
+                .stream()
+                .map(prospect -> {
+                    try {
+                        Integer personality = getPersonality(prospect, sequenceId);
+                        SequencePlan plan = plansByPersonality.computeIfAbsent(personality, p -> sequenceService.getPlan(sequenceId, p));
+                        AccountUserDirectory directory = Optional
+                                .ofNullable(directories.get(prospect.getId()))
+                                .orElseThrow(() -> new CommonServiceException(
+                                        ExceptionMessageConstants.PROSPECT_PROSPECT_ACCOUNT_NOT_FOUND_EXCEPTION,
+                                        new String[] {prospect.getId()}));
+                        UserCommon assignee = assigneesByAccount.computeIfAbsent(
+                                directory.getAccountId(),
+                                a -> helper.getAssignee(directory, assigneeId));
+                        return ProspectSequenceTodos.builder()
+                                .prospectId(prospect.getId())
+                                .todos(mapSteps(plan, assignee, prospect, startDate))
+                                .build();
+                    } catch (CommonServiceException exc) {
+                        return failed(prospect.getId(), exc.getMessage(), exc.getArgs());
+                    } catch (ResourceNotFoundException exc) {
+                        return failed(prospect.getId(), exc.getMessage(), exc.getArgs());
+                    }
+                })
+                .collect(Collectors.toList());
+
+        // Insert the TODOs of all the prospects with one bulk write
+        ObjectMapping<TodoDTO, TodoAssigneeDTO> mapper = prospectService.getMapper().getTodoAssigneeMapper();
+        Map<String, List<TodoDTO>> todosByProspect = new LinkedHashMap<>();
+        results
+                .stream()
+                .filter(r -> !r.isFailed() && !r.getTodos().isEmpty())
+                .forEach(r -> todosByProspect.put(r.getProspectId(), r.getTodos()
+                        .stream()
+                        .peek(t -> t.setCampaignId(campaignId))
+                        .map(mapper::getDestination)
+                        .collect(Collectors.toList())));
+        if (!todosByProspect.isEmpty()) {
+            prospectService.addTODOLists(todosByProspect);
+        } else {
+            log.info("No TODOs are going to be created for [campaignId: {}, sequenceId: {}]", campaignId, sequenceId);
+        }
+        return results;
+    }
+
     private List<TodoAssigneeDTO> createTODOsFromSequence(String prospectId, String sequenceId, String assigneeId) {
         Prospect prospect = findProspectById(prospectId);
+        SequencePlan plan = sequenceService.getPlan(sequenceId, getPersonality(prospect, sequenceId));
+
+        // Map steps into tasks
+        LocalDateTime startDate = LocalDateTime.now(ZoneOffset.UTC);
+        UserCommon assignee = helper.getAssignee(prospectId, assigneeId);
+        return mapSteps(plan, assignee, prospect, startDate);
+    }
 
-        // Check prospect personality
+    private Integer getPersonality(Prospect prospect, String sequenceId) {
         Personality personality = prospect.getPerson().getPersonality();
         if (personality == null || personality.getType() == null) {
             throw new CommonServiceException(
                     ExceptionMessageConstants.PROSPECT_SEQUENCE_TODO_PERSONALITY_NOT_ASSIGNED_EXCEPTION,
-                    new String[]{sequenceId, prospectId});
+                    new String[]{sequenceId, prospect.getId()});
         }
+        return personality.getType();
+    }
 
-        // Add up timespan for each of the steps
-        List<SequenceStepDTO> steps = sequenceService.getStepsByPersonality(sequenceId, personality.getType());
-        AtomicInteger lastStepTimespan = new AtomicInteger();
-        steps.forEach(s -> {
-            lastStepTimespan.addAndGet(s.getTimespan());
-            s.setTimespan(lastStepTimespan.get());
-        });
-
-        // Map steps into tasks
-        LocalDateTime startDate = LocalDateTime.now(ZoneOffset.UTC);
-        UserCommon assignee = helper.getAssignee(prospectId, assigneeId);
-        return steps
+    private List<TodoAssigneeDTO> mapSteps(SequencePlan plan, UserCommon assignee, Prospect prospect, LocalDateTime startDate) {
+        return plan.getSteps()
                 .stream()
-                .map(s -> sequenceTodoHelper.mapSequenceStepToTODO(s, assignee, prospect, sequenceId, startDate))
+                .map(s -> sequenceTodoHelper.mapSequencePlanStepToTODO(s, assignee, prospect, plan.getSequenceId(), startDate))
                 .collect(Collectors.toList());
     }
 
+    private ProspectSequenceTodos failed(String prospectId, String error, Object[] errorArgs) {
+        log.debug("TODOs can not be created for prospect id [{}]. Error: [{}]", prospectId, error);
+        return ProspectSequenceTodos.builder()
+                .prospectId(prospectId)
+                .todos(Collections.emptyList())
+                .error(error)
+                .errorArgs(errorArgs)
+                .build();
+    }
+
     private Prospect findProspectById(String prospectId) throws ResourceNotFoundException {
         return prospectService
                 .getRepository()
@@ -0,0 +1,28 @@
+package com.sawoo.pipeline.api.service.prospect;
+
+import com.sawoo.pipeline.api.dto.todo.TodoAssigneeDTO;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Outcome of the TODO generation of a sequence for one prospect of a batch. Failed prospects carry the message key
+ * and arguments of the error instead of the TODOs
+ */
+@Value
+@Builder
+public class ProspectSequenceTodos {
+
+    String prospectId;
+
+    List<TodoAssigneeDTO> todos;
+
+    String error;
+
+    Object[] errorArgs;
+
+    public boolean isFailed() {
+        return error != null;
+    }
+}
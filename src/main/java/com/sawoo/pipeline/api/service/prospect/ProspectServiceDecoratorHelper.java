@@ -1,5 +1,6 @@
 package com.sawoo.pipeline.api.service.prospect;
 
+import com.sawoo.pipeline.api.common.CommonUtils;
 import com.sawoo.pipeline.api.common.contants.ExceptionMessageConstants;
 import com.sawoo.pipeline.api.common.exceptions.CommonServiceException;
 import com.sawoo.pipeline.api.dto.UserCommon;
@@ -8,13 +9,22 @@ import com.sawoo.pipeline.api.model.account.Account;
 import com.sawoo.pipeline.api.model.user.User;
 import com.sawoo.pipeline.api.model.user.UserRole;
 import com.sawoo.pipeline.api.repository.account.AccountRepository;
+import com.sawoo.pipeline.api.service.account.AccountUserDirectory;
+import com.sawoo.pipeline.api.service.account.AccountUserDirectoryCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 
 @Component
 @RequiredArgsConstructor
@@ -22,82 +32,134 @@ import java.util.stream.Collectors;
 public class ProspectServiceDecoratorHelper {
 
     private final AccountRepository accountRepository;
+    private final AccountUserDirectoryCache accountUserCache;
 
     public List<UserCommon> getUsers(String prospectId) {
         log.debug("Retrieving users by prospectId [{}]", prospectId);
-        Account account = findAccountByProspectId(prospectId);
-        Set<User> users = account.getUsers();
+        AccountUserDirectory directory = accountUserCache.getByProspectId(prospectId, this::loadByProspectId);
 
         log.debug("Account id [{}] is associated to prospectId [{}] and there are [{}] users linked to this account",
-                account.getId(),
+                directory.getAccountId(),
                 prospectId,
-                users.size());
+                directory.getUsers().size());
 
-        return users
-                .stream()
-                .map(this::mapUser)
-                .collect(Collectors.toList());
+        return directory.getUsers();
     }
 
     public List<UserCommon> getUsersByAccountId(String accountId) {
         log.debug("Retrieving users by accountId [{}]", accountId);
-        Account account = findAccountById(accountId);
-        Set<User> users = account.getUsers();
+        AccountUserDirectory directory = accountUserCache.getByAccountId(accountId, this::loadByAccountId);
 
         log.debug("Account id [{}] is associated to prospectId [{}] and there are [{}] users linked to this account",
-                account.getId(),
+                directory.getAccountId(),
                 accountId,
-                users.size());
+                directory.getUsers().size());
 
-        return users
-                .stream()
-                .map(this::mapUser)
-                .collect(Collectors.toList());
+        return directory.getUsers();
     }
 
     public List<UserCommon> getUsersByAccountIdIn(List<String> accountIds) {
         log.debug("Retrieving users by accountId in [{}]", accountIds);
-        List<Account> accounts = findAccountByIdIn(accountIds);
-        Set<User> users = accounts.stream()
-                .flatMap(a -> a.getUsers().stream())
-                .collect(Collectors.toSet());
+        if (CommonUtils.isEmptyOrNull(accountIds)) {
+            return Collections.emptyList();
+        }
+        Map<String, AccountUserDirectory> directories = accountUserCache.getByAccountIdIn(accountIds, this::loadByAccountIdIn);
+        List<UserCommon> users = directories.values()
+                .stream()
+                .flatMap(d -> d.getUsers().stream())
+                .distinct()
+                .collect(Collectors.toList());
 
         log.debug("Users [{}] linked to account with ids [{}]", users.size(), accountIds);
 
-        return users
-                .stream()
-                .map(this::mapUser)
-                .collect(Collectors.toList());
+        return users;
     }
 
     public UserCommon getAssignee(String prospectId, String assigneeId) {
         log.debug("Retrieving assignee user for Prospect id [{}]. Assignee id: [{}]", prospectId, assigneeId);
-        Account account = findAccountByProspectId(prospectId);
-        Set<User> users = account.getUsers();
+        AccountUserDirectory directory = accountUserCache.getByProspectId(prospectId, this::loadByProspectId);
+        return getAssignee(directory, assigneeId);
+    }
+
+    /**
+     * User directory of the account of each prospect, keyed by prospect id. Accounts are resolved with one query
+     * for all the prospects and their users are read through the cache. Prospects without account are not included
+     */
+    public Map<String, AccountUserDirectory> getDirectoriesByProspectIds(Collection<String> prospectIds) {
+        log.debug("Retrieving user directories for [{}] prospect/s", prospectIds.size());
+        Map<String, String> accountIds = accountRepository.findAccountIdsByProspectIds(prospectIds);
+        if (accountIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, AccountUserDirectory> directories = accountUserCache.getByAccountIdIn(
+                new HashSet<>(accountIds.values()),
+                this::loadByAccountIdIn);
+
+        log.debug("[{}] account/s resolved for [{}] prospect/s", directories.size(), accountIds.size());
+
+        Map<String, AccountUserDirectory> directoriesByProspect = new HashMap<>();
+        accountIds.forEach((prospectId, accountId) -> {
+            AccountUserDirectory directory = directories.get(accountId);
+            if (directory != null) {
+                directoriesByProspect.put(prospectId, directory);
+            }
+        });
+        return directoriesByProspect;
+    }
+
+    public UserCommon getAssignee(AccountUserDirectory directory, String assigneeId) {
         if (assigneeId != null) {
-            return users.stream()
+            return directory.getUsers()
+                    .stream()
                     .filter(u -> u.getId().equals(assigneeId))
                     .findAny()
-                    .map(this::mapUser)
                     .orElseThrow(() -> new CommonServiceException(
                             ExceptionMessageConstants.PROSPECT_PROSPECT_ACCOUNT_ASSIGNEE_NOT_FOUND_EXCEPTION,
-                            new String[] {account.getId(), assigneeId}));
+                            new String[] {directory.getAccountId(), assigneeId}));
+        } else if (directory.getDefaultAssignee() != null) {
+            return directory.getDefaultAssignee();
         } else {
-            User user = getUserByRole(users, UserRole.AST);
-            if (user == null) {
-                user = getUserByRole(users, UserRole.SALES_USER);
-            }
-            if (user != null) {
-                return mapUser(user);
-            } else {
-                throw new CommonServiceException(
-                        ExceptionMessageConstants.PROSPECT_PROSPECT_ACCOUNT_NO_ASSIGNEE_FOUND_EXCEPTION,
-                        new String[] {account.getId()}
-                );
-            }
+            throw new CommonServiceException(
+                    ExceptionMessageConstants.PROSPECT_PROSPECT_ACCOUNT_NO_ASSIGNEE_FOUND_EXCEPTION,
+                    new String[] {directory.getAccountId()}
+            );
         }
     }
 
+    private AccountUserDirectory loadByProspectId(String prospectId) {
+        return mapDirectory(findAccountByProspectId(prospectId));
+    }
+
+    private AccountUserDirectory loadByAccountId(String accountId) {
+        return mapDirectory(findAccountById(accountId));
+    }
+
+    private Map<String, AccountUserDirectory> loadByAccountIdIn(Iterable<? extends String> accountIds) {
+        List<String> ids = StreamSupport
+                .stream(accountIds.spliterator(), false)
+                .collect(Collectors.toList());
+        return findAccountByIdIn(ids)
+                .stream()
+                .map(this::mapDirectory)
+                .collect(Collectors.toMap(AccountUserDirectory::getAccountId, Function.identity()));
+    }
+
+    private AccountUserDirectory mapDirectory(Account account) {
+        Set<User> users = account.getUsers();
+        User defaultAssignee = getUserByRole(users, UserRole.AST);
+        if (defaultAssignee == null) {
+            defaultAssignee = getUserByRole(users, UserRole.SALES_USER);
+        }
+        return AccountUserDirectory.builder()
+                .accountId(account.getId())
+                .users(Collections.unmodifiableList(users
+                        .stream()
+                        .map(this::mapUser)
+                        .collect(Collectors.toList())))
+                .defaultAssignee(defaultAssignee != null ? mapUser(defaultAssignee) : null)
+                .build();
+    }
+
     private User getUserByRole(Set<User> users, UserRole role) {
         return users.stream()
                 .filter(u -> u.getRoles().contains(role.name()))
@@ -4,6 +4,7 @@ package com.sawoo.pipeline.api.service.prospect;
 import com.sawoo.pipeline.api.common.contants.ExceptionMessageConstants;
 import com.sawoo.pipeline.api.common.exceptions.CommonServiceException;
 import com.sawoo.pipeline.api.common.exceptions.ResourceNotFoundException;
+import com.sawoo.pipeline.api.dto.common.CursorPageDTO;
 import com.sawoo.pipeline.api.dto.prospect.ProspectDTO;
 import com.sawoo.pipeline.api.dto.prospect.ProspectTodoDTO;
 import com.sawoo.pipeline.api.dto.todo.TodoAssigneeDTO;
@@ -26,8 +27,11 @@ import javax.validation.constraints.NotBlank;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -67,6 +71,16 @@ public class ProspectServiceImpl extends BaseServiceImpl<ProspectDTO, Prospect,
         return reportService.getReport(id, type, lan);
     }
 
+    @Override
+    public CompletableFuture<byte[]> getReportAsync(String id, String type, String lan) throws CommonServiceException, ResourceNotFoundException {
+        return reportService.getReportAsync(id, type, lan);
+    }
+
+    @Override
+    public CompletableFuture<byte[]> getReportAsync(Prospect prospect, String type, String lan) throws CommonServiceException {
+        return reportService.getReportAsync(prospect, type, lan);
+    }
+
     @Override
     public TodoDTO addTODO(String prospectId, TodoDTO todo) throws ResourceNotFoundException, CommonServiceException {
         return todoService.addTODO(prospectId, todo);
@@ -78,6 +92,11 @@ public class ProspectServiceImpl extends BaseServiceImpl<ProspectDTO, Prospect,
         return todoService.addTODOList(prospectId, todoList);
     }
 
+    @Override
+    public Map<String, List<TodoDTO>> addTODOLists(Map<String, List<TodoDTO>> todosByProspectId) throws CommonServiceException {
+        return todoService.addTODOLists(todosByProspectId);
+    }
+
     @Override
     public TodoDTO removeTODO(String prospectId, String todoId) throws ResourceNotFoundException {
         return todoService.removeTODO(prospectId, todoId);
@@ -108,6 +127,16 @@ public class ProspectServiceImpl extends BaseServiceImpl<ProspectDTO, Prospect,
         return todoService.searchBy(searchCriteria);
     }
 
+    @Override
+    public CursorPageDTO<ProspectTodoDTO> searchBy(TodoSearch searchCriteria, String next, int limit) {
+        return todoService.searchBy(searchCriteria, next, limit);
+    }
+
+    @Override
+    public Stream<ProspectTodoDTO> streamBy(TodoSearch searchCriteria) {
+        return todoService.streamBy(searchCriteria);
+    }
+
     @Override
     public long removeTODOs(TodoSearchDTO searchCriteria) {
         return todoService.removeTODOs(searchCriteria);
@@ -178,4 +207,10 @@ public class ProspectServiceImpl extends BaseServiceImpl<ProspectDTO, Prospect,
             throws ResourceNotFoundException, CommonServiceException {
         return prospectSequenceTodoService.createTODOs(prospectId, campaignId, sequenceId, assigneeId);
     }
+
+    @Override
+    public List<ProspectSequenceTodos> createTODOs(String campaignId, String sequenceId, String assigneeId, List<Prospect> prospects)
+            throws ResourceNotFoundException, CommonServiceException {
+        return prospectSequenceTodoService.createTODOs(campaignId, sequenceId, assigneeId, prospects);
+    }
 }
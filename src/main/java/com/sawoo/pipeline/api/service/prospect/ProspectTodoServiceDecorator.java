@@ -1,10 +1,12 @@
 package com.sawoo.pipeline.api.service.prospect;
 
+import com.sawoo.pipeline.api.common.KeyedIndex;
 import com.sawoo.pipeline.api.common.contants.ExceptionMessageConstants;
 import com.sawoo.pipeline.api.common.exceptions.CommonServiceException;
 import com.sawoo.pipeline.api.common.exceptions.ResourceNotFoundException;
 import com.sawoo.pipeline.api.dto.UserCommon;
 import com.sawoo.pipeline.api.dto.UserCommonType;
+import com.sawoo.pipeline.api.dto.common.CursorPageDTO;
 import com.sawoo.pipeline.api.dto.prospect.ProspectTodoDTO;
 import com.sawoo.pipeline.api.dto.todo.TodoAssigneeDTO;
 import com.sawoo.pipeline.api.dto.todo.TodoDTO;
@@ -18,6 +20,7 @@ import com.sawoo.pipeline.api.repository.prospect.ProspectRepository;
 import com.sawoo.pipeline.api.service.todo.TodoService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.validation.annotation.Validated;
 
@@ -25,13 +28,15 @@ import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotNull;
-import java.time.LocalDateTime;
-import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Component
@@ -39,11 +44,16 @@ import java.util.stream.Collectors;
 @Validated
 public class ProspectTodoServiceDecorator implements ProspectTodoService {
 
+    private static final String TODOS_FIELD = "todos";
+
     private final TodoService todoService;
     private final ProspectRepository repository;
     private final ProspectServiceDecoratorHelper helper;
     private final ProspectMapper mapper;
 
+    @Value("${app.mongo.prospect-todo.back-reference:false}")
+    private boolean prospectTodoBackReference;
+
     @Override
     public TodoDTO addTODO(
             @NotBlank(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_EMPTY_ERROR) String prospectId,
@@ -52,19 +62,17 @@ public class ProspectTodoServiceDecorator implements ProspectTodoService {
         log.debug("Add new todo for prospect id: [{}].", prospectId);
 
         Prospect prospect = findProspectById(prospectId);
-        List<Todo> todos = prospect.getTodos();
+        List<Todo> todos = getProspectTodos(prospect);
 
         // Validate schedule
         validateTodoScheduled(todos, todo, prospectId);
 
         todo.setComponentId(prospectId);
-                final TodoDTO savedTODO = todoService.create(todo);
+        final TodoDTO savedTODO = todoService.create(todo);
 
         log.debug("Prospect todo has been created for prospect id: [{}]. Todo id [{}]", prospectId, todo.getId());
 
-        todos.add(todoService.getMapper().getMapperIn().getDestination(savedTODO));
-        prospect.setUpdated(LocalDateTime.now(ZoneOffset.UTC));
-        repository.save(prospect);
+        pushProspectTodos(prospectId, List.of(todoService.getMapper().getMapperIn().getDestination(savedTODO)));
 
         return savedTODO;
     }
@@ -76,27 +84,69 @@ public class ProspectTodoServiceDecorator implements ProspectTodoService {
         log.debug("Add a list of TODOs for prospect id: [{}]. List size [{}]", prospectId, todoList.size());
 
         Prospect prospect = findProspectById(prospectId);
-        List<Todo> todos = prospect.getTodos();
+        List<Todo> todos = getProspectTodos(prospect);
 
-        // TODO add contract to create multiple TODOs in one single insert
-        List<TodoDTO> newTodoList = todoList.stream().map(t -> {
+        todoList.forEach(t -> {
             validateTodoScheduled(todos, t, prospectId);
             t.setComponentId(prospectId);
-            TodoDTO savedTODO = todoService.create(t);
-            log.debug("Prospect TODO has been created for prospect id: [{}]. TODO id [{}]", prospectId, savedTODO.getId());
-            return savedTODO;
-        }).collect(Collectors.toList());
+        });
+        List<TodoDTO> newTodoList = todoService.createAll(todoList);
+        log.debug("[{}] prospect TODOs have been created for prospect id: [{}]", newTodoList.size(), prospectId);
 
-        todos.addAll(newTodoList
-                        .stream()
-                        .map(todoService.getMapper().getMapperIn()::getDestination)
+        pushProspectTodos(prospectId, newTodoList
+                .stream()
+                .map(todoService.getMapper().getMapperIn()::getDestination)
                 .collect(Collectors.toList()));
-        prospect.setUpdated(LocalDateTime.now(ZoneOffset.UTC));
-        repository.save(prospect);
 
         return newTodoList;
     }
 
+    @Override
+    public Map<String, List<TodoDTO>> addTODOLists(
+            @NotEmpty(message = ExceptionMessageConstants.COMMON_LIST_FIELD_CAN_NOT_BE_EMPTY_ERROR) Map<String, List<TodoDTO>> todosByProspectId)
+            throws CommonServiceException {
+        log.debug("Add lists of TODOs for [{}] prospect/s", todosByProspectId.size());
+
+        // Only manual TODOs are checked against the prospect schedule, so existing TODOs are read only when needed
+        List<String> scheduledProspectIds = todosByProspectId.entrySet()
+                .stream()
+                .filter(e -> e.getValue().stream().anyMatch(t -> t.getSource() == null || TodoSourceType.MANUAL.equals(t.getSource().getType())))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+        Map<String, List<Todo>> currentTodos = scheduledProspectIds.isEmpty() ?
+                Collections.emptyMap() :
+                todoService.getRepository()
+                        .findByComponentIdIn(scheduledProspectIds)
+                        .stream()
+                        .collect(Collectors.groupingBy(Todo::getComponentId));
+
+        List<TodoDTO> todoList = new ArrayList<>();
+        todosByProspectId.forEach((prospectId, todos) -> todos.forEach(t -> {
+            validateTodoScheduled(currentTodos.getOrDefault(prospectId, Collections.emptyList()), t, prospectId);
+            t.setComponentId(prospectId);
+            todoList.add(t);
+        }));
+        if (todoList.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, List<TodoDTO>> newTodos = todoService
+                .createAll(todoList)
+                .stream()
+                .collect(Collectors.groupingBy(TodoDTO::getComponentId, LinkedHashMap::new, Collectors.toList()));
+        log.debug("[{}] prospect TODOs have been created for [{}] prospect/s", todoList.size(), newTodos.size());
+
+        if (!prospectTodoBackReference) {
+            Map<String, List<Todo>> references = new HashMap<>();
+            newTodos.forEach((prospectId, todos) -> references.put(prospectId, todos
+                    .stream()
+                    .map(todoService.getMapper().getMapperIn()::getDestination)
+                    .collect(Collectors.toList())));
+            repository.addTodos(references);
+        }
+
+        return newTodos;
+    }
+
     @Override
     public TodoDTO removeTODO(
             @NotBlank(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_EMPTY_ERROR) String prospectId,
@@ -105,14 +155,12 @@ public class ProspectTodoServiceDecorator implements ProspectTodoService {
         log.debug("Remove todo from prospect id: [{}].", prospectId);
 
         Prospect prospect = findProspectById(prospectId);
-        return prospect.getTodos()
+        return getProspectTodos(prospect)
                 .stream()
                 .filter(i -> i.getId().equals(todoId))
                 .findAny()
                 .map( i -> {
-                    prospect.getTodos().remove(i);
-                    prospect.setUpdated(LocalDateTime.now(ZoneOffset.UTC));
-                    repository.save(prospect);
+                    pullProspectTodos(prospectId, List.of(i));
                     log.debug("Todo with id [{}] for prospect id [{}] has been deleted.", todoId, prospectId);
                     return todoService.delete(i.getId());
                 })
@@ -130,7 +178,7 @@ public class ProspectTodoServiceDecorator implements ProspectTodoService {
             throws ResourceNotFoundException {
         Prospect prospect = findProspectById(prospectId);
 
-        List<Todo> todosToBeDeleted = prospect.getTodos()
+        List<Todo> todosToBeDeleted = getProspectTodos(prospect)
                 .stream()
                 .filter(t -> todoIds.contains(t.getId()))
                 .collect(Collectors.toList());
@@ -143,9 +191,7 @@ public class ProspectTodoServiceDecorator implements ProspectTodoService {
                     ExceptionMessageConstants.COMMON_GET_COMPONENT_RESOURCE_NOT_FOUND_EXCEPTION,
                     new String[]{ DBConstants.TODO_DOCUMENT, String.join(",", todoIds) });
         } else {
-            prospect.getTodos().removeAll(todosToBeDeleted);
-            prospect.setUpdated(LocalDateTime.now(ZoneOffset.UTC));
-            repository.save(prospect);
+            pullProspectTodos(prospectId, todosToBeDeleted);
             log.debug("Todo/s with id/s [{}] for prospect id [{}] has been deleted.", todoIds, prospectId);
             return todoService.deleteByIds(idsTodoToBeDeleted);
         }
@@ -158,10 +204,10 @@ public class ProspectTodoServiceDecorator implements ProspectTodoService {
         log.debug("Get TODOs from prospect id: [{}].", prospectId);
 
         Prospect prospect = findProspectById(prospectId);
-        List<Todo> todos = prospect.getTodos();
+        List<Todo> todos = getProspectTodos(prospect);
         List<TodoAssigneeDTO> assigneeTODOs = Collections.emptyList();
         if (!todos.isEmpty()) {
-            final List<UserCommon> users = helper.getUsers(prospectId);
+            final KeyedIndex<String, UserCommon> users = KeyedIndex.of(helper.getUsers(prospectId), UserCommon::getId);
             assigneeTODOs = todos
                     .stream()
                     .map(t -> mapTODO(t, users, prospect))
@@ -179,14 +225,13 @@ public class ProspectTodoServiceDecorator implements ProspectTodoService {
             throws ResourceNotFoundException {
         log.debug("Get todo id [{}] from prospect id: [{}].", todoId, prospectId);
         Prospect prospect = findProspectById(prospectId);
-        return prospect
-                .getTodos()
+        return getProspectTodos(prospect)
                 .stream()
                 .filter(i -> todoId.equals(i.getId()))
                 .findAny()
                 .map(i -> {
                     log.debug("Todo id [{}] for prospect id [{}] has been found. \nTodo: [{}]", todoId, prospectId, i);
-                    List<UserCommon> users = helper.getUsers(prospectId);
+                    KeyedIndex<String, UserCommon> users = KeyedIndex.of(helper.getUsers(prospectId), UserCommon::getId);
                     return mapTODO(i, users, prospect);
                 })
                 .orElseThrow( () ->
@@ -224,32 +269,52 @@ public class ProspectTodoServiceDecorator implements ProspectTodoService {
         }
     }
 
+    @Override
+    public CursorPageDTO<ProspectTodoDTO> searchBy(TodoSearch searchCriteria, String next, int limit) {
+        log.debug("Search page of [{}] TODOs after cursor [{}] with the following search criteria [{}]", limit, next, searchCriteria);
+
+        CursorPageDTO<TodoDTO> page = todoService.searchBy(searchCriteria, next, limit);
+        if (page.getContent().isEmpty()) {
+            return CursorPageDTO.of(Collections.emptyList(), limit, page.getNext());
+        }
+        List<Prospect> prospects = searchCriteria.getComponentIds().isEmpty() ?
+                Collections.emptyList() :
+                repository.findAllByIdIn(searchCriteria.getComponentIds());
+        List<UserCommon> users = helper.getUsersByAccountIdIn(searchCriteria.getAccountIds());
+        return CursorPageDTO.of(mapTODOsProspects(page.getContent(), prospects, users), limit, page.getNext());
+    }
+
+    @Override
+    public Stream<ProspectTodoDTO> streamBy(TodoSearch searchCriteria) {
+        log.debug("Stream TODOs with the following search criteria [{}]", searchCriteria);
+
+        // Prospects and users are bounded by the search criteria, only the TODOs are streamed
+        List<Prospect> prospects = searchCriteria.getComponentIds().isEmpty() ?
+                Collections.emptyList() :
+                repository.findAllByIdIn(searchCriteria.getComponentIds());
+        KeyedIndex<String, Prospect> prospectIndex = KeyedIndex.of(prospects, Prospect::getId);
+        KeyedIndex<String, UserCommon> userIndex = KeyedIndex.of(helper.getUsersByAccountIdIn(searchCriteria.getAccountIds()), UserCommon::getId);
+        return todoService
+                .streamBy(searchCriteria)
+                .map(t -> mapTODOProspect(t, prospectIndex, userIndex));
+    }
+
     @Override
     public long removeTODOs(TodoSearchDTO searchCriteria) {
         log.debug("Remove TODOs with the following search criteria [{}]", searchCriteria);
         List<TodoDTO> todos = todoService.findAllAndRemove(searchCriteria);
-        if (todos != null && !todos.isEmpty()) {
+        if (todos != null && !todos.isEmpty() && !prospectTodoBackReference) {
             List<String> prospectIds = searchCriteria.getComponentIds();
             log.debug("[{}] TODOs will be removed from their prospects [{}]", todos.size(), prospectIds);
-            prospectIds.forEach(prospectId -> removeDeletedTODOs(prospectId, todos));
+            List<Todo> deletedTodos = todos
+                    .stream()
+                    .map(todoService.getMapper().getMapperIn()::getDestination)
+                    .collect(Collectors.toList());
+            prospectIds.forEach(prospectId -> pullProspectTodos(prospectId, deletedTodos));
         }
         return todos != null ? todos.size() : 0;
     }
 
-    private void removeDeletedTODOs(String prospectId, List<TodoDTO> todos) {
-        Predicate<Todo> isContained = t -> todos.stream().anyMatch(todo -> todo.getId().equals(t.getId()));
-        Prospect prospect = findProspectById(prospectId);
-        List<Todo> updatedTodos = prospect
-                .getTodos()
-                .stream()
-                .filter(isContained)
-                .collect(Collectors.toList());
-        prospect.setTodos(updatedTodos);
-        prospect.setUpdated(LocalDateTime.now(ZoneOffset.UTC));
-        repository.save(prospect);
-        log.debug("Prospect TODOs updated. Prospect id: [{}]. Remove some TODOs", prospectId);
-    }
-
     @Override
     public long removeTODOs(List<String> todoIds) {
         log.debug("Remove TODOs with the following ids [{}]", todoIds);
@@ -265,7 +330,27 @@ public class ProspectTodoServiceDecorator implements ProspectTodoService {
                                 new String[]{ DBConstants.PROSPECT_DOCUMENT, prospectId }));
     }
 
-    private TodoAssigneeDTO mapTODO(Todo t, List<UserCommon> users, Prospect prospect) {
+    private List<Todo> getProspectTodos(Prospect prospect) {
+        if (prospectTodoBackReference) {
+            // TODOs are only linked to the prospect through the indexed componentId field
+            return todoService.getRepository().findByComponentId(prospect.getId());
+        }
+        return prospect.getTodos();
+    }
+
+    private void pushProspectTodos(String prospectId, List<Todo> todos) {
+        if (!prospectTodoBackReference) {
+            repository.pushAll(prospectId, TODOS_FIELD, todos);
+        }
+    }
+
+    private void pullProspectTodos(String prospectId, List<Todo> todos) {
+        if (!prospectTodoBackReference) {
+            repository.pullAll(prospectId, TODOS_FIELD, todos);
+        }
+    }
+
+    private TodoAssigneeDTO mapTODO(Todo t, KeyedIndex<String, UserCommon> users, Prospect prospect) {
         TodoAssigneeDTO todo = todoService.getMapper().getAssigneeMapperOut().getDestination(t);
         if (todo.getAssigneeId().equals(prospect.getId())) {
             todo.setAssignee(UserCommon.builder()
@@ -274,23 +359,25 @@ public class ProspectTodoServiceDecorator implements ProspectTodoService {
                     .type(UserCommonType.PROSPECT)
                     .build());
         } else {
-            Optional<UserCommon> user = users.stream().filter(u -> u.getId().equals(todo.getAssigneeId())).findAny();
-            user.ifPresent(todo::setAssignee);
+            users.find(todo.getAssigneeId()).ifPresent(todo::setAssignee);
         }
         return todo;
     }
 
     private List<ProspectTodoDTO> mapTODOsProspects(List<TodoDTO> todos, List<Prospect> prospects, List<UserCommon> users) {
+        KeyedIndex<String, Prospect> prospectIndex = KeyedIndex.of(prospects, Prospect::getId);
+        KeyedIndex<String, UserCommon> userIndex = KeyedIndex.of(users, UserCommon::getId);
         return todos
                 .stream()
-                .map(t -> {
-                    ProspectTodoDTO todo = mapper.getTodoMapperOut().getDestination(t);
-                    Optional<Prospect> prospect = prospects.stream().filter(l -> l.getId().equals(todo.getComponentId())).findAny();
-                    Optional<UserCommon> user = users == null ? Optional.empty() : users.stream().filter(l -> l.getId().equals(todo.getAssigneeId())).findAny();
-                    prospect.ifPresent(value -> todo.setProspect(mapper.getProspectTodoMapperOut().getDestination(value)));
-                    user.ifPresent(todo::setAssignee);
-                    return todo;
-                }).collect(Collectors.toList());
+                .map(t -> mapTODOProspect(t, prospectIndex, userIndex))
+                .collect(Collectors.toList());
+    }
+
+    private ProspectTodoDTO mapTODOProspect(TodoDTO t, KeyedIndex<String, Prospect> prospects, KeyedIndex<String, UserCommon> users) {
+        ProspectTodoDTO todo = mapper.getTodoMapperOut().getDestination(t);
+        prospects.find(todo.getComponentId()).ifPresent(value -> todo.setProspect(mapper.getProspectTodoMapperOut().getDestination(value)));
+        users.find(todo.getAssigneeId()).ifPresent(todo::setAssignee);
+        return todo;
     }
 
     private void validateTodoScheduled(List<Todo> currentTodos, TodoDTO newTodo, String prospectId) {
@@ -1,5 +1,6 @@
 package com.sawoo.pipeline.api.service.sequence;
 
+import com.sawoo.pipeline.api.common.KeyedIndex;
 import com.sawoo.pipeline.api.common.contants.ExceptionMessageConstants;
 import com.sawoo.pipeline.api.common.exceptions.CommonServiceException;
 import com.sawoo.pipeline.api.dto.account.AccountDTO;
@@ -43,14 +44,13 @@ public class SequenceAccountServiceDecorator implements SequenceAccountService {
 
         log.debug("[{}] sequence/s has/have been found for account [ids: {}]", sequences.size(), accountIds);
 
-        List<AccountDTO> accountList = accountService.findAllById(accountIds);
+        KeyedIndex<String, AccountDTO> accounts = KeyedIndex.of(accountService.findAllById(accountIds), AccountDTO::getId);
 
         return sequences.stream().map(s -> {
             SequenceDTO sequence = sequenceService.getMapper().getMapperOut().getDestination(s);
             Optional<SequenceUserDTO> owner = sequence.getUsers().stream().filter(su -> SequenceUserType.OWNER.equals(su.getType())).findFirst();
             owner.ifPresent(o -> sequence.setOwnerId(o.getUserId()));
-            Optional<AccountDTO> account = accountList.stream().filter(a -> a.getId().equals(sequence.getComponentId())).findFirst();
-            account.ifPresentOrElse(
+            accounts.find(sequence.getComponentId()).ifPresentOrElse(
                     a -> sequence.setAccount(a),
                     () -> log.warn("Sequence id [{}] where component with id [{}] has not been found",
                             sequence.getId(),
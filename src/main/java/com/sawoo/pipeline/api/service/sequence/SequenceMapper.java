@@ -1,9 +1,10 @@
 package com.sawoo.pipeline.api.service.sequence;
 
-import com.googlecode.jmapper.JMapper;
 import com.sawoo.pipeline.api.dto.sequence.SequenceDTO;
 import com.sawoo.pipeline.api.model.sequence.Sequence;
 import com.sawoo.pipeline.api.service.base.BaseMapper;
+import com.sawoo.pipeline.api.service.base.JMapperMapping;
+import com.sawoo.pipeline.api.service.base.ObjectMapping;
 import com.sawoo.pipeline.api.service.sequencestep.SequenceStepMapper;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -16,6 +17,6 @@ public class SequenceMapper implements BaseMapper<SequenceDTO, Sequence> {
 
     private final SequenceStepMapper sequenceStepMapper;
 
-    private final JMapper<SequenceDTO, Sequence> mapperOut = new JMapper<>(SequenceDTO.class, Sequence.class);
-    private final JMapper<Sequence, SequenceDTO> mapperIn = new JMapper<>(Sequence.class, SequenceDTO.class);
+    private final ObjectMapping<SequenceDTO, Sequence> mapperOut = new JMapperMapping<>(SequenceDTO.class, Sequence.class);
+    private final ObjectMapping<Sequence, SequenceDTO> mapperIn = new JMapperMapping<>(Sequence.class, SequenceDTO.class);
 }
@@ -0,0 +1,21 @@
+package com.sawoo.pipeline.api.service.sequence;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Immutable steps of a sequence for one personality, ready to be turned into TODOs. Plans are cached by
+ * {@link SequencePlanCache} so TODOs can be generated without reading the sequence again
+ */
+@Value
+@Builder
+public class SequencePlan {
+
+    String sequenceId;
+
+    Integer personality;
+
+    List<SequencePlanStep> steps;
+}
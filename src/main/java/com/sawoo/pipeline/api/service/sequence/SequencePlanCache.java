@@ -0,0 +1,54 @@
+package com.sawoo.pipeline.api.service.sequence;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.BiFunction;
+
+@Slf4j
+@Component
+public class SequencePlanCache {
+
+    private static final String SEQUENCE_PLANS_CACHE_NAME = "sequence.plans";
+    private static final String KEY_SEPARATOR = ":";
+
+    private final boolean enabled;
+    private final Cache<String, SequencePlan> plans;
+
+    public SequencePlanCache(
+            MeterRegistry meterRegistry,
+            @Value("${app.cache.sequence-plans.enabled:true}") boolean enabled,
+            @Value("${app.cache.sequence-plans.max-size:1000}") long maxSize,
+            @Value("${app.cache.sequence-plans.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.enabled = enabled;
+        this.plans = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, plans, SEQUENCE_PLANS_CACHE_NAME);
+    }
+
+    public SequencePlan get(String sequenceId, Integer personality, BiFunction<String, Integer, SequencePlan> loader) {
+        if (!enabled) {
+            return loader.apply(sequenceId, personality);
+        }
+        return plans.get(getKey(sequenceId, personality), k -> loader.apply(sequenceId, personality));
+    }
+
+    public void invalidate(String sequenceId) {
+        log.debug("Invalidating cached plans for sequence id [{}]", sequenceId);
+        String prefix = sequenceId + KEY_SEPARATOR;
+        plans.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    private static String getKey(String sequenceId, Integer personality) {
+        return sequenceId + KEY_SEPARATOR + personality;
+    }
+}
@@ -0,0 +1,44 @@
+package com.sawoo.pipeline.api.service.sequence;
+
+import com.sawoo.pipeline.api.dto.sequence.SequenceStepDTO;
+import com.sawoo.pipeline.api.model.common.Link;
+import com.sawoo.pipeline.api.service.infra.template.CompiledMessageTemplate;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Step of a {@link SequencePlan}. The offset is the number of days from the start of the sequence, that is the
+ * timespan of the step added up to the timespans of the previous ones
+ */
+@Value
+@Builder
+public class SequencePlanStep {
+
+    String stepId;
+
+    Integer position;
+
+    int offset;
+
+    Integer channel;
+
+    CompiledMessageTemplate messageTemplate;
+
+    Link attachment;
+
+    public static SequencePlanStep of(SequenceStepDTO step, int offset, CompiledMessageTemplate messageTemplate) {
+        return SequencePlanStep.builder()
+                .stepId(step.getId())
+                .position(step.getPosition())
+                .offset(offset)
+                .channel(step.getChannel())
+                .messageTemplate(messageTemplate)
+                .attachment(step.getAttachment() != null ? step.getAttachment().toBuilder().build() : null)
+                .build();
+    }
+
+    public Link getAttachment() {
+        // Links are mutable, the cached plan must not be changed through them
+        return attachment != null ? attachment.toBuilder().build() : null;
+    }
+}
@@ -19,6 +19,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
 
 import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotEmpty;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -33,6 +34,7 @@ public class SequenceServiceImpl extends BaseServiceImpl<SequenceDTO, Sequence,
 
     private final SequenceAccountService sequenceAccountService;
     private final SequenceStepsService sequenceStepService;
+    private final SequencePlanCache planCache;
 
     @Autowired
     public SequenceServiceImpl(SequenceRepository repository,
@@ -40,10 +42,12 @@ public class SequenceServiceImpl extends BaseServiceImpl<SequenceDTO, Sequence,
                                ApplicationEventPublisher eventPublisher,
                                SequenceAccountService sequenceAccountService,
                                SequenceStepsService sequenceStepService,
+                               SequencePlanCache planCache,
                                AuditService audit) {
         super(repository, mapper, DBConstants.SEQUENCE_DOCUMENT, eventPublisher, audit);
         this.sequenceAccountService = sequenceAccountService;
         this.sequenceStepService = sequenceStepService;
+        this.planCache = planCache;
     }
 
     @Override
@@ -56,6 +60,32 @@ public class SequenceServiceImpl extends BaseServiceImpl<SequenceDTO, Sequence,
         return getRepository().findByComponentIdAndName(entityToCreate.getComponentId(), entityToCreate.getName());
     }
 
+    @Override
+    public SequenceDTO update(
+            @NotBlank(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_EMPTY_ERROR) String id,
+            SequenceDTO dto) throws ResourceNotFoundException {
+        SequenceDTO sequence = super.update(id, dto);
+        planCache.invalidate(id);
+        return sequence;
+    }
+
+    @Override
+    public SequenceDTO delete(
+            @NotBlank(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_EMPTY_ERROR) String id)
+            throws ResourceNotFoundException {
+        SequenceDTO sequence = super.delete(id);
+        planCache.invalidate(id);
+        return sequence;
+    }
+
+    @Override
+    public List<SequenceDTO> deleteByIds(
+            @NotEmpty(message = ExceptionMessageConstants.COMMON_LIST_FIELD_CAN_NOT_BE_EMPTY_ERROR) List<String> ids) {
+        List<SequenceDTO> sequences = super.deleteByIds(ids);
+        ids.forEach(planCache::invalidate);
+        return sequences;
+    }
+
     @Override
     public SequenceDTO deleteUser(
             @NotBlank(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_EMPTY_ERROR) String id,
@@ -112,4 +142,9 @@ public class SequenceServiceImpl extends BaseServiceImpl<SequenceDTO, Sequence,
     public List<SequenceStepDTO> getStepsByPersonality(String sequenceId, Integer personality) throws ResourceNotFoundException {
         return sequenceStepService.getStepsByPersonality(sequenceId, personality);
     }
+
+    @Override
+    public SequencePlan getPlan(String sequenceId, Integer personality) throws ResourceNotFoundException {
+        return sequenceStepService.getPlan(sequenceId, personality);
+    }
 }
@@ -7,6 +7,7 @@ import com.sawoo.pipeline.api.dto.sequence.SequenceStepDTO;
 import com.sawoo.pipeline.api.model.DBConstants;
 import com.sawoo.pipeline.api.model.sequence.Sequence;
 import com.sawoo.pipeline.api.model.sequence.SequenceStep;
+import com.sawoo.pipeline.api.service.infra.template.MessageTemplateEngine;
 import com.sawoo.pipeline.api.service.sequencestep.SequenceStepService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -19,8 +20,8 @@ import javax.validation.constraints.Min;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotNull;
-import java.time.LocalDateTime;
-import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -28,13 +29,23 @@ import java.util.stream.Collectors;
 @Component
 public class SequenceStepsServiceDecorator implements SequenceStepsService {
 
+    private static final String STEPS_FIELD = "steps";
+
     private final SequenceStepService sequenceStepService;
     private final SequenceService sequenceService;
+    private final SequencePlanCache planCache;
+    private final MessageTemplateEngine messageTemplateEngine;
 
     @Autowired
-    public SequenceStepsServiceDecorator(@Lazy SequenceService sequenceService, SequenceStepService sequenceStepService) {
+    public SequenceStepsServiceDecorator(
+            @Lazy SequenceService sequenceService,
+            SequenceStepService sequenceStepService,
+            SequencePlanCache planCache,
+            MessageTemplateEngine messageTemplateEngine) {
         this.sequenceService = sequenceService;
         this.sequenceStepService = sequenceStepService;
+        this.planCache = planCache;
+        this.messageTemplateEngine = messageTemplateEngine;
     }
 
     @Override
@@ -58,9 +69,10 @@ public class SequenceStepsServiceDecorator implements SequenceStepsService {
 
         log.debug("Sequence step has been created for sequence id: [{}]. Step id [{}]", sequenceId, step.getId());
 
-        steps.add(sequenceStepService.getMapper().getMapperIn().getDestination(stepCreated));
-        sequence.setUpdated(LocalDateTime.now(ZoneOffset.UTC));
-        sequenceService.getRepository().save(sequence);
+        sequenceService
+                .getRepository()
+                .pushAll(sequenceId, STEPS_FIELD, List.of(sequenceStepService.getMapper().getMapperIn().getDestination(stepCreated)));
+        planCache.invalidate(sequenceId);
 
         return stepCreated;
     }
@@ -84,7 +96,9 @@ public class SequenceStepsServiceDecorator implements SequenceStepsService {
                                 ExceptionMessageConstants.SEQUENCE_STEP_UPDATE_STEP_POSITION_OR_PERSONALITY_CANT_CHANGE_EXCEPTION,
                                 new Object[]{sequenceId, sequence.getName(), step.getId(), step.getPosition(), step.getPersonality()});
                     }
-                    return sequenceStepService.update(step.getId(), step);
+                    SequenceStepDTO stepUpdated = sequenceStepService.update(step.getId(), step);
+                    planCache.invalidate(sequenceId);
+                    return stepUpdated;
                 }).orElseThrow(() ->
                         new CommonServiceException(
                                 ExceptionMessageConstants.SEQUENCE_STEP_UPDATE_STEP_NOT_FOUND_IN_THE_SEQUENCE_EXCEPTION,
@@ -104,9 +118,8 @@ public class SequenceStepsServiceDecorator implements SequenceStepsService {
                 .filter(s -> s.getId().equals(sequenceStepId))
                 .findAny()
                 .map( s -> {
-                    sequence.getSteps().remove(s);
-                    sequence.setUpdated(LocalDateTime.now(ZoneOffset.UTC));
-                    sequenceService.getRepository().save(sequence);
+                    sequenceService.getRepository().pullAll(sequenceId, STEPS_FIELD, List.of(s));
+                    planCache.invalidate(sequenceId);
 
                     log.debug("Sequence step with id [{}] for sequence id [{}] has been deleted.", sequenceStepId, sequenceId);
                     return sequenceStepService.delete(sequenceStepId);
@@ -138,6 +151,37 @@ public class SequenceStepsServiceDecorator implements SequenceStepsService {
             @NotNull(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_NULL_ERROR) Integer personality)
             throws ResourceNotFoundException {
         log.debug("Get sequence steps for sequence: [id: {}, personality: {}].", sequenceId, personality);
+        return findStepsByPersonality(sequenceId, personality);
+    }
+
+    @Override
+    public SequencePlan getPlan(
+            @NotBlank(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_EMPTY_ERROR) String sequenceId,
+            @Min(value = 1, message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_BELLOW_MIN_SIZE_ERROR)
+            @Max(value = 4, message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_EXCEED_MAX_SIZE_ERROR)
+            @NotNull(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_NULL_ERROR) Integer personality)
+            throws ResourceNotFoundException {
+        return planCache.get(sequenceId, personality, this::createPlan);
+    }
+
+    private SequencePlan createPlan(String sequenceId, Integer personality) {
+        log.debug("Create plan for sequence: [id: {}, personality: {}].", sequenceId, personality);
+
+        // Add up timespan for each of the steps
+        int offset = 0;
+        List<SequencePlanStep> steps = new ArrayList<>();
+        for (SequenceStepDTO step : findStepsByPersonality(sequenceId, personality)) {
+            offset += step.getTimespan();
+            steps.add(SequencePlanStep.of(step, offset, messageTemplateEngine.compile(step.getMessageTemplate())));
+        }
+        return SequencePlan.builder()
+                .sequenceId(sequenceId)
+                .personality(personality)
+                .steps(Collections.unmodifiableList(steps))
+                .build();
+    }
+
+    private List<SequenceStepDTO> findStepsByPersonality(String sequenceId, Integer personality) {
         Sequence sequence = findSequenceById(sequenceId);
 
         return sequence.getSteps()
@@ -1,9 +1,10 @@
 package com.sawoo.pipeline.api.service.sequencestep;
 
-import com.googlecode.jmapper.JMapper;
 import com.sawoo.pipeline.api.dto.sequence.SequenceStepDTO;
 import com.sawoo.pipeline.api.model.sequence.SequenceStep;
 import com.sawoo.pipeline.api.service.base.BaseMapper;
+import com.sawoo.pipeline.api.service.base.JMapperMapping;
+import com.sawoo.pipeline.api.service.base.ObjectMapping;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -13,6 +14,6 @@ import org.springframework.stereotype.Component;
 @Component
 public class SequenceStepMapper implements BaseMapper<SequenceStepDTO, SequenceStep> {
 
-    private final JMapper<SequenceStepDTO, SequenceStep> mapperOut = new JMapper<>(SequenceStepDTO.class, SequenceStep.class);
-    private final JMapper<SequenceStep, SequenceStepDTO> mapperIn = new JMapper<>(SequenceStep.class, SequenceStepDTO.class);
+    private final ObjectMapping<SequenceStepDTO, SequenceStep> mapperOut = new JMapperMapping<>(SequenceStepDTO.class, SequenceStep.class);
+    private final ObjectMapping<SequenceStep, SequenceStepDTO> mapperIn = new JMapperMapping<>(SequenceStep.class, SequenceStepDTO.class);
 }
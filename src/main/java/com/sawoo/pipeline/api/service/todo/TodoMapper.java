@@ -1,12 +1,13 @@
 package com.sawoo.pipeline.api.service.todo;
 
-import com.googlecode.jmapper.JMapper;
 import com.sawoo.pipeline.api.dto.todo.TodoAssigneeDTO;
 import com.sawoo.pipeline.api.dto.todo.TodoDTO;
 import com.sawoo.pipeline.api.dto.todo.TodoSearchDTO;
 import com.sawoo.pipeline.api.model.todo.Todo;
 import com.sawoo.pipeline.api.model.todo.TodoSearch;
 import com.sawoo.pipeline.api.service.base.BaseMapper;
+import com.sawoo.pipeline.api.service.base.ObjectMapping;
+import com.sawoo.pipeline.api.service.base.mapping.GeneratedMapping;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -14,10 +15,14 @@ import org.springframework.stereotype.Component;
 @Getter
 @RequiredArgsConstructor
 @Component
+@GeneratedMapping(name = "TodoOutMapping", destination = TodoDTO.class, source = Todo.class)
+@GeneratedMapping(name = "TodoAssigneeOutMapping", destination = TodoAssigneeDTO.class, source = Todo.class)
+@GeneratedMapping(name = "TodoInMapping", destination = Todo.class, source = TodoDTO.class)
+@GeneratedMapping(name = "TodoSearchInMapping", destination = TodoSearch.class, source = TodoSearchDTO.class)
 public class TodoMapper implements BaseMapper<TodoDTO, Todo> {
 
-    private final JMapper<TodoDTO, Todo> mapperOut = new JMapper<>(TodoDTO.class, Todo.class);
-    private final JMapper<TodoAssigneeDTO, Todo> assigneeMapperOut = new JMapper<>(TodoAssigneeDTO.class, Todo.class);
-    private final JMapper<Todo, TodoDTO> mapperIn = new JMapper<>(Todo.class, TodoDTO.class);
-    private final JMapper<TodoSearch, TodoSearchDTO> mapperTodoSearchIn = new JMapper<>(TodoSearch.class, TodoSearchDTO.class);
+    private final ObjectMapping<TodoDTO, Todo> mapperOut = new TodoOutMapping();
+    private final ObjectMapping<TodoAssigneeDTO, Todo> assigneeMapperOut = new TodoAssigneeOutMapping();
+    private final ObjectMapping<Todo, TodoDTO> mapperIn = new TodoInMapping();
+    private final ObjectMapping<TodoSearch, TodoSearchDTO> mapperTodoSearchIn = new TodoSearchInMapping();
 }
@@ -1,6 +1,7 @@
 package com.sawoo.pipeline.api.service.todo;
 
 import com.sawoo.pipeline.api.common.contants.ExceptionMessageConstants;
+import com.sawoo.pipeline.api.dto.common.CursorPageDTO;
 import com.sawoo.pipeline.api.dto.todo.TodoDTO;
 import com.sawoo.pipeline.api.dto.todo.TodoSearchDTO;
 import com.sawoo.pipeline.api.model.todo.TodoSearch;
@@ -9,8 +10,10 @@ import com.sawoo.pipeline.api.service.base.BaseProxyService;
 import com.sawoo.pipeline.api.service.base.BaseService;
 
 import javax.validation.Valid;
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface TodoService extends BaseService<TodoDTO>, BaseProxyService<TodoRepository, TodoMapper> {
 
@@ -18,6 +21,13 @@ public interface TodoService extends BaseService<TodoDTO>, BaseProxyService<Todo
 
     List<TodoDTO> searchBy(@NotNull(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_NULL_ERROR) TodoSearch search);
 
+    CursorPageDTO<TodoDTO> searchBy(
+            @NotNull(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_NULL_ERROR) TodoSearch search,
+            String next,
+            @Min(value = 1, message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_BELLOW_MIN_SIZE_ERROR) int limit);
+
+    Stream<TodoDTO> streamBy(@NotNull(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_NULL_ERROR) TodoSearch search);
+
     long remove(@Valid @NotNull(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_NULL_ERROR) TodoSearchDTO search);
 
     List<TodoDTO> findAllAndRemove(@Valid @NotNull(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_NULL_ERROR) TodoSearchDTO search);
@@ -14,6 +14,9 @@ import com.sawoo.pipeline.api.model.todo.TodoStatus;
 import com.sawoo.pipeline.api.model.todo.TodoType;
 import com.sawoo.pipeline.api.service.base.event.BaseServiceBeforeInsertEvent;
 import com.sawoo.pipeline.api.service.base.event.BaseServiceBeforeSaveEvent;
+import com.sawoo.pipeline.api.service.infra.template.CompiledMessageTemplate;
+import com.sawoo.pipeline.api.service.infra.template.MessageTemplateEngine;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.logging.log4j.util.Strings;
 import org.springframework.context.event.EventListener;
@@ -24,16 +27,13 @@ import org.springframework.util.StringUtils;
 
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class TodoServiceEventListener {
 
-    private static final Pattern MESSAGE_PATTERN = Pattern.compile(".*?\\{\\{(.*?)\\}\\}.*?", Pattern.DOTALL);
+    private final MessageTemplateEngine messageTemplateEngine;
 
     @EventListener
     public void handleBeforeInsertEvent(BaseServiceBeforeInsertEvent<TodoDTO, Todo> event) {
@@ -108,11 +108,11 @@ public class TodoServiceEventListener {
         TodoMessage todoMessage = todo.getMessage();
         String message = todoMessage.getText();
         if (Strings.isNotBlank(message)) {
-            Matcher matcher = MESSAGE_PATTERN.matcher(message);
-            boolean template = matcher.matches() && isMessageType(todo);
+            CompiledMessageTemplate compiled = messageTemplateEngine.parse(message);
+            boolean template = compiled.hasVariables() && isMessageType(todo);
             todoMessage.setValid(!template);
             if (template && todo.getSource().getType().equals(TodoSourceType.MANUAL)) {
-                updateTemplate(todoMessage);
+                updateTemplate(todoMessage, compiled);
             }
         } else todoMessage.setValid(!Strings.isBlank(message) || !isMessageType(todo));
     }
@@ -125,20 +125,15 @@ public class TodoServiceEventListener {
                 type == TodoChannel.EMAIL.getValue();
     }
 
-    private void updateTemplate(TodoMessage todoMessage) {
+    private void updateTemplate(TodoMessage todoMessage, CompiledMessageTemplate compiled) {
         MessageTemplate template = todoMessage.getTemplate() != null ?
                 todoMessage.getTemplate() :
                 MessageTemplate.builder().build();
         template.setText(todoMessage.getText());
-        Matcher matcher = MESSAGE_PATTERN.matcher(todoMessage.getText());
         todoMessage.setTemplate(template);
 
         // Variables
-        List<String> matches = new ArrayList<>();
-        while(matcher.find()) {
-            matches.add(matcher.group(1));
-        }
         template.getVariables().clear();
-        matches.forEach(s -> template.addVariable(s, null));
+        compiled.getVariables().forEach(s -> template.addVariable(s, null));
     }
 }
@@ -1,25 +1,31 @@
 package com.sawoo.pipeline.api.service.todo;
 
 import com.sawoo.pipeline.api.common.contants.ExceptionMessageConstants;
+import com.sawoo.pipeline.api.dto.common.CursorPageDTO;
 import com.sawoo.pipeline.api.dto.todo.TodoDTO;
 import com.sawoo.pipeline.api.dto.todo.TodoSearchDTO;
 import com.sawoo.pipeline.api.model.DBConstants;
 import com.sawoo.pipeline.api.model.todo.Todo;
 import com.sawoo.pipeline.api.model.todo.TodoSearch;
+import com.sawoo.pipeline.api.repository.base.KeysetCursor;
+import com.sawoo.pipeline.api.repository.base.KeysetPage;
 import com.sawoo.pipeline.api.repository.todo.TodoRepository;
 import com.sawoo.pipeline.api.service.base.BaseServiceImpl;
 import com.sawoo.pipeline.api.service.infra.audit.AuditService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.util.StreamUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
 
 import javax.validation.Valid;
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -72,6 +78,33 @@ public class TodoServiceImpl extends BaseServiceImpl<TodoDTO, Todo, TodoReposito
         return todos;
     }
 
+    @Override
+    public CursorPageDTO<TodoDTO> searchBy(
+            @NotNull(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_NULL_ERROR) TodoSearch search,
+            String next,
+            @Min(value = 1, message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_BELLOW_MIN_SIZE_ERROR) int limit) {
+        log.debug("Search page of [{}] TODOs after cursor [{}] with the following search criteria: [{}]", limit, next, search);
+        KeysetPage<Todo> page = getRepository().searchBy(search, KeysetCursor.decode(next), limit);
+        List<TodoDTO> todos = page
+                .getContent()
+                .stream()
+                .map(getMapper().getMapperOut()::getDestination)
+                .collect(Collectors.toList());
+        log.debug("[{}] todo/s has/have been found with the following search criteria: [{}]. Last page: [{}]",
+                todos.size(),
+                search,
+                !page.hasNext());
+        return CursorPageDTO.of(todos, limit, page.getNextToken());
+    }
+
+    @Override
+    public Stream<TodoDTO> streamBy(@NotNull(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_NULL_ERROR) TodoSearch search) {
+        log.debug("Stream TODOs with the following search criteria: [{}]", search);
+        return StreamUtils
+                .createStreamFromIterator(getRepository().streamBy(search))
+                .map(getMapper().getMapperOut()::getDestination);
+    }
+
     @Override
     public long remove(
             @Valid @NotNull(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_NULL_ERROR) TodoSearchDTO searchCriteria) {
@@ -0,0 +1,53 @@
+package com.sawoo.pipeline.api.service.user;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Details of the authenticated users keyed by username, used by the JWT request filter. Entries are invalidated
+ * when a user is updated or deleted through {@link UserAuthService}; expire-after-write bounds how long changes
+ * made by other instances take to be seen. See app.cache.user-details.
+ */
+@Slf4j
+@Component
+public class UserAuthDetailsCache {
+
+    private static final String USER_DETAILS_CACHE_NAME = "user.details";
+
+    private final boolean enabled;
+    private final Cache<String, UserDetails> users;
+
+    public UserAuthDetailsCache(
+            MeterRegistry meterRegistry,
+            @Value("${app.cache.user-details.enabled:true}") boolean enabled,
+            @Value("${app.cache.user-details.max-size:1000}") long maxSize,
+            @Value("${app.cache.user-details.expire-after-write:5m}") Duration expireAfterWrite) {
+        this.enabled = enabled;
+        this.users = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, users, USER_DETAILS_CACHE_NAME);
+    }
+
+    public UserDetails get(String username, Function<String, UserDetails> loader) {
+        return enabled ? users.get(username, loader) : loader.apply(username);
+    }
+
+    public void invalidate(String username) {
+        if (username != null) {
+            log.debug("Invalidating cached details for user [{}]", username);
+            users.invalidate(username);
+        }
+    }
+}
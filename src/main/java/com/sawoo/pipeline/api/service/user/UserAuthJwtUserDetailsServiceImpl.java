@@ -1,9 +1,10 @@
 package com.sawoo.pipeline.api.service.user;
 
-import com.googlecode.jmapper.JMapper;
 import com.sawoo.pipeline.api.dto.user.UserAuthDetails;
 import com.sawoo.pipeline.api.model.user.User;
 import com.sawoo.pipeline.api.repository.user.UserRepository;
+import com.sawoo.pipeline.api.service.base.JMapperMapping;
+import com.sawoo.pipeline.api.service.base.ObjectMapping;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -17,7 +18,7 @@ import org.springframework.stereotype.Service;
 public class UserAuthJwtUserDetailsServiceImpl implements UserDetailsService {
 
     private final UserRepository userRepository;
-    private final JMapper<UserAuthDetails, User> mapperDomainToDTO = new JMapper<>(UserAuthDetails.class, User.class);
+    private final ObjectMapping<UserAuthDetails, User> mapperDomainToDTO = new JMapperMapping<>(UserAuthDetails.class, User.class);
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
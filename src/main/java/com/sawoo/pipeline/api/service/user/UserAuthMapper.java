@@ -1,9 +1,10 @@
 package com.sawoo.pipeline.api.service.user;
 
-import com.googlecode.jmapper.JMapper;
 import com.sawoo.pipeline.api.dto.user.UserAuthDTO;
 import com.sawoo.pipeline.api.model.user.User;
 import com.sawoo.pipeline.api.service.base.BaseMapper;
+import com.sawoo.pipeline.api.service.base.JMapperMapping;
+import com.sawoo.pipeline.api.service.base.ObjectMapping;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -13,6 +14,6 @@ import org.springframework.stereotype.Component;
 @Component
 public class UserAuthMapper implements BaseMapper<UserAuthDTO, User> {
 
-    private final JMapper<UserAuthDTO, User> mapperOut = new JMapper<>(UserAuthDTO.class, User.class);
-    private final JMapper<User, UserAuthDTO> mapperIn = new JMapper<>(User.class, UserAuthDTO.class);
+    private final ObjectMapping<UserAuthDTO, User> mapperOut = new JMapperMapping<>(UserAuthDTO.class, User.class);
+    private final ObjectMapping<User, UserAuthDTO> mapperIn = new JMapperMapping<>(User.class, UserAuthDTO.class);
 }
@@ -42,4 +42,7 @@ public interface UserAuthService extends BaseService<UserAuthDTO>, BaseProxyServ
     UserAuthDetails authenticate(String email, String password) throws AuthException;
 
     boolean isTokenValid(String token);
+
+    void logout(
+            @NotBlank(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_EMPTY_OR_NULL_ERROR) String id);
 }
@@ -14,6 +14,7 @@ import com.sawoo.pipeline.api.model.user.User;
 import com.sawoo.pipeline.api.model.user.UserRole;
 import com.sawoo.pipeline.api.model.user.UserTokenType;
 import com.sawoo.pipeline.api.repository.user.UserRepository;
+import com.sawoo.pipeline.api.service.account.AccountUserDirectoryCache;
 import com.sawoo.pipeline.api.service.base.BaseServiceImpl;
 import com.sawoo.pipeline.api.service.infra.audit.AuditService;
 import lombok.extern.slf4j.Slf4j;
@@ -25,6 +26,7 @@ import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.DisabledException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
@@ -49,6 +51,9 @@ public class UserAuthServiceImpl extends BaseServiceImpl<UserAuthDTO, User, User
     private final AuthenticationManager authenticationManager;
     private final PasswordEncoder passwordEncoder;
     private final UserTokenService tokenService;
+    private final UserAuthDetailsCache userDetailsCache;
+    private final UserTokenRevocationRegistry revocationRegistry;
+    private final AccountUserDirectoryCache accountUserCache;
 
     @Value("${app.auth.default-expiration:180}")
     private int defaultExpirationTime;
@@ -60,11 +65,17 @@ public class UserAuthServiceImpl extends BaseServiceImpl<UserAuthDTO, User, User
                                AuditService audit,
                                AuthenticationManager authenticationManager,
                                PasswordEncoder passwordEncoder,
-                               UserTokenService tokenService) {
+                               UserTokenService tokenService,
+                               UserAuthDetailsCache userDetailsCache,
+                               UserTokenRevocationRegistry revocationRegistry,
+                               AccountUserDirectoryCache accountUserCache) {
         super(repository, mapper, DBConstants.USER_DOCUMENT, publisher, audit);
         this.authenticationManager = authenticationManager;
         this.passwordEncoder = passwordEncoder;
         this.tokenService = tokenService;
+        this.userDetailsCache = userDetailsCache;
+        this.revocationRegistry = revocationRegistry;
+        this.accountUserCache = accountUserCache;
     }
 
     @Override
@@ -91,6 +102,7 @@ public class UserAuthServiceImpl extends BaseServiceImpl<UserAuthDTO, User, User
                 .map((user) -> {
                     // Validation
                     userUpdateValidation(userToUpdate, user);
+                    String email = user.getEmail();
 
                     // Password
                     if (userToUpdate.getPassword() != null) {
@@ -110,6 +122,13 @@ public class UserAuthServiceImpl extends BaseServiceImpl<UserAuthDTO, User, User
                                     MappingType.ONLY_VALUED_FIELDS);
                     user.setUpdated(LocalDateTime.now(ZoneOffset.UTC));
                     getRepository().save(user);
+                    userDetailsCache.invalidate(email);
+                    userDetailsCache.invalidate(user.getEmail());
+                    accountUserCache.invalidateUser(user.getId());
+                    if (userToUpdate.getPassword() != null) {
+                        // Sessions opened with the old password are closed
+                        revocationRegistry.revoke(user.getId());
+                    }
 
                     log.debug("User entity with id [{}] has been successfully updated. Updated data: {}",
                             user.getId(),
@@ -123,6 +142,34 @@ public class UserAuthServiceImpl extends BaseServiceImpl<UserAuthDTO, User, User
                                 new String[]{"User", userToUpdate.getId()}));
     }
 
+    @Override
+    public UserAuthDTO update(String id, UserAuthDTO dto) throws ResourceNotFoundException {
+        String email = getRepository().findById(id).map(User::getEmail).orElse(null);
+        UserAuthDTO user = super.update(id, dto);
+        userDetailsCache.invalidate(email);
+        userDetailsCache.invalidate(user.getEmail());
+        accountUserCache.invalidateUser(id);
+        return user;
+    }
+
+    @Override
+    public UserAuthDTO delete(String id) throws ResourceNotFoundException {
+        UserAuthDTO user = super.delete(id);
+        userDetailsCache.invalidate(user.getEmail());
+        accountUserCache.invalidateUser(id);
+        return user;
+    }
+
+    @Override
+    public List<UserAuthDTO> deleteByIds(List<String> ids) {
+        List<UserAuthDTO> users = super.deleteByIds(ids);
+        users.forEach(user -> {
+            userDetailsCache.invalidate(user.getEmail());
+            accountUserCache.invalidateUser(user.getId());
+        });
+        return users;
+    }
+
     @Override
     public UserTokenDTO createToken(
             @NotNull(message = ExceptionMessageConstants.COMMON_FIELD_CAN_NOT_BE_NULL_ERROR)
@@ -229,6 +276,26 @@ public class UserAuthServiceImpl extends BaseServiceImpl<UserAuthDTO, User, User
         }).orElse(false);
     }
 
+    @Override
+    public void logout(String id) throws AuthException {
+        log.debug("Revoking the tokens of user id: [{}]", id);
+        logoutValidation(id);
+        revocationRegistry.revoke(id);
+    }
+
+    private void logoutValidation(String id) throws AuthException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        UserAuthDetails user = authentication != null && authentication.getPrincipal() instanceof UserAuthDetails ?
+                (UserAuthDetails) authentication.getPrincipal() :
+                null;
+        boolean allowed = user != null && (id.equals(user.getId()) || user.getRoles().contains(UserRole.ADMIN.name()));
+        if (!allowed) {
+            throw new AuthException(
+                    ExceptionMessageConstants.AUTH_LOGOUT_USER_NOT_ALLOWED_ERROR_EXCEPTION,
+                    new String[]{ user != null ? user.getId() : null, id});
+        }
+    }
+
     private void userUpdateValidation(UserAuthUpdateDTO userToUpdate, User user) throws AuthException {
         if (userToUpdate.getPassword() != null) {
             if (!userToUpdate.getPassword().equals(userToUpdate.getConfirmPassword())) {
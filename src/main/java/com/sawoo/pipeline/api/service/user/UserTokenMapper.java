@@ -1,9 +1,10 @@
 package com.sawoo.pipeline.api.service.user;
 
-import com.googlecode.jmapper.JMapper;
 import com.sawoo.pipeline.api.dto.user.UserTokenDTO;
 import com.sawoo.pipeline.api.model.user.UserToken;
 import com.sawoo.pipeline.api.service.base.BaseMapper;
+import com.sawoo.pipeline.api.service.base.ObjectMapping;
+import com.sawoo.pipeline.api.service.base.mapping.GeneratedMapping;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -11,8 +12,10 @@ import org.springframework.stereotype.Component;
 @Getter
 @RequiredArgsConstructor
 @Component
+@GeneratedMapping(name = "UserTokenOutMapping", destination = UserTokenDTO.class, source = UserToken.class)
+@GeneratedMapping(name = "UserTokenInMapping", destination = UserToken.class, source = UserTokenDTO.class)
 public class UserTokenMapper implements BaseMapper<UserTokenDTO, UserToken> {
 
-    private final JMapper<UserTokenDTO, UserToken> mapperOut = new JMapper<>(UserTokenDTO.class, UserToken.class);
-    private final JMapper<UserToken, UserTokenDTO> mapperIn = new JMapper<>(UserToken.class, UserTokenDTO.class);
+    private final ObjectMapping<UserTokenDTO, UserToken> mapperOut = new UserTokenOutMapping();
+    private final ObjectMapping<UserToken, UserTokenDTO> mapperIn = new UserTokenInMapping();
 }
@@ -0,0 +1,124 @@
+package com.sawoo.pipeline.api.service.user;
+
+import com.sawoo.pipeline.api.common.contants.JwtConstants;
+import com.sawoo.pipeline.api.model.user.UserTokenRevocation;
+import com.sawoo.pipeline.api.repository.user.UserTokenRevocationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Revoked JWT tokens, tracked as a per user "issued before" watermark. The watermarks are stored in the
+ * user_token_revocation collection and mirrored in memory, so the request filter checks them with a single map
+ * lookup. Revocations made by other instances are read every refresh-interval. Watermarks are dropped, in memory
+ * and by the TTL index, once all the tokens they revoke have expired. See app.auth.token-revocation.
+ */
+@Slf4j
+@Component
+public class UserTokenRevocationRegistry {
+
+    private static final String THREAD_NAME_PREFIX = "token-revocation-";
+
+    private final UserTokenRevocationRepository repository;
+    private final Duration refreshInterval;
+    private final Map<String, Long> revocations = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService executor;
+    private LocalDateTime lastRefresh;
+
+    public UserTokenRevocationRegistry(
+            UserTokenRevocationRepository repository,
+            @Value("${app.auth.token-revocation.refresh-interval:10s}") Duration refreshInterval) {
+        this.repository = repository;
+        this.refreshInterval = refreshInterval;
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(THREAD_NAME_PREFIX);
+        threadFactory.setDaemon(true);
+        this.executor = Executors.newSingleThreadScheduledExecutor(threadFactory);
+    }
+
+    /**
+     * Loads the active revocations in the background once the application is ready, so a slow or unavailable
+     * database does not fail the startup. Until they are loaded, and while the load keeps failing, the next
+     * refresh retries it.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        executor.scheduleWithFixedDelay(this::refresh, 0, refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdown();
+    }
+
+    /**
+     * Revokes every token of the user issued up to now
+     */
+    public void revoke(String userId) {
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+        UserTokenRevocation revocation = UserTokenRevocation
+                .builder()
+                .userId(userId)
+                .revokedBefore(now)
+                .expirationDate(now.plusSeconds(JwtConstants.TOKEN_VALIDITY))
+                .updated(now)
+                .build();
+        repository.save(revocation);
+        register(revocation);
+        log.debug("Tokens of user id [{}] issued before [{}] have been revoked", userId, now);
+    }
+
+    /**
+     * Checks whether a token of the user issued at the given epoch second has been revoked
+     */
+    public boolean isRevoked(String userId, long issuedAt) {
+        if (userId == null) {
+            return false;
+        }
+        Long revokedBefore = revocations.get(userId);
+        // Issue dates have second precision and the watermark is truncated to the second, so tokens issued in the
+        // second of the revocation, possibly right after it, stay valid
+        return revokedBefore != null && issuedAt < revokedBefore;
+    }
+
+    void refresh() {
+        try {
+            LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+            if (lastRefresh == null) {
+                List<UserTokenRevocation> active = repository.findAllByExpirationDateAfter(now);
+                active.forEach(this::register);
+                log.debug("[{}] token revocation/s loaded", active.size());
+            } else {
+                // Overlap the previous window so revocations saved by instances with a slightly late clock are not missed
+                List<UserTokenRevocation> changed = repository.findAllByUpdatedAfter(lastRefresh.minus(refreshInterval));
+                changed.forEach(this::register);
+            }
+            lastRefresh = now;
+
+            long oldestValidToken = now.toEpochSecond(ZoneOffset.UTC) - JwtConstants.TOKEN_VALIDITY;
+            revocations.values().removeIf(revokedBefore -> revokedBefore < oldestValidToken);
+        } catch (RuntimeException error) {
+            log.error("Token revocations could not be refreshed: [{}]", error.getMessage(), error);
+        }
+    }
+
+    private void register(UserTokenRevocation revocation) {
+        revocations.merge(
+                revocation.getUserId(),
+                revocation.getRevokedBefore().toEpochSecond(ZoneOffset.UTC),
+                Math::max);
+    }
+}
@@ -0,0 +1,192 @@
+package com.sawoo.pipeline.api.config.jwt;
+
+import com.sawoo.pipeline.api.common.contants.CommonConstants;
+import com.sawoo.pipeline.api.common.contants.JwtConstants;
+import com.sawoo.pipeline.api.dto.user.UserAuthDetails;
+import com.sawoo.pipeline.api.model.user.UserRole;
+import com.sawoo.pipeline.api.repository.user.UserTokenRevocationRepository;
+import com.sawoo.pipeline.api.service.user.UserAuthDetailsCache;
+import com.sawoo.pipeline.api.service.user.UserTokenRevocationRegistry;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.mockito.Mockito;
+import org.springframework.context.annotation.Profile;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.anyString;
+
+@TestMethodOrder(MethodOrderer.Alphanumeric.class)
+@Tag(value = "service")
+@Profile(value = {"unit-tests", "unit-tests-embedded"})
+class JwtRequestFilterTest {
+
+    private static final String SECRET = "jwtRequestFilterTestSecret";
+    private static final String USER_ID = "user-id";
+    private static final String USER_EMAIL = "miguel.maquieira@sawoo.io";
+
+    private JwtTokenUtil jwtTokenUtil;
+    private UserDetailsService userDetailsService;
+    private UserAuthDetailsCache userDetailsCache;
+    private UserTokenRevocationRegistry revocationRegistry;
+    private JwtRequestFilter filter;
+
+    @BeforeEach
+    void setup() {
+        jwtTokenUtil = new JwtTokenUtil();
+        ReflectionTestUtils.setField(jwtTokenUtil, "secret", SECRET);
+        jwtTokenUtil = Mockito.spy(jwtTokenUtil);
+        userDetailsService = Mockito.mock(UserDetailsService.class);
+        Mockito.doAnswer(invocation -> newUserDetails()).when(userDetailsService).loadUserByUsername(USER_EMAIL);
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        userDetailsCache = new UserAuthDetailsCache(meterRegistry, true, 10, Duration.ofMinutes(5));
+        revocationRegistry = new UserTokenRevocationRegistry(Mockito.mock(UserTokenRevocationRepository.class), Duration.ofSeconds(10));
+        filter = new JwtRequestFilter(
+                jwtTokenUtil,
+                userDetailsService,
+                new JwtTokenCache(meterRegistry, true, 10),
+                userDetailsCache,
+                revocationRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("doFilter: token already verified is served from cache - Success")
+    void doFilterWhenTokenAlreadyVerifiedReturnsSuccess() throws Exception {
+        // Set up mocked entities
+        String token = jwtTokenUtil.generateToken(newUserDetails(), USER_ID);
+
+        // Execute the filter twice
+        Authentication first = doFilter(token);
+        Authentication second = doFilter(token);
+
+        // Assertions
+        Assertions.assertAll("Token must be verified and user loaded only once",
+                () -> Assertions.assertNotNull(first, "First request must be authenticated"),
+                () -> Assertions.assertNotNull(second, "Second request must be authenticated"),
+                () -> Assertions.assertEquals(USER_EMAIL, ((UserAuthDetails) second.getPrincipal()).getUsername(), "Principal must be the token user"));
+        Mockito.verify(jwtTokenUtil, Mockito.times(1)).getAllClaimsFromToken(token);
+        Mockito.verify(userDetailsService, Mockito.times(1)).loadUserByUsername(anyString());
+    }
+
+    @Test
+    @DisplayName("doFilter: user invalidated is loaded again - Success")
+    void doFilterWhenUserInvalidatedReturnsSuccess() throws Exception {
+        // Set up mocked entities
+        String token = jwtTokenUtil.generateToken(newUserDetails(), USER_ID);
+
+        // Execute the filter
+        doFilter(token);
+        userDetailsCache.invalidate(USER_EMAIL);
+        Authentication authentication = doFilter(token);
+
+        // Assertions
+        Assertions.assertNotNull(authentication, "Request must be authenticated");
+        Mockito.verify(jwtTokenUtil, Mockito.times(1)).getAllClaimsFromToken(token);
+        Mockito.verify(userDetailsService, Mockito.times(2)).loadUserByUsername(USER_EMAIL);
+    }
+
+    @Test
+    @DisplayName("doFilter: expired token is neither authenticated nor cached - Failure")
+    void doFilterWhenTokenExpiredReturnsFailure() throws Exception {
+        // Set up mocked entities
+        String token = Jwts
+                .builder()
+                .setSubject(USER_EMAIL)
+                .setIssuedAt(new Date(System.currentTimeMillis() - 2000))
+                .setExpiration(new Date(System.currentTimeMillis() - 1000))
+                .signWith(SignatureAlgorithm.HS256, Base64.getEncoder().encodeToString(SECRET.getBytes()))
+                .compact();
+
+        // Execute the filter twice
+        Authentication first = doFilter(token);
+        Authentication second = doFilter(token);
+
+        // Assertions
+        Assertions.assertAll("Expired token must be rejected",
+                () -> Assertions.assertNull(first, "First request must not be authenticated"),
+                () -> Assertions.assertNull(second, "Second request must not be authenticated"));
+        Mockito.verify(jwtTokenUtil, Mockito.times(2)).getAllClaimsFromToken(token);
+        Mockito.verify(userDetailsService, Mockito.never()).loadUserByUsername(anyString());
+    }
+
+    @Test
+    @DisplayName("doFilter: token revoked after being cached is rejected - Failure")
+    void doFilterWhenTokenRevokedReturnsFailure() throws Exception {
+        // Set up mocked entities
+        String token = jwtTokenUtil.generateToken(newUserDetails(), USER_ID);
+
+        // Execute the filter before and after the revocation
+        Authentication first = doFilter(token);
+        revocationRegistry.revoke(USER_ID);
+        Authentication second = doFilter(token);
+
+        // Assertions
+        Assertions.assertAll("Revoked token must be rejected",
+                () -> Assertions.assertNotNull(first, "Request before the revocation must be authenticated"),
+                () -> Assertions.assertNull(second, "Request after the revocation must not be authenticated"));
+        Mockito.verify(jwtTokenUtil, Mockito.times(1)).getAllClaimsFromToken(token);
+    }
+
+    @Test
+    @DisplayName("doFilter: token issued after the revocation is accepted - Success")
+    void doFilterWhenTokenIssuedAfterRevocationReturnsSuccess() throws Exception {
+        // Set up mocked entities
+        revocationRegistry.revoke(USER_ID);
+        String token = Jwts
+                .builder()
+                .claim(CommonConstants.USER_ID_KEY, USER_ID)
+                .setSubject(USER_EMAIL)
+                .setIssuedAt(new Date(System.currentTimeMillis() + 2000))
+                .setExpiration(new Date(System.currentTimeMillis() + 60000))
+                .signWith(SignatureAlgorithm.HS256, Base64.getEncoder().encodeToString(SECRET.getBytes()))
+                .compact();
+
+        // Execute the filter
+        Authentication authentication = doFilter(token);
+
+        // Assertions
+        Assertions.assertNotNull(authentication, "Request must be authenticated");
+    }
+
+    private Authentication doFilter(String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(JwtConstants.AUTHORIZATION_HEADER_KEY, JwtConstants.TOKEN_PREFIX + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    private static UserAuthDetails newUserDetails() {
+        UserAuthDetails user = new UserAuthDetails();
+        user.setId(USER_ID);
+        user.setEmail(USER_EMAIL);
+        user.setActive(true);
+        user.setRoles(Set.of(UserRole.USER.name()));
+        return user;
+    }
+}
@@ -6,7 +6,7 @@ import com.sawoo.pipeline.api.dto.campaign.CampaignProspectDTO;
 import com.sawoo.pipeline.api.dto.campaign.request.CampaignProspectAddDTO;
 import com.sawoo.pipeline.api.dto.campaign.request.CampaignProspectCreateDTO;
 import com.sawoo.pipeline.api.model.campaign.Campaign;
-import com.sawoo.pipeline.api.model.campaign.CampaignProspect;
+import com.sawoo.pipeline.api.model.campaign.CampaignProspectEntry;
 import com.sawoo.pipeline.api.model.campaign.CampaignStatus;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -120,15 +120,17 @@ public class CampaignMockFactory extends BaseMockFactory<CampaignDTO, Campaign>
                 .build();
     }
 
-    public CampaignProspect newCampaignProspectEntity() {
+    public CampaignProspectEntry newCampaignProspectEntity() {
         String prospectId = getFAKER().internet().uuid();
         String sequenceId = getFAKER().internet().uuid();
         return newCampaignProspectEntity(prospectId, sequenceId);
     }
 
-    public CampaignProspect newCampaignProspectEntity(String prospectId, String sequenceId) {
+    public CampaignProspectEntry newCampaignProspectEntity(String prospectId, String sequenceId) {
         LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
-        return CampaignProspect.builder()
+        return CampaignProspectEntry.builder()
+                .prospectId(prospectId)
+                .sequenceId(sequenceId)
                 .prospect(prospectMockFactory.newEntity(prospectId))
                 .sequence(sequenceMockFactory.newEntity(sequenceId))
                 .startDate(now)
@@ -0,0 +1,122 @@
+package com.sawoo.pipeline.api.repository.base;
+
+import com.mongodb.DBRef;
+import com.mongodb.client.result.UpdateResult;
+import com.sawoo.pipeline.api.model.DBConstants;
+import com.sawoo.pipeline.api.model.sequence.Sequence;
+import com.sawoo.pipeline.api.model.sequence.SequenceStep;
+import org.bson.Document;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+import org.springframework.data.mongodb.repository.support.MappingMongoEntityInformation;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+
+@TestMethodOrder(MethodOrderer.Alphanumeric.class)
+@Tag(value = "service")
+@Profile(value = {"unit-tests", "unit-tests-embedded"})
+class BaseMongoRepositoryImplTest {
+
+    private static final String SEQUENCE_ID = "sequence-id";
+
+    private MongoMappingContext mappingContext;
+    private MongoOperations mongoOperations;
+
+    @BeforeEach
+    void setup() {
+        mappingContext = new MongoMappingContext();
+        mongoOperations = Mockito.mock(MongoOperations.class);
+        Mockito.when(mongoOperations.getConverter()).thenReturn(new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext));
+    }
+
+    @Test
+    @DisplayName("pushAll: referenced elements pushed as DBRefs - Success")
+    void pushAllWhenReferencedElementsReturnsSuccess() {
+        // Set up mocked entities
+        List<SequenceStep> steps = List.of(SequenceStep.builder().id("step-1").build(), SequenceStep.builder().id("step-2").build());
+        BaseMongoRepository<Sequence> repository = newRepository(Sequence.class);
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<UpdateDefinition> update = ArgumentCaptor.forClass(UpdateDefinition.class);
+        Mockito.when(mongoOperations.updateFirst(
+                query.capture(),
+                update.capture(),
+                eq(Sequence.class),
+                anyString())).thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+        // Execute the call
+        boolean updated = repository.pushAll(SEQUENCE_ID, "steps", steps);
+
+        // Assertions
+        Update.Modifiers push = (Update.Modifiers) update.getValue().getUpdateObject().get("$push", Document.class).get("steps");
+        Update.Modifier each = push.getModifiers().iterator().next();
+        Assertions.assertAll("Only the references and the updated date must be written",
+                () -> Assertions.assertTrue(updated, "Entity must be reported as updated"),
+                () -> Assertions.assertEquals(new Document("id", SEQUENCE_ID), query.getValue().getQueryObject(), "Entity must be found by id"),
+                () -> Assertions.assertEquals("$each", each.getKey(), "Steps must be pushed at once"),
+                () -> Assertions.assertArrayEquals(
+                        new Object[] {new DBRef(DBConstants.SEQUENCE_STEP_DOCUMENT, "step-1"), new DBRef(DBConstants.SEQUENCE_STEP_DOCUMENT, "step-2")},
+                        (Object[]) each.getValue(),
+                        "Steps must be pushed as references"),
+                () -> Assertions.assertNotNull(
+                        update.getValue().getUpdateObject().get("$set", Document.class).get("updated"),
+                        "Updated date must be set"));
+        Mockito.verify(mongoOperations, Mockito.never()).findAndModify(
+                any(Query.class),
+                any(UpdateDefinition.class),
+                any(FindAndModifyOptions.class),
+                any(Class.class),
+                anyString());
+    }
+
+    @Test
+    @DisplayName("pullAll: entity not found - Failure")
+    void pullAllWhenEntityNotFoundReturnsFailure() {
+        // Set up mocked entities
+        List<SequenceStep> steps = List.of(SequenceStep.builder().id("step-1").build());
+        BaseMongoRepository<Sequence> repository = newRepository(Sequence.class);
+        ArgumentCaptor<UpdateDefinition> update = ArgumentCaptor.forClass(UpdateDefinition.class);
+        Mockito.when(mongoOperations.updateFirst(
+                any(Query.class),
+                update.capture(),
+                eq(Sequence.class),
+                anyString())).thenReturn(UpdateResult.acknowledged(0, 0L, null));
+
+        // Execute the call
+        boolean updated = repository.pullAll(SEQUENCE_ID, "steps", steps);
+
+        // Assertions
+        Assertions.assertAll("Nothing must be reported as updated when the entity is not found",
+                () -> Assertions.assertFalse(updated, "Entity must not be reported as updated"),
+                () -> Assertions.assertEquals(
+                        List.of(new DBRef(DBConstants.SEQUENCE_STEP_DOCUMENT, "step-1")),
+                        update.getValue().getUpdateObject().get("$pullAll", Document.class).get("steps"),
+                        "Steps must be pulled by reference"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <M> BaseMongoRepository<M> newRepository(Class<M> type) {
+        MongoPersistentEntity<M> entity = (MongoPersistentEntity<M>) mappingContext.getRequiredPersistentEntity(type);
+        return new BaseMongoRepositoryImpl<>(new MappingMongoEntityInformation<>(entity), mongoOperations);
+    }
+}
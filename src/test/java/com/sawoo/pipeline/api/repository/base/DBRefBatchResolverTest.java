@@ -0,0 +1,254 @@
+package com.sawoo.pipeline.api.repository.base;
+
+import com.mongodb.DBRef;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
+import com.sawoo.pipeline.api.model.DBConstants;
+import com.sawoo.pipeline.api.model.account.Account;
+import com.sawoo.pipeline.api.model.sequence.Sequence;
+import com.sawoo.pipeline.api.model.sequence.SequenceStep;
+import com.sawoo.pipeline.api.model.user.User;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.core.MongoExceptionTranslator;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.convert.DefaultDbRefResolver;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+
+@TestMethodOrder(MethodOrderer.Alphanumeric.class)
+@Tag(value = "service")
+@Profile(value = {"unit-tests", "unit-tests-embedded"})
+class DBRefBatchResolverTest {
+
+    private static final String ID_FIELD = "_id";
+
+    private DefaultDbRefResolver dbRefResolver;
+    private MongoOperations mongoOperations;
+    private DBRefBatchResolver resolver;
+
+    @BeforeEach
+    void setup() {
+        // Documents are never fetched one by one, references left unresolved are reported as missing
+        MongoDatabaseFactory databaseFactory = Mockito.mock(MongoDatabaseFactory.class);
+        Mockito.when(databaseFactory.getExceptionTranslator()).thenReturn(new MongoExceptionTranslator());
+        dbRefResolver = Mockito.spy(new DefaultDbRefResolver(databaseFactory));
+        Mockito.doReturn(null).when(dbRefResolver).fetch(any(DBRef.class));
+        Mockito.doReturn(Collections.emptyList()).when(dbRefResolver).bulkFetch(anyList());
+        MappingMongoConverter converter = new MappingMongoConverter(dbRefResolver, new MongoMappingContext());
+        converter.afterPropertiesSet();
+        mongoOperations = Mockito.mock(MongoOperations.class);
+        Mockito.when(mongoOperations.getConverter()).thenReturn(converter);
+        resolver = new DBRefBatchResolver(mongoOperations);
+    }
+
+    @Test
+    @DisplayName("find: references kept in their original order - Success")
+    void findWhenReferencesReturnedUnorderedReturnsSuccess() {
+        // Set up mocked entities
+        mockCollection(DBConstants.SEQUENCE_DOCUMENT, new Document(ID_FIELD, "sequence-id")
+                .append("steps", List.of(stepRef("step-3"), stepRef("step-1"), stepRef("step-2"))));
+        MongoCollection<Document> steps = mockCollection(
+                DBConstants.SEQUENCE_STEP_DOCUMENT,
+                step("step-1", 1),
+                step("step-2", 2),
+                step("step-3", 3));
+
+        // Execute the call
+        List<Sequence> sequences = resolver.find(new Query(), Sequence.class, "steps");
+
+        // Assertions
+        Assertions.assertAll("Steps must be resolved with one query keeping the sequence order",
+                () -> Assertions.assertEquals(
+                        List.of("step-3", "step-1", "step-2"),
+                        sequences.get(0).getSteps().stream().map(SequenceStep::getId).collect(Collectors.toList()),
+                        "Steps must keep the order of the references"),
+                () -> Assertions.assertEquals(
+                        List.of(3, 1, 2),
+                        sequences.get(0).getSteps().stream().map(SequenceStep::getPosition).collect(Collectors.toList()),
+                        "Steps must be read from the resolved documents"));
+        Mockito.verify(steps, Mockito.times(1)).find(any(Bson.class));
+        Assertions.assertTrue(getFetched().isEmpty(), "No reference must be fetched one by one");
+    }
+
+    @Test
+    @DisplayName("find: references of several collections resolved with one query per collection - Success")
+    void findWhenReferencesToSeveralCollectionsReturnsSuccess() {
+        // Set up mocked entities
+        DBRef company = new DBRef(DBConstants.COMPANY_DOCUMENT, "company-id");
+        mockCollection(
+                DBConstants.ACCOUNT_DOCUMENT,
+                new Document(ID_FIELD, "account-1").append("company", company).append("users", List.of(userRef("user-1"))),
+                new Document(ID_FIELD, "account-2").append("company", company).append("users", List.of(userRef("user-1"), userRef("user-2"))));
+        MongoCollection<Document> companies = mockCollection(
+                DBConstants.COMPANY_DOCUMENT,
+                new Document(ID_FIELD, "company-id").append("name", "Company"));
+        MongoCollection<Document> users = mockCollection(
+                DBConstants.USER_DOCUMENT,
+                new Document(ID_FIELD, "user-1").append("fullName", "User 1"),
+                new Document(ID_FIELD, "user-2").append("fullName", "User 2"));
+
+        // Execute the call
+        List<Account> accounts = resolver.find(new Query(), Account.class, "company", "users");
+
+        // Assertions
+        Assertions.assertAll("Each target collection must be queried once for all the accounts",
+                () -> Assertions.assertEquals(2, accounts.size(), "Two accounts must be returned"),
+                () -> Assertions.assertEquals("Company", accounts.get(0).getCompany().getName(), "Company must be resolved"),
+                () -> Assertions.assertEquals("Company", accounts.get(1).getCompany().getName(), "Shared company must be resolved"),
+                () -> Assertions.assertEquals(
+                        Set.of("User 1", "User 2"),
+                        accounts.get(1).getUsers().stream().map(User::getFullName).collect(Collectors.toSet()),
+                        "Users must be resolved"));
+        Mockito.verify(companies, Mockito.times(1)).find(any(Bson.class));
+        ArgumentCaptor<Bson> userFilter = ArgumentCaptor.forClass(Bson.class);
+        Mockito.verify(users, Mockito.times(1)).find(userFilter.capture());
+        Assertions.assertEquals(
+                Set.of("user-1", "user-2"),
+                Set.copyOf(getInIds(userFilter.getValue())),
+                "Repeated ids must be queried once");
+        Assertions.assertTrue(getFetched().isEmpty(), "No reference must be fetched one by one");
+    }
+
+    @Test
+    @DisplayName("find: missing and null references left to the converter - Success")
+    void findWhenReferencesMissingReturnsSuccess() {
+        // Set up mocked entities
+        DBRef missing = stepRef("step-missing");
+        List<Object> references = new ArrayList<>();
+        references.add(stepRef("step-1"));
+        references.add(missing);
+        references.add(null);
+        mockCollection(
+                DBConstants.SEQUENCE_DOCUMENT,
+                new Document(ID_FIELD, "sequence-1").append("steps", references),
+                new Document(ID_FIELD, "sequence-2").append("steps", null));
+        mockCollection(DBConstants.SEQUENCE_STEP_DOCUMENT, step("step-1", 1));
+
+        // Execute the call
+        List<Sequence> sequences = resolver.find(new Query(), Sequence.class, "steps");
+
+        // Assertions
+        List<SequenceStep> steps = sequences.get(0).getSteps();
+        Assertions.assertAll("Only the found references must be inlined",
+                () -> Assertions.assertEquals(3, steps.size(), "Every reference must be kept"),
+                () -> Assertions.assertEquals("step-1", steps.get(0).getId(), "Found step must be resolved"),
+                () -> Assertions.assertNull(steps.get(1), "Missing step must be read as null"),
+                () -> Assertions.assertNull(steps.get(2), "Null reference must be kept as null"),
+                () -> Assertions.assertTrue(sequences.get(1).getSteps().isEmpty(), "Sequence without steps must have no steps"));
+        Assertions.assertEquals(List.of(missing), getFetched(), "Only the missing step must be left as a reference");
+    }
+
+    @Test
+    @DisplayName("find: ObjectId and String ids resolved by their stored type - Success")
+    void findWhenObjectIdAndStringIdsReturnsSuccess() {
+        // Set up mocked entities
+        ObjectId objectId = new ObjectId();
+        mockCollection(DBConstants.SEQUENCE_DOCUMENT, new Document(ID_FIELD, "sequence-id")
+                .append("steps", List.of(stepRef(objectId), stepRef("step-1"))));
+        MongoCollection<Document> steps = mockCollection(
+                DBConstants.SEQUENCE_STEP_DOCUMENT,
+                step("step-1", 2),
+                new Document(ID_FIELD, objectId).append("position", 1));
+
+        // Execute the call
+        List<Sequence> sequences = resolver.find(new Query(), Sequence.class, "steps");
+
+        // Assertions
+        ArgumentCaptor<Bson> filter = ArgumentCaptor.forClass(Bson.class);
+        Mockito.verify(steps, Mockito.times(1)).find(filter.capture());
+        Assertions.assertAll("Ids must be queried and matched with their stored type",
+                () -> Assertions.assertEquals(
+                        Set.of(objectId, "step-1"),
+                        Set.copyOf(getInIds(filter.getValue())),
+                        "Ids must be queried with their stored type"),
+                () -> Assertions.assertEquals(
+                        List.of(objectId.toHexString(), "step-1"),
+                        sequences.get(0).getSteps().stream().map(SequenceStep::getId).collect(Collectors.toList()),
+                        "Both steps must be resolved"));
+        Assertions.assertTrue(getFetched().isEmpty(), "No reference must be fetched one by one");
+    }
+
+    @SuppressWarnings("unchecked")
+    private MongoCollection<Document> mockCollection(String name, Document... documents) {
+        MongoCollection<Document> collection = Mockito.mock(MongoCollection.class);
+        FindIterable<Document> iterable = Mockito.mock(FindIterable.class);
+        Mockito.when(mongoOperations.getCollection(name)).thenReturn(collection);
+        Mockito.when(collection.find(any(Bson.class))).thenReturn(iterable);
+        Mockito.when(iterable.sort(any())).thenReturn(iterable);
+        Mockito.when(iterable.skip(Mockito.anyInt())).thenReturn(iterable);
+        Mockito.when(iterable.limit(Mockito.anyInt())).thenReturn(iterable);
+        Mockito.when(iterable.into(any())).thenAnswer(invocation -> {
+            Collection<Document> target = invocation.getArgument(0);
+            target.addAll(List.of(documents));
+            return target;
+        });
+        Mockito.doAnswer(invocation -> {
+            Consumer<Document> consumer = invocation.getArgument(0);
+            List.of(documents).forEach(consumer);
+            return null;
+        }).when(iterable).forEach(any(Consumer.class));
+        return collection;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<DBRef> getFetched() {
+        List<DBRef> fetched = new ArrayList<>();
+        Mockito.mockingDetails(dbRefResolver).getInvocations().forEach(invocation -> {
+            if (invocation.getMethod().getName().equals("fetch")) {
+                fetched.add(invocation.getArgument(0));
+            } else if (invocation.getMethod().getName().equals("bulkFetch")) {
+                fetched.addAll((List<DBRef>) invocation.getArgument(0));
+            }
+        });
+        return fetched;
+    }
+
+    private static List<Object> getInIds(Bson filter) {
+        return filter
+                .toBsonDocument(BsonDocument.class, MongoClientSettings.getDefaultCodecRegistry())
+                .getDocument(ID_FIELD)
+                .getArray("$in")
+                .stream()
+                .map(id -> id.isObjectId() ? id.asObjectId().getValue() : id.asString().getValue())
+                .collect(Collectors.toList());
+    }
+
+    private static DBRef stepRef(Object id) {
+        return new DBRef(DBConstants.SEQUENCE_STEP_DOCUMENT, id);
+    }
+
+    private static DBRef userRef(String id) {
+        return new DBRef(DBConstants.USER_DOCUMENT, id);
+    }
+
+    private static Document step(String id, int position) {
+        return new Document(ID_FIELD, id).append("position", position);
+    }
+}
@@ -0,0 +1,103 @@
+package com.sawoo.pipeline.api.repository.base;
+
+import com.sawoo.pipeline.api.common.contants.ExceptionMessageConstants;
+import com.sawoo.pipeline.api.common.exceptions.IllegalArgumentException;
+import com.sawoo.pipeline.api.model.prospect.Prospect;
+import com.sawoo.pipeline.api.model.todo.Todo;
+import org.bson.Document;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.Set;
+
+@TestMethodOrder(MethodOrderer.Alphanumeric.class)
+@Tag(value = "service")
+@Profile(value = {"unit-tests", "unit-tests-embedded"})
+class FieldProjectionTest {
+
+    private MongoMappingContext mappingContext;
+
+    @BeforeEach
+    void setup() {
+        mappingContext = new MongoMappingContext();
+    }
+
+    @Test
+    @DisplayName("applyTo: nested paths of embedded documents included - Success")
+    void applyToWhenNestedPathsValidReturnsSuccess() {
+        // Execute the call
+        Query query = applyTo(FieldProjection.parse("status, message.text,message.template.text"), Todo.class);
+
+        // Assertions
+        Assertions.assertEquals(
+                new Document("id", 1).append("status", 1).append("message.text", 1).append("message.template.text", 1),
+                query.getFieldsObject(),
+                "Id and every requested path must be included");
+    }
+
+    @Test
+    @DisplayName("parse: path inside a requested field is dropped - Success")
+    void parseWhenPathsOverlapReturnsParentOnly() {
+        // Execute the call
+        FieldProjection projection = FieldProjection.parse("message.text,status,message,message.template.text,status");
+
+        // Assertions
+        Assertions.assertEquals(Set.of("message", "status"), projection.getFields(), "Only the parent paths must be kept");
+        Assertions.assertEquals(
+                new Document("id", 1).append("message", 1).append("status", 1),
+                applyTo(projection, Todo.class).getFieldsObject(),
+                "Projection must not include a path and its parent");
+    }
+
+    @Test
+    @DisplayName("parse: no field in the list - Failure")
+    void parseWhenNoFieldsReturnsFailure() {
+        // Execute the call
+        IllegalArgumentException exception = Assertions.assertThrows(IllegalArgumentException.class, () -> FieldProjection.parse(" , ,"));
+
+        // Assertions
+        Assertions.assertEquals(ExceptionMessageConstants.COMMON_EMPTY_FIELDS_EXCEPTION, exception.getMessage(), "Exception must be the empty fields error");
+        Assertions.assertNull(FieldProjection.parse(" "), "Blank fields must not project");
+    }
+
+    @Test
+    @DisplayName("applyTo: unknown nested property - Failure")
+    void applyToWhenNestedPropertyUnknownReturnsFailure() {
+        assertInvalid("message.bogus", Todo.class);
+        assertInvalid("message.template.bogus", Todo.class);
+        assertInvalid("message.", Todo.class);
+        assertInvalid("bogus", Todo.class);
+    }
+
+    @Test
+    @DisplayName("applyTo: path crossing a DBRef or a simple property - Failure")
+    void applyToWhenPathCrossesReferenceReturnsFailure() {
+        assertInvalid("person.firstName", Prospect.class);
+        assertInvalid("status.value", Todo.class);
+    }
+
+    private Query applyTo(FieldProjection projection, Class<?> type) {
+        return projection.applyTo(new Query(), mappingContext.getRequiredPersistentEntity(type), mappingContext);
+    }
+
+    private void assertInvalid(String field, Class<?> type) {
+        FieldProjection projection = FieldProjection.parse(field);
+
+        IllegalArgumentException exception = Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> applyTo(projection, type),
+                String.format("Field [%s] must be rejected", field));
+
+        Assertions.assertAll(String.format("Field [%s] must be reported", field),
+                () -> Assertions.assertEquals(ExceptionMessageConstants.COMMON_INVALID_FIELDS_EXCEPTION, exception.getMessage(), "Exception must be the invalid fields error"),
+                () -> Assertions.assertEquals(field, exception.getArgs()[0], "Invalid field must be reported"));
+    }
+}
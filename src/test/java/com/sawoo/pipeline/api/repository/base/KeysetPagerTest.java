@@ -0,0 +1,109 @@
+package com.sawoo.pipeline.api.repository.base;
+
+import com.sawoo.pipeline.api.model.todo.Todo;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+
+@TestMethodOrder(MethodOrderer.Alphanumeric.class)
+@Tag(value = "service")
+@Profile(value = {"unit-tests", "unit-tests-embedded"})
+class KeysetPagerTest {
+
+    private static final String LAST_ID = new ObjectId().toHexString();
+
+    private MongoMappingContext mappingContext;
+    private QueryMapper queryMapper;
+    private MongoOperations mongoOperations;
+    private KeysetPager pager;
+
+    @BeforeEach
+    void setup() {
+        mappingContext = new MongoMappingContext();
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.afterPropertiesSet();
+        queryMapper = new QueryMapper(converter);
+        mongoOperations = Mockito.mock(MongoOperations.class);
+        Mockito.when(mongoOperations.getConverter()).thenReturn(converter);
+        Mockito.when(mongoOperations.find(any(Query.class), eq(Todo.class), anyString())).thenReturn(Collections.emptyList());
+        pager = new KeysetPager(mongoOperations);
+    }
+
+    @Test
+    @DisplayName("find: page after an id cursor compares ObjectIds - Success")
+    void findWhenIdCursorReturnsSuccess() {
+        // Execute the call
+        pager.find(new Query(), Todo.class, KeysetCursor.ID_FIELD, new KeysetCursor(KeysetCursor.ID_FIELD, null, LAST_ID), 10);
+
+        // Assertions
+        Document filter = getMappedFilter();
+        Assertions.assertEquals(
+                new ObjectId(LAST_ID),
+                filter.get("_id", Document.class).get("$gt"),
+                "Last id must be compared as the ObjectId stored in the documents");
+    }
+
+    @Test
+    @DisplayName("find: page after a sort value cursor breaks ties by ObjectId - Success")
+    @SuppressWarnings("unchecked")
+    void findWhenSortValueCursorReturnsSuccess() {
+        // Set up mocked entities
+        LocalDateTime scheduled = LocalDateTime.of(2021, 1, 15, 10, 30);
+
+        // Execute the call
+        pager.find(new Query(), Todo.class, "scheduled", new KeysetCursor("scheduled", scheduled.toString(), LAST_ID), 10);
+
+        // Assertions
+        List<Document> or = (List<Document>) getMappedFilter().get("$or");
+        Document sameValue = or.get(1);
+        Assertions.assertAll("Entities with the same sort value must be paged by id",
+                () -> Assertions.assertEquals(2, or.size(), "Greater values and ties must be both queried"),
+                () -> Assertions.assertNotNull(sameValue.get("scheduled"), "Tie must be on the sort value"),
+                () -> Assertions.assertEquals(
+                        new ObjectId(LAST_ID),
+                        sameValue.get("_id", Document.class).get("$gt"),
+                        "Last id must be compared as the ObjectId stored in the documents"));
+    }
+
+    @Test
+    @DisplayName("find: id that is not an ObjectId kept as it is - Success")
+    void findWhenCursorIdNotObjectIdReturnsSuccess() {
+        // Execute the call
+        pager.find(new Query(), Todo.class, KeysetCursor.ID_FIELD, new KeysetCursor(KeysetCursor.ID_FIELD, null, "custom-id"), 10);
+
+        // Assertions
+        Assertions.assertEquals(
+                "custom-id",
+                getMappedFilter().get("_id", Document.class).get("$gt"),
+                "Custom ids must be compared as strings");
+    }
+
+    private Document getMappedFilter() {
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        Mockito.verify(mongoOperations).find(query.capture(), eq(Todo.class), anyString());
+        return queryMapper.getMappedObject(query.getValue().getQueryObject(), mappingContext.getRequiredPersistentEntity(Todo.class));
+    }
+}
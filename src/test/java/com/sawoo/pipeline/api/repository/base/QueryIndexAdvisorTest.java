@@ -0,0 +1,134 @@
+package com.sawoo.pipeline.api.repository.base;
+
+import com.mongodb.client.MongoDatabase;
+import com.sawoo.pipeline.api.common.contants.ExceptionMessageConstants;
+import com.sawoo.pipeline.api.common.exceptions.RepositoryException;
+import com.sawoo.pipeline.api.model.DBConstants;
+import com.sawoo.pipeline.api.model.todo.Todo;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+
+@TestMethodOrder(MethodOrderer.Alphanumeric.class)
+@Tag(value = "service")
+@Profile(value = {"unit-tests", "unit-tests-embedded"})
+class QueryIndexAdvisorTest {
+
+    private MongoTemplate mongoTemplate;
+    private MongoDatabase database;
+
+    @BeforeEach
+    void setup() {
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, new MongoMappingContext());
+        converter.afterPropertiesSet();
+        mongoTemplate = Mockito.mock(MongoTemplate.class);
+        database = Mockito.mock(MongoDatabase.class);
+        Mockito.when(mongoTemplate.getConverter()).thenReturn(converter);
+        Mockito.when(mongoTemplate.getDb()).thenReturn(database);
+    }
+
+    @Test
+    @DisplayName("inspect: collection scan reported with the fields to index - Failure")
+    void inspectWhenCollectionScanReturnsRepositoryException() {
+        // Set up mocked entities
+        mockWinningPlan(new Document("stage", "COLLSCAN"));
+        QueryIndexAdvisor advisor = new QueryIndexAdvisor(mongoTemplate, true, true);
+        Query query = new Query(new Criteria().andOperator(
+                Criteria.where("assigneeId").is("user-id"),
+                Criteria.where("status").in(1, 2)));
+
+        // Execute the call
+        RepositoryException exception = Assertions.assertThrows(
+                RepositoryException.class,
+                () -> advisor.inspect(query, Todo.class),
+                "inspect must throw RepositoryException");
+
+        // Assertions
+        Assertions.assertAll("Advice must name the collection and the fields to index",
+                () -> Assertions.assertEquals(ExceptionMessageConstants.REPOSITORY_QUERY_NOT_INDEXED_EXCEPTION, exception.getMessage()),
+                () -> Assertions.assertEquals(DBConstants.TODO_DOCUMENT, exception.getArgs()[0], "Collection must be informed"),
+                () -> Assertions.assertEquals(
+                        List.of("assigneeId", "status"),
+                        List.copyOf((Set<?>) exception.getArgs()[2]),
+                        "Every filtered field must be advised in the order it is queried"));
+        Mockito.verify(mongoTemplate, Mockito.never()).indexOps(any(Class.class));
+        Mockito.verify(mongoTemplate, Mockito.never()).indexOps(any(String.class));
+    }
+
+    @Test
+    @DisplayName("inspect: query shape explained only the first time - Success")
+    void inspectWhenSameShapeReturnsSuccess() {
+        // Set up mocked entities
+        mockWinningPlan(new Document("stage", "COLLSCAN"));
+        QueryIndexAdvisor advisor = new QueryIndexAdvisor(mongoTemplate, true, false);
+
+        // Execute the call
+        advisor.inspect(new Query(Criteria.where("componentId").is("prospect-1")), Todo.class);
+        advisor.inspect(new Query(Criteria.where("componentId").is("prospect-2")), Todo.class);
+
+        // Assertions
+        Mockito.verify(database, Mockito.times(1)).runCommand(any(Bson.class));
+        Mockito.verify(mongoTemplate, Mockito.never()).indexOps(any(Class.class));
+    }
+
+    @Test
+    @DisplayName("inspect: query served by an index explained with the query plan - Success")
+    void inspectWhenIndexScanReturnsSuccess() {
+        // Set up mocked entities
+        mockWinningPlan(new Document("stage", "FETCH")
+                .append("inputStage", new Document("stage", "IXSCAN").append("indexName", "assignee_idx")));
+        QueryIndexAdvisor advisor = new QueryIndexAdvisor(mongoTemplate, true, true);
+
+        // Execute the call
+        advisor.inspect(new Query(Criteria.where("assigneeId").is("user-id")), Todo.class);
+
+        // Assertions
+        ArgumentCaptor<Bson> command = ArgumentCaptor.forClass(Bson.class);
+        Mockito.verify(database, Mockito.times(1)).runCommand(command.capture());
+        Document explain = (Document) command.getValue();
+        Assertions.assertAll("Query must be explained without being run",
+                () -> Assertions.assertEquals("queryPlanner", explain.getString("verbosity"), "Only the query plan must be requested"),
+                () -> Assertions.assertEquals(
+                        DBConstants.TODO_DOCUMENT,
+                        explain.get("explain", Document.class).getString("find"),
+                        "TODO collection must be explained"));
+    }
+
+    @Test
+    @DisplayName("inspect: advisor disabled does not explain the query - Success")
+    void inspectWhenDisabledReturnsSuccess() {
+        // Set up mocked entities
+        QueryIndexAdvisor advisor = new QueryIndexAdvisor(mongoTemplate, false, true);
+
+        // Execute the call
+        advisor.inspect(new Query(Criteria.where("assigneeId").is("user-id")), Todo.class);
+
+        // Assertions
+        Mockito.verifyNoInteractions(database);
+    }
+
+    private void mockWinningPlan(Document winningPlan) {
+        Mockito.when(database.runCommand(any(Bson.class)))
+                .thenReturn(new Document("queryPlanner", new Document("winningPlan", winningPlan)));
+    }
+}
@@ -193,7 +193,6 @@ class CampaignRepositoryTest extends BaseRepositoryTest<Campaign, CampaignReposi
                 ENTITIES_FOUND,
                 campaignsWithProspects.size(),
                 String.format("CampaignWithProspects list size must be %d", ENTITIES_FOUND));
-        campaignsWithProspects.forEach( (c) -> Assertions.assertFalse(c.getProspects().isEmpty(), "Prospect size can not be empty"));
     }
 
     @Test
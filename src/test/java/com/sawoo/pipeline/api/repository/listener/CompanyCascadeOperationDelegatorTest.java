@@ -0,0 +1,95 @@
+package com.sawoo.pipeline.api.repository.listener;
+
+import com.sawoo.pipeline.api.model.company.Company;
+import com.sawoo.pipeline.api.repository.company.CompanyRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.context.annotation.Profile;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+
+@TestMethodOrder(MethodOrderer.Alphanumeric.class)
+@Tag(value = "service")
+@Profile(value = {"unit-tests", "unit-tests-embedded"})
+class CompanyCascadeOperationDelegatorTest {
+
+    private CompanyRepository repository;
+    private CompanyCascadeOperationDelegator delegator;
+
+    @BeforeEach
+    void setup() {
+        repository = Mockito.mock(CompanyRepository.class);
+        Mockito.when(repository.insertAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        delegator = new CompanyCascadeOperationDelegator(repository);
+    }
+
+    @Test
+    @DisplayName("onSaveAll: existing companies resolved and new ones inserted at once - Success")
+    @SuppressWarnings("unchecked")
+    void onSaveAllWhenNewAndExistingCompaniesReturnsSuccess() {
+        // Set up mocked entities
+        Company existing = Company.builder().id("existing-id").name("Sawoo").build();
+        Company known = Company.builder().id("known-id").name("Known").build();
+        Company sawoo = Company.builder().name("Sawoo").build();
+        Company newCompany = Company.builder().name("New").build();
+        Company repeated = Company.builder().name("New").build();
+        Mockito.when(repository.findAllByNameIn(anyCollection())).thenReturn(List.of(existing));
+
+        // Execute the call
+        List<Company> saved = delegator.onSaveAll(Arrays.asList(known, sawoo, null, newCompany, repeated));
+
+        // Assertions
+        ArgumentCaptor<Collection<String>> names = ArgumentCaptor.forClass(Collection.class);
+        ArgumentCaptor<List<Company>> inserted = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(repository, Mockito.times(1)).findAllByNameIn(names.capture());
+        Mockito.verify(repository, Mockito.times(1)).insertAll(inserted.capture());
+        Mockito.verify(repository, Mockito.times(1)).saveAll(List.of(known));
+        Mockito.verify(repository, Mockito.never()).findByName(anyString());
+        Assertions.assertAll("Companies must be saved in batch",
+                () -> Assertions.assertEquals(Set.of("Sawoo", "New"), Set.copyOf(names.getValue()), "New company names must be queried at once"),
+                () -> Assertions.assertEquals(List.of(newCompany), inserted.getValue(), "Repeated companies must be inserted once"),
+                () -> Assertions.assertNotNull(newCompany.getCreated(), "Created date must be informed"),
+                () -> Assertions.assertNotNull(known.getUpdated(), "Updated date must be informed"),
+                () -> Assertions.assertSame(known, saved.get(0), "Known company must be referenced"),
+                () -> Assertions.assertSame(existing, saved.get(1), "Existing company must be referenced"),
+                () -> Assertions.assertNull(saved.get(2), "Missing company must not be referenced"),
+                () -> Assertions.assertSame(newCompany, saved.get(3), "New company must be referenced"),
+                () -> Assertions.assertSame(newCompany, saved.get(4), "Repeated company must reference the inserted one"));
+    }
+
+    @Test
+    @DisplayName("onSave: company found by name is set in the parent - Success")
+    @SuppressWarnings("unchecked")
+    void onSaveWhenCompanyFoundReturnsSuccess() {
+        // Set up mocked entities
+        Company existing = Company.builder().id("existing-id").name("Sawoo").build();
+        Mockito.when(repository.findAllByNameIn(anyCollection())).thenReturn(List.of(existing));
+        AtomicReference<Company> parentCompany = new AtomicReference<>();
+
+        // Execute the call
+        delegator.onSave(Company.builder().name("Sawoo").build(), parentCompany::set);
+
+        // Assertions
+        ArgumentCaptor<List<Company>> inserted = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(repository, Mockito.times(1)).insertAll(inserted.capture());
+        Mockito.verify(repository, Mockito.never()).saveAll(anyList());
+        Assertions.assertAll("Existing company must be referenced",
+                () -> Assertions.assertSame(existing, parentCompany.get(), "Parent must reference the existing company"),
+                () -> Assertions.assertTrue(inserted.getValue().isEmpty(), "No company must be inserted"));
+    }
+}
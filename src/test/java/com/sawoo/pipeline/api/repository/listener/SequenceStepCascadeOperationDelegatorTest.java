@@ -0,0 +1,100 @@
+package com.sawoo.pipeline.api.repository.listener;
+
+import com.sawoo.pipeline.api.model.sequence.SequenceStep;
+import com.sawoo.pipeline.api.repository.sequencestep.SequenceStepRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.context.annotation.Profile;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+
+@TestMethodOrder(MethodOrderer.Alphanumeric.class)
+@Tag(value = "service")
+@Profile(value = {"unit-tests", "unit-tests-embedded"})
+class SequenceStepCascadeOperationDelegatorTest {
+
+    private static final int STEPS_SIZE = 20;
+
+    private SequenceStepRepository repository;
+    private SequenceStepCascadeOperationDelegator delegator;
+
+    @BeforeEach
+    void setup() {
+        repository = Mockito.mock(SequenceStepRepository.class);
+        Mockito.when(repository.insertAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        delegator = new SequenceStepCascadeOperationDelegator(repository);
+    }
+
+    @Test
+    @DisplayName("onSaveAll: known steps are not fetched again - Success")
+    @SuppressWarnings("unchecked")
+    void onSaveAllWhenStepsKnownReturnsSuccess() {
+        // Set up mocked entities
+        List<SequenceStep> steps = IntStream
+                .range(0, STEPS_SIZE)
+                .mapToObj(i -> SequenceStep.builder().id("step-" + i).build())
+                .collect(Collectors.toList());
+
+        // Execute the call
+        List<SequenceStep> saved = delegator.onSaveAll(steps);
+
+        // Assertions
+        ArgumentCaptor<List<SequenceStep>> inserted = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(repository, Mockito.never()).findById(anyString());
+        Mockito.verify(repository, Mockito.times(1)).insertAll(inserted.capture());
+        Assertions.assertAll("Known steps must be referenced as they are",
+                () -> Assertions.assertEquals(steps, saved, "Steps must be referenced in the same order"),
+                () -> Assertions.assertTrue(inserted.getValue().isEmpty(), "No step must be inserted"));
+    }
+
+    @Test
+    @DisplayName("onSaveAll: new steps inserted at once - Success")
+    @SuppressWarnings("unchecked")
+    void onSaveAllWhenNewStepsReturnsSuccess() {
+        // Set up mocked entities
+        SequenceStep known = SequenceStep.builder().id("step-id").build();
+        SequenceStep first = SequenceStep.builder().position(1).build();
+        SequenceStep second = SequenceStep.builder().position(2).build();
+
+        // Execute the call
+        List<SequenceStep> saved = delegator.onSaveAll(List.of(first, known, second));
+
+        // Assertions
+        ArgumentCaptor<List<SequenceStep>> inserted = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(repository, Mockito.times(1)).insertAll(inserted.capture());
+        Mockito.verify(repository, Mockito.never()).insert(Mockito.any(SequenceStep.class));
+        Assertions.assertAll("New steps must be inserted in one bulk insert",
+                () -> Assertions.assertEquals(List.of(first, second), inserted.getValue(), "Only new steps must be inserted"),
+                () -> Assertions.assertEquals(List.of(first, known, second), saved, "Steps must be referenced in the same order"));
+    }
+
+    @Test
+    @DisplayName("onDeleteAllById: steps deleted at once - Success")
+    void onDeleteAllByIdWhenStepsFoundReturnsSuccess() {
+        // Set up mocked entities
+        List<String> stepIds = IntStream
+                .range(0, STEPS_SIZE)
+                .mapToObj(i -> "step-" + i)
+                .collect(Collectors.toList());
+
+        // Execute the call
+        delegator.onDeleteAllById(stepIds);
+
+        // Assertions
+        Mockito.verify(repository, Mockito.times(1)).deleteAllById(stepIds);
+        Mockito.verify(repository, Mockito.never()).delete(Mockito.any(SequenceStep.class));
+        Mockito.verify(repository, Mockito.never()).findById(anyString());
+    }
+}
@@ -0,0 +1,100 @@
+package com.sawoo.pipeline.api.repository.migration;
+
+import com.github.cloudyrock.mongock.driver.mongodb.springdata.v3.decorator.impl.MongockTemplate;
+import com.mongodb.DBRef;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.WriteModel;
+import com.sawoo.pipeline.api.model.DBConstants;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.context.annotation.Profile;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+
+@TestMethodOrder(MethodOrderer.Alphanumeric.class)
+@Tag(value = "service")
+@Profile(value = {"unit-tests", "unit-tests-embedded"})
+class CampaignProspectChangeLogTest {
+
+    private static final String CAMPAIGN_ID = "campaign-id";
+    private static final String PROSPECT_ID = "prospect-id";
+
+    private MongockTemplate mongockTemplate;
+    private MongoCollection<Document> campaigns;
+    private MongoCollection<Document> campaignProspects;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setup() {
+        mongockTemplate = Mockito.mock(MongockTemplate.class);
+        campaigns = Mockito.mock(MongoCollection.class);
+        campaignProspects = Mockito.mock(MongoCollection.class);
+        Mockito.when(mongockTemplate.getCollection(DBConstants.CAMPAIGN_DOCUMENT)).thenReturn(campaigns);
+        Mockito.when(mongockTemplate.getCollection(DBConstants.CAMPAIGN_PROSPECT_DOCUMENT)).thenReturn(campaignProspects);
+    }
+
+    @Test
+    @DisplayName("campaignProspectCollection: embedded prospects upserted and moved out of the campaign - Success")
+    @SuppressWarnings("unchecked")
+    void campaignProspectCollectionWhenProspectsEmbeddedReturnsSuccess() {
+        // Set up mocked entities
+        mockCampaign(new Document("_id", CAMPAIGN_ID)
+                .append("prospects", List.of(new Document("prospect", new DBRef(DBConstants.PROSPECT_DOCUMENT, PROSPECT_ID)))));
+
+        // Execute the call
+        new CampaignProspectChangeLog().campaignProspectCollection(mongockTemplate);
+
+        // Assertions
+        ArgumentCaptor<List<WriteModel<Document>>> copies = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(campaignProspects, Mockito.times(1)).bulkWrite(copies.capture(), any());
+        Mockito.verify(campaignProspects, Mockito.never()).deleteMany(any(Bson.class));
+        Mockito.verify(campaigns, Mockito.times(1)).updateOne(any(Bson.class), any(Bson.class));
+        ReplaceOneModel<Document> copy = (ReplaceOneModel<Document>) copies.getValue().get(0);
+        Assertions.assertAll("Embedded prospects must be upserted by prospect",
+                () -> Assertions.assertEquals(1, copies.getValue().size(), "One copy per prospect must be written"),
+                () -> Assertions.assertTrue(copy.getReplaceOptions().isUpsert(), "Copy must be upserted"),
+                () -> Assertions.assertEquals(CAMPAIGN_ID, copy.getReplacement().getString("campaignId"), "Campaign id must be informed"),
+                () -> Assertions.assertEquals(PROSPECT_ID, copy.getReplacement().getString("prospectId"), "Prospect id must be informed"));
+    }
+
+    @Test
+    @DisplayName("campaignProspectCollection: campaign saved without prospects keeps its entries - Success")
+    void campaignProspectCollectionWhenProspectsEmptyReturnsSuccess() {
+        // Set up mocked entities
+        mockCampaign(new Document("_id", CAMPAIGN_ID).append("prospects", List.of()));
+
+        // Execute the call
+        new CampaignProspectChangeLog().campaignProspectCollection(mongockTemplate);
+
+        // Assertions
+        Mockito.verify(campaignProspects, Mockito.never()).bulkWrite(anyList(), any());
+        Mockito.verify(campaignProspects, Mockito.never()).deleteMany(any(Bson.class));
+        Mockito.verify(campaigns, Mockito.times(1)).updateOne(any(Bson.class), any(Bson.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void mockCampaign(Document campaign) {
+        FindIterable<Document> iterable = Mockito.mock(FindIterable.class);
+        MongoCursor<Document> cursor = Mockito.mock(MongoCursor.class);
+        Mockito.when(campaigns.find(any(Bson.class))).thenReturn(iterable);
+        Mockito.when(iterable.projection(any(Bson.class))).thenReturn(iterable);
+        Mockito.when(iterable.iterator()).thenReturn(cursor);
+        Mockito.when(cursor.hasNext()).thenReturn(true, false);
+        Mockito.when(cursor.next()).thenReturn(campaign);
+    }
+}
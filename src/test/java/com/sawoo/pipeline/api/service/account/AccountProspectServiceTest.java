@@ -29,7 +29,6 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Profile;
 
 import javax.validation.ConstraintViolationException;
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -37,7 +36,9 @@ import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
@@ -161,7 +162,7 @@ class AccountProspectServiceTest extends BaseLightServiceTest<AccountDTO, Accoun
         List<String> ACCOUNT_IDS = ACCOUNT_LIST.stream().map(Account::getId).collect(Collectors.toList());
 
         // Set up the mocked repository
-        doReturn(ACCOUNT_LIST).when(repository).findAllById(ACCOUNT_IDS);
+        doReturn(ACCOUNT_LIST).when(repository).findAllWithReferences(eq(ACCOUNT_IDS), any());
         doReturn(new ProspectMapper()).when(prospectService).getMapper();
 
         // Execute the service call
@@ -175,7 +176,7 @@ class AccountProspectServiceTest extends BaseLightServiceTest<AccountDTO, Accoun
                         returnedList.size(),
                         String.format("Prospect list size must be [%d]", prospectCount.get())));
 
-        verify(repository, times(1)).findAllById(ACCOUNT_IDS);
+        verify(repository, times(1)).findAllWithReferences(eq(ACCOUNT_IDS), any());
     }
 
     @Test
@@ -203,7 +204,7 @@ class AccountProspectServiceTest extends BaseLightServiceTest<AccountDTO, Accoun
         List<String> ACCOUNT_IDS = ACCOUNT_LIST.stream().map(Account::getId).collect(Collectors.toList());
 
         // Set up the mocked repository
-        doReturn(ACCOUNT_LIST).when(repository).findAllById(ACCOUNT_IDS);
+        doReturn(ACCOUNT_LIST).when(repository).findAllWithReferences(eq(ACCOUNT_IDS), any());
         doReturn(new ProspectMapper()).when(prospectService).getMapper();
 
         // Execute the service call
@@ -219,7 +220,7 @@ class AccountProspectServiceTest extends BaseLightServiceTest<AccountDTO, Accoun
                         returnedList.size(),
                         String.format("Prospect list size must be [%d]", deadProspectCount.get())));
 
-        verify(repository, times(1)).findAllById(ACCOUNT_IDS);
+        verify(repository, times(1)).findAllWithReferences(eq(ACCOUNT_IDS), any());
     }
 
     @Test
@@ -248,13 +249,12 @@ class AccountProspectServiceTest extends BaseLightServiceTest<AccountDTO, Accoun
 
         Assertions.assertAll(String.format("Prospect id [%s] removed from account id [%s]", PROSPECT_ID, ACCOUNT_ID),
                 () -> Assertions.assertNotNull(returnedDTO, "Deleted prospect can not be null"),
-                () -> Assertions.assertEquals(PROSPECT_ID, returnedDTO.getId(), String.format("Prospect id has to be [%s]", PROSPECT_ID)),
-                () -> Assertions.assertEquals(PROSPECT_LIST_SIZE - 1, mockedAccount.getProspects().size(), "dasd"));
+                () -> Assertions.assertEquals(PROSPECT_ID, returnedDTO.getId(), String.format("Prospect id has to be [%s]", PROSPECT_ID)));
 
         verify(repository, times(1)).findById(anyString());
-        verify(repository, times(1)).save(any(Account.class));
+        verify(repository, never()).save(any(Account.class));
+        verify(repository, times(1)).pullAll(ACCOUNT_ID, "prospects", List.of(prospectList.get(0)));
         verify(prospectService, times(1)).delete(anyString());
-        verify(spyProspectList, times(1)).remove(any(Prospect.class));
     }
 
     @Test
@@ -424,11 +424,8 @@ class AccountProspectServiceTest extends BaseLightServiceTest<AccountDTO, Accoun
                 () -> Assertions.assertNotNull(returnedProspect, "Prospect can not be null"),
                 () -> Assertions.assertEquals(prospectId, returnedProspect.getId(), String.format("Prospect id must be [%s]", prospectId)),
                 () -> Assertions.assertNotNull(returnedProspect.getCompanyNotes(), "Person can not be null"));
-        Assertions.assertFalse(spyAccount.getProspects().isEmpty(), String.format("Prospect list of the account id [%s] can not be empty", accountId));
 
-        Assertions.assertFalse(spyAccount.getProspects().isEmpty(), String.format("Prospect list of the account id [%s] can not be empty", accountId));
-
-        verify(spyAccount, times(1)).setUpdated(any(LocalDateTime.class));
-        verify(repository, times(1)).save(any(Account.class));
+        verify(repository, never()).save(any(Account.class));
+        verify(repository, times(1)).pushAll(eq(accountId), eq("prospects"), anyList());
     }
 }
@@ -0,0 +1,101 @@
+package com.sawoo.pipeline.api.service.account;
+
+import com.sawoo.pipeline.api.dto.UserCommon;
+import com.sawoo.pipeline.api.dto.UserCommonType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.context.annotation.Profile;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@TestMethodOrder(MethodOrderer.Alphanumeric.class)
+@Tag(value = "service")
+@Profile(value = {"unit-tests", "unit-tests-embedded"})
+class AccountUserDirectoryCacheTest {
+
+    private static final String ACCOUNT_ID = "account-id";
+    private static final String PROSPECT_ID = "prospect-id";
+
+    private SimpleMeterRegistry meterRegistry;
+    private AccountUserDirectoryCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new AccountUserDirectoryCache(meterRegistry, true, 10, Duration.ofMinutes(10));
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("getByProspectId: second call is served from cache - Success")
+    void getByProspectIdWhenAlreadyLoadedReturnsCachedDirectory() {
+        AccountUserDirectory first = cache.getByProspectId(PROSPECT_ID, this::load);
+        AccountUserDirectory second = cache.getByProspectId(PROSPECT_ID, this::load);
+
+        Assertions.assertAll("Directory must be loaded only once",
+                () -> Assertions.assertSame(first, second, "Cached directory must be returned"),
+                () -> Assertions.assertEquals(1, loads.get(), "Loader must be called once"),
+                () -> Assertions.assertEquals(
+                        1.0,
+                        meterRegistry.get("cache.gets").tag("cache", "account.users.account").tag("result", "hit").functionCounter().count(),
+                        "One hit must be recorded"));
+    }
+
+    @Test
+    @DisplayName("getByAccountId: shares the entry loaded by prospect id - Success")
+    void getByAccountIdWhenLoadedByProspectReturnsCachedDirectory() {
+        cache.getByProspectId(PROSPECT_ID, this::load);
+        cache.getByAccountId(ACCOUNT_ID, this::load);
+
+        Assertions.assertEquals(1, loads.get(), "Loader must be called once");
+    }
+
+    @Test
+    @DisplayName("invalidateAccount: next call reloads the directory - Success")
+    void invalidateAccountWhenCachedReloadsDirectory() {
+        cache.getByProspectId(PROSPECT_ID, this::load);
+        cache.invalidateAccount(ACCOUNT_ID);
+        cache.getByProspectId(PROSPECT_ID, this::load);
+
+        Assertions.assertEquals(2, loads.get(), "Loader must be called twice");
+    }
+
+    @Test
+    @DisplayName("invalidateProspect: next call reloads the directory - Success")
+    void invalidateProspectWhenCachedReloadsDirectory() {
+        cache.getByProspectId(PROSPECT_ID, this::load);
+        cache.invalidateProspect(PROSPECT_ID);
+        cache.getByProspectId(PROSPECT_ID, this::load);
+
+        Assertions.assertEquals(2, loads.get(), "Loader must be called twice");
+    }
+
+    @Test
+    @DisplayName("getByProspectId: cache disabled always calls the loader - Success")
+    void getByProspectIdWhenDisabledAlwaysLoads() {
+        cache = new AccountUserDirectoryCache(meterRegistry, false, 10, Duration.ofMinutes(10));
+        cache.getByProspectId(PROSPECT_ID, this::load);
+        cache.getByProspectId(PROSPECT_ID, this::load);
+
+        Assertions.assertEquals(2, loads.get(), "Loader must be called twice");
+    }
+
+    private AccountUserDirectory load(String id) {
+        loads.incrementAndGet();
+        UserCommon user = UserCommon.builder().id("user-id").fullName("User").type(UserCommonType.USER).build();
+        return AccountUserDirectory.builder()
+                .accountId(ACCOUNT_ID)
+                .users(Collections.singletonList(user))
+                .defaultAssignee(user)
+                .build();
+    }
+}
@@ -0,0 +1,141 @@
+package com.sawoo.pipeline.api.service.account;
+
+import com.sawoo.pipeline.api.dto.UserCommon;
+import com.sawoo.pipeline.api.dto.account.AccountDTO;
+import com.sawoo.pipeline.api.dto.user.UserAuthDTO;
+import com.sawoo.pipeline.api.model.account.Account;
+import com.sawoo.pipeline.api.model.user.User;
+import com.sawoo.pipeline.api.model.user.UserRole;
+import com.sawoo.pipeline.api.repository.account.AccountRepository;
+import com.sawoo.pipeline.api.repository.user.UserRepository;
+import com.sawoo.pipeline.api.service.infra.audit.AuditService;
+import com.sawoo.pipeline.api.service.prospect.ProspectServiceDecoratorHelper;
+import com.sawoo.pipeline.api.service.user.UserAuthDetailsCache;
+import com.sawoo.pipeline.api.service.user.UserAuthMapper;
+import com.sawoo.pipeline.api.service.user.UserAuthService;
+import com.sawoo.pipeline.api.service.user.UserAuthServiceImpl;
+import com.sawoo.pipeline.api.service.user.UserTokenRevocationRegistry;
+import com.sawoo.pipeline.api.service.user.UserTokenService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.mockito.Mockito;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.mockito.ArgumentMatchers.any;
+
+@TestMethodOrder(MethodOrderer.Alphanumeric.class)
+@Tag(value = "service")
+@Profile(value = {"unit-tests", "unit-tests-embedded"})
+class AccountUserDirectoryInvalidationTest {
+
+    private static final String ACCOUNT_ID = "account-id";
+    private static final String USER_ID = "user-id";
+    private static final String OTHER_USER_ID = "user-id-2";
+
+    private AccountRepository accountRepository;
+    private UserRepository userRepository;
+    private ProspectServiceDecoratorHelper helper;
+    private AccountService accountService;
+    private UserAuthService userService;
+    private Account account;
+
+    @BeforeEach
+    void setup() {
+        AccountUserDirectoryCache cache = new AccountUserDirectoryCache(new SimpleMeterRegistry(), true, 10, Duration.ofMinutes(10));
+        accountRepository = Mockito.mock(AccountRepository.class);
+        userRepository = Mockito.mock(UserRepository.class);
+        helper = new ProspectServiceDecoratorHelper(accountRepository, cache);
+        userService = new UserAuthServiceImpl(
+                userRepository,
+                new UserAuthMapper(),
+                Mockito.mock(ApplicationEventPublisher.class),
+                Mockito.mock(AuditService.class),
+                Mockito.mock(AuthenticationManager.class),
+                Mockito.mock(PasswordEncoder.class),
+                Mockito.mock(UserTokenService.class),
+                Mockito.mock(UserAuthDetailsCache.class),
+                Mockito.mock(UserTokenRevocationRegistry.class),
+                cache);
+        accountService = new AccountServiceImpl(
+                accountRepository,
+                new AccountMapper(),
+                Mockito.mock(ApplicationEventPublisher.class),
+                Mockito.mock(AuditService.class),
+                Mockito.mock(AccountProspectService.class),
+                userService,
+                cache);
+
+        account = new Account();
+        account.setId(ACCOUNT_ID);
+        account.getUsers().add(newUser(USER_ID, "Old Name"));
+        Mockito.when(accountRepository.findById(ACCOUNT_ID)).thenReturn(Optional.of(account));
+    }
+
+    @Test
+    @DisplayName("getUsersByAccountId: user updated after the directory is cached - Success")
+    void getUsersByAccountIdWhenUserUpdatedReturnsSuccess() {
+        // Set up mocked entities
+        User user = account.getUsers().iterator().next();
+        Mockito.when(userRepository.findById(USER_ID)).thenReturn(Optional.of(user));
+        UserAuthDTO userToUpdate = new UserAuthDTO();
+        userToUpdate.setFullName("New Name");
+
+        // Execute the call
+        helper.getUsersByAccountId(ACCOUNT_ID);
+        userService.update(USER_ID, userToUpdate);
+        List<UserCommon> users = helper.getUsersByAccountId(ACCOUNT_ID);
+
+        // Assertions
+        Assertions.assertAll("Directory must be reloaded after the user update",
+                () -> Assertions.assertEquals(1, users.size(), "One user must be returned"),
+                () -> Assertions.assertEquals("New Name", users.get(0).getFullName(), "Updated full name must be returned"));
+        Mockito.verify(accountRepository, Mockito.times(2)).findById(ACCOUNT_ID);
+    }
+
+    @Test
+    @DisplayName("getUsersByAccountId: account updated after the directory is cached - Success")
+    void getUsersByAccountIdWhenAccountUpdatedReturnsSuccess() {
+        // Set up mocked entities
+        Mockito.when(accountRepository.save(any(Account.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        UserAuthDTO otherUser = new UserAuthDTO();
+        otherUser.setId(OTHER_USER_ID);
+        otherUser.setFullName("Other Name");
+        otherUser.setRoles(new HashSet<>(Set.of(UserRole.USER.name())));
+        AccountDTO accountToUpdate = new AccountDTO();
+        accountToUpdate.getUsers().add(otherUser);
+
+        // Execute the call
+        helper.getUsersByAccountId(ACCOUNT_ID);
+        accountService.update(ACCOUNT_ID, accountToUpdate);
+        List<UserCommon> users = helper.getUsersByAccountId(ACCOUNT_ID);
+
+        // Assertions
+        Assertions.assertTrue(
+                users.stream().map(UserCommon::getId).collect(Collectors.toSet()).contains(OTHER_USER_ID),
+                "User added to the account must be returned");
+    }
+
+    private static User newUser(String id, String fullName) {
+        User user = new User();
+        user.setId(id);
+        user.setFullName(fullName);
+        user.getRoles().add(UserRole.USER.name());
+        return user;
+    }
+}
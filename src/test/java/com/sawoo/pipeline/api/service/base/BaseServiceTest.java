@@ -3,23 +3,32 @@ package com.sawoo.pipeline.api.service.base;
 import com.sawoo.pipeline.api.common.contants.ExceptionMessageConstants;
 import com.sawoo.pipeline.api.common.exceptions.CommonServiceException;
 import com.sawoo.pipeline.api.common.exceptions.ResourceNotFoundException;
+import com.sawoo.pipeline.api.dto.common.CursorPageDTO;
 import com.sawoo.pipeline.api.mock.MockFactory;
 import com.sawoo.pipeline.api.model.BaseEntity;
 import com.sawoo.pipeline.api.repository.base.BaseMongoRepository;
+import com.sawoo.pipeline.api.repository.base.FieldProjection;
+import com.sawoo.pipeline.api.repository.base.KeysetCursor;
+import com.sawoo.pipeline.api.repository.base.KeysetPage;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.data.util.CloseableIterator;
 
 import javax.validation.ConstraintViolationException;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -160,6 +169,103 @@ public abstract class BaseServiceTest<D, M extends BaseEntity, R extends BaseMon
         verify(repository, times(1)).findAll();
     }
 
+    @Test
+    @DisplayName("findAll: only requested fields projected - Success")
+    void findAllWhenFieldsRequestedReturnsSuccess() {
+        // Set up mock entities
+        int listSize = 2;
+        String FIELDS = "id, created";
+        List<M> entityList = IntStream.range(0, listSize)
+                .mapToObj((entity) -> {
+                    String COMPONENT_ID = getMockFactory().getComponentId();
+                    return getMockFactory().newEntity(COMPONENT_ID);
+                }).collect(Collectors.toList());
+
+        // Set up the mocked repository
+        doReturn(entityList).when(repository).findAll(any(FieldProjection.class));
+
+        // Execute the service call
+        List<D> returnedList = service.findAll(FIELDS);
+
+        Assertions.assertEquals(listSize, returnedList.size(), String.format("Returned list size must be [%d]", listSize));
+
+        verify(repository, times(1)).findAll(new FieldProjection(Set.of("id", "created")));
+        verify(repository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("findAll: cursor page with more entities after it - Success")
+    void findAllWhenCursorPageHasNextPageReturnsSuccess() {
+        // Set up mock entities
+        int LIMIT = 2;
+        List<M> entityList = IntStream.range(0, LIMIT)
+                .mapToObj((entity) -> {
+                    String COMPONENT_ID = getMockFactory().getComponentId();
+                    return getMockFactory().newEntity(COMPONENT_ID);
+                }).collect(Collectors.toList());
+        KeysetCursor NEXT_CURSOR = new KeysetCursor(KeysetCursor.ID_FIELD, null, getMockFactory().getComponentId());
+
+        // Set up the mocked repository
+        doReturn(new KeysetPage<>(entityList, NEXT_CURSOR)).when(repository).findAllAfter(null, LIMIT, null);
+
+        // Execute the service call
+        CursorPageDTO<D> returnedPage = service.findAll(null, LIMIT, null);
+
+        Assertions.assertAll("Cursor page must contain the entities and a cursor to the next page",
+                () -> Assertions.assertEquals(LIMIT, returnedPage.getSize(), String.format("Page size must be [%d]", LIMIT)),
+                () -> Assertions.assertFalse(returnedPage.isLast(), "Page can not be the last one"),
+                () -> Assertions.assertEquals(
+                        NEXT_CURSOR,
+                        KeysetCursor.decode(returnedPage.getNext()),
+                        "Next token must point after the last entity"));
+
+        verify(repository, times(1)).findAllAfter(null, LIMIT, null);
+    }
+
+    @Test
+    @DisplayName("streamAll: entities found and cursor closed - Success")
+    void streamAllWhenEntitiesFoundReturnsSuccess() {
+        // Set up mock entities
+        int listSize = 3;
+        Iterator<M> entities = IntStream.range(0, listSize)
+                .mapToObj((entity) -> {
+                    String COMPONENT_ID = getMockFactory().getComponentId();
+                    return getMockFactory().newEntity(COMPONENT_ID);
+                }).collect(Collectors.toList())
+                .iterator();
+        AtomicBoolean closed = new AtomicBoolean(false);
+        CloseableIterator<M> cursor = new CloseableIterator<>() {
+            @Override
+            public boolean hasNext() {
+                return entities.hasNext();
+            }
+
+            @Override
+            public M next() {
+                return entities.next();
+            }
+
+            @Override
+            public void close() {
+                closed.set(true);
+            }
+        };
+
+        // Set up the mocked repository
+        doReturn(cursor).when(repository).streamAll(null);
+
+        // Execute the service call
+        long returnedCount;
+        try (Stream<D> returnedStream = service.streamAll(null)) {
+            returnedCount = returnedStream.count();
+        }
+
+        Assertions.assertEquals(listSize, returnedCount, String.format("Stream size must be [%d]", listSize));
+        Assertions.assertTrue(closed.get(), "Database cursor must be closed with the stream");
+
+        verify(repository, times(1)).streamAll(null);
+    }
+
     @Test
     @DisplayName("delete: entity found - Success")
     void deleteWhenEntityFoundReturnsSuccess() {
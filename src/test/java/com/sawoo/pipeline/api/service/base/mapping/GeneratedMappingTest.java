@@ -0,0 +1,131 @@
+package com.sawoo.pipeline.api.service.base.mapping;
+
+import com.googlecode.jmapper.JMapper;
+import com.googlecode.jmapper.api.enums.MappingType;
+import com.sawoo.pipeline.api.dto.company.CompanyDTO;
+import com.sawoo.pipeline.api.dto.person.PersonDTO;
+import com.sawoo.pipeline.api.dto.todo.TodoAssigneeDTO;
+import com.sawoo.pipeline.api.dto.todo.TodoDTO;
+import com.sawoo.pipeline.api.dto.user.UserTokenDTO;
+import com.sawoo.pipeline.api.mock.CompanyMockFactory;
+import com.sawoo.pipeline.api.mock.PersonMockFactory;
+import com.sawoo.pipeline.api.mock.TodoAssigneeMockFactory;
+import com.sawoo.pipeline.api.mock.UserTokenMockFactory;
+import com.sawoo.pipeline.api.model.company.Company;
+import com.sawoo.pipeline.api.model.person.Person;
+import com.sawoo.pipeline.api.model.user.UserToken;
+import com.sawoo.pipeline.api.service.base.ObjectMapping;
+import com.sawoo.pipeline.api.service.company.CompanyMapper;
+import com.sawoo.pipeline.api.service.person.PersonMapper;
+import com.sawoo.pipeline.api.service.prospect.ProspectMapper;
+import com.sawoo.pipeline.api.service.user.UserTokenMapper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.context.annotation.Profile;
+
+@TestMethodOrder(MethodOrderer.Alphanumeric.class)
+@Tag(value = "service")
+@Profile(value = {"unit-tests", "unit-tests-embedded"})
+class GeneratedMappingTest {
+
+    private static final int SAMPLES = 50;
+
+    private final CompanyMockFactory companyMockFactory = new CompanyMockFactory();
+    private final PersonMockFactory personMockFactory = new PersonMockFactory(companyMockFactory);
+
+    @Test
+    @DisplayName("getDestination: person entity to DTO and back same as JMapper - Success")
+    void getDestinationWhenPersonReturnsSameAsJMapper() {
+        PersonMapper mapper = new PersonMapper();
+        JMapper<PersonDTO, Person> expectedMapperOut = new JMapper<>(PersonDTO.class, Person.class);
+        JMapper<Person, PersonDTO> expectedMapperIn = new JMapper<>(Person.class, PersonDTO.class);
+
+        for (int i = 0; i < SAMPLES; i++) {
+            Person entity = personMockFactory.newEntity(personMockFactory.getComponentId(), i % 2 == 0);
+            PersonDTO dto = personMockFactory.newDTO(personMockFactory.getComponentId());
+
+            assertSameAsJMapper(expectedMapperOut, mapper.getMapperOut(), entity);
+            assertSameAsJMapper(expectedMapperIn, mapper.getMapperIn(), dto);
+        }
+    }
+
+    @Test
+    @DisplayName("getDestination: merge valued fields of person DTO same as JMapper - Success")
+    void getDestinationWhenMergingPersonReturnsSameAsJMapper() {
+        PersonMapper mapper = new PersonMapper();
+        JMapper<Person, PersonDTO> expectedMapper = new JMapper<>(Person.class, PersonDTO.class);
+
+        for (int i = 0; i < SAMPLES; i++) {
+            PersonDTO saved = personMockFactory.newDTO(personMockFactory.getComponentId());
+            PersonDTO update = new PersonDTO();
+            update.setFirstName(personMockFactory.getFAKER().name().firstName());
+            update.setCompany(CompanyDTO.builder().name(personMockFactory.getFAKER().company().name()).build());
+
+            Person expected = expectedMapper.getDestination(
+                    expectedMapper.getDestination(saved),
+                    update,
+                    MappingType.ALL_FIELDS,
+                    MappingType.ONLY_VALUED_FIELDS);
+            Person actual = mapper.getMapperIn().getDestination(
+                    expectedMapper.getDestination(saved),
+                    update,
+                    MappingType.ALL_FIELDS,
+                    MappingType.ONLY_VALUED_FIELDS);
+
+            Assertions.assertAll("Person must be merged as JMapper does",
+                    () -> Assertions.assertEquals(expected, actual, "Merged person must be the same"),
+                    () -> Assertions.assertEquals(expected.getCompany(), actual.getCompany(), "Company must be merged into the existing one"),
+                    () -> Assertions.assertEquals(saved.getLastName(), actual.getLastName(), "Fields not valued must be kept"));
+        }
+    }
+
+    @Test
+    @DisplayName("getDestination: company entity to DTO and back same as JMapper - Success")
+    void getDestinationWhenCompanyReturnsSameAsJMapper() {
+        CompanyMapper mapper = new CompanyMapper();
+        JMapper<CompanyDTO, Company> expectedMapperOut = new JMapper<>(CompanyDTO.class, Company.class);
+        JMapper<Company, CompanyDTO> expectedMapperIn = new JMapper<>(Company.class, CompanyDTO.class);
+
+        for (int i = 0; i < SAMPLES; i++) {
+            assertSameAsJMapper(expectedMapperOut, mapper.getMapperOut(), companyMockFactory.newEntity(companyMockFactory.getComponentId()));
+            assertSameAsJMapper(expectedMapperIn, mapper.getMapperIn(), companyMockFactory.newDTO(companyMockFactory.getComponentId()));
+        }
+    }
+
+    @Test
+    @DisplayName("getDestination: user token entity to DTO and back same as JMapper - Success")
+    void getDestinationWhenUserTokenReturnsSameAsJMapper() {
+        UserTokenMockFactory mockFactory = new UserTokenMockFactory();
+        UserTokenMapper mapper = new UserTokenMapper();
+        JMapper<UserTokenDTO, UserToken> expectedMapperOut = new JMapper<>(UserTokenDTO.class, UserToken.class);
+        JMapper<UserToken, UserTokenDTO> expectedMapperIn = new JMapper<>(UserToken.class, UserTokenDTO.class);
+
+        for (int i = 0; i < SAMPLES; i++) {
+            assertSameAsJMapper(expectedMapperOut, mapper.getMapperOut(), mockFactory.newEntity(mockFactory.getComponentId()));
+            assertSameAsJMapper(expectedMapperIn, mapper.getMapperIn(), mockFactory.newDTO(mockFactory.getComponentId()));
+        }
+    }
+
+    @Test
+    @DisplayName("getDestination: todo assignee DTO to todo DTO same as JMapper - Success")
+    void getDestinationWhenTodoAssigneeReturnsSameAsJMapper() {
+        TodoAssigneeMockFactory mockFactory = new TodoAssigneeMockFactory(personMockFactory);
+        ObjectMapping<TodoDTO, TodoAssigneeDTO> mapping = new ProspectMapper().getTodoAssigneeMapper();
+        JMapper<TodoDTO, TodoAssigneeDTO> expectedMapper = new JMapper<>(TodoDTO.class, TodoAssigneeDTO.class);
+
+        for (int i = 0; i < SAMPLES; i++) {
+            assertSameAsJMapper(expectedMapper, mapping, mockFactory.newDTO(mockFactory.getComponentId()));
+        }
+    }
+
+    private static <D, S> void assertSameAsJMapper(JMapper<D, S> expectedMapper, ObjectMapping<D, S> mapping, S source) {
+        Assertions.assertEquals(
+                expectedMapper.getDestination(source),
+                mapping.getDestination(source),
+                String.format("[%s] must be mapped as JMapper does", source));
+    }
+}
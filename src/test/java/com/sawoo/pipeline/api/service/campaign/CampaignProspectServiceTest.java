@@ -5,20 +5,27 @@ import com.sawoo.pipeline.api.common.exceptions.CommonServiceException;
 import com.sawoo.pipeline.api.common.exceptions.ResourceNotFoundException;
 import com.sawoo.pipeline.api.dto.campaign.CampaignDTO;
 import com.sawoo.pipeline.api.dto.campaign.CampaignProspectDTO;
+import com.sawoo.pipeline.api.dto.campaign.CampaignProspectEnrolmentDTO;
 import com.sawoo.pipeline.api.dto.campaign.request.CampaignProspectAddDTO;
 import com.sawoo.pipeline.api.dto.campaign.request.CampaignProspectBaseDTO;
+import com.sawoo.pipeline.api.dto.campaign.request.CampaignProspectBulkAddDTO;
 import com.sawoo.pipeline.api.dto.campaign.request.CampaignProspectCreateDTO;
+import com.sawoo.pipeline.api.dto.common.CursorPageDTO;
 import com.sawoo.pipeline.api.mock.CampaignMockFactory;
 import com.sawoo.pipeline.api.model.DBConstants;
 import com.sawoo.pipeline.api.model.campaign.Campaign;
-import com.sawoo.pipeline.api.model.campaign.CampaignProspect;
+import com.sawoo.pipeline.api.model.campaign.CampaignProspectEntry;
 import com.sawoo.pipeline.api.model.campaign.CampaignProspectStatus;
 import com.sawoo.pipeline.api.model.prospect.Prospect;
 import com.sawoo.pipeline.api.model.sequence.Sequence;
+import com.sawoo.pipeline.api.repository.base.KeysetCursor;
+import com.sawoo.pipeline.api.repository.base.KeysetPage;
+import com.sawoo.pipeline.api.repository.campaign.CampaignProspectRepository;
 import com.sawoo.pipeline.api.repository.campaign.CampaignRepository;
 import com.sawoo.pipeline.api.repository.prospect.ProspectRepository;
 import com.sawoo.pipeline.api.repository.sequence.SequenceRepository;
 import com.sawoo.pipeline.api.service.base.BaseLightServiceTest;
+import com.sawoo.pipeline.api.service.prospect.ProspectSequenceTodos;
 import com.sawoo.pipeline.api.service.prospect.ProspectService;
 import lombok.Getter;
 import org.junit.jupiter.api.Assertions;
@@ -42,10 +49,16 @@ import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.atMostOnce;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @TestMethodOrder(MethodOrderer.Alphanumeric.class)
@@ -58,6 +71,9 @@ class CampaignProspectServiceTest extends BaseLightServiceTest<CampaignDTO, Camp
     @MockBean
     private CampaignRepository repository;
 
+    @MockBean
+    private CampaignProspectRepository campaignProspectRepository;
+
     @MockBean
     private ProspectService prospectService;
 
@@ -131,6 +147,7 @@ class CampaignProspectServiceTest extends BaseLightServiceTest<CampaignDTO, Camp
         doReturn(Optional.of(prospectEntity)).when(prospectRepository).findById(anyString());
         doReturn(Collections.emptyList()).when(prospectService).createTODOs(anyString(), anyString(), anyString(), anyString());
         doReturn(Optional.of(sequenceEntity)).when(sequenceRepository).findById(anyString());
+        doAnswer(invocation -> invocation.getArgument(0)).when(campaignProspectRepository).insertAll(anyList());
 
         // Execute the service call
         CampaignProspectDTO campaignProspectDTO = getService().addProspect(CAMPAIGN_ID, addProspectCampaignEntity);
@@ -146,7 +163,8 @@ class CampaignProspectServiceTest extends BaseLightServiceTest<CampaignDTO, Camp
         verify(repository, atMostOnce()).findById(anyString());
         verify(prospectRepository, atMostOnce()).findById(anyString());
         verify(sequenceRepository, atMostOnce()).findById(anyString());
-        verify(repository, atMostOnce()).save(any(Campaign.class));
+        verify(campaignProspectRepository, times(1)).insertAll(anyList());
+        verify(repository, never()).save(any(Campaign.class));
     }
 
     @Test
@@ -223,11 +241,10 @@ class CampaignProspectServiceTest extends BaseLightServiceTest<CampaignDTO, Camp
         String SEQUENCE_ID = getMockFactory().getFAKER().internet().uuid();
         CampaignProspectAddDTO addProspectCampaignEntity = getMockFactory().newCampaignProspectAddDTO(PROSPECT_ID, SEQUENCE_ID);
         Campaign campaignEntity = getMockFactory().newEntity(CAMPAIGN_ID);
-        CampaignProspect campaignProspectEntity = getMockFactory().newCampaignProspectEntity(PROSPECT_ID, SEQUENCE_ID);
-        campaignEntity.getProspects().add(campaignProspectEntity);
 
         // Set up the mocked repository and services
         doReturn(Optional.of(campaignEntity)).when(repository).findById(anyString());
+        doReturn(true).when(campaignProspectRepository).existsByCampaignIdAndProspectId(CAMPAIGN_ID, PROSPECT_ID);
 
         // Execute the service call
         CampaignService service = getService();
@@ -243,7 +260,7 @@ class CampaignProspectServiceTest extends BaseLightServiceTest<CampaignDTO, Camp
 
         verify(repository, atMostOnce()).findById(anyString());
         verify(prospectRepository, never()).findById(anyString());
-        verify(repository, never()).save(any(Campaign.class));
+        verify(campaignProspectRepository, never()).insertAll(anyList());
     }
 
     @Test
@@ -286,18 +303,106 @@ class CampaignProspectServiceTest extends BaseLightServiceTest<CampaignDTO, Camp
     }
 
     @Test
-    @DisplayName("removeProspect: campaign and prospect found - Success")
-    void removeProspectWhenCampaignAndProspectAndSequenceFoundReturnsSuccess() {
+    @DisplayName("addProspects: prospects found, not found and already added - Success")
+    void addProspectsWhenSomeProspectsCanNotBeEnrolledReturnsSuccess() {
         // Set up mocked entities
         String CAMPAIGN_ID = getMockFactory().getComponentId();
         String PROSPECT_ID = getMockFactory().getFAKER().internet().uuid();
+        String ADDED_PROSPECT_ID = getMockFactory().getFAKER().internet().uuid();
+        String MISSING_PROSPECT_ID = getMockFactory().getFAKER().internet().uuid();
         String SEQUENCE_ID = getMockFactory().getFAKER().internet().uuid();
+        CampaignProspectBulkAddDTO addProspectsEntity = CampaignProspectBulkAddDTO.builder()
+                .prospectIds(Arrays.asList(PROSPECT_ID, ADDED_PROSPECT_ID, MISSING_PROSPECT_ID, PROSPECT_ID))
+                .sequenceId(SEQUENCE_ID)
+                .build();
+        Campaign campaignEntity = getMockFactory().newEntity(CAMPAIGN_ID);
+        CampaignProspectEntry addedCampaignProspect = getMockFactory().newCampaignProspectEntity(ADDED_PROSPECT_ID, SEQUENCE_ID);
+        Prospect prospectEntity = getMockFactory().getProspectMockFactory().newEntity(PROSPECT_ID);
+        Sequence sequenceEntity = getMockFactory().getSequenceMockFactory().newEntity(SEQUENCE_ID);
+        ProspectSequenceTodos prospectTodos = ProspectSequenceTodos.builder()
+                .prospectId(PROSPECT_ID)
+                .todos(Collections.emptyList())
+                .build();
+
+        // Set up the mocked repository and services
+        doReturn(Optional.of(campaignEntity)).when(repository).findById(anyString());
+        doReturn(Optional.of(sequenceEntity)).when(sequenceRepository).findById(anyString());
+        doReturn(prospectRepository).when(prospectService).getRepository();
+        doReturn(Collections.singletonList(prospectEntity)).when(prospectRepository).findAllWithReferences(anyCollection(), any());
+        doReturn(Collections.singletonList(prospectTodos)).when(prospectService).createTODOs(anyString(), anyString(), any(), anyList());
+        doReturn(Collections.singletonList(addedCampaignProspect))
+                .when(campaignProspectRepository).findByCampaignIdAndProspectIdIn(anyString(), anyCollection());
+        doAnswer(invocation -> invocation.getArgument(0)).when(campaignProspectRepository).insertAll(anyList());
+
+        // Execute the service call
+        List<CampaignProspectEnrolmentDTO> enrolments = getService().addProspects(CAMPAIGN_ID, addProspectsEntity);
+
+        // Assertions
+        Assertions.assertAll("Enrolment of each prospect must be properly informed",
+                () -> Assertions.assertEquals(3, enrolments.size(), "Duplicated prospect ids must be enrolled once"),
+                () -> Assertions.assertEquals(PROSPECT_ID, enrolments.get(0).getProspectId(), "Enrolments must keep the request order"),
+                () -> Assertions.assertTrue(enrolments.get(0).isEnrolled(), String.format("Prospect id [%s] must be enrolled", PROSPECT_ID)),
+                () -> Assertions.assertNotNull(enrolments.get(0).getCampaignProspect(), "Campaign prospect can not be null"),
+                () -> Assertions.assertFalse(enrolments.get(1).isEnrolled(), String.format("Prospect id [%s] was already added", ADDED_PROSPECT_ID)),
+                () -> Assertions.assertNotNull(enrolments.get(1).getError(), "Error must be informed"),
+                () -> Assertions.assertFalse(enrolments.get(2).isEnrolled(), String.format("Prospect id [%s] does not exist", MISSING_PROSPECT_ID)),
+                () -> Assertions.assertNotNull(enrolments.get(2).getError(), "Error must be informed"));
+
+        verify(repository, atMostOnce()).findById(anyString());
+        verify(sequenceRepository, atMostOnce()).findById(anyString());
+        verify(prospectRepository, atMostOnce()).findAllWithReferences(anyCollection(), any());
+        verify(prospectService, atMostOnce()).createTODOs(anyString(), anyString(), any(), anyList());
+        verify(campaignProspectRepository, times(1)).insertAll(argThat(entries -> entries.size() == 1));
+    }
+
+    @Test
+    @DisplayName("addProspects: sequence not found - Failure")
+    void addProspectsWhenSequenceNotFoundReturnsFailure() {
+        // Set up mocked entities
+        String CAMPAIGN_ID = getMockFactory().getComponentId();
+        CampaignProspectBulkAddDTO addProspectsEntity = CampaignProspectBulkAddDTO.builder()
+                .prospectIds(Collections.singletonList(getMockFactory().getFAKER().internet().uuid()))
+                .sequenceId(getMockFactory().getFAKER().internet().uuid())
+                .build();
         Campaign campaignEntity = getMockFactory().newEntity(CAMPAIGN_ID);
-        CampaignProspect campaignProspect = getMockFactory().newCampaignProspectEntity(PROSPECT_ID, SEQUENCE_ID);
-        campaignEntity.getProspects().add(campaignProspect);
 
         // Set up the mocked repository and services
         doReturn(Optional.of(campaignEntity)).when(repository).findById(anyString());
+        doReturn(Optional.empty()).when(sequenceRepository).findById(anyString());
+
+        // Execute the service call
+        CampaignService service = getService();
+        ResourceNotFoundException exception = Assertions.assertThrows(
+                ResourceNotFoundException.class,
+                () -> service.addProspects(CAMPAIGN_ID, addProspectsEntity),
+                "addProspects must throw ResourceNotFoundException");
+
+        // Assertions
+        Assertions.assertAll("Exception must be correct informed",
+                () -> Assertions.assertEquals(
+                        ExceptionMessageConstants.COMMON_GET_COMPONENT_RESOURCE_NOT_FOUND_EXCEPTION,
+                        exception.getMessage()),
+                () -> Assertions.assertTrue(
+                        Arrays.asList(exception.getArgs()).contains(DBConstants.SEQUENCE_DOCUMENT),
+                        String.format("Exception arguments must contain [%s]", DBConstants.SEQUENCE_DOCUMENT)));
+
+        verify(sequenceRepository, atMostOnce()).findById(anyString());
+        verify(prospectService, never()).createTODOs(anyString(), anyString(), any(), anyList());
+        verify(repository, never()).save(any(Campaign.class));
+    }
+
+    @Test
+    @DisplayName("removeProspect: campaign and prospect found - Success")
+    void removeProspectWhenCampaignAndProspectAndSequenceFoundReturnsSuccess() {
+        // Set up mocked entities
+        String CAMPAIGN_ID = getMockFactory().getComponentId();
+        String PROSPECT_ID = getMockFactory().getFAKER().internet().uuid();
+        String SEQUENCE_ID = getMockFactory().getFAKER().internet().uuid();
+        CampaignProspectEntry campaignProspect = getMockFactory().newCampaignProspectEntity(PROSPECT_ID, SEQUENCE_ID);
+
+        // Set up the mocked repository and services
+        doReturn(true).when(repository).existsById(anyString());
+        doReturn(Optional.of(campaignProspect)).when(campaignProspectRepository).findByCampaignIdAndProspectId(CAMPAIGN_ID, PROSPECT_ID);
 
         // Execute the service call
         CampaignProspectDTO campaignProspectDTO = getService().removeProspect(CAMPAIGN_ID, PROSPECT_ID, null);
@@ -310,10 +415,10 @@ class CampaignProspectServiceTest extends BaseLightServiceTest<CampaignDTO, Camp
                 () -> Assertions.assertNotNull(campaignProspectDTO.getSequence(), "Campaign sequence entity can not be null"),
                 () -> Assertions.assertEquals(SEQUENCE_ID, campaignProspectDTO.getSequence().getId(), String.format("Campaign sequence id must be [%s]", SEQUENCE_ID)));
 
-        verify(repository, atMostOnce()).findById(anyString());
+        verify(repository, atMostOnce()).existsById(anyString());
         verify(prospectRepository, never()).findById(anyString());
         verify(sequenceRepository, never()).findById(anyString());
-        verify(repository, atMostOnce()).save(any(Campaign.class));
+        verify(campaignProspectRepository, times(1)).delete(campaignProspect);
     }
 
     @Test
@@ -324,7 +429,7 @@ class CampaignProspectServiceTest extends BaseLightServiceTest<CampaignDTO, Camp
         String PROSPECT_ID = getMockFactory().getFAKER().internet().uuid();
 
         // Set up the mocked repository and services
-        doReturn(Optional.empty()).when(repository).findById(anyString());
+        doReturn(false).when(repository).existsById(anyString());
 
         // Execute the service call
         CampaignService service = getService();
@@ -342,8 +447,8 @@ class CampaignProspectServiceTest extends BaseLightServiceTest<CampaignDTO, Camp
                 () -> Assertions.assertTrue(
                         Arrays.asList(exception.getArgs()).contains(DBConstants.CAMPAIGN_DOCUMENT),
                         String.format("Exception arguments must contain [%s]", DBConstants.CAMPAIGN_DOCUMENT)));
-        verify(repository, atMostOnce()).findById(anyString());
-        verify(repository, never()).save(any(Campaign.class));
+        verify(repository, atMostOnce()).existsById(anyString());
+        verify(campaignProspectRepository, never()).delete(any(CampaignProspectEntry.class));
     }
 
     @Test
@@ -352,10 +457,10 @@ class CampaignProspectServiceTest extends BaseLightServiceTest<CampaignDTO, Camp
         // Set up mocked entities
         String CAMPAIGN_ID = getMockFactory().getComponentId();
         String PROSPECT_ID = getMockFactory().getFAKER().internet().uuid();
-        Campaign campaignEntity = getMockFactory().newEntity(CAMPAIGN_ID);
 
         // Set up the mocked repository and services
-        doReturn(Optional.of(campaignEntity)).when(repository).findById(anyString());
+        doReturn(true).when(repository).existsById(anyString());
+        doReturn(Optional.empty()).when(campaignProspectRepository).findByCampaignIdAndProspectId(CAMPAIGN_ID, PROSPECT_ID);
 
         // Execute the service call
         CampaignService service = getService();
@@ -369,8 +474,8 @@ class CampaignProspectServiceTest extends BaseLightServiceTest<CampaignDTO, Camp
                 exception.getMessage());
         Assertions.assertEquals(2, exception.getArgs().length);
 
-        verify(repository, atMostOnce()).findById(anyString());
-        verify(repository, never()).save(any(Campaign.class));
+        verify(repository, atMostOnce()).existsById(anyString());
+        verify(campaignProspectRepository, never()).delete(any(CampaignProspectEntry.class));
     }
 
     @Test
@@ -380,9 +485,7 @@ class CampaignProspectServiceTest extends BaseLightServiceTest<CampaignDTO, Camp
         String CAMPAIGN_ID = getMockFactory().getComponentId();
         String PROSPECT_ID = getMockFactory().getFAKER().internet().uuid();
         String SEQUENCE_ID = getMockFactory().getFAKER().internet().uuid();
-        Campaign campaignEntity = getMockFactory().newEntity(CAMPAIGN_ID);
-        CampaignProspect campaignProspectEntity = getMockFactory().newCampaignProspectEntity(PROSPECT_ID, SEQUENCE_ID);
-        campaignEntity.getProspects().add(campaignProspectEntity);
+        CampaignProspectEntry campaignProspectEntity = getMockFactory().newCampaignProspectEntity(PROSPECT_ID, SEQUENCE_ID);
         CampaignProspectBaseDTO postEntity = CampaignProspectBaseDTO
                 .builder()
                 .prospectId(PROSPECT_ID)
@@ -390,7 +493,8 @@ class CampaignProspectServiceTest extends BaseLightServiceTest<CampaignDTO, Camp
                 .build();
 
         // Set up the mocked repository and services
-        doReturn(Optional.of(campaignEntity)).when(repository).findById(anyString());
+        doReturn(true).when(repository).existsById(anyString());
+        doReturn(Optional.of(campaignProspectEntity)).when(campaignProspectRepository).findByCampaignIdAndProspectId(CAMPAIGN_ID, PROSPECT_ID);
 
         // Execute the service call
         CampaignProspectDTO returnedDTO = getService().updateProspect(CAMPAIGN_ID, PROSPECT_ID, postEntity);
@@ -399,8 +503,8 @@ class CampaignProspectServiceTest extends BaseLightServiceTest<CampaignDTO, Camp
         Assertions.assertNotNull(returnedDTO.getProspect(), "Prospect can not be null");
         Assertions.assertEquals(PROSPECT_ID, returnedDTO.getProspect().getId(), String.format("Prospect id must be [%s]", PROSPECT_ID));
 
-        verify(repository, atMostOnce()).findById(anyString());
-        verify(repository, atMostOnce()).save(any(Campaign.class));
+        verify(repository, atMostOnce()).existsById(anyString());
+        verify(campaignProspectRepository, times(1)).save(campaignProspectEntity);
     }
 
     @Test
@@ -409,7 +513,6 @@ class CampaignProspectServiceTest extends BaseLightServiceTest<CampaignDTO, Camp
         // Set up mocked entities
         String CAMPAIGN_ID = getMockFactory().getComponentId();
         String PROSPECT_ID = getMockFactory().getFAKER().internet().uuid();
-        Campaign campaignEntity = getMockFactory().newEntity(CAMPAIGN_ID);
         CampaignProspectBaseDTO postEntity = CampaignProspectBaseDTO
                 .builder()
                 .prospectId(PROSPECT_ID)
@@ -417,7 +520,8 @@ class CampaignProspectServiceTest extends BaseLightServiceTest<CampaignDTO, Camp
                 .build();
 
         // Set up the mocked repository and services
-        doReturn(Optional.of(campaignEntity)).when(repository).findById(anyString());
+        doReturn(true).when(repository).existsById(anyString());
+        doReturn(Optional.empty()).when(campaignProspectRepository).findByCampaignIdAndProspectId(CAMPAIGN_ID, PROSPECT_ID);
 
         // Execute the service call
         CampaignService service = getService();
@@ -431,8 +535,8 @@ class CampaignProspectServiceTest extends BaseLightServiceTest<CampaignDTO, Camp
                 exception.getMessage());
         Assertions.assertEquals(2, exception.getArgs().length);
 
-        verify(repository, atMostOnce()).findById(anyString());
-        verify(repository, never()).save(any(Campaign.class));
+        verify(repository, atMostOnce()).existsById(anyString());
+        verify(campaignProspectRepository, never()).save(any(CampaignProspectEntry.class));
     }
 
     @Test
@@ -442,7 +546,7 @@ class CampaignProspectServiceTest extends BaseLightServiceTest<CampaignDTO, Camp
         String CAMPAIGN_ID = getMockFactory().getComponentId();
 
         // Set up the mocked repository and services
-        doReturn(Optional.empty()).when(repository).findById(anyString());
+        doReturn(false).when(repository).existsById(anyString());
 
         // Execute the service call
         CampaignService service = getService();
@@ -460,8 +564,8 @@ class CampaignProspectServiceTest extends BaseLightServiceTest<CampaignDTO, Camp
                 () -> Assertions.assertTrue(
                         Arrays.asList(exception.getArgs()).contains(DBConstants.CAMPAIGN_DOCUMENT),
                         String.format("Exception arguments must contain [%s]", DBConstants.CAMPAIGN_DOCUMENT)));
-        verify(repository, atMostOnce()).findById(anyString());
-        verify(repository, never()).save(any(Campaign.class));
+        verify(repository, atMostOnce()).existsById(anyString());
+        verify(campaignProspectRepository, never()).findByCampaignId(anyString());
     }
 
     @Test
@@ -469,21 +573,59 @@ class CampaignProspectServiceTest extends BaseLightServiceTest<CampaignDTO, Camp
     void findAllProspectsWhenCampaignNotFoundReturnsSuccess() {
         // Set up mocked entities
         String CAMPAIGN_ID = getMockFactory().getComponentId();
-        Campaign campaignEntity = getMockFactory().newEntity(CAMPAIGN_ID);
         int LIST_SIZE = 4;
-        List<CampaignProspect> prospects = IntStream.range(0, LIST_SIZE).mapToObj((l) -> {
+        List<CampaignProspectEntry> prospects = IntStream.range(0, LIST_SIZE).mapToObj((l) -> {
             String PROSPECT_ID = getMockFactory().getFAKER().internet().uuid();
             String SEQUENCE_ID = getMockFactory().getFAKER().internet().uuid();
            return getMockFactory().newCampaignProspectEntity(PROSPECT_ID, SEQUENCE_ID);
         }).collect(Collectors.toList());
-        campaignEntity.getProspects().addAll(prospects);
 
         // Set up the mocked repository and services
-        doReturn(Optional.of(campaignEntity)).when(repository).findById(anyString());
+        doReturn(true).when(repository).existsById(anyString());
+        doReturn(prospects).when(campaignProspectRepository).findByCampaignId(CAMPAIGN_ID);
 
         // Execute the service call
         List<CampaignProspectDTO> prospectList = getService().findAllProspects(CAMPAIGN_ID);
 
         Assertions.assertFalse(prospectList.isEmpty(), "List of campaign prospect can not be empty");
     }
+
+    @Test
+    @DisplayName("findProspects: campaign found and status filter - Success")
+    void findProspectsWhenCampaignFoundAndStatusFilterReturnsSuccess() {
+        // Set up mocked entities
+        String CAMPAIGN_ID = getMockFactory().getComponentId();
+        int PAGE_SIZE = 2;
+        List<CampaignProspectEntry> prospects = IntStream.range(0, PAGE_SIZE).mapToObj((l) -> {
+            String PROSPECT_ID = getMockFactory().getFAKER().internet().uuid();
+            String SEQUENCE_ID = getMockFactory().getFAKER().internet().uuid();
+            CampaignProspectEntry prospect = getMockFactory().newCampaignProspectEntity(PROSPECT_ID, SEQUENCE_ID);
+            prospect.setStatus(CampaignProspectStatus.RUNNING);
+            return prospect;
+        }).collect(Collectors.toList());
+
+        // Set up the mocked repository and services
+        doReturn(true).when(repository).existsById(anyString());
+        KeysetCursor lastCursor = new KeysetCursor(KeysetCursor.ID_FIELD, null, prospects.get(PAGE_SIZE - 1).getId());
+        doReturn(new KeysetPage<>(prospects, lastCursor))
+                .when(campaignProspectRepository)
+                .findByCampaignId(anyString(), anyList(), any(), anyInt());
+
+        // Execute the service call
+        CursorPageDTO<CampaignProspectDTO> prospectPage = getService().findProspects(
+                CAMPAIGN_ID,
+                Collections.singletonList(CampaignProspectStatus.RUNNING.getValue()),
+                null,
+                PAGE_SIZE);
+
+        Assertions.assertAll("Campaign prospect page must be properly filtered and paginated",
+                () -> Assertions.assertEquals(PAGE_SIZE, prospectPage.getContent().size(), String.format("Page size must be [%d]", PAGE_SIZE)),
+                () -> Assertions.assertFalse(prospectPage.isLast(), "Page must not be the last one"),
+                () -> Assertions.assertEquals(lastCursor.encode(), prospectPage.getNext(), "Next cursor must be informed"));
+        verify(campaignProspectRepository, times(1)).findByCampaignId(
+                anyString(),
+                argThat(status -> status.size() == 1 && status.contains(CampaignProspectStatus.RUNNING)),
+                any(),
+                anyInt());
+    }
 }
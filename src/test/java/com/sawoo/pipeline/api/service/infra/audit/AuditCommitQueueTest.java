@@ -0,0 +1,244 @@
+package com.sawoo.pipeline.api.service.infra.audit;
+
+import com.sawoo.pipeline.api.model.user.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.javers.core.Javers;
+import org.javers.core.JaversBuilder;
+import org.javers.core.metamodel.object.CdoSnapshot;
+import org.javers.repository.jql.QueryBuilder;
+import org.javers.spring.auditable.AuthorProvider;
+import org.javers.spring.auditable.CommitPropertiesProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.mockito.Mockito;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+
+@TestMethodOrder(MethodOrderer.Alphanumeric.class)
+@Tag(value = "service")
+@Profile(value = {"unit-tests", "unit-tests-embedded"})
+class AuditCommitQueueTest {
+
+    private static final String AUTHOR = "miguel.maquieira@sawoo.io";
+
+    private Javers javers;
+    private MappingMongoConverter converter;
+    private SimpleMeterRegistry meterRegistry;
+    private AuditCommitQueue queue;
+
+    @BeforeEach
+    void setup() {
+        javers = Mockito.mock(Javers.class);
+        converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, new MongoMappingContext());
+        converter.afterPropertiesSet();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (queue != null) {
+            queue.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("commit: async mode commits from the worker - Success")
+    void commitWhenAsyncReturnsSuccess() {
+        // Set up the queue
+        queue = newQueue(true, 10, Duration.ofMillis(50));
+        User user = newUser("user-id");
+        Map<String, String> threads = new ConcurrentHashMap<>();
+        Mockito.doAnswer(invocation -> threads.put("commit", Thread.currentThread().getName()))
+                .when(javers).commit(anyString(), any(), anyMap());
+
+        // Execute the call
+        queue.commit(user);
+
+        // Assertions
+        await().atMost(2, TimeUnit.SECONDS).untilAsserted(() ->
+                Mockito.verify(javers, Mockito.times(1)).commit(eq(AUTHOR), withId("user-id"), anyMap()));
+        Assertions.assertAll("Entity must be committed by the worker",
+                () -> Assertions.assertEquals("audit-commits", threads.get("commit"), "Commit must be made by the worker"),
+                () -> Assertions.assertEquals(
+                        1.0,
+                        meterRegistry.get("audit.commits").tag("result", "success").counter().count(),
+                        "One commit must be recorded"));
+    }
+
+    @Test
+    @DisplayName("stop: queued commits are flushed, every save of the same entity committed - Success")
+    void stopWhenCommitsQueuedReturnsSuccess() {
+        // Set up the queue
+        queue = newQueue(true, 10, Duration.ofMinutes(1));
+        User user = newUser("user-id");
+        User other = newUser("user-id-2");
+
+        // Execute the call
+        queue.commit(user);
+        queue.commit(other);
+        queue.commit(user);
+        queue.stop();
+
+        // Assertions
+        Mockito.verify(javers, Mockito.times(2)).commit(eq(AUTHOR), withId("user-id"), anyMap());
+        Mockito.verify(javers, Mockito.times(1)).commit(eq(AUTHOR), withId("user-id-2"), anyMap());
+        Assertions.assertEquals(
+                0.0,
+                meterRegistry.get("audit.queue.depth").gauge().value(),
+                "Queue must be empty after the shutdown");
+    }
+
+    @Test
+    @DisplayName("commit: queue full waits for the worker and keeps the order - Success")
+    void commitWhenQueueFullReturnsSuccess() throws InterruptedException {
+        // Set up the queue, the worker is kept busy with the first entity
+        queue = newQueue(true, 1, Duration.ofMillis(10));
+        User first = newUser("user-id-1");
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch busy = new CountDownLatch(1);
+        List<String> committedIds = new CopyOnWriteArrayList<>();
+        Map<String, String> threads = new ConcurrentHashMap<>();
+        Mockito.doAnswer(invocation -> {
+            User user = invocation.getArgument(1);
+            committedIds.add(user.getId());
+            threads.put(committedIds.size() + "-" + user.getId(), Thread.currentThread().getName());
+            if (first.getId().equals(user.getId())) {
+                busy.countDown();
+                release.await();
+            }
+            return null;
+        }).when(javers).commit(anyString(), any(), anyMap());
+
+        // Execute the call
+        queue.commit(first);
+        Assertions.assertTrue(busy.await(2, TimeUnit.SECONDS), "Worker must be committing the first entity");
+        User second = newUser("user-id-2");
+        queue.commit(second);
+        Thread caller = new Thread(() -> queue.commit(second));
+        caller.start();
+        await().atMost(2, TimeUnit.SECONDS).until(() -> meterRegistry.get("audit.queue.full").counter().count() > 0);
+        boolean waiting = caller.isAlive();
+        release.countDown();
+        caller.join(TimeUnit.SECONDS.toMillis(2));
+        queue.stop();
+
+        // Assertions
+        Assertions.assertAll("Commit over the capacity must wait and be made by the worker in order",
+                () -> Assertions.assertTrue(waiting, "Caller must wait while the queue is full"),
+                () -> Assertions.assertEquals(List.of("user-id-1", "user-id-2", "user-id-2"), committedIds, "Commits must keep the order"),
+                () -> Assertions.assertEquals("audit-commits", threads.get("3-user-id-2"), "Entity over the capacity must be committed by the worker"),
+                () -> Assertions.assertEquals(0.0, meterRegistry.get("audit.commits.caller").counter().count(), "No commit must be made by the caller"));
+    }
+
+    @Test
+    @DisplayName("stop: delete of an entity saved in the same batch skips the snapshot lookup - Success")
+    void stopWhenSaveAndDeleteQueuedReturnsSuccess() {
+        // Set up the queue
+        queue = newQueue(true, 10, Duration.ofMinutes(1));
+        User user = newUser("user-id");
+
+        // Execute the call
+        queue.commit(user);
+        queue.commitShallowDeleteById("user-id", User.class);
+        queue.stop();
+
+        // Assertions
+        Mockito.verify(javers, Mockito.times(1)).commit(eq(AUTHOR), withId("user-id"), anyMap());
+        Mockito.verify(javers, Mockito.times(1)).commitShallowDeleteById(eq(AUTHOR), any(), anyMap());
+        Mockito.verify(javers, Mockito.never()).findSnapshots(any());
+    }
+
+    @Test
+    @DisplayName("commitShallowDeleteById: entity never audited is skipped - Success")
+    void commitShallowDeleteByIdWhenNoSnapshotsReturnsSuccess() {
+        // Set up the queue with an in memory Javers
+        javers = JaversBuilder.javers().build();
+        queue = newQueue(false, 10, Duration.ofSeconds(1));
+        queue.commit(newUser("user-id"));
+
+        // Execute the call
+        queue.commitShallowDeleteById("user-id", User.class);
+        queue.commitShallowDeleteById("user-id-2", User.class);
+
+        // Assertions
+        List<CdoSnapshot> snapshots = javers.findSnapshots(QueryBuilder.byInstanceId("user-id", User.class).build());
+        Assertions.assertAll("Only the audited entity must be deleted",
+                () -> Assertions.assertTrue(snapshots.get(0).isTerminal(), "Audited entity must have a terminal snapshot"),
+                () -> Assertions.assertEquals(
+                        0.0,
+                        meterRegistry.get("audit.commits").tag("result", "failure").counter().count(),
+                        "Entity never audited must not fail"));
+    }
+
+    @Test
+    @DisplayName("commit: entity changed after the save audited with the saved state - Success")
+    void commitWhenEntityChangedAfterSaveReturnsSuccess() {
+        // Set up the queue with an in memory Javers
+        javers = JaversBuilder.javers().build();
+        queue = newQueue(true, 10, Duration.ofMinutes(1));
+        User user = newUser("user-id");
+        user.setFullName("Saved Name");
+
+        // Execute the call
+        queue.commit(user);
+        user.setFullName("Changed Name");
+        queue.stop();
+
+        // Assertions
+        List<CdoSnapshot> snapshots = javers.findSnapshots(QueryBuilder.byInstanceId("user-id", User.class).build());
+        Assertions.assertAll("Snapshot must hold the state of the entity when it was saved",
+                () -> Assertions.assertEquals(1, snapshots.size(), "One snapshot must be committed"),
+                () -> Assertions.assertEquals("Saved Name", snapshots.get(0).getPropertyValue("fullName"), "Full name must be the saved one"));
+    }
+
+    private AuditCommitQueue newQueue(boolean async, int capacity, Duration flushInterval) {
+        AuthorProvider authorProvider = () -> AUTHOR;
+        AuditCommitQueue commitQueue = new AuditCommitQueue(
+                javers,
+                converter,
+                authorProvider,
+                new CommitPropertiesProvider() {},
+                meterRegistry,
+                async,
+                capacity,
+                100,
+                flushInterval,
+                Duration.ofMillis(50),
+                Duration.ofSeconds(10));
+        commitQueue.start();
+        return commitQueue;
+    }
+
+    private static User newUser(String id) {
+        User user = new User();
+        user.setId(id);
+        return user;
+    }
+
+    private static User withId(String id) {
+        return argThat(user -> user != null && id.equals(user.getId()));
+    }
+}
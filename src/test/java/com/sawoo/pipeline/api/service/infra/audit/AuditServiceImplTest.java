@@ -0,0 +1,157 @@
+package com.sawoo.pipeline.api.service.infra.audit;
+
+import com.sawoo.pipeline.api.common.contants.ExceptionMessageConstants;
+import com.sawoo.pipeline.api.common.exceptions.ResourceNotFoundException;
+import com.sawoo.pipeline.api.dto.audit.VersionDTO;
+import com.sawoo.pipeline.api.dto.audit.VersionDiffDTO;
+import com.sawoo.pipeline.api.dto.company.CompanyDTO;
+import com.sawoo.pipeline.api.model.company.Company;
+import com.sawoo.pipeline.api.service.base.JMapperMapping;
+import com.sawoo.pipeline.api.service.base.ObjectMapping;
+import org.javers.core.Javers;
+import org.javers.core.JaversBuilder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.context.annotation.Profile;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@TestMethodOrder(MethodOrderer.Alphanumeric.class)
+@Tag(value = "service")
+@Profile(value = {"unit-tests", "unit-tests-embedded"})
+class AuditServiceImplTest {
+
+    private static final String AUTHOR = "miguel.maquieira@sawoo.io";
+    private static final String COMPANY_ID = "company-id";
+
+    private final ObjectMapping<CompanyDTO, Company> mapper = new JMapperMapping<>(CompanyDTO.class, Company.class);
+    private Javers javers;
+    private AuditService audit;
+
+    @BeforeEach
+    void setup() {
+        javers = JaversBuilder.javers().build();
+        audit = new AuditServiceImpl(javers);
+    }
+
+    @Test
+    @DisplayName("getVersions: page of versions from the newest one - Success")
+    void getVersionsWhenPagedReturnsSuccess() {
+        // Set up the audit log
+        Company company = newCompany();
+        for (int headcount = 20; headcount <= 50; headcount += 10) {
+            company.setHeadcount(headcount);
+            javers.commit(AUTHOR, company);
+        }
+
+        // Execute the calls
+        List<VersionDTO<CompanyDTO>> lastVersions = audit.getVersions(company, COMPANY_ID, mapper, 0, 2);
+        List<VersionDTO<CompanyDTO>> previousVersions = audit.getVersions(company, COMPANY_ID, mapper, 2, 2);
+
+        // Assertions
+        Assertions.assertAll("Versions must be paged from the newest one",
+                () -> Assertions.assertEquals(List.of(3, 4), getVersionNumbers(lastVersions), "Last versions must be returned oldest first"),
+                () -> Assertions.assertEquals(50, lastVersions.get(1).getEntity().getHeadcount(), "Entity of the version must be mapped"),
+                () -> Assertions.assertEquals(AUTHOR, lastVersions.get(1).getAuthor(), "Author must be informed"),
+                () -> Assertions.assertTrue(lastVersions.get(1).isCurrentVersion(), "Newest version must be the current one"),
+                () -> Assertions.assertFalse(lastVersions.get(0).isCurrentVersion(), "Older versions can not be the current one"),
+                () -> Assertions.assertEquals(List.of(1, 2), getVersionNumbers(previousVersions), "Previous versions must be returned oldest first"),
+                () -> Assertions.assertTrue(
+                        previousVersions.stream().noneMatch(VersionDTO::isCurrentVersion),
+                        "Previous versions can not be the current one"));
+    }
+
+    @Test
+    @DisplayName("getVersions: entity updated after the last commit has no current version - Success")
+    void getVersionsWhenUpdatedAfterLastCommitReturnsSuccess() {
+        // Set up the audit log
+        Company company = newCompany();
+        company.setName("Updated without audit");
+        company.setUpdated(LocalDateTime.now(ZoneOffset.UTC).plusMinutes(1));
+
+        // Execute the call
+        List<VersionDTO<CompanyDTO>> versions = audit.getVersions(company, COMPANY_ID, mapper);
+
+        // Assertions
+        Assertions.assertAll("No version must be flagged as current",
+                () -> Assertions.assertEquals(1, versions.size(), "One version must be found"),
+                () -> Assertions.assertFalse(versions.get(0).isCurrentVersion(), "Version must not be the current one"));
+    }
+
+    @Test
+    @DisplayName("getVersionDiff: only the properties changed between both versions - Success")
+    void getVersionDiffWhenVersionsFoundReturnsSuccess() {
+        // Set up the audit log
+        Company company = newCompany();
+        company.setName("Sawoo Labs");
+        javers.commit(AUTHOR, company);
+        company.setHeadcount(20);
+        javers.commit(AUTHOR, company);
+        company.setName("Sawoo");
+        javers.commit(AUTHOR, company);
+
+        // Execute the calls
+        Map<String, VersionDiffDTO> fromFirst = toMap(audit.getVersionDiff(Company.class, COMPANY_ID, 0, 3));
+        Map<String, VersionDiffDTO> fromSecond = toMap(audit.getVersionDiff(Company.class, COMPANY_ID, 3, 1));
+
+        // Assertions
+        Assertions.assertAll("Changed properties must be returned",
+                () -> Assertions.assertEquals(1, fromFirst.size(), "Reverted properties must not be returned"),
+                () -> Assertions.assertEquals(10, fromFirst.get("headcount").getLeft(), "Left value must be the one of the first version"),
+                () -> Assertions.assertEquals(20, fromFirst.get("headcount").getRight(), "Right value must be the one of the last version"),
+                () -> Assertions.assertEquals(2, fromSecond.size(), "Versions must be swapped when given in reverse order"),
+                () -> Assertions.assertEquals("Sawoo Labs", fromSecond.get("name").getLeft(), "Left value must be the one of the older version"),
+                () -> Assertions.assertEquals("Sawoo", fromSecond.get("name").getRight(), "Right value must be the one of the newer version"),
+                () -> Assertions.assertEquals("name", fromSecond.get("name").getPropertyName(), "Property name must be informed"));
+    }
+
+    @Test
+    @DisplayName("getVersionDiff: version not found - Failure")
+    void getVersionDiffWhenVersionNotFoundReturnsResourceNotFoundException() {
+        // Set up the audit log
+        newCompany();
+
+        // Execute the call
+        ResourceNotFoundException exception = Assertions.assertThrows(
+                ResourceNotFoundException.class,
+                () -> audit.getVersionDiff(Company.class, COMPANY_ID, 0, 5),
+                "getVersionDiff must throw ResourceNotFoundException");
+
+        // Assertions
+        Assertions.assertAll("Exception must be correct informed",
+                () -> Assertions.assertEquals(
+                        ExceptionMessageConstants.AUDIT_GET_VERSION_RESOURCE_NOT_FOUND_EXCEPTION,
+                        exception.getMessage()),
+                () -> Assertions.assertEquals(3, exception.getArgs().length));
+    }
+
+    private Company newCompany() {
+        Company company = Company
+                .builder()
+                .id(COMPANY_ID)
+                .name("Sawoo")
+                .url("https://sawoo.io")
+                .headcount(10)
+                .build();
+        company.setUpdated(LocalDateTime.now(ZoneOffset.UTC));
+        javers.commit(AUTHOR, company);
+        return company;
+    }
+
+    private static List<Integer> getVersionNumbers(List<VersionDTO<CompanyDTO>> versions) {
+        return versions.stream().map(VersionDTO::getVersion).collect(Collectors.toList());
+    }
+
+    private static Map<String, VersionDiffDTO> toMap(List<VersionDiffDTO> diffs) {
+        return diffs.stream().collect(Collectors.toMap(VersionDiffDTO::getPropertyNameWithPath, diff -> diff));
+    }
+}
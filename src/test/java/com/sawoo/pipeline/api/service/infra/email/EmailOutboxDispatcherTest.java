@@ -0,0 +1,225 @@
+package com.sawoo.pipeline.api.service.infra.email;
+
+import com.github.javafaker.Faker;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.sawoo.pipeline.api.model.email.EmailOutboxMessage;
+import com.sawoo.pipeline.api.model.email.EmailOutboxMessageStatus;
+import com.sawoo.pipeline.api.model.email.EmailOutboxMessageType;
+import com.sawoo.pipeline.api.repository.email.EmailOutboxRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.context.annotation.Profile;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.thymeleaf.spring5.SpringTemplateEngine;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import javax.mail.internet.MimeMessage;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+
+@TestMethodOrder(MethodOrderer.Alphanumeric.class)
+@Tag(value = "service")
+@Profile(value = {"unit-tests", "unit-tests-embedded"})
+class EmailOutboxDispatcherTest {
+
+    private static final int BATCH_SIZE = 3;
+    private static final int MAX_ATTEMPTS = 3;
+    private static final Duration INITIAL_BACKOFF = Duration.ofSeconds(30);
+    private static final Faker FAKER = Faker.instance();
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Test
+    @DisplayName("dispatch: pending messages are sent in batches and removed - Success")
+    void dispatchWhenMessagesPendingReturnsSuccess() {
+        // Set up mocked entities
+        int MESSAGES = 4;
+        List<EmailOutboxMessage> messages = IntStream
+                .range(0, MESSAGES)
+                .mapToObj(i -> i == 0 ? newTemplateMessage() : newTextMessage())
+                .collect(Collectors.toList());
+        EmailOutboxRepository repository = mockRepository(messages);
+
+        // Execute the service call
+        newDispatcher(repository, ServerSetupTest.SMTP.getPort()).dispatch();
+
+        // Assertions
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        List<EmailOutboxMessage> deleted = getDeleted(repository);
+        Assertions.assertAll(String.format("All [%d] messages must be sent", MESSAGES),
+                () -> Assertions.assertEquals(MESSAGES, received.length, String.format("[%d] messages must be received", MESSAGES)),
+                () -> Assertions.assertTrue(
+                        GreenMailUtil.getBody(received[0]).contains("Hello Dear " + messages.get(0).getTemplateContext().get("name")),
+                        "Template must be rendered by the dispatcher"),
+                () -> Assertions.assertEquals(messages, deleted, "Sent messages must be removed from the outbox"));
+        Mockito.verify(repository, Mockito.never()).saveAll(anyIterable());
+    }
+
+    @Test
+    @DisplayName("dispatch: smtp server not available reschedules the messages - Failure")
+    void dispatchWhenServerNotAvailableReturnsFailure() {
+        // Set up mocked entities
+        EmailOutboxMessage message = newTextMessage();
+        message.setAttempts(1);
+        EmailOutboxRepository repository = mockRepository(List.of(message));
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+
+        // Execute the service call
+        newDispatcher(repository, ServerSetupTest.SMTP.getPort() + 1).dispatch();
+
+        // Assertions
+        List<EmailOutboxMessage> saved = getSaved(repository);
+        Assertions.assertAll("Message must be retried later with backoff",
+                () -> Assertions.assertEquals(1, saved.size(), "Message must be saved"),
+                () -> Assertions.assertEquals(EmailOutboxMessageStatus.PENDING, message.getStatus(), "Message must be pending"),
+                () -> Assertions.assertEquals(2, message.getAttempts(), "Attempts must be increased"),
+                () -> Assertions.assertFalse(
+                        message.getNextAttempt().isBefore(now.plus(INITIAL_BACKOFF.multipliedBy(2))),
+                        "Backoff must double with each attempt"),
+                () -> Assertions.assertNotNull(message.getLastError(), "Error must be kept"));
+        Mockito.verify(repository, Mockito.never()).deleteAll(anyIterable());
+    }
+
+    @Test
+    @DisplayName("dispatch: max attempts reached marks the message as failed - Failure")
+    void dispatchWhenMaxAttemptsReachedReturnsFailure() {
+        // Set up mocked entities
+        EmailOutboxMessage message = newTextMessage();
+        message.setAttempts(MAX_ATTEMPTS - 1);
+        EmailOutboxRepository repository = mockRepository(List.of(message));
+
+        // Execute the service call
+        newDispatcher(repository, ServerSetupTest.SMTP.getPort() + 1).dispatch();
+
+        // Assertions
+        Assertions.assertAll("Message must not be retried",
+                () -> Assertions.assertEquals(EmailOutboxMessageStatus.FAILED, message.getStatus(), "Message must be failed"),
+                () -> Assertions.assertEquals(MAX_ATTEMPTS, message.getAttempts(), "Attempts must be increased"),
+                () -> Assertions.assertNull(message.getNextAttempt(), "Message must not be scheduled"));
+    }
+
+    @Test
+    @DisplayName("dispatch: template not rendered marks the message as failed - Failure")
+    void dispatchWhenTemplateNotFoundReturnsFailure() {
+        // Set up mocked entities
+        EmailOutboxMessage message = newTemplateMessage();
+        message.setTemplateName("wrongTemplate");
+        EmailOutboxMessage other = newTextMessage();
+        EmailOutboxRepository repository = mockRepository(List.of(message, other));
+
+        // Execute the service call
+        newDispatcher(repository, ServerSetupTest.SMTP.getPort()).dispatch();
+
+        // Assertions
+        Assertions.assertAll("Only the message with the template not found must fail",
+                () -> Assertions.assertEquals(EmailOutboxMessageStatus.FAILED, message.getStatus(), "Message must be failed"),
+                () -> Assertions.assertEquals(List.of(message), getSaved(repository), "Failed message must be saved"),
+                () -> Assertions.assertEquals(List.of(other), getDeleted(repository), "Other message must be sent"),
+                () -> Assertions.assertEquals(1, greenMail.getReceivedMessages().length, "Other message must be received"));
+    }
+
+    private EmailOutboxDispatcher newDispatcher(EmailOutboxRepository repository, int port) {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost(ServerSetupTest.SMTP.getBindAddress());
+        mailSender.setPort(port);
+
+        ClassLoaderTemplateResolver templateResolver = new ClassLoaderTemplateResolver();
+        templateResolver.setPrefix("templates/");
+        templateResolver.setSuffix(".html");
+        SpringTemplateEngine templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(templateResolver);
+
+        return new EmailOutboxDispatcher(
+                repository,
+                mailSender,
+                new EmailMessageFactory(mailSender, templateEngine),
+                true,
+                BATCH_SIZE,
+                Duration.ofSeconds(10),
+                Duration.ofMinutes(2),
+                INITIAL_BACKOFF,
+                Duration.ofMinutes(30),
+                MAX_ATTEMPTS);
+    }
+
+    private static EmailOutboxRepository mockRepository(List<EmailOutboxMessage> messages) {
+        EmailOutboxRepository repository = Mockito.mock(EmailOutboxRepository.class);
+        List<Optional<EmailOutboxMessage>> claims = messages
+                .stream()
+                .map(Optional::of)
+                .collect(Collectors.toCollection(ArrayList::new));
+        claims.add(Optional.empty());
+        Mockito.when(repository.claimNext(any(), any()))
+                .thenReturn(claims.get(0), claims.subList(1, claims.size()).toArray(Optional[]::new));
+        return repository;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<EmailOutboxMessage> getDeleted(EmailOutboxRepository repository) {
+        ArgumentCaptor<Iterable<EmailOutboxMessage>> captor = ArgumentCaptor.forClass(Iterable.class);
+        Mockito.verify(repository, Mockito.atLeastOnce()).deleteAll(captor.capture());
+        return captor.getAllValues().stream().flatMap(i -> toList(i).stream()).collect(Collectors.toList());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<EmailOutboxMessage> getSaved(EmailOutboxRepository repository) {
+        ArgumentCaptor<Iterable<EmailOutboxMessage>> captor = ArgumentCaptor.forClass(Iterable.class);
+        Mockito.verify(repository, Mockito.atLeastOnce()).saveAll(captor.capture());
+        return captor.getAllValues().stream().flatMap(i -> toList(i).stream()).collect(Collectors.toList());
+    }
+
+    private static List<EmailOutboxMessage> toList(Iterable<EmailOutboxMessage> messages) {
+        List<EmailOutboxMessage> list = new ArrayList<>();
+        messages.forEach(list::add);
+        return list;
+    }
+
+    private static EmailOutboxMessage newTextMessage() {
+        return EmailOutboxMessage
+                .builder()
+                .id(FAKER.internet().uuid())
+                .type(EmailOutboxMessageType.TEXT)
+                .status(EmailOutboxMessageStatus.SENDING)
+                .to(FAKER.internet().emailAddress())
+                .subject(FAKER.lorem().sentence(3))
+                .message(FAKER.lorem().paragraph())
+                .build();
+    }
+
+    private static EmailOutboxMessage newTemplateMessage() {
+        return EmailOutboxMessage
+                .builder()
+                .id(FAKER.internet().uuid())
+                .type(EmailOutboxMessageType.TEMPLATE)
+                .status(EmailOutboxMessageStatus.SENDING)
+                .to(FAKER.internet().emailAddress())
+                .subject(FAKER.lorem().sentence(3))
+                .templateName("sampleTemplate")
+                .templateContext(Map.of(
+                        "name", FAKER.name().firstName(),
+                        "sign", FAKER.name().fullName(),
+                        "location", FAKER.address().city()))
+                .build();
+    }
+}
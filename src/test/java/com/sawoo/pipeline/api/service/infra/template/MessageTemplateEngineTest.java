@@ -0,0 +1,141 @@
+package com.sawoo.pipeline.api.service.infra.template;
+
+import com.github.javafaker.Faker;
+import com.sawoo.pipeline.api.dto.common.MessageTemplateDTO;
+import com.sawoo.pipeline.api.model.company.Company;
+import com.sawoo.pipeline.api.model.person.Person;
+import com.sawoo.pipeline.api.model.prospect.Prospect;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.context.annotation.Profile;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@TestMethodOrder(MethodOrderer.Alphanumeric.class)
+@Tag(value = "service")
+@Profile(value = {"unit-tests", "unit-tests-embedded"})
+class MessageTemplateEngineTest {
+
+    private static final Pattern MESSAGE_PATTERN = Pattern.compile(".*?\\{\\{(.*?)\\}\\}.*?", Pattern.DOTALL);
+    private static final Faker FAKER = Faker.instance();
+
+    private final MessageTemplateEngine engine = new MessageTemplateEngine(new SimpleMeterRegistry(), 100);
+
+    @Test
+    @DisplayName("compile: variables same as message pattern - Success")
+    void compileWhenTextHasVariablesReturnsSameVariablesAsPattern() {
+        List<String> messages = List.of(
+                "This a message without variables",
+                "This a message with variables. {{prospect_name}} So it should be an invalid message",
+                "My first message.\n\nHello {{ctx:prospect_name}}. Nice to e-meet you {{ctx:prospect_name}}.\n\n{{company_name}}",
+                "Unclosed {{prospect_name and {{company_name}} {{",
+                "Nested {{{prospect_name}}} and empty {{}}");
+
+        messages.forEach(message -> {
+            CompiledMessageTemplate template = engine.compile(message);
+            Matcher matcher = MESSAGE_PATTERN.matcher(message);
+            Assertions.assertEquals(matcher.matches(), template.hasVariables(), String.format("Message: [%s] detection must match the pattern", message));
+
+            matcher.reset();
+            LinkedHashSet<String> expected = new LinkedHashSet<>();
+            while (matcher.find()) {
+                expected.add(matcher.group(1));
+            }
+            Assertions.assertEquals(new ArrayList<>(expected), template.getVariables(), String.format("Message: [%s] variables must match the pattern", message));
+        });
+    }
+
+    @Test
+    @DisplayName("compile: same text is parsed once - Success")
+    void compileWhenSameTextReturnsCachedTemplate() {
+        String message = "Hello {{prospect_first_name}}. " + FAKER.lorem().sentence(10);
+
+        Assertions.assertSame(engine.compile(message), engine.compile(new String(message)), "Compiled template must be cached by its content");
+    }
+
+    @Test
+    @DisplayName("parse: free text is not cached - Success")
+    void parseWhenFreeTextReturnsNotCachedTemplate() {
+        String message = "Hi {{prospect_first_name}}, " + FAKER.lorem().sentence();
+
+        CompiledMessageTemplate parsed = engine.parse(message);
+
+        Assertions.assertAll("Free text must be parsed without caching",
+                () -> Assertions.assertEquals(List.of("prospect_first_name"), parsed.getVariables(), "Variables must be parsed"),
+                () -> Assertions.assertNotSame(parsed, engine.parse(message), "Free text must be parsed every time"),
+                () -> Assertions.assertNotSame(parsed, engine.compile(message), "Free text must not be added to the cache"));
+    }
+
+    @Test
+    @DisplayName("compile: message template or text not informed - Success")
+    void compileWhenMessageTemplateNotInformedReturnsNoTemplate() {
+        Prospect prospect = newProspect();
+
+        CompiledMessageTemplate withoutTemplate = engine.compile((MessageTemplateDTO) null);
+        CompiledMessageTemplate withoutText = engine.compile(new MessageTemplateDTO());
+
+        Assertions.assertAll("Steps without message template or text must not be compiled",
+                () -> Assertions.assertNull(withoutTemplate, "Missing message template must not be compiled"),
+                () -> Assertions.assertNull(withoutText, "Missing message template text must not be compiled"),
+                () -> Assertions.assertNull(engine.render(withoutTemplate, prospect), "Missing template must render no message"));
+    }
+
+    @Test
+    @DisplayName("render: prospect, person and company variables - Success")
+    void renderWhenVariablesKnownReturnsResolvedText() {
+        Prospect prospect = newProspect();
+        Person person = prospect.getPerson();
+        String message = "Hello {{ctx:prospect_first_name}} {{ prospect_last_name }}, how is {{company_name}}? {{unknown}}";
+
+        String rendered = engine.render(message, prospect);
+
+        Assertions.assertEquals(
+                String.format("Hello %s %s, how is %s? {{unknown}}", person.getFirstName(), person.getLastName(), person.getCompany().getName()),
+                rendered,
+                "Known variables must be resolved and unknown ones kept");
+    }
+
+    @Test
+    @DisplayName("render: variable without value is kept - Success")
+    void renderWhenPersonHasNoCompanyReturnsVariableKept() {
+        Prospect prospect = newProspect();
+        prospect.getPerson().setCompany(null);
+
+        String rendered = engine.render("Hello {{prospect_first_name}} from {{company_name}}", prospect);
+
+        Assertions.assertEquals(
+                String.format("Hello %s from {{company_name}}", prospect.getPerson().getFirstName()),
+                rendered,
+                "Variables without value must be kept");
+    }
+
+    private static Prospect newProspect() {
+        Person person = Person
+                .builder()
+                .id(FAKER.internet().uuid())
+                .firstName(FAKER.name().firstName())
+                .lastName(FAKER.name().lastName())
+                .company(Company
+                        .builder()
+                        .id(FAKER.internet().uuid())
+                        .name(FAKER.company().name())
+                        .url(FAKER.company().url())
+                        .build())
+                .build();
+        person.setFullName(person.getFirstName() + " " + person.getLastName());
+        return Prospect
+                .builder()
+                .id(FAKER.internet().uuid())
+                .person(person)
+                .build();
+    }
+}
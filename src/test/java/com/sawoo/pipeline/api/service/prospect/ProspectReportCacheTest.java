@@ -0,0 +1,111 @@
+package com.sawoo.pipeline.api.service.prospect;
+
+import com.sawoo.pipeline.api.common.contants.ExceptionMessageConstants;
+import com.sawoo.pipeline.api.common.exceptions.CommonServiceException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.context.annotation.Profile;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@TestMethodOrder(MethodOrderer.Alphanumeric.class)
+@Tag(value = "service")
+@Profile(value = {"unit-tests", "unit-tests-embedded"})
+class ProspectReportCacheTest {
+
+    private static final LocalDateTime UPDATED = LocalDateTime.of(2021, 1, 1, 10, 0);
+    private static final ProspectReportKey KEY = new ProspectReportKey("prospect-id", UPDATED, "report", "en");
+    private static final byte[] REPORT = new byte[]{1, 2, 3};
+
+    private ProspectReportCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setup() {
+        cache = new ProspectReportCache(new SimpleMeterRegistry(), true, DataSize.ofKilobytes(1), Duration.ofMinutes(10));
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("get: second call is served from cache - Success")
+    void getWhenAlreadyGeneratedReturnsCachedReport() {
+        byte[] first = cache.get(KEY, this::load).join();
+        byte[] second = cache.get(KEY, this::load).join();
+
+        Assertions.assertAll("Report must be generated only once",
+                () -> Assertions.assertSame(first, second, "Cached report must be returned"),
+                () -> Assertions.assertEquals(1, loads.get(), "Loader must be called once"));
+    }
+
+    @Test
+    @DisplayName("get: newer prospect update generates a new report - Success")
+    void getWhenProspectUpdatedGeneratesReport() {
+        cache.get(KEY, this::load).join();
+        cache.get(new ProspectReportKey(KEY.getProspectId(), UPDATED.plusMinutes(1), KEY.getTemplate(), KEY.getLanguage()), this::load).join();
+
+        Assertions.assertEquals(2, loads.get(), "Loader must be called for each update");
+    }
+
+    @Test
+    @DisplayName("get: concurrent calls share the pending generation - Success")
+    void getWhenGenerationPendingSharesUpstreamCall() {
+        CompletableFuture<byte[]> upstream = new CompletableFuture<>();
+        CompletableFuture<byte[]> first = cache.get(KEY, key -> {
+            loads.incrementAndGet();
+            return upstream;
+        });
+        CompletableFuture<byte[]> second = cache.get(KEY, this::load);
+
+        Assertions.assertFalse(second.isDone(), "Second call must wait for the pending generation");
+        upstream.complete(REPORT);
+
+        Assertions.assertAll("Report must be generated only once",
+                () -> Assertions.assertSame(REPORT, first.join(), "First call must get the report"),
+                () -> Assertions.assertSame(REPORT, second.join(), "Second call must get the report"),
+                () -> Assertions.assertSame(REPORT, cache.get(KEY, this::load).join(), "Report must be cached"),
+                () -> Assertions.assertEquals(1, loads.get(), "Loader must be called once"));
+    }
+
+    @Test
+    @DisplayName("get: failed generation is not cached - Failure")
+    void getWhenGenerationFailsIsNotCached() {
+        CompletableFuture<byte[]> failed = cache.get(KEY, key -> {
+            loads.incrementAndGet();
+            throw new CommonServiceException(ExceptionMessageConstants.PROSPECT_REPORT_GENERATION_BUSY_ERROR, new Object[]{});
+        });
+
+        CompletionException exception = Assertions.assertThrows(CompletionException.class, failed::join);
+        byte[] report = cache.get(KEY, this::load).join();
+
+        Assertions.assertAll("Report must be generated again after a failure",
+                () -> Assertions.assertTrue(exception.getCause() instanceof CommonServiceException, "Cause must be a CommonServiceException"),
+                () -> Assertions.assertSame(REPORT, report, "Report must be generated"),
+                () -> Assertions.assertEquals(2, loads.get(), "Loader must be called twice"));
+    }
+
+    @Test
+    @DisplayName("get: cache disabled always generates the report - Success")
+    void getWhenDisabledAlwaysLoads() {
+        cache = new ProspectReportCache(new SimpleMeterRegistry(), false, DataSize.ofKilobytes(1), Duration.ofMinutes(10));
+        cache.get(KEY, this::load).join();
+        cache.get(KEY, this::load).join();
+
+        Assertions.assertEquals(2, loads.get(), "Loader must be called twice");
+    }
+
+    private CompletableFuture<byte[]> load(ProspectReportKey key) {
+        loads.incrementAndGet();
+        return CompletableFuture.completedFuture(REPORT);
+    }
+}
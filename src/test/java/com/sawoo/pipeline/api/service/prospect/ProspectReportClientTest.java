@@ -0,0 +1,140 @@
+package com.sawoo.pipeline.api.service.prospect;
+
+import com.sawoo.pipeline.api.common.contants.ExceptionMessageConstants;
+import com.sawoo.pipeline.api.common.exceptions.CommonServiceException;
+import com.sawoo.pipeline.api.dto.Report;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.context.annotation.Profile;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@TestMethodOrder(MethodOrderer.Alphanumeric.class)
+@Tag(value = "service")
+@Profile(value = {"unit-tests", "unit-tests-embedded"})
+class ProspectReportClientTest {
+
+    private static final byte[] PDF = "%PDF-1.4".getBytes();
+
+    private HttpServer reportAPI;
+    private AtomicInteger calls;
+    private CountDownLatch release;
+    private ProspectReportClient client;
+
+    @BeforeEach
+    void setup() throws IOException {
+        calls = new AtomicInteger();
+        release = new CountDownLatch(0);
+        reportAPI = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        reportAPI.createContext("/api/create-pdf", this::createPDF);
+        reportAPI.setExecutor(Executors.newCachedThreadPool());
+        reportAPI.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (client != null) {
+            client.close();
+        }
+        reportAPI.stop(0);
+    }
+
+    @Test
+    @DisplayName("createPDF: report API returns the report - Success")
+    void createPDFWhenReportAPIRespondsReturnsReport() {
+        client = newClient(Duration.ofSeconds(5), 2, 2);
+
+        byte[] report = client.createPDF(newReport()).join();
+
+        Assertions.assertAll("Report must be returned",
+                () -> Assertions.assertArrayEquals(PDF, report, "Report must be the one returned by the report API"),
+                () -> Assertions.assertEquals(1, calls.get(), "Report API must be called once"));
+    }
+
+    @Test
+    @DisplayName("createPDF: report API exceeds the read timeout - Failure")
+    void createPDFWhenReadTimeoutExceededReturnsFailure() {
+        client = newClient(Duration.ofMillis(200), 2, 2);
+        release = new CountDownLatch(1);
+
+        CompletionException exception = Assertions.assertThrows(CompletionException.class, () -> client.createPDF(newReport()).join());
+
+        Assertions.assertAll("Timeout must be reported as a report generation error",
+                () -> Assertions.assertTrue(exception.getCause() instanceof CommonServiceException, "Cause must be a CommonServiceException"),
+                () -> Assertions.assertEquals(
+                        ExceptionMessageConstants.PROSPECT_REPORT_GENERATION_INTERNAL_SERVER_EXCEPTION,
+                        exception.getCause().getMessage(),
+                        "Exception message must be the report generation error"));
+    }
+
+    @Test
+    @DisplayName("createPDF: too many reports being generated - Failure")
+    void createPDFWhenQueueFullReturnsFailure() throws InterruptedException {
+        client = newClient(Duration.ofSeconds(5), 1, 1);
+        release = new CountDownLatch(1);
+
+        CompletableFuture<byte[]> running = client.createPDF(newReport());
+        CompletableFuture<byte[]> queued = client.createPDF(newReport());
+        CommonServiceException exception = Assertions.assertThrows(CommonServiceException.class, () -> client.createPDF(newReport()));
+        release.countDown();
+
+        Assertions.assertAll("Reports over the limit must be rejected",
+                () -> Assertions.assertEquals(
+                        ExceptionMessageConstants.PROSPECT_REPORT_GENERATION_BUSY_ERROR,
+                        exception.getMessage(),
+                        "Exception message must be the busy error"),
+                () -> Assertions.assertArrayEquals(PDF, running.join(), "Running report must be returned"),
+                () -> Assertions.assertArrayEquals(PDF, queued.join(), "Queued report must be returned"),
+                () -> Assertions.assertEquals(2, calls.get(), "Report API must be called twice"));
+    }
+
+    private ProspectReportClient newClient(Duration readTimeout, int maxConcurrentRequests, int maxQueuedRequests) {
+        return new ProspectReportClient(
+                "http://localhost:" + reportAPI.getAddress().getPort(),
+                Duration.ofSeconds(1),
+                readTimeout,
+                maxConcurrentRequests,
+                maxQueuedRequests);
+    }
+
+    private Report<String> newReport() {
+        return Report
+                .<String>builder()
+                .template("report")
+                .templateData("data")
+                .locale("en")
+                .build();
+    }
+
+    private void createPDF(HttpExchange exchange) throws IOException {
+        calls.incrementAndGet();
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException error) {
+            Thread.currentThread().interrupt();
+        }
+        exchange.getRequestBody().readAllBytes();
+        exchange.sendResponseHeaders(200, PDF.length);
+        try (OutputStream body = exchange.getResponseBody()) {
+            body.write(PDF);
+        }
+    }
+}
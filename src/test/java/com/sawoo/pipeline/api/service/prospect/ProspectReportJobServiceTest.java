@@ -0,0 +1,310 @@
+package com.sawoo.pipeline.api.service.prospect;
+
+import com.mongodb.client.gridfs.model.GridFSFile;
+import com.sawoo.pipeline.api.common.contants.ExceptionMessageConstants;
+import com.sawoo.pipeline.api.common.exceptions.CommonServiceException;
+import com.sawoo.pipeline.api.common.exceptions.ResourceNotFoundException;
+import com.sawoo.pipeline.api.dto.prospect.ProspectReportJobDTO;
+import com.sawoo.pipeline.api.dto.prospect.request.ProspectReportJobCreateDTO;
+import com.sawoo.pipeline.api.model.prospect.Prospect;
+import com.sawoo.pipeline.api.model.prospect.ProspectReportJob;
+import com.sawoo.pipeline.api.model.prospect.ProspectReportJobStatus;
+import com.sawoo.pipeline.api.repository.prospect.ProspectReportJobRepository;
+import com.sawoo.pipeline.api.repository.prospect.ProspectRepository;
+import com.sawoo.pipeline.api.service.campaign.CampaignService;
+import org.awaitility.Awaitility;
+import org.bson.BsonObjectId;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.support.StaticMessageSource;
+import org.springframework.core.io.Resource;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.gridfs.GridFsOperations;
+import org.springframework.data.mongodb.gridfs.GridFsResource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@TestMethodOrder(MethodOrderer.Alphanumeric.class)
+@Tag(value = "service")
+@Profile(value = {"unit-tests", "unit-tests-embedded"})
+class ProspectReportJobServiceTest {
+
+    private static final int PARALLELISM = 2;
+    private static final String CAMPAIGN_ID = "campaign-id";
+    private static final String TEMPLATE = "report";
+
+    private ProspectService prospectService;
+    private CampaignService campaignService;
+    private ProspectRepository repository;
+    private Map<String, ProspectReportJob> jobs;
+    private Map<ObjectId, byte[]> files;
+    private ProspectReportJobRepository jobRepository;
+    private GridFsOperations gridFsOperations;
+    private StaticMessageSource messageSource;
+    private ProspectReportJobServiceImpl service;
+
+    @BeforeEach
+    void setup() {
+        prospectService = mock(ProspectService.class);
+        campaignService = mock(CampaignService.class);
+        repository = mock(ProspectRepository.class);
+        doReturn(repository).when(prospectService).getRepository();
+        doAnswer(invocation -> ((Collection<?>) invocation.getArgument(0))
+                .stream()
+                .map(String.class::cast)
+                .filter(id -> !id.startsWith("missing"))
+                .map(id -> Prospect.builder().id(id).build())
+                .collect(Collectors.toList()))
+                .when(repository).findAllWithReferences(anyCollection(), any());
+
+        // Jobs and files are shared through the database, copies are stored as the job thread keeps changing the job
+        jobs = new ConcurrentHashMap<>();
+        jobRepository = mock(ProspectReportJobRepository.class);
+        doAnswer(invocation -> {
+            ProspectReportJob job = invocation.getArgument(0);
+            jobs.put(job.getId(), copy(job));
+            return job;
+        }).when(jobRepository).insert(any(ProspectReportJob.class));
+        doAnswer(invocation -> {
+            ProspectReportJob job = invocation.getArgument(0);
+            jobs.put(job.getId(), copy(job));
+            return job;
+        }).when(jobRepository).save(any(ProspectReportJob.class));
+        doAnswer(invocation -> Optional.ofNullable(jobs.get((String) invocation.getArgument(0))).map(ProspectReportJobServiceTest::copy))
+                .when(jobRepository).findById(anyString());
+
+        files = new ConcurrentHashMap<>();
+        gridFsOperations = mock(GridFsOperations.class);
+        doAnswer(invocation -> {
+            ObjectId fileId = new ObjectId();
+            files.put(fileId, ((InputStream) invocation.getArgument(0)).readAllBytes());
+            return fileId;
+        }).when(gridFsOperations).store(any(InputStream.class), anyString(), anyString(), any(Document.class));
+        doAnswer(invocation -> {
+            ObjectId fileId = ((Query) invocation.getArgument(0)).getQueryObject().get("_id", ObjectId.class);
+            byte[] content = files.get(fileId);
+            return content != null ?
+                    new GridFSFile(new BsonObjectId(fileId), fileId.toHexString(), content.length, 255, new Date(), new Document()) :
+                    null;
+        }).when(gridFsOperations).findOne(any(Query.class));
+        doAnswer(invocation -> {
+            GridFSFile file = invocation.getArgument(0);
+            return new GridFsResource(file, new ByteArrayInputStream(files.get(file.getObjectId())));
+        }).when(gridFsOperations).getResource(any(GridFSFile.class));
+
+        messageSource = new StaticMessageSource();
+        messageSource.setUseCodeAsDefaultMessage(true);
+        service = newService();
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.close();
+    }
+
+    @Test
+    @DisplayName("createJob: campaign and prospect reports are zipped - Success")
+    void createJobWhenProspectsFoundReturnsSuccess() throws IOException {
+        doReturn(List.of("prospect-1", "prospect-2")).when(campaignService).findProspectIds(anyString());
+        doAnswer(invocation -> CompletableFuture.completedFuture(((Prospect) invocation.getArgument(0)).getId().getBytes()))
+                .when(prospectService).getReportAsync(any(Prospect.class), anyString(), any());
+
+        ProspectReportJobDTO job = service.createJob(ProspectReportJobCreateDTO
+                .builder()
+                .campaignId(CAMPAIGN_ID)
+                .prospectIds(List.of("prospect-2", "missing-prospect"))
+                .build());
+        ProspectReportJobDTO completed = awaitJob(job.getId());
+        Map<String, String> entries = readEntries(service.getJobFile(job.getId()));
+
+        Assertions.assertAll("Job must zip the reports of the found prospects",
+                () -> Assertions.assertEquals(ProspectReportJobStatus.COMPLETED, completed.getStatus(), "Job must be completed"),
+                () -> Assertions.assertEquals(3, completed.getTotal(), "Duplicated prospects must be generated once"),
+                () -> Assertions.assertEquals(2, completed.getGenerated(), "Two reports must be generated"),
+                () -> Assertions.assertEquals(
+                        ExceptionMessageConstants.COMMON_GET_COMPONENT_RESOURCE_NOT_FOUND_EXCEPTION,
+                        completed.getErrors().get("missing-prospect"),
+                        "Missing prospect must be reported"),
+                () -> Assertions.assertEquals(
+                        Map.of(TEMPLATE + ".prospect-1.pdf", "prospect-1", TEMPLATE + ".prospect-2.pdf", "prospect-2"),
+                        entries,
+                        "ZIP file must contain one entry per generated report"));
+    }
+
+    @Test
+    @DisplayName("getJobFile: job created by another instance - Success")
+    void getJobFileWhenJobCreatedByOtherInstanceReturnsSuccess() throws IOException {
+        doAnswer(invocation -> CompletableFuture.completedFuture(((Prospect) invocation.getArgument(0)).getId().getBytes()))
+                .when(prospectService).getReportAsync(any(Prospect.class), anyString(), any());
+        ProspectReportJobServiceImpl otherInstance = newService();
+
+        try {
+            ProspectReportJobDTO job = service.createJob(ProspectReportJobCreateDTO.builder().prospectIds(List.of("prospect-1")).build());
+            ProspectReportJobDTO completed = awaitJob(otherInstance, job.getId());
+            Map<String, String> entries = readEntries(otherInstance.getJobFile(job.getId()));
+
+            Assertions.assertAll("Job must be served by any instance",
+                    () -> Assertions.assertEquals(ProspectReportJobStatus.COMPLETED, completed.getStatus(), "Job must be completed"),
+                    () -> Assertions.assertEquals(1, completed.getGenerated(), "One report must be generated"),
+                    () -> Assertions.assertEquals(Map.of(TEMPLATE + ".prospect-1.pdf", "prospect-1"), entries, "ZIP file must be read from the shared storage"));
+        } finally {
+            otherInstance.close();
+        }
+    }
+
+    @Test
+    @DisplayName("createJob: reports in flight are bounded by the parallelism - Success")
+    void createJobWhenManyProspectsBoundsReportsInFlight() throws InterruptedException {
+        List<CompletableFuture<byte[]>> reports = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            CompletableFuture<byte[]> report = new CompletableFuture<>();
+            reports.add(report);
+            return report;
+        }).when(prospectService).getReportAsync(any(Prospect.class), anyString(), any());
+
+        ProspectReportJobDTO job = service.createJob(ProspectReportJobCreateDTO
+                .builder()
+                .prospectIds(List.of("prospect-1", "prospect-2", "prospect-3", "prospect-4"))
+                .build());
+
+        Awaitility.await().atMost(Duration.ofSeconds(5)).until(() -> reports.size() == PARALLELISM);
+        Thread.sleep(200);
+        Assertions.assertAll("No report must be requested while the window is full",
+                () -> Assertions.assertEquals(PARALLELISM, reports.size(), String.format("Only [%d] reports must be in flight", PARALLELISM)),
+                () -> Assertions.assertEquals(ProspectReportJobStatus.RUNNING, service.getJob(job.getId()).getStatus(), "Job must be running"));
+
+        for (int i = 0; i < 4; i++) {
+            int report = i;
+            Awaitility.await().atMost(Duration.ofSeconds(5)).until(() -> reports.size() > report);
+            reports.get(report).complete(new byte[]{1});
+        }
+        ProspectReportJobDTO completed = awaitJob(job.getId());
+
+        Assertions.assertEquals(4, completed.getGenerated(), "All reports must be generated");
+    }
+
+    @Test
+    @DisplayName("createJob: no prospects informed - Failure")
+    void createJobWhenNoProspectsReturnsFailure() {
+        ProspectReportJobCreateDTO job = ProspectReportJobCreateDTO.builder().build();
+
+        CommonServiceException exception = Assertions.assertThrows(CommonServiceException.class, () -> service.createJob(job));
+
+        Assertions.assertEquals(
+                ExceptionMessageConstants.PROSPECT_REPORT_JOB_NO_PROSPECTS_EXCEPTION,
+                exception.getMessage(),
+                "Exception message must be the no prospects error");
+        verify(repository, never()).findAllWithReferences(anyCollection(), any());
+    }
+
+    @Test
+    @DisplayName("getJobFile: job not completed - Failure")
+    void getJobFileWhenJobNotCompletedReturnsFailure() {
+        doReturn(new CompletableFuture<>()).when(prospectService).getReportAsync(any(Prospect.class), anyString(), any());
+        ProspectReportJobDTO job = service.createJob(ProspectReportJobCreateDTO.builder().prospectIds(List.of("prospect-1")).build());
+
+        CommonServiceException exception = Assertions.assertThrows(CommonServiceException.class, () -> service.getJobFile(job.getId()));
+
+        Assertions.assertEquals(
+                ExceptionMessageConstants.PROSPECT_REPORT_JOB_NOT_COMPLETED_EXCEPTION,
+                exception.getMessage(),
+                "Exception message must be the job not completed error");
+    }
+
+    @Test
+    @DisplayName("getJob: job not found - Failure")
+    void getJobWhenJobNotFoundReturnsFailure() {
+        Assertions.assertThrows(ResourceNotFoundException.class, () -> service.getJob("job-id"));
+    }
+
+    private ProspectReportJobServiceImpl newService() {
+        return new ProspectReportJobServiceImpl(
+                prospectService,
+                campaignService,
+                jobRepository,
+                gridFsOperations,
+                messageSource,
+                PARALLELISM,
+                1,
+                1,
+                Duration.ofMinutes(10),
+                Duration.ZERO,
+                Duration.ofMinutes(10));
+    }
+
+    private ProspectReportJobDTO awaitJob(String jobId) {
+        return awaitJob(service, jobId);
+    }
+
+    private ProspectReportJobDTO awaitJob(ProspectReportJobServiceImpl instance, String jobId) {
+        Awaitility.await()
+                .atMost(Duration.ofSeconds(5))
+                .until(() -> instance.getJob(jobId).getStatus() != ProspectReportJobStatus.RUNNING &&
+                        instance.getJob(jobId).getStatus() != ProspectReportJobStatus.PENDING);
+        return instance.getJob(jobId);
+    }
+
+    private Map<String, String> readEntries(Resource file) throws IOException {
+        Map<String, String> entries = new HashMap<>();
+        try (InputStream input = file.getInputStream(); ZipInputStream zip = new ZipInputStream(input)) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                entries.put(entry.getName(), new String(zip.readAllBytes()));
+            }
+        }
+        return entries;
+    }
+
+    private static ProspectReportJob copy(ProspectReportJob job) {
+        return ProspectReportJob
+                .builder()
+                .id(job.getId())
+                .status(job.getStatus())
+                .template(job.getTemplate())
+                .language(job.getLanguage())
+                .total(job.getTotal())
+                .generated(job.getGenerated())
+                .errors(new ArrayList<>(job.getErrors()))
+                .error(job.getError())
+                .fileId(job.getFileId())
+                .finished(job.getFinished())
+                .expirationDate(job.getExpirationDate())
+                .created(job.getCreated())
+                .updated(job.getUpdated())
+                .build();
+    }
+}
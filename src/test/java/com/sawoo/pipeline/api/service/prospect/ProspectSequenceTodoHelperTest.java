@@ -104,4 +104,28 @@ class ProspectSequenceTodoHelperTest {
                 todo.getStatus(),
                 String.format("Status should match default value %s", TodoStatus.PENDING.getValue()));
     }
+
+    @Test
+    @DisplayName("mapSequenceStepToTODO: step without message template - Success")
+    void mapSequenceStepToTODOWhenMessageTemplateNullReturnsSuccess() {
+        // Set up mocked entities
+        String PROSPECT_ID = getProspectMockFactory().getComponentId();
+        String STEP_ID = getSequenceStepMockFactory().getComponentId();
+        String SEQUENCE_ID = getProspectMockFactory().getFAKER().internet().uuid();
+        Prospect mockProspect = getProspectMockFactory().newEntity(PROSPECT_ID);
+        SequenceStepDTO mockSequenceStep = getSequenceStepMockFactory().newDTO(STEP_ID);
+        mockSequenceStep.setMessageTemplate(null);
+        UserCommon user = UserCommon.builder()
+                .fullName(getProspectMockFactory().getFAKER().name().fullName())
+                .id(getProspectMockFactory().getFAKER().internet().uuid())
+                .type(UserCommonType.PROSPECT)
+                .build();
+        LocalDateTime startDate = LocalDateTime.now(ZoneOffset.UTC);
+
+        // Execute the call
+        TodoAssigneeDTO todo = sequenceTodoHelper.mapSequenceStepToTODO(mockSequenceStep, user, mockProspect, SEQUENCE_ID, startDate);
+
+        // Assertions
+        Assertions.assertNull(todo.getMessage().getText(), "Todo message text must be null when the step has no message template");
+    }
 }
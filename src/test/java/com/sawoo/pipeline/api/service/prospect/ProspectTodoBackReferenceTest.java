@@ -0,0 +1,133 @@
+package com.sawoo.pipeline.api.service.prospect;
+
+import com.sawoo.pipeline.api.common.contants.ExceptionMessageConstants;
+import com.sawoo.pipeline.api.common.exceptions.CommonServiceException;
+import com.sawoo.pipeline.api.dto.todo.TodoDTO;
+import com.sawoo.pipeline.api.model.prospect.Prospect;
+import com.sawoo.pipeline.api.model.todo.Todo;
+import com.sawoo.pipeline.api.repository.prospect.ProspectRepository;
+import com.sawoo.pipeline.api.repository.todo.TodoRepository;
+import com.sawoo.pipeline.api.service.todo.TodoMapper;
+import com.sawoo.pipeline.api.service.todo.TodoService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.mockito.Mockito;
+import org.springframework.context.annotation.Profile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+
+@TestMethodOrder(MethodOrderer.Alphanumeric.class)
+@Tag(value = "service")
+@Profile(value = {"unit-tests", "unit-tests-embedded"})
+class ProspectTodoBackReferenceTest {
+
+    private static final String PROSPECT_ID = "prospect-id";
+    private static final String TODO_ID = "todo-id";
+
+    private TodoService todoService;
+    private TodoRepository todoRepository;
+    private ProspectRepository repository;
+    private ProspectTodoService service;
+
+    @BeforeEach
+    void setup() {
+        todoService = Mockito.mock(TodoService.class);
+        todoRepository = Mockito.mock(TodoRepository.class);
+        repository = Mockito.mock(ProspectRepository.class);
+        Mockito.when(todoService.getRepository()).thenReturn(todoRepository);
+        Mockito.when(todoService.getMapper()).thenReturn(new TodoMapper());
+        Mockito.when(repository.findById(PROSPECT_ID)).thenReturn(Optional.of(Prospect.builder().id(PROSPECT_ID).build()));
+
+        service = new ProspectTodoServiceDecorator(
+                todoService,
+                repository,
+                Mockito.mock(ProspectServiceDecoratorHelper.class),
+                Mockito.mock(ProspectMapper.class));
+        ReflectionTestUtils.setField(service, "prospectTodoBackReference", true);
+    }
+
+    @Test
+    @DisplayName("addTODO: back-reference mode does not update the prospect - Success")
+    void addTODOWhenBackReferenceReturnsSuccess() {
+        // Set up mocked entities
+        TodoDTO todo = newTodo(LocalDateTime.now(ZoneOffset.UTC).plusDays(1));
+        TodoDTO created = newTodo(todo.getScheduled());
+        created.setId(TODO_ID);
+        Mockito.when(todoRepository.findByComponentId(PROSPECT_ID)).thenReturn(Collections.emptyList());
+        Mockito.when(todoService.create(todo)).thenReturn(created);
+
+        // Execute the call
+        TodoDTO returned = service.addTODO(PROSPECT_ID, todo);
+
+        // Assertions
+        Assertions.assertAll("TODO must only be linked by its component id",
+                () -> Assertions.assertEquals(TODO_ID, returned.getId(), String.format("Todo id must be [%s]", TODO_ID)),
+                () -> Assertions.assertEquals(PROSPECT_ID, todo.getComponentId(), "Component id must be the prospect id"));
+        Mockito.verify(todoRepository, Mockito.times(1)).findByComponentId(PROSPECT_ID);
+        Mockito.verify(repository, Mockito.never()).pushAll(anyString(), anyString(), anyList());
+        Mockito.verify(repository, Mockito.never()).save(any(Prospect.class));
+    }
+
+    @Test
+    @DisplayName("addTODO: back-reference mode slot already scheduled - Failure")
+    void addTODOWhenBackReferenceAndSlotScheduledReturnsCommonServiceException() {
+        // Set up mocked entities
+        LocalDateTime scheduled = LocalDateTime.now(ZoneOffset.UTC).plusDays(1);
+        TodoDTO todo = newTodo(scheduled);
+        Mockito.when(todoRepository.findByComponentId(PROSPECT_ID))
+                .thenReturn(List.of(Todo.builder().id(TODO_ID).componentId(PROSPECT_ID).scheduled(scheduled).build()));
+
+        // Execute the call
+        CommonServiceException exception = Assertions.assertThrows(
+                CommonServiceException.class,
+                () -> service.addTODO(PROSPECT_ID, todo),
+                "addTODO must throw CommonServiceException");
+
+        // Assertions
+        Assertions.assertEquals(
+                ExceptionMessageConstants.PROSPECT_TODO_ADD_PROSPECT_SLOT_ALREADY_SCHEDULED_EXCEPTION,
+                exception.getMessage());
+        Mockito.verify(todoService, Mockito.never()).create(any(TodoDTO.class));
+    }
+
+    @Test
+    @DisplayName("removeTODO: back-reference mode does not update the prospect - Success")
+    void removeTODOWhenBackReferenceReturnsSuccess() {
+        // Set up mocked entities
+        TodoDTO deleted = newTodo(LocalDateTime.now(ZoneOffset.UTC));
+        deleted.setId(TODO_ID);
+        Mockito.when(todoRepository.findByComponentId(PROSPECT_ID))
+                .thenReturn(List.of(Todo.builder().id(TODO_ID).componentId(PROSPECT_ID).build()));
+        Mockito.when(todoService.delete(TODO_ID)).thenReturn(deleted);
+
+        // Execute the call
+        TodoDTO returned = service.removeTODO(PROSPECT_ID, TODO_ID);
+
+        // Assertions
+        Assertions.assertEquals(TODO_ID, returned.getId(), String.format("Todo id must be [%s]", TODO_ID));
+        Mockito.verify(todoService, Mockito.times(1)).delete(TODO_ID);
+        Mockito.verify(repository, Mockito.never()).pullAll(anyString(), anyString(), anyList());
+        Mockito.verify(repository, Mockito.never()).save(any(Prospect.class));
+    }
+
+    private static TodoDTO newTodo(LocalDateTime scheduled) {
+        return TodoDTO
+                .builder()
+                .scheduled(scheduled)
+                .build();
+    }
+}
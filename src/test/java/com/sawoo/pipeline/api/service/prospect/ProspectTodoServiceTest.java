@@ -31,7 +31,6 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Profile;
 
 import javax.validation.ConstraintViolationException;
-import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -43,6 +42,7 @@ import java.util.stream.IntStream;
 
 import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.atLeast;
@@ -105,13 +105,9 @@ class ProspectTodoServiceTest extends BaseLightServiceTest<ProspectDTO, Prospect
                         returnedDTO.getId(),
                         String.format("Todo id must be [%s]", TODO_ID)));
 
-        Assertions.assertFalse(
-                spyProspectEntity.getTodos().isEmpty(),
-                String.format("Todo list can not be empty for prospect id [%s]", PROSPECT_ID));
-
         verify(spyProspectEntity, atLeast(1)).getTodos();
-        verify(spyProspectEntity, times(1)).setUpdated(any(LocalDateTime.class));
-        verify(repository, times(1)).save(any(Prospect.class));
+        verify(repository, never()).save(any(Prospect.class));
+        verify(repository, times(1)).pushAll(eq(PROSPECT_ID), eq("todos"), anyList());
     }
 
     @Test
@@ -225,12 +221,9 @@ class ProspectTodoServiceTest extends BaseLightServiceTest<ProspectDTO, Prospect
                         returnedDTO.getId(),
                         String.format("Todo id must be [%s]", TODO_ID)));
 
-        Assertions.assertTrue(
-                spyProspectEntity.getTodos().isEmpty(),
-                String.format("Todo list must be empty for prospect id [%s]", PROSPECT_ID));
-
         verify(repository, times(1)).findById(anyString());
-        verify(repository, times(1)).save(any(Prospect.class));
+        verify(repository, never()).save(any(Prospect.class));
+        verify(repository, times(1)).pullAll(PROSPECT_ID, "todos", List.of(todo));
     }
 
     @Test
@@ -314,12 +307,9 @@ class ProspectTodoServiceTest extends BaseLightServiceTest<ProspectDTO, Prospect
                         returnedDTOList.size(),
                         String.format("Deleted TODO list size must be [%d]", 1)));
 
-        Assertions.assertFalse(
-                spyProspectEntity.getTodos().isEmpty(),
-                String.format("Todo list can not be empty for prospect id [%s]", PROSPECT_ID));
-
         verify(repository, times(1)).findById(anyString());
-        verify(repository, times(1)).save(any(Prospect.class));
+        verify(repository, never()).save(any(Prospect.class));
+        verify(repository, times(1)).pullAll(PROSPECT_ID, "todos", List.of(todoList.get(0)));
     }
 
     @Test
@@ -0,0 +1,97 @@
+package com.sawoo.pipeline.api.service.sequence;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.context.annotation.Profile;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@TestMethodOrder(MethodOrderer.Alphanumeric.class)
+@Tag(value = "service")
+@Profile(value = {"unit-tests", "unit-tests-embedded"})
+class SequencePlanCacheTest {
+
+    private static final String SEQUENCE_ID = "sequence-id";
+    private static final String OTHER_SEQUENCE_ID = "sequence-id-2";
+    private static final int PERSONALITY = 1;
+    private static final int OTHER_PERSONALITY = 2;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SequencePlanCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new SequencePlanCache(meterRegistry, true, 10, Duration.ofMinutes(10));
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("get: second call is served from cache - Success")
+    void getWhenAlreadyLoadedReturnsCachedPlan() {
+        SequencePlan first = cache.get(SEQUENCE_ID, PERSONALITY, this::load);
+        SequencePlan second = cache.get(SEQUENCE_ID, PERSONALITY, this::load);
+
+        Assertions.assertAll("Plan must be loaded only once",
+                () -> Assertions.assertSame(first, second, "Cached plan must be returned"),
+                () -> Assertions.assertEquals(1, loads.get(), "Loader must be called once"),
+                () -> Assertions.assertEquals(
+                        1.0,
+                        meterRegistry.get("cache.gets").tag("cache", "sequence.plans").tag("result", "hit").functionCounter().count(),
+                        "One hit must be recorded"));
+    }
+
+    @Test
+    @DisplayName("get: plans are cached per personality - Success")
+    void getWhenOtherPersonalityLoadsPlan() {
+        SequencePlan first = cache.get(SEQUENCE_ID, PERSONALITY, this::load);
+        SequencePlan second = cache.get(SEQUENCE_ID, OTHER_PERSONALITY, this::load);
+
+        Assertions.assertAll("Plan must be loaded for each personality",
+                () -> Assertions.assertEquals(PERSONALITY, first.getPersonality(), "Plan personality must match"),
+                () -> Assertions.assertEquals(OTHER_PERSONALITY, second.getPersonality(), "Plan personality must match"),
+                () -> Assertions.assertEquals(2, loads.get(), "Loader must be called twice"));
+    }
+
+    @Test
+    @DisplayName("invalidate: every personality of the sequence is reloaded - Success")
+    void invalidateWhenCachedReloadsAllPersonalities() {
+        cache.get(SEQUENCE_ID, PERSONALITY, this::load);
+        cache.get(SEQUENCE_ID, OTHER_PERSONALITY, this::load);
+        cache.get(OTHER_SEQUENCE_ID, PERSONALITY, this::load);
+        cache.invalidate(SEQUENCE_ID);
+        cache.get(SEQUENCE_ID, PERSONALITY, this::load);
+        cache.get(SEQUENCE_ID, OTHER_PERSONALITY, this::load);
+        cache.get(OTHER_SEQUENCE_ID, PERSONALITY, this::load);
+
+        Assertions.assertEquals(5, loads.get(), "Only the plans of the invalidated sequence must be reloaded");
+    }
+
+    @Test
+    @DisplayName("get: cache disabled always calls the loader - Success")
+    void getWhenDisabledAlwaysLoads() {
+        cache = new SequencePlanCache(meterRegistry, false, 10, Duration.ofMinutes(10));
+        cache.get(SEQUENCE_ID, PERSONALITY, this::load);
+        cache.get(SEQUENCE_ID, PERSONALITY, this::load);
+
+        Assertions.assertEquals(2, loads.get(), "Loader must be called twice");
+    }
+
+    private SequencePlan load(String sequenceId, Integer personality) {
+        loads.incrementAndGet();
+        return SequencePlan.builder()
+                .sequenceId(sequenceId)
+                .personality(personality)
+                .steps(Collections.emptyList())
+                .build();
+    }
+}
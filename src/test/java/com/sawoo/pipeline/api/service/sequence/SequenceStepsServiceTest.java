@@ -32,7 +32,9 @@ import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -76,7 +78,6 @@ class SequenceStepsServiceTest extends BaseLightServiceTest<SequenceDTO, Sequenc
         // Set up the mocked repository and services
         doReturn(Optional.of(mockedEntity)).when(getService().getRepository()).findById(anyString());
         doReturn(savedStepEntity).when(sequenceStepService).create(mockedStep);
-        doReturn(mockedEntity).when(getService().getRepository()).save(any(Sequence.class));
         doReturn(new SequenceStepMapper()).when(sequenceStepService).getMapper();
 
         // Execute the service call
@@ -88,14 +89,11 @@ class SequenceStepsServiceTest extends BaseLightServiceTest<SequenceDTO, Sequenc
                 () -> Assertions.assertEquals(
                         SEQUENCE_STEP_ID,
                         step.getId(),
-                        String.format("Step id must be [%s]", SEQUENCE_STEP_ID)),
-                () -> Assertions.assertEquals(
-                        STEP_SIZE + 1,
-                        mockedEntity.getSteps().size(),
-                        String.format("Step size must be [%d]", STEP_SIZE + 1)));
+                        String.format("Step id must be [%s]", SEQUENCE_STEP_ID)));
 
         verify(getService().getRepository(), times(1)).findById(anyString());
-        verify(getService().getRepository(), times(1)).save(any(Sequence.class));
+        verify(getService().getRepository(), never()).save(any(Sequence.class));
+        verify(getService().getRepository(), times(1)).pushAll(eq(SEQUENCE_ID), eq("steps"), anyList());
     }
 
     @Test
@@ -236,6 +234,43 @@ class SequenceStepsServiceTest extends BaseLightServiceTest<SequenceDTO, Sequenc
         verify(getService().getRepository(), times(1)).findById(anyString());
     }
 
+    @Test
+    @DisplayName("getPlan: sequence found - Success")
+    void getPlanWhenSequenceFoundReturnsSuccess() {
+        // Set up mocked entities
+        String SEQUENCE_ID = getMockFactory().getComponentId();
+        int STEPS_SIZE = 3;
+        int PERSONALITY = 1;
+        Sequence mockedSequence = newSequenceWithSteps(SEQUENCE_ID, STEPS_SIZE);
+        SequenceStep stepOtherPersonality = getMockFactory()
+                .getSequenceStepMockFactory()
+                .newSequenceStepEntity(getMockFactory().getFAKER().internet().uuid(), STEPS_SIZE + 1);
+        stepOtherPersonality.setPersonality(PERSONALITY + 1);
+        mockedSequence.getSteps().add(stepOtherPersonality);
+        List<Integer> offsets = IntStream.range(0, STEPS_SIZE)
+                .mapToObj(idx -> mockedSequence.getSteps().subList(0, idx + 1).stream().mapToInt(SequenceStep::getTimespan).sum())
+                .collect(Collectors.toList());
+
+        // Set up the mocked repository and services
+        doReturn(Optional.of(mockedSequence)).when(getService().getRepository()).findById(anyString());
+        doReturn(new SequenceStepMapper()).when(sequenceStepService).getMapper();
+
+        // Execute the service
+        SequencePlan plan = getService().getPlan(SEQUENCE_ID, PERSONALITY);
+
+        // Assertions
+        Assertions.assertAll("Sequence plan must be properly informed",
+                () -> Assertions.assertEquals(SEQUENCE_ID, plan.getSequenceId(), String.format("Sequence id must be [%s]", SEQUENCE_ID)),
+                () -> Assertions.assertEquals(STEPS_SIZE, plan.getSteps().size(), String.format("Step list size must be [%d]", STEPS_SIZE)),
+                () -> Assertions.assertEquals(
+                        offsets,
+                        plan.getSteps().stream().map(SequencePlanStep::getOffset).collect(Collectors.toList()),
+                        "Step offsets must add up the timespans of the previous steps"),
+                () -> Assertions.assertNotNull(plan.getSteps().get(0).getMessageTemplate(), "Step template must be compiled"));
+
+        verify(getService().getRepository(), times(1)).findById(anyString());
+    }
+
 
     private Sequence newSequenceWithSteps(String sequenceId, int stepsNumber) {
         Sequence mockEntity = getMockFactory().newEntity(sequenceId);
@@ -0,0 +1,237 @@
+package com.sawoo.pipeline.api.service.todo;
+
+import com.github.javafaker.Faker;
+import com.googlecode.jmapper.JMapper;
+import com.googlecode.jmapper.api.enums.MappingType;
+import com.sawoo.pipeline.api.dto.common.LinkDTO;
+import com.sawoo.pipeline.api.dto.common.MessageTemplateDTO;
+import com.sawoo.pipeline.api.dto.todo.TodoAssigneeDTO;
+import com.sawoo.pipeline.api.dto.todo.TodoDTO;
+import com.sawoo.pipeline.api.dto.todo.TodoMessageDTO;
+import com.sawoo.pipeline.api.model.common.Link;
+import com.sawoo.pipeline.api.model.common.LinkType;
+import com.sawoo.pipeline.api.model.common.MessageTemplate;
+import com.sawoo.pipeline.api.model.common.MessageTemplateVariable;
+import com.sawoo.pipeline.api.model.common.MessageTemplateVariableType;
+import com.sawoo.pipeline.api.model.todo.Todo;
+import com.sawoo.pipeline.api.model.todo.TodoMessage;
+import com.sawoo.pipeline.api.model.todo.TodoSource;
+import com.sawoo.pipeline.api.model.todo.TodoSourceType;
+import com.sawoo.pipeline.api.model.todo.TodoStatus;
+import com.sawoo.pipeline.api.model.todo.TodoType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.context.annotation.Profile;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@TestMethodOrder(MethodOrderer.Alphanumeric.class)
+@Tag(value = "service")
+@Profile(value = {"unit-tests", "unit-tests-embedded"})
+class TodoMappingTest {
+
+    private static final int SAMPLES = 200;
+    private static final Faker FAKER = Faker.instance();
+
+    @Test
+    @DisplayName("getDestination: todo entity to DTO same as JMapper - Success")
+    void getDestinationWhenTodoEntityReturnsSameAsJMapper() {
+        JMapper<TodoDTO, Todo> expectedMapper = new JMapper<>(TodoDTO.class, Todo.class);
+        TodoOutMapping mapping = new TodoOutMapping();
+
+        for (int i = 0; i < SAMPLES; i++) {
+            Todo entity = newEntity();
+            TodoDTO expected = expectedMapper.getDestination(entity);
+            TodoDTO actual = mapping.getDestination(entity);
+
+            Assertions.assertEquals(expected, actual, String.format("Todo [%s] must be mapped as JMapper does", entity));
+            Assertions.assertEquals(expected.getCreated(), actual.getCreated(), "Created date must be mapped");
+            Assertions.assertEquals(expected.getUpdated(), actual.getUpdated(), "Updated date must be mapped");
+        }
+    }
+
+    @Test
+    @DisplayName("getDestination: todo entity to assignee DTO same as JMapper - Success")
+    void getDestinationWhenTodoEntityToAssigneeReturnsSameAsJMapper() {
+        JMapper<TodoAssigneeDTO, Todo> expectedMapper = new JMapper<>(TodoAssigneeDTO.class, Todo.class);
+        TodoAssigneeOutMapping mapping = new TodoAssigneeOutMapping();
+
+        for (int i = 0; i < SAMPLES; i++) {
+            Todo entity = newEntity();
+            TodoAssigneeDTO actual = mapping.getDestination(entity);
+
+            Assertions.assertEquals(expectedMapper.getDestination(entity), actual, String.format("Todo [%s] must be mapped as JMapper does", entity));
+            Assertions.assertNull(actual.getAssignee(), "Assignee must not be mapped");
+        }
+    }
+
+    @Test
+    @DisplayName("getDestination: todo DTO to entity same as JMapper - Success")
+    void getDestinationWhenTodoDTOReturnsSameAsJMapper() {
+        JMapper<Todo, TodoDTO> expectedMapper = new JMapper<>(Todo.class, TodoDTO.class);
+        TodoInMapping mapping = new TodoInMapping();
+
+        for (int i = 0; i < SAMPLES; i++) {
+            TodoDTO dto = newDTO();
+            Todo expected = expectedMapper.getDestination(dto);
+            Todo actual = mapping.getDestination(dto);
+
+            Assertions.assertEquals(expected, actual, String.format("Todo [%s] must be mapped as JMapper does", dto));
+            Assertions.assertEquals(expected.getCreated(), actual.getCreated(), "Created date must be mapped");
+            Assertions.assertEquals(expected.getUpdated(), actual.getUpdated(), "Updated date must be mapped");
+        }
+    }
+
+    @Test
+    @DisplayName("getDestination: merge valued fields of todo DTO same as JMapper - Success")
+    void getDestinationWhenMergingValuedFieldsReturnsSameAsJMapper() {
+        JMapper<Todo, TodoDTO> expectedMapper = new JMapper<>(Todo.class, TodoDTO.class);
+        TodoInMapping mapping = new TodoInMapping();
+
+        for (int i = 0; i < SAMPLES; i++) {
+            Todo destination = newEntity();
+            TodoDTO dto = newDTO();
+            Todo expected = expectedMapper.getDestination(copy(destination), dto, MappingType.ALL_FIELDS, MappingType.ONLY_VALUED_FIELDS);
+            Todo actual = mapping.getDestination(copy(destination), dto, MappingType.ALL_FIELDS, MappingType.ONLY_VALUED_FIELDS);
+
+            Assertions.assertEquals(expected, actual, String.format("Todo [%s] must be merged into [%s] as JMapper does", dto, destination));
+            Assertions.assertEquals(expected.getCreated(), actual.getCreated(), "Created date must be merged");
+            Assertions.assertEquals(expected.getUpdated(), actual.getUpdated(), "Updated date must be merged");
+        }
+    }
+
+    private static Todo newEntity() {
+        Todo entity = Todo
+                .builder()
+                .id(valued() ? FAKER.internet().uuid() : null)
+                .channel(valued() ? FAKER.number().numberBetween(0, 4) : null)
+                .status(valued() ? TodoStatus.ON_GOING.getValue() : null)
+                .link(valued() ? Link
+                        .builder()
+                        .url(valued() ? FAKER.internet().url() : null)
+                        .description(valued() ? FAKER.lebowski().quote() : null)
+                        .type(valued() ? LinkType.PLAIN_LINK : null)
+                        .build() : null)
+                .message(valued() ? TodoMessage
+                        .builder()
+                        .text(valued() ? FAKER.lorem().sentence(25) : null)
+                        .valid(FAKER.bool().bool())
+                        .template(valued() ? MessageTemplate
+                                .builder()
+                                .text(valued() ? FAKER.lorem().sentence(10) : null)
+                                .variables(newVariables())
+                                .links(valued() ? new ArrayList<>(List.of(Link.builder().url(FAKER.internet().url()).build())) : null)
+                                .build() : null)
+                        .build() : null)
+                .scheduled(valued() ? now().plusDays(FAKER.number().numberBetween(1, 10)) : null)
+                .completionDate(valued() ? now() : null)
+                .componentId(valued() ? FAKER.internet().uuid() : null)
+                .campaignId(valued() ? FAKER.internet().uuid() : null)
+                .assigneeId(valued() ? FAKER.internet().uuid() : null)
+                .source(valued() ? TodoSource.builder().type(TodoSourceType.AUTOMATIC).sourceId(FAKER.internet().uuid()).build() : null)
+                .type(valued() ? TodoType.OUT_GOING_INTERACTION : null)
+                .build();
+        entity.setCreated(valued() ? now() : null);
+        entity.setUpdated(valued() ? now() : null);
+        return entity;
+    }
+
+    private static TodoDTO newDTO() {
+        TodoDTO dto = TodoDTO
+                .builder()
+                .id(valued() ? FAKER.internet().uuid() : null)
+                .channel(valued() ? FAKER.number().numberBetween(0, 4) : null)
+                .status(valued() ? TodoStatus.COMPLETED.getValue() : null)
+                .link(valued() ? LinkDTO
+                        .builder()
+                        .url(valued() ? FAKER.internet().url() : null)
+                        .description(valued() ? FAKER.lebowski().quote() : null)
+                        .type(valued() ? LinkType.PLAIN_LINK : null)
+                        .build() : null)
+                .message(valued() ? TodoMessageDTO
+                        .builder()
+                        .text(valued() ? FAKER.lorem().sentence(25) : null)
+                        .valid(FAKER.bool().bool())
+                        .template(valued() ? MessageTemplateDTO
+                                .builder()
+                                .text(valued() ? FAKER.lorem().sentence(10) : null)
+                                .variables(newVariables())
+                                .links(valued() ? new ArrayList<>(List.of(LinkDTO.builder().url(FAKER.internet().url()).build())) : null)
+                                .build() : null)
+                        .build() : null)
+                .scheduled(valued() ? now().plusDays(FAKER.number().numberBetween(1, 10)) : null)
+                .completionDate(valued() ? now() : null)
+                .componentId(valued() ? FAKER.internet().uuid() : null)
+                .campaignId(valued() ? FAKER.internet().uuid() : null)
+                .assigneeId(valued() ? FAKER.internet().uuid() : null)
+                .source(valued() ? TodoSource.builder().type(TodoSourceType.MANUAL).sourceId(FAKER.internet().uuid()).build() : null)
+                .type(valued() ? TodoType.IN_COMING_INTERACTION : null)
+                .build();
+        dto.setCreated(valued() ? now() : null);
+        dto.setUpdated(valued() ? now() : null);
+        return dto;
+    }
+
+    private static Todo copy(Todo entity) {
+        Todo copy = new Todo();
+        copy.setId(entity.getId());
+        copy.setChannel(entity.getChannel());
+        copy.setStatus(entity.getStatus());
+        copy.setScheduled(entity.getScheduled());
+        copy.setCompletionDate(entity.getCompletionDate());
+        copy.setComponentId(entity.getComponentId());
+        copy.setCampaignId(entity.getCampaignId());
+        copy.setAssigneeId(entity.getAssigneeId());
+        copy.setSource(entity.getSource());
+        copy.setType(entity.getType());
+        copy.setCreated(entity.getCreated());
+        copy.setUpdated(entity.getUpdated());
+        if (entity.getLink() != null) {
+            copy.setLink(entity.getLink().toBuilder().build());
+        }
+        if (entity.getMessage() != null) {
+            TodoMessage message = entity.getMessage().toBuilder().build();
+            if (message.getTemplate() != null) {
+                MessageTemplate template = message.getTemplate();
+                message.setTemplate(template
+                        .toBuilder()
+                        .variables(new HashMap<>(template.getVariables()))
+                        .links(template.getLinks() != null ? new ArrayList<>(template.getLinks()) : null)
+                        .build());
+            }
+            copy.setMessage(message);
+        }
+        return copy;
+    }
+
+    private static Map<String, MessageTemplateVariable> newVariables() {
+        Map<String, MessageTemplateVariable> variables = new HashMap<>();
+        if (valued()) {
+            String key = FAKER.lorem().word();
+            variables.put(key, MessageTemplateVariable
+                    .builder()
+                    .key(key)
+                    .value(FAKER.lorem().word())
+                    .type(MessageTemplateVariableType.CONTEXT)
+                    .build());
+        }
+        return variables;
+    }
+
+    private static LocalDateTime now() {
+        return LocalDateTime.now(ZoneOffset.UTC).withNano(0);
+    }
+
+    private static boolean valued() {
+        return FAKER.number().numberBetween(0, 4) > 0;
+    }
+}
@@ -36,6 +36,7 @@ import java.util.stream.IntStream;
 
 import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.never;
@@ -107,6 +108,37 @@ class TodoServiceTest extends BaseServiceTest<TodoDTO, Todo, TodoRepository, Tod
         verify(serviceEventListener, times(1)).handleBeforeInsertEvent(any(BaseServiceBeforeInsertEvent.class));
     }
 
+    @Test
+    @DisplayName("createAll: when entities do not exist - Success")
+    void createAllWhenEntitiesDoNotExistReturnsSuccess() {
+        // Set up mocked entities
+        int TODO_LIST_SIZE = 3;
+        List<TodoDTO> mockedDTOs = IntStream.range(0, TODO_LIST_SIZE)
+                .mapToObj(i -> getMockFactory().newDTO(null))
+                .collect(Collectors.toList());
+        List<Todo> todos = IntStream.range(0, TODO_LIST_SIZE)
+                .mapToObj(i -> getMockFactory().newEntity(getMockFactory().getComponentId()))
+                .collect(Collectors.toList());
+
+        // Set up the mocked repository
+        doReturn(todos).when(repository).insertAll(anyList());
+
+        // Execute the service call
+        List<TodoDTO> returnedEntities = getService().createAll(mockedDTOs);
+
+        // Assert the response
+        Assertions.assertAll("Creating a list of prospect todos must return the proper entities",
+                () -> Assertions.assertNotNull(returnedEntities, "Entity list can not be null"),
+                () -> Assertions.assertEquals(
+                        TODO_LIST_SIZE,
+                        returnedEntities.size(),
+                        String.format("Entity list size must be [%d]", TODO_LIST_SIZE)));
+
+        verify(repository, never()).insert(any(Todo.class));
+        verify(repository, times(1)).insertAll(anyList());
+        verify(serviceEventListener, times(TODO_LIST_SIZE)).handleBeforeInsertEvent(any(BaseServiceBeforeInsertEvent.class));
+    }
+
     @Test
     @DisplayName("update: entity does exist - Success")
     void updateWhenEntityFoundReturnsSuccess() {
@@ -0,0 +1,129 @@
+package com.sawoo.pipeline.api.service.user;
+
+import com.sawoo.pipeline.api.common.contants.ExceptionMessageConstants;
+import com.sawoo.pipeline.api.common.exceptions.AuthException;
+import com.sawoo.pipeline.api.dto.user.UserAuthDetails;
+import com.sawoo.pipeline.api.model.user.UserRole;
+import com.sawoo.pipeline.api.repository.user.UserRepository;
+import com.sawoo.pipeline.api.service.account.AccountUserDirectoryCache;
+import com.sawoo.pipeline.api.service.infra.audit.AuditService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.mockito.Mockito;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.anyString;
+
+@TestMethodOrder(MethodOrderer.Alphanumeric.class)
+@Tag(value = "service")
+@Profile(value = {"unit-tests", "unit-tests-embedded"})
+class UserAuthServiceLogoutTest {
+
+    private static final String USER_ID = "user-id";
+    private static final String OTHER_USER_ID = "user-id-2";
+
+    private UserTokenRevocationRegistry revocationRegistry;
+    private UserAuthService service;
+
+    @BeforeEach
+    void setup() {
+        revocationRegistry = Mockito.mock(UserTokenRevocationRegistry.class);
+        service = new UserAuthServiceImpl(
+                Mockito.mock(UserRepository.class),
+                new UserAuthMapper(),
+                Mockito.mock(ApplicationEventPublisher.class),
+                Mockito.mock(AuditService.class),
+                Mockito.mock(AuthenticationManager.class),
+                Mockito.mock(PasswordEncoder.class),
+                Mockito.mock(UserTokenService.class),
+                Mockito.mock(UserAuthDetailsCache.class),
+                revocationRegistry,
+                Mockito.mock(AccountUserDirectoryCache.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("logout: user logs out itself - Success")
+    void logoutWhenSameUserReturnsSuccess() {
+        // Set up mocked entities
+        authenticate(USER_ID, UserRole.USER);
+
+        // Execute the call
+        service.logout(USER_ID);
+
+        // Assertions
+        Mockito.verify(revocationRegistry, Mockito.times(1)).revoke(USER_ID);
+    }
+
+    @Test
+    @DisplayName("logout: admin logs out another user - Success")
+    void logoutWhenAdminReturnsSuccess() {
+        // Set up mocked entities
+        authenticate(USER_ID, UserRole.ADMIN);
+
+        // Execute the call
+        service.logout(OTHER_USER_ID);
+
+        // Assertions
+        Mockito.verify(revocationRegistry, Mockito.times(1)).revoke(OTHER_USER_ID);
+    }
+
+    @Test
+    @DisplayName("logout: user logs out another user - Failure")
+    void logoutWhenOtherUserReturnsAuthException() {
+        // Set up mocked entities
+        authenticate(USER_ID, UserRole.USER);
+
+        // Execute the call
+        AuthException exception = Assertions.assertThrows(
+                AuthException.class,
+                () -> service.logout(OTHER_USER_ID),
+                "logout must throw AuthException");
+
+        // Assertions
+        Assertions.assertEquals(
+                ExceptionMessageConstants.AUTH_LOGOUT_USER_NOT_ALLOWED_ERROR_EXCEPTION,
+                exception.getMessage(),
+                "Exception message must be AUTH_LOGOUT_USER_NOT_ALLOWED_ERROR_EXCEPTION");
+        Mockito.verify(revocationRegistry, Mockito.never()).revoke(anyString());
+    }
+
+    @Test
+    @DisplayName("logout: no authenticated user - Failure")
+    void logoutWhenNotAuthenticatedReturnsAuthException() {
+        // Execute the call
+        Assertions.assertThrows(
+                AuthException.class,
+                () -> service.logout(USER_ID),
+                "logout must throw AuthException");
+
+        // Assertions
+        Mockito.verify(revocationRegistry, Mockito.never()).revoke(anyString());
+    }
+
+    private static void authenticate(String id, UserRole role) {
+        UserAuthDetails user = new UserAuthDetails();
+        user.setId(id);
+        user.setRoles(new HashSet<>(Set.of(role.name())));
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+}
@@ -0,0 +1,147 @@
+package com.sawoo.pipeline.api.service.user;
+
+import com.sawoo.pipeline.api.common.contants.JwtConstants;
+import com.sawoo.pipeline.api.model.user.UserTokenRevocation;
+import com.sawoo.pipeline.api.repository.user.UserTokenRevocationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.context.annotation.Profile;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+
+@TestMethodOrder(MethodOrderer.Alphanumeric.class)
+@Tag(value = "service")
+@Profile(value = {"unit-tests", "unit-tests-embedded"})
+class UserTokenRevocationRegistryTest {
+
+    private static final String USER_ID = "user-id";
+    private static final String OTHER_USER_ID = "user-id-2";
+
+    private UserTokenRevocationRepository repository;
+    private UserTokenRevocationRegistry registry;
+
+    @BeforeEach
+    void setup() {
+        repository = Mockito.mock(UserTokenRevocationRepository.class);
+        registry = new UserTokenRevocationRegistry(repository, Duration.ofSeconds(10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        registry.stop();
+    }
+
+    @Test
+    @DisplayName("revoke: tokens issued before are revoked and the watermark stored - Success")
+    void revokeWhenUserValidReturnsSuccess() {
+        // Set up mocked entities
+        Mockito.when(repository.findAllByExpirationDateAfter(any())).thenReturn(List.of());
+        registry.refresh();
+
+        // Execute the call
+        registry.revoke(USER_ID);
+
+        // Assertions
+        ArgumentCaptor<UserTokenRevocation> captor = ArgumentCaptor.forClass(UserTokenRevocation.class);
+        Mockito.verify(repository, Mockito.times(1)).save(captor.capture());
+        UserTokenRevocation revocation = captor.getValue();
+        long now = revocation.getRevokedBefore().toEpochSecond(ZoneOffset.UTC);
+        Assertions.assertAll("Only the tokens of the user issued before the revocation must be revoked",
+                () -> Assertions.assertTrue(registry.isRevoked(USER_ID, now - 60), "Older token must be revoked"),
+                () -> Assertions.assertFalse(registry.isRevoked(USER_ID, now), "Token issued in the revocation second must not be revoked"),
+                () -> Assertions.assertFalse(registry.isRevoked(USER_ID, now + 60), "Newer token must not be revoked"),
+                () -> Assertions.assertFalse(registry.isRevoked(OTHER_USER_ID, now - 60), "Other user token must not be revoked"),
+                () -> Assertions.assertEquals(USER_ID, revocation.getUserId(), "Watermark must be stored by user id"),
+                () -> Assertions.assertEquals(
+                        revocation.getRevokedBefore().plusSeconds(JwtConstants.TOKEN_VALIDITY),
+                        revocation.getExpirationDate(),
+                        "Watermark must expire with the last token it revokes"));
+    }
+
+    @Test
+    @DisplayName("start: active revocations are loaded in the background - Success")
+    void startWhenRevocationsStoredReturnsSuccess() {
+        // Set up mocked entities
+        LocalDateTime revokedBefore = LocalDateTime.now(ZoneOffset.UTC).minusMinutes(5);
+        Mockito.when(repository.findAllByExpirationDateAfter(any())).thenReturn(List.of(newRevocation(USER_ID, revokedBefore)));
+
+        // Execute the call
+        registry.start();
+
+        // Assertions
+        Mockito.verify(repository, Mockito.timeout(1000).times(1)).findAllByExpirationDateAfter(any());
+        await().atMost(Duration.ofSeconds(1)).untilAsserted(() -> Assertions.assertTrue(
+                registry.isRevoked(USER_ID, revokedBefore.minusMinutes(1).toEpochSecond(ZoneOffset.UTC)),
+                "Stored revocation must be loaded"));
+    }
+
+    @Test
+    @DisplayName("refresh: active revocations not loaded while the database is unavailable - Failure")
+    void refreshWhenDatabaseUnavailableReturnsFailure() {
+        // Set up mocked entities
+        LocalDateTime revokedBefore = LocalDateTime.now(ZoneOffset.UTC).minusMinutes(5);
+        Mockito.when(repository.findAllByExpirationDateAfter(any()))
+                .thenThrow(new IllegalStateException("Database unavailable"))
+                .thenReturn(List.of(newRevocation(USER_ID, revokedBefore)));
+
+        // Execute the call
+        registry.refresh();
+        boolean revokedWhileUnavailable = registry.isRevoked(USER_ID, revokedBefore.minusMinutes(1).toEpochSecond(ZoneOffset.UTC));
+        registry.refresh();
+
+        // Assertions
+        Assertions.assertAll("Failed load must be retried by the next refresh",
+                () -> Assertions.assertFalse(revokedWhileUnavailable, "Nothing can be loaded while the database is unavailable"),
+                () -> Assertions.assertTrue(
+                        registry.isRevoked(USER_ID, revokedBefore.minusMinutes(1).toEpochSecond(ZoneOffset.UTC)),
+                        "Stored revocation must be loaded once the database is available"));
+        Mockito.verify(repository, Mockito.never()).findAllByUpdatedAfter(any());
+    }
+
+    @Test
+    @DisplayName("refresh: revocations made by other instances are loaded and expired ones dropped - Success")
+    void refreshWhenRevocationsChangedReturnsSuccess() {
+        // Set up mocked entities
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+        LocalDateTime expiredRevokedBefore = now.minusSeconds(JwtConstants.TOKEN_VALIDITY + 60);
+        Mockito.when(repository.findAllByExpirationDateAfter(any())).thenReturn(List.of(newRevocation(USER_ID, expiredRevokedBefore)));
+        Mockito.when(repository.findAllByUpdatedAfter(any())).thenReturn(List.of(newRevocation(OTHER_USER_ID, now)));
+        registry.refresh();
+
+        // Execute the call
+        registry.refresh();
+
+        // Assertions
+        Assertions.assertAll("Registry must be refreshed",
+                () -> Assertions.assertTrue(
+                        registry.isRevoked(OTHER_USER_ID, now.minusMinutes(1).toEpochSecond(ZoneOffset.UTC)),
+                        "New revocation must be loaded"),
+                () -> Assertions.assertFalse(
+                        registry.isRevoked(USER_ID, expiredRevokedBefore.minusMinutes(1).toEpochSecond(ZoneOffset.UTC)),
+                        "Revocation older than the token validity must be dropped"));
+    }
+
+    private static UserTokenRevocation newRevocation(String userId, LocalDateTime revokedBefore) {
+        return UserTokenRevocation
+                .builder()
+                .userId(userId)
+                .revokedBefore(revokedBefore)
+                .expirationDate(revokedBefore.plusSeconds(JwtConstants.TOKEN_VALIDITY))
+                .updated(revokedBefore)
+                .build();
+    }
+}